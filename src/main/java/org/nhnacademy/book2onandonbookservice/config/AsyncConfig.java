@@ -21,4 +21,17 @@ class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // soft 만료된 캐시의 백그라운드 갱신용 (가득 차면 거부 -> 다음 요청에서 다시 시도, 그동안은 이전 값 제공)
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("Cache-Refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
\ No newline at end of file
@@ -1,33 +1,53 @@
 package org.nhnacademy.book2onandonbookservice.config;
 
-import com.opencsv.CSVReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
 import org.nhnacademy.book2onandonbookservice.entity.BookImage;
 import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
 import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+import org.nhnacademy.book2onandonbookservice.entity.ImportCheckpoint;
 import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser.ParsedContributor;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.nhnacademy.book2onandonbookservice.parser.DataParserResolver;
+import org.nhnacademy.book2onandonbookservice.parser.ImportPipeline;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookCsvParser;
+import org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
 import org.nhnacademy.book2onandonbookservice.repository.ContributorRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ImportCheckpointRepository;
 import org.nhnacademy.book2onandonbookservice.repository.PublisherRepository;
 import org.nhnacademy.book2onandonbookservice.service.BookBatchService;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress.FileProgress;
+import org.nhnacademy.book2onandonbookservice.util.NameIdDictionary;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.core.io.Resource;
@@ -44,114 +64,516 @@ public class DataInitializer implements ApplicationRunner {
     private final PublisherRepository publisherRepository;
     private final ContributorRepository contributorRepository;
     private final BookBatchService bookBatchService;
+    private final BatchInsertRepository batchInsertRepository;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final BulkImportProgress bulkImportProgress;
+    private final DataParserResolver dataParserResolver;
+    private final BookCsvParser bookCsvParser;
     private final PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
 
-    private final Map<String, Publisher> publisherCache = new ConcurrentHashMap<>();
-    private final Map<String, Contributor> contributorCache = new ConcurrentHashMap<>();
+    // 동시에 적재할 파일 수
+    @Value("${book.import.file-concurrency:2}")
+    private int fileConcurrency;
+
+    // 스트리밍 적재 설정 (0 이하면 ImportPipeline 기본값, 변환 스레드 기본값은 (코어 수 - 1) / 동시 파일 수)
+    @Value("${book.import.parse-threads:0}")
+    private int parseThreads;
+
+    @Value("${book.import.queue-capacity:1024}")
+    private int queueCapacity;
+
+    @Value("${book.import.batch-size:1000}")
+    private int batchSize;
+
+    // 증분 적재: 도서가 이미 있어도 실행하고, 원본 행 해시가 바뀐(또는 새) 도서만 저장 (체크포인트는 쓰지 않음)
+    @Value("${book.import.incremental.enabled:false}")
+    private boolean incremental;
+
+    // 증분 적재에서 모든 파일이 성공하면, 파일에 없는 도서를 판매 중단(BOOK_DELETED) 처리
+    @Value("${book.import.incremental.soft-delete-missing:false}")
+    private boolean softDeleteMissing;
+
+    // 해시가 있는 도서 중 이 비율보다 많이 빠지면 잘린 파일로 보고 판매 중단하지 않음
+    @Value("${book.import.incremental.max-delete-ratio:0.2}")
+    private double maxDeleteRatio;
+
+    // 이름 → ID (엔티티 대신 원시형 사전, 적재가 끝나면 비움)
+    private final NameIdDictionary publisherIds = new NameIdDictionary();
+    private final NameIdDictionary contributorIds = new NameIdDictionary();
+    // ISBN → 원본 행 해시 | 이번 적재에서 본 표시(SEEN), 증분 적재 동안만 채움
+    private final NameIdDictionary contentHashes = new NameIdDictionary();
     /*
     캐시를 Redis로 바꾸려 했는데 대량 등록 Batch 작업시엔 로컬 메모리 즉, Map을 쓰는게 압도적으로 빠르다고합니다.
      */
-    private static final Pattern SPLIT_PATTERN = Pattern.compile("[,|/;]"); // 예시 구분자 패턴
 
-    // 이름 (비탐욕)
-    // 구분: 괄호() 또는 띄어쓰기 후 역할명
-    // 예: "홍길동(지은이)", "홍길동 지음", "홍길동 편", "홍길동 그림"
-    private static final Pattern ROLE_PATTERN = Pattern.compile(
-            "^(.*?)(?:\\s*\\((.*?)\\)|\\s+(지음|옮김|그림|글|엮음|편|저|공저|감수|사진|기획))\\s*$", Pattern.CANON_EQ);
+    private static final int NAME_MAX_LENGTH = 50; // publisher_name, contributor_name 컬럼 길이
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private static final long SEEN = 1L << 62;
+    private static final long HASH_MASK = SEEN - 1;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    // 도서에 반영되는 열 (이 값들이 같으면 다시 저장하지 않음)
+    private static final String[][] HASHED_COLUMNS = {{"ISBN_THIRTEEN_NO", "ISBN_NO"}, {"TITLE_NM"}, {"PUBLISHER_NM"},
+            {"AUTHR_NM"}, {"PRC_VALUE"}, {"TWO_PBLICTE_DE"}, {"BOOK_INTRCN_CN"}, {"VLM_NM"}, {"IMAGE_URL"}};
+    // CSV 에서 값을 읽을 열 (나머지 열은 디코딩하지 않음)
+    private static final Set<String> CSV_COLUMNS = Arrays.stream(HASHED_COLUMNS).flatMap(Arrays::stream)
+            .collect(Collectors.toUnmodifiableSet());
+    // CSV 가 아닌 형식은 파서가 만든 DTO 를 이 열 순서의 행으로 펼쳐 CSV 와 같은 변환/해시를 거침
+    private static final String[] PARSED_HEADERS = {"ISBN_THIRTEEN_NO", "TITLE_NM", "PUBLISHER_NM", "AUTHR_NM",
+            "PRC_VALUE", "TWO_PBLICTE_DE", "BOOK_INTRCN_CN", "VLM_NM", "IMAGE_URL"};
+
+    /**
+     * classpath:/data 아래에서 {@link DataParserResolver} 가 읽을 수 있는 파일(.csv/.tsv/.jsonl/.bcol, .gz 포함)을 파일
+     * 단위로 동시에(최대 book.import.file-concurrency 개) 적재
+     * <p>
+     * 파일마다 import_checkpoint 에 진행 위치를 남기므로, 중간에 죽으면 다음 기동 때 완료되지 않은 파일만 이어서 적재합니다.
+     * 체크포인트 기록이 하나도 없는데 도서가 있으면(도입 전 적재분) 예전처럼 건너뜁니다.
+     */
     @Override
     public void run(ApplicationArguments args) throws Exception {
-        if (bookRepository.count() > 0) {
+        if (incremental) {
+            runIncremental();
+            return;
+        }
+        if (bookRepository.count() > 0 && importCheckpointRepository.count() == 0) {
             log.info("데이터가 이미 존재합니다. 초기화를 건너뜁니다.");
             return;
         }
 
-        log.info("대용량 CSV 데이터 초기화 시작");
+        List<Resource> resources = findDataFiles();
+        if (resources.isEmpty()) {
+            log.warn("classpath:/data 경로에 적재할 파일이 없습니다.");
+            return;
+        }
+        List<Resource> pending = resources.stream()
+                .filter(resource -> !isCompleted(resource.getFilename()))
+                .toList();
+        if (pending.isEmpty()) {
+            log.info("모든 파일이 적재 완료 상태입니다. 초기화를 건너뜁니다.");
+            return;
+        }
+
+        log.info("대용량 데이터 초기화 시작 (대상 파일 {}개)", pending.size());
         long startTime = System.currentTimeMillis();
 
         // 캐시 : 이미 DB에 있는 출판사/작가를 메모리에 올림 (중복 Insert 방지 및 속도 향상)
         preloadCaches();
+        try {
+            loadFiles(pending, resource -> {
+                processFile(resource);
+                return true;
+            });
+        } finally {
+            releaseCaches();
+        }
+        bookBatchService.evictListCaches();
+
+        long endTime = System.currentTimeMillis();
+        log.info("전체 초기화 완료! 소요 시간: {}초", (endTime - startTime) / 1000);
+    }
 
-        Resource[] resources = resolver.getResources("classpath:/data/*.csv");
-        if (resources.length == 0) {
-            log.warn("classpath:/data 경로에 CSV 파일이 없습니다.");
+    /**
+     * 증분 적재 - classpath:/data 아래 파일의 행마다 해시를 내어 저장된 ISBN 별 해시와 비교하고, 새 행/바뀐 행만 저장
+     * <p>
+     * 해시는 도서에 반영되는 열 값만으로 만들므로 행 순서나 쓰지 않는 열이 바뀐 것은 무시합니다. 해시가 없는 ISBN 은 DB 에
+     * 도서가 있으면 갱신, 없으면 등록하므로, 해시 도입 전 카탈로그는 첫 증분 적재 때 한 번 전부 갱신됩니다. 배치마다 해시를
+     * 도서와 같은 트랜잭션으로 저장하므로 중간에 죽어도 다음 적재가 남은 변경만 다시 잡습니다.
+     */
+    private void runIncremental() throws IOException, InterruptedException, ExecutionException {
+        List<Resource> resources = findDataFiles();
+        if (resources.isEmpty()) {
+            log.warn("classpath:/data 경로에 적재할 파일이 없습니다.");
             return;
         }
 
-        for (Resource resource : resources) {
-            processCsvFile(resource);
+        log.info("증분 적재 시작 (대상 파일 {}개)", resources.size());
+        long startTime = System.currentTimeMillis();
+
+        preloadCaches();
+        batchInsertRepository.forEachContentHash(contentHashes::put);
+        log.info("행 해시 로드 완료 ({}건, {}KB)", contentHashes.size(), contentHashes.memoryBytes() >> 10);
+        try {
+            boolean allLoaded = loadFiles(resources, this::processFileIncremental);
+            if (softDeleteMissing) {
+                if (allLoaded) {
+                    softDeleteMissingBooks();
+                } else {
+                    log.warn("적재에 실패한 파일이 있어 빠진 도서 판매 중단을 건너뜁니다.");
+                }
+            }
+        } finally {
+            releaseCaches();
+            contentHashes.clear();
         }
+        // 바뀐 행이 일부 파일에서만 저장됐어도 이미 커밋된 변경이 있으므로 비움
+        bookBatchService.evictListCaches();
 
         long endTime = System.currentTimeMillis();
-        log.info("전체 초기화 완료! 소요 시간: {}초", (endTime - startTime) / 1000);
+        log.info("증분 적재 완료! 소요 시간: {}초", (endTime - startTime) / 1000);
+    }
+
+    // 지원하지 않는 확장자(README 등)는 건너뜀
+    private List<Resource> findDataFiles() throws IOException {
+        return Arrays.stream(resolver.getResources("classpath:/data/*"))
+                .filter(resource -> {
+                    boolean supported = dataParserResolver.supports(resource.getFilename());
+                    if (!supported) {
+                        log.info("지원하지 않는 형식이라 적재하지 않습니다: {}", resource.getFilename());
+                    }
+                    return supported;
+                })
+                .toList();
+    }
+
+    // 파일 단위로 동시에 적재, 모든 파일이 성공했는지 반환
+    private boolean loadFiles(List<Resource> pending, Predicate<Resource> loader)
+            throws InterruptedException, ExecutionException {
+        int concurrency = Math.min(Math.max(1, fileConcurrency), pending.size());
+        ExecutorService files = Executors.newFixedThreadPool(concurrency,
+                Thread.ofPlatform().name("import-file-", 0).factory());
+        try {
+            List<Future<Boolean>> futures = pending.stream()
+                    .map(resource -> files.submit(() -> loader.test(resource)))
+                    .toList();
+            boolean allLoaded = true;
+            for (Future<Boolean> future : futures) {
+                allLoaded &= future.get();
+            }
+            return allLoaded;
+        } finally {
+            files.shutdownNow();
+        }
     }
 
     private void preloadCaches() {
         log.info("캐시 워밍업 중 (기존 데이터 로드)...");
-        publisherRepository.findAll().forEach(p -> publisherCache.put(p.getPublisherName(), p));
-        contributorRepository.findAll().forEach(c -> contributorCache.put(c.getContributorName(), c));
-        log.info("캐시 로드 완료 (Publisher: {}, Contributor: {})", publisherCache.size(), contributorCache.size());
+        publisherRepository.findAllIdAndName().forEach(p -> publisherIds.put(p.getName(), p.getId()));
+        contributorRepository.findAllIdAndName().forEach(c -> contributorIds.put(c.getName(), c.getId()));
+        log.info("캐시 로드 완료 (Publisher: {}, Contributor: {})", publisherIds.size(), contributorIds.size());
     }
 
+    // 적재 후에는 쓰지 않으므로 빈 사전으로 되돌려 메모리 반납
+    private void releaseCaches() {
+        log.info("캐시 해제 (Publisher: {}건 {}KB, Contributor: {}건 {}KB)", publisherIds.size(),
+                publisherIds.memoryBytes() >> 10, contributorIds.size(), contributorIds.memoryBytes() >> 10);
+        publisherIds.clear();
+        contributorIds.clear();
+    }
+
+    private boolean isCompleted(String fileName) {
+        return importCheckpointRepository.findById(fileName)
+                .map(checkpoint -> checkpoint.getStatus() == ImportStatus.COMPLETED)
+                .orElse(false);
+    }
+
+
+    /**
+     * 한 파일을 스트리밍 파이프라인(읽기 → 병렬 변환 → 배치 저장)으로 적재
+     * <p>
+     * 파일 전체를 메모리에 올리지 않고, 큐 용량만큼만 행을 들고 있으므로 파일 크기와 관계없이 힙 사용량이 일정합니다.
+     * 배치를 저장할 때마다 체크포인트를 앞으로 옮기고, 체크포인트가 있으면 그 다음 행부터 이어서 읽습니다.
+     * 체크포인트의 행 수는 CSV 는 원본 행, 그 외 형식은 파서가 돌려준(유효성 검사를 통과한) 행 기준입니다.
+     */
+    public void processFile(Resource resource) {
+        String fileName = resource.getFilename();
+        ImportCheckpoint checkpoint = importCheckpointRepository.findById(fileName).orElse(null);
+        if (checkpoint != null && checkpoint.getStatus() == ImportStatus.COMPLETED) {
+            log.info("이미 적재 완료된 파일입니다: {}", fileName);
+            return;
+        }
+        long startRow = checkpoint != null ? checkpoint.getRowsCommitted() : 0;
+        FileProgress progress = bulkImportProgress.start(fileName, startRow);
 
-    public void processCsvFile(Resource resource) {
-        try (CSVReader csvReader = new CSVReader(
-                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-            log.info("파일 읽기 시작: {}", resource.getFilename());
+        try (RowSource rowSource = openRows(resource)) {
+            log.info("파일 읽기 시작: {} (시작 행: {})", fileName, startRow);
+            markStarted(fileName, checkpoint);
 
-            //readAll()로 한 번에 메모리에 로드 (I/O 최소화)
-            List<String[]> allRows = csvReader.readAll();
-            if (allRows.isEmpty()) {
+            Map<String, Integer> headerMap = rowSource.headerMap();
+            if (headerMap == null) {
+                finish(fileName, progress);
                 return;
             }
+            skipRows(rowSource, startRow);
+
+            // 파일 순서대로 저장하지만, 배치 저장 후 체크포인트를 옮기기 전에 멈췄으면 체크포인트 뒤 한 배치가 이미 저장돼
+            // 있을 수 있어 이어서 적재하는 파일은 ISBN 으로 걸러냄
+            boolean resumed = checkpoint != null;
+            ImportPipeline<String[], Book> pipeline = new ImportPipeline<>(fileName, parseThreadsPerFile(),
+                    queueCapacity, batchSize, true);
+            ImportPipeline.Result result = pipeline.run(
+                    () -> {
+                        String[] row = rowSource.next();
+                        if (row != null) {
+                            progress.rowRead();
+                        }
+                        return row;
+                    },
+                    row -> processSingleRow(row, headerMap),
+                    (batch, processedRows) -> {
+                        List<Book> books = resumed ? withoutSavedIsbns(batch) : batch;
+                        if (!books.isEmpty()) {
+                            resolveNewNames(books);
+                            bookBatchService.saveBooksInBatch(books);
+                        }
+                        importCheckpointRepository.advance(fileName, startRow + processedRows, LocalDateTime.now());
+                        progress.committed(startRow + processedRows, books.size());
+                    });
+
+            finish(fileName, progress);
+            log.info("파일 처리 완료: {} - {}행 중 {}건 저장, {}ms ({}행/초)", fileName,
+                    result.rowsRead(), result.written(), result.elapsed().toMillis(), result.rowsPerSecond());
+        } catch (Exception e) {
+            log.error("파일 처리 중 치명적 오류 발생: {}", fileName, e);
+            progress.failed(e);
+            markFailed(fileName);
+        }
+    }
 
-            String[] headers = allRows.get(0);
-            Map<String, Integer> headerMap = createHeaderMap(headers);
+    /**
+     * 증분 적재 - 한 파일에서 해시가 바뀐(또는 새) 행만 배치로 등록/갱신
+     *
+     * @return 파일을 끝까지 처리했으면 true
+     */
+    public boolean processFileIncremental(Resource resource) {
+        String fileName = resource.getFilename();
+        FileProgress progress = bulkImportProgress.start(fileName, 0);
+
+        try (RowSource rowSource = openRows(resource)) {
+            log.info("증분 적재 파일 읽기 시작: {}", fileName);
+            Map<String, Integer> headerMap = rowSource.headerMap();
+            if (headerMap == null) {
+                progress.completed();
+                return true;
+            }
 
-            List<String[]> dataRows = allRows.subList(1, allRows.size());
-            log.info("총 {}건의 데이터 처리를 시작합니다.", dataRows.size());
+            ImportPipeline<String[], ChangedRow> pipeline = new ImportPipeline<>(fileName, parseThreadsPerFile(),
+                    queueCapacity, batchSize, true);
+            ImportPipeline.Result result = pipeline.run(
+                    () -> {
+                        String[] row = rowSource.next();
+                        if (row != null) {
+                            progress.rowRead();
+                        }
+                        return row;
+                    },
+                    row -> processChangedRow(row, headerMap),
+                    (batch, processedRows) -> {
+                        // 같은 ISBN 이 한 배치에 여럿이면 뒤의 행
+                        Map<String, ChangedRow> latest = new LinkedHashMap<>();
+                        batch.forEach(changed -> latest.put(changed.book().getIsbn(), changed));
+                        List<Book> books = latest.values().stream().map(ChangedRow::book).toList();
+                        Map<String, Long> hashes = latest.values().stream()
+                                .collect(Collectors.toMap(changed -> changed.book().getIsbn(), ChangedRow::hash));
+
+                        resolveNewNames(books);
+                        bookBatchService.upsertBooksInBatch(books, hashes);
+                        progress.committed(processedRows, books.size());
+                    });
+
+            progress.completed();
+            log.info("증분 적재 파일 완료: {} - {}행 중 {}건 등록/갱신, {}ms ({}행/초)", fileName,
+                    result.rowsRead(), result.written(), result.elapsed().toMillis(), result.rowsPerSecond());
+            return true;
+        } catch (Exception e) {
+            log.error("증분 적재 중 치명적 오류 발생: {}", fileName, e);
+            progress.failed(e);
+            return false;
+        }
+    }
 
-            // 배치 처리를 위한 리스트 (1000건씩 묶어서 저장)
-            List<Book> bookBatch = new ArrayList<>(1000);
+    /**
+     * CSV(.csv, .csv.gz)는 {@link BookCsvParser#openRawRows} 로 원본 행 그대로 읽고(체크포인트/해시가 원본 열 기준, 파일은
+     * 메모리 매핑, 큰 파일은 조각 병렬 변환, 행 순서는 파일 순서), 그 외 형식은
+     * {@link DataParserResolver} 가 고른 파서의 DTO 를 {@link #PARSED_HEADERS} 순서의 행으로 펼침
+     */
+    private RowSource openRows(Resource resource) throws IOException {
+        String fileName = resource.getFilename();
+        if (isCsv(fileName)) {
+            return new CsvRowSource(bookCsvParser.openRawRows(resource, CSV_COLUMNS));
+        }
+        DataParser parser = dataParserResolver.getDataParser(fileName);
+        return new ParsedRowSource(parser.stream(resource));
+    }
 
-            for (int i = 0; i < dataRows.size(); i++) {
-                Book book = processSingleRow(dataRows.get(i), headerMap, i);
-                if (book != null) {
-                    bookBatch.add(book);
-                }
+    private static boolean isCsv(String fileName) {
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.trim().toLowerCase();
+        if (name.endsWith(DataParser.COMPRESSED_SUFFIX)) {
+            name = name.substring(0, name.length() - DataParser.COMPRESSED_SUFFIX.length());
+        }
+        return name.endsWith(".csv");
+    }
 
-                // 1000개가 모이면 DB로
-                if (bookBatch.size() >= 1000) {
-                    bookBatchService.saveBooksInBatch(bookBatch);
-                    bookBatch.clear();
-                    if (i % 10000 == 0) {
-                        log.info("{} 건 처리 완료...", i);
-                    }
+    // 체크포인트까지 읽고 버림 (여러 줄짜리 값이 있어 줄 단위 skip 대신 행 단위로)
+    private void skipRows(RowSource rowSource, long rows) throws Exception {
+        long skipped = 0;
+        while (skipped < rows && rowSource.next() != null) {
+            skipped++;
+        }
+    }
+
+    private void markStarted(String fileName, ImportCheckpoint checkpoint) {
+        LocalDateTime now = LocalDateTime.now();
+        if (checkpoint == null) {
+            importCheckpointRepository.save(ImportCheckpoint.builder()
+                    .fileName(fileName)
+                    .rowsCommitted(0)
+                    .status(ImportStatus.IN_PROGRESS)
+                    .startedAt(now)
+                    .updatedAt(now)
+                    .build());
+        } else {
+            importCheckpointRepository.updateStatus(fileName, ImportStatus.IN_PROGRESS, now);
+        }
+    }
+
+    private void finish(String fileName, FileProgress progress) {
+        importCheckpointRepository.updateStatus(fileName, ImportStatus.COMPLETED, LocalDateTime.now());
+        progress.completed();
+    }
+
+    private void markFailed(String fileName) {
+        try {
+            importCheckpointRepository.updateStatus(fileName, ImportStatus.FAILED, LocalDateTime.now());
+        } catch (Exception e) {
+            // 상태를 못 남겨도 IN_PROGRESS 로 남아 다음 기동 때 이어서 적재됨
+            log.warn("체크포인트 상태 갱신 실패: {}", fileName, e);
+        }
+    }
+
+    private List<Book> withoutSavedIsbns(List<Book> batch) {
+        Set<String> saved = bookRepository.findByIsbnIn(batch.stream().map(Book::getIsbn).toList()).stream()
+                .map(BookRepository.BookIdAndIsbn::getIsbn)
+                .collect(Collectors.toSet());
+        return saved.isEmpty() ? batch : batch.stream().filter(book -> !saved.contains(book.getIsbn())).toList();
+    }
+
+    /**
+     * 배치에서 처음 보는 출판사/기여자 이름을 모아 한꺼번에 등록하고 ID 를 채움 (저장 스레드)
+     * <p>
+     * 이름마다 save 하던 것을 배치당 upsert + IN 조회 몇 번으로 줄입니다. 도서 저장 트랜잭션 밖에서 바로 커밋되므로, 도서 배치가
+     * 실패해도 캐시에 올린 ID 는 DB 에 남아 있습니다. 같은 이름을 다른 파일이 동시에 등록해도 유니크 키로 한 행만 남습니다.
+     */
+    private void resolveNewNames(List<Book> books) {
+        Set<String> newPublishers = new HashSet<>();
+        Set<String> newContributors = new HashSet<>();
+        for (Book book : books) {
+            for (BookPublisher bookPublisher : book.getBookPublishers()) {
+                if (bookPublisher.getPublisher().getId() == null) {
+                    newPublishers.add(bookPublisher.getPublisher().getPublisherName());
+                }
+            }
+            for (BookContributor bookContributor : book.getBookContributors()) {
+                if (bookContributor.getContributor().getId() == null) {
+                    newContributors.add(bookContributor.getContributor().getContributorName());
                 }
             }
+        }
+        if (!newPublishers.isEmpty()) {
+            batchInsertRepository.upsertPublishers(newPublishers).forEach(publisherIds::put);
+        }
+        if (!newContributors.isEmpty()) {
+            batchInsertRepository.upsertContributors(newContributors).forEach(contributorIds::put);
+        }
 
-            // 남은 데이터 처리
-            if (!bookBatch.isEmpty()) {
-                bookBatchService.saveBooksInBatch(bookBatch);
+        for (Book book : books) {
+            for (BookPublisher bookPublisher : book.getBookPublishers()) {
+                if (bookPublisher.getPublisher().getId() == null) {
+                    bookPublisher.setPublisher(publisher(bookPublisher.getPublisher().getPublisherName()));
+                }
+            }
+            for (BookContributor bookContributor : book.getBookContributors()) {
+                if (bookContributor.getContributor().getId() == null) {
+                    bookContributor.setContributor(
+                            contributor(bookContributor.getContributor().getContributorName()));
+                }
             }
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("파일 처리 중 치명적 오류 발생: {}", resource.getFilename(), e);
+    // 파일을 동시에 여러 개 적재하므로 기본값은 코어를 파일 수로 나눔
+    private int parseThreadsPerFile() {
+        if (parseThreads > 0) {
+            return parseThreads;
         }
+        return Math.max(1, (Runtime.getRuntime().availableProcessors() - 1) / Math.max(1, fileConcurrency));
     }
 
-    private Book processSingleRow(String[] row, Map<String, Integer> headerMap, int index) {
+    // 변환 스레드 여럿이 동시에 호출 (출판사/기여자 사전은 조회만 함)
+    private Book processSingleRow(String[] row, Map<String, Integer> headerMap) {
         try {
             return convertToBook(row, headerMap);
         } catch (Exception e) {
-            log.debug("라인 {} 파싱 스킵: {}", index, e.getMessage());
+            log.debug("행 파싱 스킵 (ISBN {}): {}", safeGet(row, headerMap, "ISBN_THIRTEEN_NO", "ISBN_NO"),
+                    e.getMessage());
             return null;
         }
     }
 
 
+    /**
+     * 변환 스레드 여럿이 동시에 호출. 저장된 해시와 같으면(바뀌지 않은 행) null 로 건너뜀
+     * <p>
+     * 본 ISBN 은 해시에 SEEN 표시를 남겨, 적재가 끝난 뒤 표시가 없는 ISBN 을 파일에서 빠진 도서로 봅니다. 같은 파일에
+     * 같은 내용의 행이 또 나오면 두 번째부터는 건너뜁니다. 비교와 표시는 한 번에 하므로 같은 행을 두 스레드가 동시에
+     * 변환해도 바뀐 행으로 넘기는 것은 하나뿐입니다.
+     */
+    private ChangedRow processChangedRow(String[] row, Map<String, Integer> headerMap) {
+        String isbn = truncate(safeGet(row, headerMap, "ISBN_THIRTEEN_NO", "ISBN_NO"), 20);
+        if (!StringUtils.hasText(isbn)) {
+            return null;
+        }
+        long hash = contentHash(row, headerMap);
+        // 이미 표시까지 끝난 행은 쓰기 잠금 없이 건너뜀
+        if (contentHashes.get(isbn) == (hash | SEEN)) {
+            return null;
+        }
+        long stored = contentHashes.getAndUpdate(isbn, current -> hash | SEEN);
+        if (stored != NameIdDictionary.NOT_FOUND && (stored & HASH_MASK) == hash) {
+            return null;
+        }
+
+        Book book = processSingleRow(row, headerMap);
+        return book == null ? null : new ChangedRow(book, hash);
+    }
+
+    // 도서에 반영되는 열 값(safeGet 으로 정리한 값)의 64비트 FNV-1a, 열 사이에 구분 문자를 넣어 경계가 바뀐 것도 구분. 0 이상
+    private long contentHash(String[] row, Map<String, Integer> headerMap) {
+        long hash = FNV_OFFSET_BASIS;
+        for (String[] keys : HASHED_COLUMNS) {
+            String value = safeGet(row, headerMap, keys);
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+            hash = (hash ^ 0x1F) * FNV_PRIME;
+        }
+        return hash & HASH_MASK;
+    }
+
+    // 해시는 있는데 이번 적재에서 보지 못한 ISBN 의 도서를 판매 중단 (빠진 비율이 너무 크면 잘린 파일로 보고 건너뜀)
+    private void softDeleteMissingBooks() {
+        List<String> missing = new ArrayList<>();
+        contentHashes.forEach((isbn, value) -> {
+            if ((value & SEEN) == 0) {
+                missing.add(isbn);
+            }
+        });
+        if (missing.isEmpty()) {
+            return;
+        }
+        if (missing.size() > contentHashes.size() * maxDeleteRatio) {
+            log.warn("적재 파일에 없는 도서가 {}건으로 전체 {}건의 {}% 를 넘어 판매 중단을 건너뜁니다.", missing.size(),
+                    contentHashes.size(), Math.round(maxDeleteRatio * 100));
+            return;
+        }
+        int deleted = bookBatchService.softDeleteBooksByIsbn(missing);
+        log.info("적재 파일에 없는 도서 판매 중단: ISBN {}건, 도서 {}건", missing.size(), deleted);
+    }
+
     private Book convertToBook(String[] row, Map<String, Integer> h) {
         // 안전하게 필수값 가져오기
         String isbn = safeGet(row, h, "ISBN_THIRTEEN_NO", "ISBN_NO");
@@ -162,15 +584,14 @@ public class DataInitializer implements ApplicationRunner {
             return null;
         }
 
-        // 출판사 처리 (캐시 조회 -> 없으면 저장 후 캐시 등록)
+        // 출판사 처리 (캐시 조회 -> 없으면 이름만 담아 두고 저장 단계에서 배치 단위로 등록)
         String pubName = safeGet(row, h, "PUBLISHER_NM");
         if (!StringUtils.hasText(pubName)) {
             pubName = "Unknown";
         }
+        pubName = truncate(pubName, NAME_MAX_LENGTH);
 
-        Publisher publisher = publisherCache.computeIfAbsent(pubName, name ->
-                publisherRepository.save(Publisher.builder().publisherName(name).build())
-        );
+        Publisher publisher = publisher(pubName);
 
         long price = parsePrice(safeGet(row, h, "PRC_VALUE"));
         // Book Entity 생성
@@ -212,120 +633,37 @@ public class DataInitializer implements ApplicationRunner {
 
     /**
      * 저자 문자열을 파싱하여 Book 엔티티에 기여자(Contributor) 정보를 연결합니다.
+     * <p>
+     * 이름/역할 분리는 관리자 등록과 같은 {@link ContributorParser} 를 씁니다. (같은 이름+역할은 한 번만)
      */
     private void parseAndAddContributors(Book book, String rawAuthorStr) {
         if (!StringUtils.hasText(rawAuthorStr)) {
             return;
         }
 
-        String cleanedStr = cleanRawString(rawAuthorStr);
-        Set<String> processedKeys = new HashSet<>(); // 중복 방지용 키 (ContributorId_Role)
-
-        Arrays.stream(SPLIT_PATTERN.split(cleanedStr))
-                .map(String::trim)
-                .filter(this::isValidToken)
-                .map(this::removeEtcSuffix) // "홍길동 외 2명" -> "홍길동"
-                .map(this::extractNameAndRole) // 이름, 역할 추출
-                .filter(cData -> StringUtils.hasText(cData.name))
-                .forEach(cData -> linkContributorToBook(book, cData, processedKeys));
-    }
-
-    // 내부 헬퍼 클래스
-    private static class ContributorData {
-        String name;
-        String role;
-
-        public ContributorData(String name, String role) {
-            this.name = name;
-            this.role = role;
-        }
-    }
-
-    // 정규식을 이용해 "이름"과 "역할"을 분리
-    private ContributorData extractNameAndRole(String token) {
-        Matcher matcher = ROLE_PATTERN.matcher(token);
-
-        String name = token;
-        String role = "지은이"; // 기본값
-
-        if (matcher.find()) {
-            name = matcher.group(1).trim(); // 그룹1: 이름
-            String foundRole = matcher.group(2); // 그룹2: 괄호 안 역할
-
-            if (foundRole == null) {
-                foundRole = matcher.group(3); // 그룹3: 접미사 역할
-            }
-
-            if (foundRole != null) {
-                role = normalizeRole(foundRole);
-            }
-        }
-        return new ContributorData(name, role);
-    }
-
-    // 역할 명칭 통일
-    private String normalizeRole(String rawRole) {
-        rawRole = rawRole.trim();
-        if (rawRole.equals("지음") || rawRole.equals("저") || rawRole.equals("공저")) {
-            return "지은이";
-        }
-        if (rawRole.equals("옮김") || rawRole.equals("역")) {
-            return "옮긴이";
-        }
-        if (rawRole.equals("편") || rawRole.equals("엮음")) {
-            return "엮은이";
-        }
-        if (rawRole.equals("글")) {
-            return "글";
-        }
-        if (rawRole.equals("그림")) {
-            return "그림";
-        }
-
-        if (rawRole.length() > 50) {
-            return rawRole.substring(0, 50);
+        for (ParsedContributor parsed : ContributorParser.parse(rawAuthorStr)) {
+            // 기여자 조회 (Cache, 없으면 저장 단계에서 등록)
+            book.getBookContributors().add(BookContributor.builder()
+                    .book(book)
+                    .contributor(findOrNewContributor(parsed.name()))
+                    .roleType(parsed.role())
+                    .build());
         }
-        return rawRole;
     }
 
-    private String cleanRawString(String rawAuthorStr) {
-        return rawAuthorStr.replaceAll("(?i)\\s*by\\s*", "")
-                .replaceAll("(?i)\\s*illustrated\\s*", "");
+    private Contributor findOrNewContributor(String name) {
+        return contributor(truncate(name, NAME_MAX_LENGTH));
     }
 
-    private boolean isValidToken(String token) {
-        return StringUtils.hasText(token) && !token.equals("외");
+    // 관계 저장에는 ID 만 쓰므로 사전의 ID 로 만든 참조 (없으면 ID 없이 이름만)
+    private Publisher publisher(String name) {
+        long id = publisherIds.get(name);
+        return Publisher.builder().id(id == NameIdDictionary.NOT_FOUND ? null : id).publisherName(name).build();
     }
 
-    private String removeEtcSuffix(String token) {
-        int index = token.indexOf(" 외");
-        if (index != -1) {
-            return token.substring(0, index).trim();
-        }
-        return token;
-    }
-
-    private void linkContributorToBook(Book book, ContributorData cData, Set<String> processedKeys) {
-        // 기여자 조회 또는 생성 (Cache -> DB)
-        Contributor contributor = getOrCreateContributor(cData.name);
-
-        String uniqueKey = contributor.getId() + "_" + cData.role;
-        if (processedKeys.contains(uniqueKey)) {
-            return;
-        }
-        processedKeys.add(uniqueKey);
-
-        book.getBookContributors().add(BookContributor.builder()
-                .book(book)
-                .contributor(contributor)
-                .roleType(cData.role)
-                .build());
-    }
-
-    private Contributor getOrCreateContributor(String name) {
-        return contributorCache.computeIfAbsent(name, n ->
-                contributorRepository.save(Contributor.builder().contributorName(n).build())
-        );
+    private Contributor contributor(String name) {
+        long id = contributorIds.get(name);
+        return Contributor.builder().id(id == NameIdDictionary.NOT_FOUND ? null : id).contributorName(name).build();
     }
 
     // --- 유틸리티 메서드 ---
@@ -376,4 +714,87 @@ public class DataInitializer implements ApplicationRunner {
         }
         return map;
     }
-}
\ No newline at end of file
+
+    // 증분 적재에서 저장할 행 (변환한 도서 + 원본 행 해시)
+    private record ChangedRow(Book book, long hash) {
+    }
+
+    /**
+     * 파일 형식과 관계없이 (열 이름 → 번호, 행 배열) 로 읽기 (읽기 스레드 하나에서만 호출)
+     */
+    private interface RowSource extends AutoCloseable {
+
+        /// 헤더가 없는 빈 파일이면 null
+        Map<String, Integer> headerMap();
+
+        /// 다음 행, 끝이면 null
+        String[] next() throws Exception;
+    }
+
+    private final class CsvRowSource implements RowSource {
+
+        private final BookCsvParser.RawRows rows;
+        private final Map<String, Integer> headerMap;
+
+        private CsvRowSource(BookCsvParser.RawRows rows) {
+            this.rows = rows;
+            this.headerMap = rows.header() == null ? null : createHeaderMap(rows.header());
+        }
+
+        @Override
+        public Map<String, Integer> headerMap() {
+            return headerMap;
+        }
+
+        @Override
+        public String[] next() {
+            return rows.next();
+        }
+
+        @Override
+        public void close() {
+            rows.close();
+        }
+    }
+
+    private final class ParsedRowSource implements RowSource {
+
+        private final Stream<DataParserDto> rows;
+        private final Iterator<DataParserDto> iterator;
+        private final Map<String, Integer> headerMap = createHeaderMap(PARSED_HEADERS);
+
+        private ParsedRowSource(Stream<DataParserDto> rows) {
+            this.rows = rows;
+            this.iterator = rows.iterator();
+        }
+
+        @Override
+        public Map<String, Integer> headerMap() {
+            return headerMap;
+        }
+
+        @Override
+        public String[] next() {
+            if (!iterator.hasNext()) {
+                return null;
+            }
+            DataParserDto dto = iterator.next();
+            return new String[]{
+                    dto.getIsbn(),
+                    dto.getTitle(),
+                    dto.getPublisherName(),
+                    dto.joinedContributors(),
+                    dto.getStandardPrice() == null ? "" : dto.getStandardPrice().toString(),
+                    dto.getPublishedAt() == null ? "" : dto.getPublishedAt().format(DATE_FORMATTER),
+                    dto.getDescription(),
+                    dto.getVolume(),
+                    dto.getImageUrl()
+            };
+        }
+
+        @Override
+        public void close() {
+            rows.close();
+        }
+    }
+}
@@ -5,35 +5,94 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import org.nhnacademy.book2onandonbookservice.dto.api.AladinApiResponse;
+import org.nhnacademy.book2onandonbookservice.dto.api.RestPage;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
+import org.nhnacademy.book2onandonbookservice.service.cache.CacheAccessRecorder;
+import org.nhnacademy.book2onandonbookservice.service.cache.CompactRedisSerializer;
+import org.nhnacademy.book2onandonbookservice.service.cache.SoftExpiringValue;
+import org.nhnacademy.book2onandonbookservice.service.cache.StaleWhileRevalidateCacheManager;
+import org.nhnacademy.book2onandonbookservice.service.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
-@EnableCaching
+// 트랜잭션 프록시보다 바깥에서 캐시를 확인 (적중 시 DB 커넥션을 잡지 않고, 백그라운드 갱신 로더도 트랜잭션 안에서 실행)
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class RedisConfig {
 
+    // 바이너리 직렬화를 쓸 수 있는 캐시와 값 타입 (타입 정보를 값에 싣지 않으므로 캐시마다 미리 정해 둠)
+    private static final Map<String, JavaType> COMPACT_VALUE_TYPES = Map.of(
+            "bestsellers", CompactRedisSerializer.type(List.class, BookListResponse.class),
+            "newArrivals", CompactRedisSerializer.type(RestPage.class, BookListResponse.class),
+            "geminiTags", CompactRedisSerializer.type(List.class, String.class),
+            "aladinBook", CompactRedisSerializer.type(AladinApiResponse.Item.class)
+    );
+
+    private static final Duration DEFAULT_TTL = Duration.ofDays(7);
+    private static final Map<String, Duration> CACHE_TTLS = Map.of(
+            "bestsellers", Duration.ofHours(12)
+    );
+
     @Value("${spring.cache.redis.key-prefix:book-service}")
     private String keyPrefix;
 
+    @Value("${book.cache.compact.caches:bestsellers,newArrivals}")
+    private List<String> compactCaches;
+
+    @Value("${book.cache.compact.compression-threshold-bytes:2048}")
+    private int compressionThresholdBytes;
+
+    @Value("${book.cache.near.maximum-size:1000}")
+    private long nearMaximumSize;
+
+    @Value("${book.cache.near.ttl-seconds:60}")
+    private long nearTtlSeconds;
+
+    // soft 만료 후 hard 만료(Redis TTL)까지 이전 값을 제공하면서 백그라운드 갱신하는 캐시
+    // 카테고리 트리는 캐시가 아니라 인스턴스마다 메모리에 둔 CategoryTreeIndex 가 제공하므로 여기에 없음
+    @Value("${book.cache.swr.caches:bestsellers,newArrivals}")
+    private List<String> swrCaches;
 
+    @Value("${book.cache.swr.stale-minutes:60}")
+    private long staleMinutes;
+
+    @Value("${book.cache.swr.lease-seconds:10}")
+    private long leaseSeconds;
+
+
+    @Primary // cacheManager 를 지정하지 않은 곳의 기본값 (2단 캐시 매니저가 추가되기 전과 동일)
     @Bean //Redis가 캐시매니저인걸 EnableCaching으로 알려줌 그럼 Cacheable 어노테이션이 붙은 메서드가 호출되면 자동으로 Redis에 데이터를 저장하고 조회함
     public RedisCacheManager RedisCacheManager(RedisConnectionFactory connectionFactory) {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -53,16 +112,80 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         serializer)) // 값은 Json으로 직렬화
                 .computePrefixWith(cacheName -> keyPrefix + cacheName + "::") //모든 키 앞에 "book-service:"를 붙임
-                .entryTtl(Duration.ofDays(7)) // 캐시 유효시간 (TTL) 기본 7일 설정 (책 정보는 잘 안 바뀌기때문에 길게 잡는 것이 좋음)
+                .entryTtl(DEFAULT_TTL) // 캐시 유효시간 (TTL) 기본 7일 설정 (책 정보는 잘 안 바뀌기때문에 길게 잡는 것이 좋음)
                 .disableCachingNullValues();
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        cacheConfigurations.put("bestsellers", config.entryTtl(Duration.ofHours(12)));
+        CACHE_TTLS.forEach((cacheName, ttl) -> cacheConfigurations.put(cacheName, config.entryTtl(ttl)));
+
+        // soft/hard 만료 캐시는 Redis TTL 을 hard 만료(soft TTL + stale 구간)로 늘림
+        for (String cacheName : swrCaches) {
+            cacheConfigurations.put(cacheName, cacheConfigurations.getOrDefault(cacheName, config)
+                    .entryTtl(softTtl(cacheName).plusMinutes(staleMinutes)));
+        }
+
+        // 지정한 캐시만 바이너리(Smile + LZ4) 직렬화로 교체 (나머지는 위 JSON 그대로)
+        for (String cacheName : compactCaches) {
+            JavaType valueType = COMPACT_VALUE_TYPES.get(cacheName);
+            if (valueType == null) {
+                throw new IllegalStateException("바이너리 직렬화 값 타입이 등록되지 않은 캐시입니다: " + cacheName);
+            }
+            if (swrCaches.contains(cacheName)) {
+                valueType = CompactRedisSerializer.type(SoftExpiringValue.class, valueType);
+            }
+            CompactRedisSerializer compact = new CompactRedisSerializer(valueType, compressionThresholdBytes,
+                    serializer);
+            cacheConfigurations.put(cacheName, cacheConfigurations.getOrDefault(cacheName, config)
+                    .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(compact)));
+        }
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
     }
 
+    // RedisCacheManager 앞에 로컬 L1 을 둔 2단 캐시 (bestsellers, newArrivals, aladinBook, geminiTags)
+    // L2 는 swrCaches 에 한해 soft/hard 만료 + 단일 로딩으로 감쌈
+    @Bean
+    public TwoLevelCacheManager twoLevelCacheManager(RedisCacheManager RedisCacheManager,
+                                                     StringRedisTemplate redisTemplate,
+                                                     ObjectProvider<MeterRegistry> meterRegistry,
+                                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                                     CacheAccessRecorder cacheAccessRecorder) {
+        Map<String, Duration> softTtls = new HashMap<>();
+        swrCaches.forEach(cacheName -> softTtls.put(cacheName, softTtl(cacheName)));
+        StaleWhileRevalidateCacheManager remote = new StaleWhileRevalidateCacheManager(RedisCacheManager,
+                softTtls, redisTemplate, cacheRefreshExecutor, Duration.ofSeconds(leaseSeconds));
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(remote, redisTemplate,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new), nearMaximumSize,
+                Duration.ofSeconds(nearTtlSeconds), cacheAccessRecorder::record);
+        redisMessageListenerContainer.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.CHANNEL));
+        return cacheManager;
+    }
+
+    // 미리 직렬화해 둔 값(byte[])을 그대로 저장하는 용도 (도서 상세 문서 캐시)
+    @Bean
+    public RedisTemplate<String, byte[]> byteArrayRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    // 인스턴스 간 캐시 무효화 메시지 수신용
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private static Duration softTtl(String cacheName) {
+        return CACHE_TTLS.getOrDefault(cacheName, DEFAULT_TTL);
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true, value = {"pageable"})
     public abstract static class PageImplMixin<T> {
         @JsonCreator
@@ -10,7 +10,7 @@ import org.nhnacademy.book2onandonbookservice.domain.Role;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookSearchCondition;
-import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.dto.common.CursorPage;
 import org.nhnacademy.book2onandonbookservice.service.book.BookLikeService;
 import org.nhnacademy.book2onandonbookservice.service.book.BookLikeService.BookLikeToggleResult;
 import org.nhnacademy.book2onandonbookservice.service.book.BookService;
@@ -20,6 +20,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -40,12 +41,11 @@ public class BookController {
     private final UserHeaderUtil util;
 
 
-    @GetMapping("/categories")
-    public ResponseEntity<List<CategoryDto>> getCategory() {
+    /// 카테고리 트리 - 인덱스에 미리 직렬화해 둔 JSON 을 그대로 응답
+    @GetMapping(value = "/categories", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCategory() {
         log.info("전체 카테고리 목록 조회 요청");
-        List<CategoryDto> categories = bookService.getCategories();
-        log.info("조회된 카테고리 개수: {}", categories.size());
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok(bookService.getCategoryTreeJson());
     }
 
     /// 도서 목록 조회
@@ -58,6 +58,14 @@ public class BookController {
         return ResponseEntity.ok(page);
     }
 
+    /// 도서 목록 커서 조회 GET /books/cursor?cursor=...&size=20 (출간일 최신순, 다음 페이지는 응답의 nextCursor 로)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<BookListResponse>> getBooksByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookService.getBooksByCursor(cursor, size));
+    }
+
     /// 도서 상세 조회
     @GetMapping("/{bookId}")
     public ResponseEntity<BookDetailResponse> getBookDetail(@PathVariable Long bookId) {
@@ -84,6 +92,15 @@ public class BookController {
         return ResponseEntity.ok(newArrivals);
     }
 
+    /// 신간 도서 커서 조회 GET /books/new-arrivals/cursor?categoryId=10&cursor=...&size=20
+    @GetMapping("/new-arrivals/cursor")
+    public ResponseEntity<CursorPage<BookListResponse>> getNewArrivalsByCursor(
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookService.getNewArrivalsByCursor(categoryId, cursor, size));
+    }
+
     /// 인기 도서 조회 API
     @GetMapping("/popular")
     public ResponseEntity<Page<BookListResponse>> getPopularBooks(Pageable pageable) {
@@ -91,6 +108,14 @@ public class BookController {
         return ResponseEntity.ok(result);
     }
 
+    /// 인기 도서 커서 조회 GET /books/popular/cursor?cursor=...&size=20
+    @GetMapping("/popular/cursor")
+    public ResponseEntity<CursorPage<BookListResponse>> getPopularBooksByCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookService.getPopularBooksByCursor(cursor, size));
+    }
+
     /// 최근 본 상품 조회 (최신순 50개)
     @GetMapping("/recent-views")
     public ResponseEntity<List<BookListResponse>> getRecentViews() {
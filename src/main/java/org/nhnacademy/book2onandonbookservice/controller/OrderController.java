@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,6 +21,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/internal/books")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final BookService bookService;
     private final UserHeaderUtil util;
 
@@ -32,15 +35,25 @@ public class OrderController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 재고 차감 POST /internal/books/stock/decrease Header: Idempotency-Key (선택) 같은 키로 재시도하면 다시 차감하지 않고 200 OK
+     */
     @PostMapping("/stock/decrease")
-    public ResponseEntity<Void> decreaseStock(@RequestBody List<StockRequest> requests) {
-        bookService.decreaseStock(requests);
+    public ResponseEntity<Void> decreaseStock(@RequestBody List<StockRequest> requests,
+                                              @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                              String idempotencyKey) {
+        bookService.decreaseStock(requests, idempotencyKey);
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 재고 증가 POST /internal/books/stock/increase Header: Idempotency-Key (선택)
+     */
     @PostMapping("/stock/increase")
-    public ResponseEntity<Void> increaseStock(@RequestBody List<StockRequest> requests) {
-        bookService.increaseStock(requests);
+    public ResponseEntity<Void> increaseStock(@RequestBody List<StockRequest> requests,
+                                              @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                              String idempotencyKey) {
+        bookService.increaseStock(requests, idempotencyKey);
         return ResponseEntity.ok().build();
     }
 
@@ -0,0 +1,7 @@
+package org.nhnacademy.book2onandonbookservice.domain;
+
+public enum ImportStatus {
+    IN_PROGRESS,    //적재 중 (중단됐으면 다음 기동 때 이어서)
+    COMPLETED,  //적재 완료
+    FAILED  //실패 (다음 기동 때 이어서)
+}
@@ -2,15 +2,17 @@ package org.nhnacademy.book2onandonbookservice.dto;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.DateUtils;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser.ParsedContributor;
 
 
 @Getter
@@ -55,24 +57,27 @@ public class DataParserDto {
         this.imageUrl = (imageUrl == null || imageUrl.isEmpty()) ? null : imageUrl;
         this.volume = volume;
 
-        if (rawAuthorStr == null || rawAuthorStr.isEmpty()) {
-            this.authors = Collections.emptyList();
-            this.translators = Collections.emptyList();
-        } else {
-            List<String> participants = Arrays.asList(rawAuthorStr.split("\\s*, \\s*"));
-
-            this.authors = participants.stream()
-                    .filter(s -> s.contains("(지은이)") || !s.contains(")"))
-                    .map(s -> s.replaceAll("\\s*\\(.*?\\)\\s*", "").trim())
-                    .toList(); //정규식 적용을 위해 replaceAll 필수임 replaceAll 안하면 "김작가 (지은이)" 이렇게 나오고 하면 "김작가" 이렇게 제대로 파싱됨
-            // 아래도 마찬가지
-
-            this.translators = participants.stream()
-                    .filter(s -> s.contains("(옮긴이)") || !s.contains(")"))
-                    .map(s -> s.replaceAll("\\s*\\(.*?\\)\\s*", "").trim())
-                    .toList();
-        }
+        // 역할 없이 이름만 있으면 지은이 (적재/관리자 등록과 같은 규칙)
+        List<ParsedContributor> participants = ContributorParser.parse(rawAuthorStr);
+        this.authors = namesWithRole(participants, ContributorParser.AUTHOR);
+        this.translators = namesWithRole(participants, ContributorParser.TRANSLATOR);
+    }
+
+    /**
+     * 원본 저자 열 형태 ("이름 (지은이), 이름 (옮긴이)") - 컬럼 스냅샷 쓰기와 적재에서 다시 파싱할 때 사용
+     */
+    public String joinedContributors() {
+        return Stream.concat(
+                        authors.stream().map(name -> name + " (" + ContributorParser.AUTHOR + ")"),
+                        translators.stream().map(name -> name + " (" + ContributorParser.TRANSLATOR + ")"))
+                .collect(Collectors.joining(", "));
+    }
 
+    private static List<String> namesWithRole(List<ParsedContributor> participants, String role) {
+        return participants.stream()
+                .filter(participant -> participant.role().equals(role))
+                .map(ParsedContributor::name)
+                .toList();
     }
 
     private LocalDate parseDate(String dateStr) {
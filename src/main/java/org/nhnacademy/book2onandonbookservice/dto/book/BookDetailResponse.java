@@ -1,11 +1,12 @@
 package org.nhnacademy.book2onandonbookservice.dto.book;
 
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
 import org.nhnacademy.book2onandonbookservice.dto.common.PublisherDto;
@@ -17,7 +18,9 @@ import org.nhnacademy.book2onandonbookservice.entity.Review;
 
 // 도서 상세 페이지 출력
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 public class BookDetailResponse {
     private Long id;    // 도서 아이디
     private String isbn;    // isbn
@@ -57,7 +60,14 @@ public class BookDetailResponse {
 
 
     /// 헬퍼 메서드
-    public static BookDetailResponse from(Book book, Long likeCount, Boolean likedByCurrentUser) {
+    // 캐시된 공통 문서에 사용자별 좋아요 여부만 덧붙인 사본
+    public BookDetailResponse withLikedByCurrentUser(Boolean liked) {
+        return toBuilder().likedByCurrentUser(liked).build();
+    }
+
+    // latestReviews: 최신순 상위 리뷰(이미 잘라온 것), reviewCount: 전체 리뷰 수 -> reviews 컬렉션은 건드리지 않음
+    public static BookDetailResponse from(Book book, List<Review> latestReviews, long reviewCount, Long likeCount,
+                                          Boolean likedByCurrentUser) {
         //작가 이름 연결
         String contributors = book.getBookContributors().stream()
                 .map(bc -> bc.getContributor().getContributorName())
@@ -90,9 +100,7 @@ public class BookDetailResponse {
                         .build())
                 .toList();
 
-        List<ReviewDto> previewReviews = book.getReviews().stream()
-                .sorted(Comparator.comparing(Review::getCreatedAt).reversed())
-                .limit(3)
+        List<ReviewDto> previewReviews = latestReviews.stream()
                 .map(ReviewDto::from)
                 .toList();
 
@@ -117,7 +125,7 @@ public class BookDetailResponse {
                 .likeCount(likeCount)
                 .likedByCurrentUser(likedByCurrentUser)
                 .rating(book.getRating()) // 추가된 평점 필드
-                .reviewCount((long) book.getReviews().size()) // List 크기로 계산
+                .reviewCount(reviewCount) // COUNT 쿼리 결과
                 .reviews(previewReviews)
                 .build();
     }
@@ -0,0 +1,16 @@
+package org.nhnacademy.book2onandonbookservice.dto.common;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 커서(keyset) 페이지 응답 - 다음 페이지는 nextCursor 를 cursor 파라미터로 그대로 넘겨 조회
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;  // 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -14,6 +14,6 @@ public class SearchSyncMessage {
     private SyncType type;
 
     public enum SyncType {
-        CATEGORY, TAG
+        CATEGORY, TAG, BOOK
     }
 }
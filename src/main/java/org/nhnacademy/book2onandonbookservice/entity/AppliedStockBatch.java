@@ -0,0 +1,32 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 반영된 재고 증감분 묶음 (핫 도서 저널 / Redis flushing 해시의 중복 반영 방지)
+ * <p>
+ * 증감분과 같은 트랜잭션에서 기록하고, 원본(저널 파일, flushing 해시)을 지운 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "applied_stock_batch")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class AppliedStockBatch {
+    // 저널 파일 이름 또는 Redis 반영 묶음 ID
+    @Id
+    @Column(name = "batch_id", length = 64)
+    private String batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -21,12 +21,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 
 @Entity
 @Table(name = "Book", indexes = {
         @Index(name = "idx_book_isbn", columnList = "ISBN"),
-        @Index(name = "idx_book_publish_date", columnList = "book_publish_date")
+        // 커서 페이지 (삭제 제외 신간순) - status <> 는 상태 선두 인덱스의 범위가 못 되므로 출간일 순서로 읽으며 상태는 인덱스 안에서 거름
+        @Index(name = "idx_book_publish_date_id_status", columnList = "book_publish_date, book_id, book_status"),
+        // 커서 페이지 (상태별 신간/인기순) - 정렬 키 + id 까지 인덱스 순서로 읽고 limit 에서 멈춤
+        @Index(name = "idx_book_status_publish_date", columnList = "book_status, book_publish_date, book_id"),
+        @Index(name = "idx_book_status_like_count", columnList = "book_status, like_count, book_id")
 })
 @Getter
 @NoArgsConstructor
@@ -107,45 +114,58 @@ public class Book {
     private BookStatus status;
 
     /// 연관 관계 설정
+    // 컬렉션은 IN 절로 100개씩 묶어서 로딩 (목록에서 N+1 방지)
+    // 카테고리/태그/작가/출판사 매핑은 잘 안 바뀌므로 2차 캐시에 보관 (Book 자체는 재고가 JDBC 로 자주 바뀌어서 캐시하지 않음)
     // 도서 이미지 매핑
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<BookImage> images = new HashSet<>();
 
     // 도서 카테고리 매핑
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private Set<BookCategory> bookCategories = new HashSet<>();
 
     // 태그 매핑
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private Set<BookTag> bookTags = new HashSet<>();
 
     // 작가 매핑
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private Set<BookContributor> bookContributors = new HashSet<>();
 
     // 출판사 매핑
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private Set<BookPublisher> bookPublishers = new HashSet<>();
 
     // 리뷰
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<Review> reviews = new HashSet<>();
 
     // 좋아요
     @Setter
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private Set<BookLike> likes = new HashSet<>();
 
@@ -0,0 +1,36 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 증분 적재용 ISBN 별 원본 행 해시 (다음 적재 때 해시가 같은 행은 건너뜀)
+ * <p>
+ * 읽기/쓰기는 {@link org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository} 의 JDBC 일괄 처리로만
+ * 하며, 여기에 행이 있는 도서만 적재 파일 기준으로 갱신/삭제 대상이 됩니다 (관리자가 직접 등록한 도서는 해당 없음).
+ */
+@Entity
+@Table(name = "book_import_hash")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class BookImportHash {
+    @Id
+    @Column(name = "isbn", length = 20)
+    private String isbn;
+
+    // 도서에 반영되는 열 값으로 만든 해시 (0 이상, 적재가 판매 중단한 ISBN 은 BatchInsertRepository.TOMBSTONE_HASH)
+    @Column(name = "content_hash", nullable = false)
+    private long contentHash;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package org.nhnacademy.book2onandonbookservice.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,8 +13,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "BookTag", uniqueConstraints = {
         @UniqueConstraint(
                 name = "uk_book_tag_id", // 제약조건 이름 (에러 로그 볼 때 편함)
@@ -0,0 +1,35 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 클로저 테이블 - (상위, 하위, 거리) 를 모든 조상-자손 쌍마다 한 행씩 저장
+ * <p>
+ * "이 카테고리와 모든 하위 카테고리" 가 ancestor_id 한 값의 범위 조회라, 하위 id 목록을 IN 절로 넘기지 않고 조인 한 번으로 처리합니다.
+ * 카테고리는 이동/삭제 없이 추가만 되므로 생성 시 부모의 경로를 복사해 넣는 것으로 유지합니다.
+ */
+@Entity
+@Table(name = "CategoryClosure", indexes = {
+        @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, depth")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CategoryClosure {
+
+    @EmbeddedId
+    private CategoryClosurePK pk;
+
+    // 상위에서 하위까지 거리 (자기 자신은 0)
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
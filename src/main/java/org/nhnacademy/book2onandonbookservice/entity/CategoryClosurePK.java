@@ -0,0 +1,24 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+@Embeddable
+public class CategoryClosurePK implements Serializable {
+    // 상위 카테고리 아이디 (자기 자신 포함)
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    // 하위 카테고리 아이디
+    @Column(name = "descendant_id")
+    private Long descendantId;
+}
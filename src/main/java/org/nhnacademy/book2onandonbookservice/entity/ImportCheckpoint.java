@@ -0,0 +1,44 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+
+/**
+ * 대량 적재 파일별 진행 위치 (재기동 시 rowsCommitted 다음 행부터 이어서 적재)
+ */
+@Entity
+@Table(name = "import_checkpoint")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class ImportCheckpoint {
+    // 적재 파일명 (classpath:/data 기준)
+    @Id
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    // 헤더를 뺀 앞에서부터 빠짐없이 처리(저장 또는 스킵)된 행 수
+    @Column(name = "rows_committed", nullable = false)
+    private long rowsCommitted;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "import_status", nullable = false, length = 20)
+    private ImportStatus status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
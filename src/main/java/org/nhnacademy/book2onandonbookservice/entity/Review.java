@@ -7,6 +7,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -21,9 +22,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 @Entity
-@Table(name = "Review")
+@Table(name = "Review", indexes = {
+        @Index(name = "idx_review_book_date", columnList = "book_id, review_date") // 도서별 최신 리뷰 조회용
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -70,6 +74,7 @@ public class Review {
 
     // 리뷰 이미지 매핑
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     @Setter
     private List<ReviewImage> images = new ArrayList<>();
@@ -0,0 +1,32 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 완료된 재고 변경 요청의 멱등키 (주문 서비스 재시도 시 중복 반영 방지)
+ */
+@Entity
+@Table(name = "stock_idempotency_key",
+        indexes = @Index(name = "idx_stock_idempotency_created_at", columnList = "created_at"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+public class StockIdempotencyKey {
+    // (멱등키, 재고 변경 종류)
+    @EmbeddedId
+    private StockIdempotencyKeyPK pk;
+
+    // 최초 처리 시각 (TTL 정리 기준)
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
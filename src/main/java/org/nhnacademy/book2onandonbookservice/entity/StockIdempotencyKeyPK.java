@@ -0,0 +1,24 @@
+package org.nhnacademy.book2onandonbookservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Getter
+@Embeddable
+public class StockIdempotencyKeyPK implements Serializable {
+    // 주문 서비스가 보낸 멱등키
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    // 재고 변경 종류 (DECREASE / INCREASE), 같은 키라도 종류가 다르면 다른 요청
+    @Column(name = "operation", length = 16)
+    private String operation;
+}
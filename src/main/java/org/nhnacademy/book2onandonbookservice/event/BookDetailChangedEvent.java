@@ -0,0 +1,14 @@
+package org.nhnacademy.book2onandonbookservice.event;
+
+import java.util.List;
+
+/**
+ * 도서 상세 화면에 보이는 값(도서 정보, 상태, 재고, 리뷰, 좋아요 수)이 바뀌었음을 알림
+ */
+public record BookDetailChangedEvent(
+        List<Long> bookIds
+) {
+    public static BookDetailChangedEvent of(Long bookId) {
+        return new BookDetailChangedEvent(List.of(bookId));
+    }
+}
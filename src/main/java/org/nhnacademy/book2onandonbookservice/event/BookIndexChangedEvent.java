@@ -0,0 +1,13 @@
+package org.nhnacademy.book2onandonbookservice.event;
+
+import java.util.List;
+
+/**
+ * 검색 인덱스(ES)에 다시 반영할 도서 - JDBC 로 바로 쓴 등록/수정/판매 중단/복구처럼 도서 엔티티를 거치지 않은 변경용
+ * <p>
+ * 커밋 후 도서마다 검색 동기화 메시지로 보내고, 받는 쪽은 그때의 DB 상태를 보고 인덱싱하거나(판매 중단/없음이면) 지웁니다.
+ */
+public record BookIndexChangedEvent(
+        List<Long> bookIds
+) {
+}
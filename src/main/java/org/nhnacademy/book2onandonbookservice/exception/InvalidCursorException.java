@@ -0,0 +1,7 @@
+package org.nhnacademy.book2onandonbookservice.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("잘못된 커서입니다: " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package org.nhnacademy.book2onandonbookservice.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    public InvalidIdempotencyKeyException(int length, int maxLength) {
+        super("Idempotency-Key 는 " + maxLength + "자 이하여야 합니다: " + length + "자");
+    }
+}
@@ -0,0 +1,212 @@
+package org.nhnacademy.book2onandonbookservice.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저자 문자열(AUTHR_NM, 관리자 입력) → 기여자 이름/역할 목록
+ * <p>
+ * CSV 적재, {@link org.nhnacademy.book2onandonbookservice.dto.DataParserDto}, 관리자 도서 등록/수정이 같이 씁니다. 정규식 없이
+ * 문자열을 한 번 훑으며 구분자(, | / ;)로 나누고, 토큰마다 앞뒤 공백/"by"/"illustrated" 를 건너뛴 위치만 옮겨 가며 처리하므로
+ * 토큰당 이름 문자열 하나만 만듭니다. 역할은 자주 나오는 것을 상수로 돌려줘 새 문자열을 만들지 않습니다.
+ * <ul>
+ *     <li>"홍길동(지은이)" / "홍길동 (옮긴이)" - 괄호 안이 역할</li>
+ *     <li>"홍길동 지음" / "홍길동 그림" - 띄어 쓴 마지막 단어가 역할 접미사</li>
+ *     <li>"홍길동 외 2명" → "홍길동", 토큰이 "외" 뿐이면 버림</li>
+ *     <li>역할이 없으면 지은이, 같은 이름+역할은 한 번만</li>
+ * </ul>
+ */
+public final class ContributorParser {
+
+    public static final String AUTHOR = "지은이";
+    public static final String TRANSLATOR = "옮긴이";
+    public static final String EDITOR = "엮은이";
+
+    private static final int ROLE_MAX_LENGTH = 50;
+    private static final String ETC = "외";
+
+    // 띄어 쓴 역할 접미사 → 통일한 역할
+    private static final String[][] ROLE_SUFFIXES = {
+            {"지음", AUTHOR}, {"저", AUTHOR}, {"공저", AUTHOR},
+            {"옮김", TRANSLATOR},
+            {"엮음", EDITOR}, {"편", EDITOR},
+            {"그림", "그림"}, {"글", "글"}, {"감수", "감수"}, {"사진", "사진"}, {"기획", "기획"}
+    };
+
+    // 괄호 안 역할 → 통일한 역할 (접미사 + 이미 통일된 이름)
+    private static final String[][] ROLE_NAMES = {
+            {AUTHOR, AUTHOR}, {TRANSLATOR, TRANSLATOR}, {EDITOR, EDITOR},
+            {"지음", AUTHOR}, {"저", AUTHOR}, {"공저", AUTHOR},
+            {"옮김", TRANSLATOR}, {"역", TRANSLATOR},
+            {"엮음", EDITOR}, {"편", EDITOR},
+            {"그림", "그림"}, {"글", "글"}, {"감수", "감수"}, {"사진", "사진"}, {"기획", "기획"}
+    };
+
+    private ContributorParser() {
+    }
+
+    public static List<ParsedContributor> parse(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return List.of();
+        }
+        List<ParsedContributor> result = new ArrayList<>(4);
+        int start = 0;
+        for (int i = 0; i <= raw.length(); i++) {
+            if (i == raw.length() || isDelimiter(raw.charAt(i))) {
+                parseToken(raw, start, i, result);
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param name 앞뒤 공백 없는 이름 (길이 제한은 호출하는 쪽에서)
+     * @param role 통일한 역할 (최대 50자)
+     */
+    public record ParsedContributor(String name, String role) {
+    }
+
+    /// 내부 로직
+    private static void parseToken(String raw, int from, int to, List<ParsedContributor> out) {
+        int start = skipLeadingWords(raw, skipSpaces(raw, from, to), to);
+        int end = trimEnd(raw, start, to);
+        end = trimEnd(raw, start, stripTrailingWord(raw, start, end, "illustrated"));
+        if (start >= end || isEtc(raw, start, end)) {
+            return;
+        }
+
+        // "홍길동 외 2명" -> "홍길동"
+        int etc = indexOfEtc(raw, start, end);
+        if (etc >= 0) {
+            end = trimEnd(raw, start, etc);
+        }
+
+        String role = AUTHOR;
+        int nameEnd = end;
+        if (raw.charAt(end - 1) == ')') {
+            int open = raw.indexOf('(', start);
+            if (open >= 0 && open < end - 1) {
+                role = normalizeRole(raw, open + 1, end - 1);
+                nameEnd = open;
+            }
+        } else {
+            int lastWord = lastWordStart(raw, start, end);
+            if (lastWord > start) {
+                String suffixRole = match(ROLE_SUFFIXES, raw, lastWord, end);
+                if (suffixRole != null) {
+                    role = suffixRole;
+                    nameEnd = lastWord;
+                }
+            }
+        }
+
+        nameEnd = trimEnd(raw, start, nameEnd);
+        if (nameEnd <= start) {
+            return;
+        }
+        addDistinct(out, raw.substring(start, nameEnd), role);
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == ',' || c == '|' || c == '/' || c == ';';
+    }
+
+    private static int skipSpaces(String raw, int from, int to) {
+        while (from < to && Character.isWhitespace(raw.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String raw, int from, int to) {
+        while (to > from && Character.isWhitespace(raw.charAt(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    // "by 홍길동", "Illustrated by 홍길동"
+    private static int skipLeadingWords(String raw, int from, int to) {
+        while (true) {
+            if (startsWithWord(raw, from, to, "illustrated")) {
+                from = skipSpaces(raw, from + "illustrated".length(), to);
+            } else if (startsWithWord(raw, from, to, "by")) {
+                from = skipSpaces(raw, from + "by".length(), to);
+            } else {
+                return from;
+            }
+        }
+    }
+
+    // 단어 뒤가 공백이거나 토큰 끝
+    private static boolean startsWithWord(String raw, int from, int to, String word) {
+        int end = from + word.length();
+        return end <= to && raw.regionMatches(true, from, word, 0, word.length())
+                && (end == to || Character.isWhitespace(raw.charAt(end)));
+    }
+
+    private static int stripTrailingWord(String raw, int from, int to, String word) {
+        int start = to - word.length();
+        if (start >= from && raw.regionMatches(true, start, word, 0, word.length())
+                && (start == from || Character.isWhitespace(raw.charAt(start - 1)))) {
+            return start;
+        }
+        return to;
+    }
+
+    private static boolean isEtc(String raw, int from, int to) {
+        return to - from == ETC.length() && raw.startsWith(ETC, from);
+    }
+
+    private static int indexOfEtc(String raw, int from, int to) {
+        for (int i = from + 1; i + ETC.length() <= to; i++) {
+            if (raw.charAt(i) == ETC.charAt(0) && Character.isWhitespace(raw.charAt(i - 1))) {
+                return i - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastWordStart(String raw, int from, int to) {
+        int i = to;
+        while (i > from && !Character.isWhitespace(raw.charAt(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static String normalizeRole(String raw, int from, int to) {
+        from = skipSpaces(raw, from, to);
+        to = trimEnd(raw, from, to);
+        if (from >= to) {
+            return AUTHOR;
+        }
+        String known = match(ROLE_NAMES, raw, from, to);
+        if (known != null) {
+            return known;
+        }
+        return raw.substring(from, Math.min(to, from + ROLE_MAX_LENGTH));
+    }
+
+    // raw[from, to) 와 정확히 같은 항목의 통일한 역할
+    private static String match(String[][] table, String raw, int from, int to) {
+        int length = to - from;
+        for (String[] entry : table) {
+            if (entry[0].length() == length && raw.startsWith(entry[0], from)) {
+                return entry[1];
+            }
+        }
+        return null;
+    }
+
+    // 한 줄의 기여자는 몇 명뿐이라 집합 대신 앞에서부터 비교
+    private static void addDistinct(List<ParsedContributor> out, String name, String role) {
+        for (ParsedContributor existing : out) {
+            if (existing.name().equals(name) && existing.role().equals(role)) {
+                return;
+            }
+        }
+        out.add(new ParsedContributor(name, role));
+    }
+}
@@ -2,15 +2,37 @@ package org.nhnacademy.book2onandonbookservice.parser;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Stream;
 import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
 import org.springframework.core.io.Resource;
 
 public interface DataParser {
+
+    String COMPRESSED_SUFFIX = ".gz";
+
     String getFileType();
 
-    List<DataParserDto> parsing(Resource resource) throws IOException;
+    /**
+     * 한 행씩 읽는 스트림 (파일 전체를 메모리에 올리지 않음)
+     * <p>
+     * 파일을 연 채로 돌려주므로 try-with-resources 로 닫아야 합니다. 헤더 오류는 호출 즉시, 읽는 중 형식 오류는
+     * {@link org.nhnacademy.book2onandonbookservice.exception.DataParserException}, 입출력 오류는
+     * {@link java.io.UncheckedIOException} 으로 던집니다. 유효성 검사에 실패한 행은 건너뜁니다.
+     */
+    Stream<DataParserDto> stream(Resource resource) throws IOException;
+
+    default List<DataParserDto> parsing(Resource resource) throws IOException {
+        try (Stream<DataParserDto> rows = stream(resource)) {
+            return rows.toList();
+        }
+    }
 
+    /// "books.tsv", "books.tsv.gz" 모두 tsv
     default boolean matchFileType(String fileName) {
-        return fileName.trim().toLowerCase().endsWith(getFileType().toLowerCase());
+        String name = fileName.trim().toLowerCase();
+        if (name.endsWith(COMPRESSED_SUFFIX)) {
+            name = name.substring(0, name.length() - COMPRESSED_SUFFIX.length());
+        }
+        return name.endsWith(getFileType().toLowerCase());
     }
-}
\ No newline at end of file
+}
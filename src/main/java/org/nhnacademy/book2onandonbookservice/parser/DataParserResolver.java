@@ -1,5 +1,6 @@
 package org.nhnacademy.book2onandonbookservice.parser;
 
+import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,15 +14,26 @@ public class DataParserResolver {
 
     private final List<DataParser> dataParserList;
 
+    /**
+     * 읽을 수 있는 파서가 있는 파일인지 (예외 없이 확인, 디렉터리 목록에서 거를 때 사용)
+     */
+    public boolean supports(String fileName) {
+        if (fileName == null || fileName.trim().isEmpty() || fileName.lastIndexOf('.') <= 0) {
+            return false;
+        }
+        return dataParserList.stream().anyMatch(parser -> parser.matchFileType(fileName));
+    }
+
     public DataParser getDataParser(String fileName) {
         if (fileName == null || fileName.trim().isEmpty() || fileName.lastIndexOf('.') <= 0) {
             String errorMessage = "유효하지 않은 파일이름이거나 확장자가 존재하지않습니다. (fileName: " + fileName + ")";
             log.error(errorMessage);
             throw new DataParserException(errorMessage);
         }
+        // 여러 파서가 맞으면 더 구체적인(긴) 확장자 쪽 (예: "csv" 보다 "meta.csv")
         return dataParserList.stream()
                 .filter(parser -> parser.matchFileType(fileName))
-                .findFirst()
+                .max(Comparator.comparingInt(parser -> parser.getFileType().length()))
                 .orElseThrow(() -> {
                     String errorMessage = "지원하는 파서를 찾을 수 없습니다. (fileName: " + fileName + ")";
                     log.error(errorMessage);
@@ -0,0 +1,298 @@
+package org.nhnacademy.book2onandonbookservice.parser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+
+/**
+ * 대용량 파일 적재 파이프라인 - 읽기 → 변환(병렬) → 배치 저장
+ * <p>
+ * 단계 사이를 용량이 정해진 큐로 연결해 저장이 밀리면 변환이, 변환이 밀리면 읽기가 기다립니다(backpressure).
+ * 파일 크기와 관계없이 메모리에 올라가는 행은 (큐 용량 x 2 + 배치 크기) 정도입니다.
+ * <p>
+ * 읽기와 변환은 내부 스레드에서, 저장은 {@link #run} 을 호출한 스레드에서 실행합니다. 변환 스레드가 여럿이라 기본으로는
+ * 저장 순서가 파일 순서와 다를 수 있고, 순서 유지(ordered)로 만들면 저장 단계가 앞 행의 변환을 기다려 읽은 순서 그대로
+ * 저장합니다. 이때 읽기는 저장 단계보다 (큐 용량 x 2) 행까지만 앞서 나가므로 기다리는 동안에도 메모리는 늘지 않습니다.
+ * 어느 단계든 실패하면 나머지 단계를 멈추고, 읽기/변환 실패는 {@link DataParserException} 으로, 저장 실패는 그대로 던집니다.
+ * <p>
+ * 저장 순서가 섞여도 재시작 지점을 잡을 수 있도록, 배치마다 "앞에서부터 빠짐없이 처리된(저장 또는 건너뜀) 행 수"를
+ * {@link BatchWriter} 에 함께 넘깁니다. 순서를 유지하면 이 값은 배치의 마지막 행까지의 행 수와 같습니다.
+ *
+ * @param <I> 읽기 단계가 내놓는 원본 행 (예: CSV 한 줄의 String[])
+ * @param <O> 변환 결과 (예: Book)
+ */
+@Slf4j
+public class ImportPipeline<I, O> {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int PROGRESS_LOG_INTERVAL = 10_000;
+    private static final int WATERMARK_REBASE_THRESHOLD = 1 << 16;
+
+    private final String name;
+    private final int parseThreads;
+    private final int queueCapacity;
+    private final int batchSize;
+    private final boolean ordered;
+
+    /**
+     * @param name          로그와 스레드 이름에 쓸 이름 (파일명 등)
+     * @param parseThreads  변환 스레드 수 (0 이하면 코어 수 - 1, 최소 1)
+     * @param queueCapacity 단계 사이 큐 용량 (0 이하면 {@value #DEFAULT_QUEUE_CAPACITY})
+     * @param batchSize     저장 한 번에 넘길 건수 (0 이하면 {@value #DEFAULT_BATCH_SIZE})
+     */
+    public ImportPipeline(String name, int parseThreads, int queueCapacity, int batchSize) {
+        this(name, parseThreads, queueCapacity, batchSize, false);
+    }
+
+    /**
+     * @param ordered true 면 읽은 순서 그대로 저장 (변환이 늦은 행을 기다림)
+     */
+    public ImportPipeline(String name, int parseThreads, int queueCapacity, int batchSize, boolean ordered) {
+        this.name = name;
+        this.parseThreads = parseThreads > 0
+                ? parseThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.queueCapacity = queueCapacity > 0 ? queueCapacity : DEFAULT_QUEUE_CAPACITY;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.ordered = ordered;
+    }
+
+    /**
+     * 원본 행을 끝까지 읽어 변환하고 배치로 저장
+     *
+     * @param reader 다음 행을 돌려주고, 끝이면 null
+     * @param parser 행 → 결과 변환 (null 을 돌려주면 건너뜀)
+     * @param writer 배치 저장 (배치마다 처리 완료 행 수를 함께 받음)
+     */
+    public Result run(RowReader<I> reader, Function<I, O> parser, BatchWriter<O> writer) {
+        BlockingQueue<Indexed> rows = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Indexed> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong rowsRead = new AtomicLong();
+        // 순서 유지: 읽기가 아직 저장 순서가 오지 않은 행을 이만큼까지만 앞서 읽음
+        Semaphore window = ordered ? new Semaphore(queueCapacity * 2) : null;
+        long startNanos = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parseThreads + 1,
+                Thread.ofPlatform().name("import-" + name + "-", 0).daemon().factory());
+        try {
+            executor.execute(() -> read(reader, rows, rowsRead, window, failure));
+            for (int i = 0; i < parseThreads; i++) {
+                executor.execute(() -> parse(parser, rows, parsed, failure));
+            }
+            long[] written = write(writer, parsed, window, failure);
+            return new Result(rowsRead.get(), written[0], written[1], Duration.ofNanos(System.nanoTime() - startNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataParserException("[" + name + "] 적재가 중단되었습니다.", e);
+        } finally {
+            // 저장 단계가 먼저 끝난 경우(실패 등) 큐에서 기다리는 읽기/변환 스레드를 깨워 종료
+            executor.shutdownNow();
+        }
+    }
+
+    /// 내부 로직
+    private void read(RowReader<I> reader, BlockingQueue<Indexed> rows, AtomicLong rowsRead, Semaphore window,
+                      AtomicReference<Throwable> failure) {
+        try {
+            I row;
+            while (failure.get() == null && (row = reader.read()) != null) {
+                if (window != null) {
+                    window.acquire();
+                }
+                rows.put(new Indexed(rowsRead.getAndIncrement(), row));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            failure.compareAndSet(null, e);
+        }
+        try {
+            for (int i = 0; i < parseThreads; i++) {
+                rows.put(Indexed.END);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void parse(Function<I, O> parser, BlockingQueue<Indexed> rows, BlockingQueue<Indexed> parsed,
+                       AtomicReference<Throwable> failure) {
+        try {
+            Indexed row;
+            while ((row = rows.take()) != Indexed.END) {
+                if (failure.get() != null) {
+                    continue; // 실패 후에는 종료 표시가 올 때까지 비우기만
+                }
+                try {
+                    // 건너뛴 행도 null 로 넘겨 저장 단계가 처리 완료 행 수를 셀 수 있게 함
+                    parsed.put(new Indexed(row.index(), parser.apply((I) row.value())));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+            parsed.put(Indexed.END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 모든 변환 스레드의 종료 표시를 받을 때까지 배치로 저장, {저장 건수, 배치 수} 반환
+    @SuppressWarnings("unchecked")
+    private long[] write(BatchWriter<O> writer, BlockingQueue<Indexed> parsed, Semaphore window,
+                         AtomicReference<Throwable> failure) throws InterruptedException {
+        Watermark watermark = new Watermark();
+        Reorder reorder = window != null ? new Reorder() : null;
+        List<O> batch = new ArrayList<>(batchSize);
+        List<Long> batchIndexes = new ArrayList<>(batchSize);
+        long written = 0;
+        long batches = 0;
+        int finished = 0;
+        while (finished < parseThreads) {
+            Indexed item = parsed.take();
+            throwIfFailed(failure);
+            if (item == Indexed.END) {
+                finished++;
+                continue;
+            }
+            for (Indexed ready : reorder != null ? reorder.offer(item) : List.of(item)) {
+                if (window != null) {
+                    window.release();
+                }
+                if (ready.value() == null) {
+                    watermark.markDone(ready.index());
+                    continue;
+                }
+                batch.add((O) ready.value());
+                batchIndexes.add(ready.index());
+                if (batch.size() >= batchSize) {
+                    batchIndexes.forEach(watermark::markDone);
+                    writer.write(batch, watermark.processedRows());
+                    written += batch.size();
+                    batches++;
+                    batch = new ArrayList<>(batchSize);
+                    batchIndexes.clear();
+                    if (written % PROGRESS_LOG_INTERVAL < batchSize) {
+                        log.info("[{}] {} 건 처리 완료...", name, written);
+                    }
+                }
+            }
+        }
+        throwIfFailed(failure);
+        if (!batch.isEmpty()) {
+            batchIndexes.forEach(watermark::markDone);
+            writer.write(batch, watermark.processedRows());
+            written += batch.size();
+            batches++;
+        }
+        return new long[]{written, batches};
+    }
+
+    private void throwIfFailed(AtomicReference<Throwable> failure) {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new DataParserException("[" + name + "] 적재 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 배치 저장
+     */
+    @FunctionalInterface
+    public interface BatchWriter<O> {
+        /**
+         * @param batch         저장할 결과 (넘겨받은 리스트는 다시 쓰지 않으므로 보관해도 됨)
+         * @param processedRows 이 배치까지 반영했을 때 앞에서부터 빠짐없이 처리된 행 수 (재시작 지점)
+         */
+        void write(List<O> batch, long processedRows);
+    }
+
+    /**
+     * 원본 행 공급자 (CSVReader::readNext 등)
+     */
+    @FunctionalInterface
+    public interface RowReader<I> {
+        /**
+         * @return 다음 행, 끝이면 null
+         */
+        I read() throws Exception;
+    }
+
+    /**
+     * 적재 결과
+     *
+     * @param rowsRead 읽은 원본 행 수
+     * @param written  저장한 건수 (변환에서 건너뛴 행 제외)
+     * @param batches  저장 호출 횟수
+     * @param elapsed  걸린 시간
+     */
+    public record Result(long rowsRead, long written, long batches, Duration elapsed) {
+
+        public long rowsPerSecond() {
+            long millis = Math.max(1, elapsed.toMillis());
+            return rowsRead * 1000 / millis;
+        }
+    }
+
+    // 행 번호를 붙여 단계 사이로 넘기는 값 (END: 읽기 → 변환, 변환 → 저장 방향으로 변환 스레드 수만큼 보내는 종료 표시)
+    private record Indexed(long index, Object value) {
+        static final Indexed END = new Indexed(-1, null);
+    }
+
+    // 순서 유지용 - 먼저 도착한 행은 들고 있다가, 앞 행이 모두 도착하면 행 번호 순서대로 내보냄
+    private static final class Reorder {
+        private final Map<Long, Indexed> early = new HashMap<>();
+        private long next;
+
+        List<Indexed> offer(Indexed item) {
+            if (item.index() != next) {
+                early.put(item.index(), item);
+                return List.of();
+            }
+            List<Indexed> ready = new ArrayList<>();
+            Indexed following = item;
+            do {
+                ready.add(following);
+                next++;
+            } while ((following = early.remove(next)) != null);
+            return ready;
+        }
+    }
+
+    // 처리 완료된 행 번호를 모아 "앞에서부터 빠짐없이 처리된 행 수"를 계산 (순서가 섞이는 폭만큼만 비트를 들고 있음)
+    private static final class Watermark {
+        private BitSet done = new BitSet();
+        private long base;
+        private long next;
+
+        void markDone(long index) {
+            done.set((int) (index - base));
+        }
+
+        long processedRows() {
+            next = base + done.nextClearBit((int) (next - base));
+            if (next - base > WATERMARK_REBASE_THRESHOLD) {
+                int offset = (int) (next - base);
+                done = done.get(offset, Math.max(offset, done.length()));
+                base = next;
+            }
+            return next;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookRecordMapper.Columns;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 목록 컬럼 스냅샷(.bcol) 파서 - 형식은 {@link BookColumnarWriter}
+ * <p>
+ * 행 묶음 하나(최대 {@value BookColumnarWriter#ROW_GROUP_SIZE}행)씩 열 단위로 읽어 두고 행 순서로 DTO 를 만듭니다.
+ * 메모리에는 한 묶음만 올라갑니다. 스냅샷 자체가 LZ4 로 압축돼 있어 .gz 를 따로 붙이지 않습니다.
+ */
+@Component
+public class BookColumnarParser implements DataParser {
+
+    // 손상/조작된 파일의 길이 값으로 큰 배열을 만들지 않도록 두는 상한
+    static final int MAX_COLUMNS = 1024;
+    static final int MAX_VALUE_BYTES = 16 * 1024 * 1024;
+
+    @Override
+    public String getFileType() {
+        return "bcol";
+    }
+
+    @Override
+    public Stream<DataParserDto> stream(Resource resource) throws IOException {
+        InputStream in = resource.getInputStream();
+        DataInputStream data;
+        try {
+            data = new DataInputStream(new BufferedInputStream(new LZ4FrameInputStream(in), 64 * 1024));
+        } catch (IOException e) {
+            in.close();
+            throw new DataParserException("컬럼 스냅샷 파일이 아니거나 비어있습니다: " + resource.getFilename(), e);
+        }
+
+        try {
+            String[] headers = readHeader(data);
+            Columns columns = BookRecordMapper.columns(headers);
+            return ParserStreams.stream(new GroupIterator(data, columns, headers.length), data);
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+    }
+
+    /// 내부 로직
+    // 저장된 열 이름 (이 순서로 행 묶음 안에 열이 이어짐)
+    private String[] readHeader(DataInputStream data) throws IOException {
+        try {
+            if (data.readInt() != BookColumnarWriter.MAGIC) {
+                throw new DataParserException("컬럼 스냅샷 파일이 아닙니다.");
+            }
+            int version = data.readUnsignedByte();
+            if (version != BookColumnarWriter.VERSION) {
+                throw new DataParserException("지원하지 않는 컬럼 스냅샷 버전입니다: " + version);
+            }
+            int columnCount = data.readInt();
+            if (columnCount <= 0 || columnCount > MAX_COLUMNS) {
+                throw new DataParserException("컬럼 스냅샷의 열 수가 올바르지 않습니다: " + columnCount);
+            }
+            String[] headers = new String[columnCount];
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = data.readUTF();
+            }
+            return headers;
+        } catch (IOException e) {
+            // LZ4 프레임은 첫 읽기에서 검사하므로 다른 형식의 파일도 여기서 걸림
+            throw new DataParserException("컬럼 스냅샷 파일이 아니거나 헤더가 잘렸습니다.", e);
+        }
+    }
+
+    private static final class GroupIterator extends ParserStreams.RowIterator<DataParserDto> {
+
+        private final DataInputStream data;
+        private final Columns columns;
+        private final String[][] values;
+        private byte[] scratch = new byte[256];
+        private int groupSize;
+        private int rowInGroup;
+        private long lineNum;
+        private boolean ended;
+
+        private GroupIterator(DataInputStream data, Columns columns, int columnCount) {
+            this.data = data;
+            this.columns = columns;
+            this.values = new String[columnCount][];
+        }
+
+        @Override
+        protected DataParserDto readNext() throws IOException {
+            while (true) {
+                if (rowInGroup == groupSize && !readGroup()) {
+                    return null;
+                }
+                int row = rowInGroup++;
+                lineNum++;
+                DataParserDto dto = BookRecordMapper.toDtoOrSkip(column -> value(column, row), columns, lineNum);
+                if (dto != null) {
+                    return dto;
+                }
+            }
+        }
+
+        private String value(int column, int row) {
+            if (column < 0 || column >= values.length) {
+                return "";
+            }
+            String value = values[column][row].trim();
+            return value.equalsIgnoreCase("nan") ? "" : value;
+        }
+
+        private boolean readGroup() throws IOException {
+            if (ended) {
+                return false;
+            }
+            try {
+                groupSize = data.readInt();
+                rowInGroup = 0;
+                if (groupSize < 0 || groupSize > BookColumnarWriter.ROW_GROUP_SIZE) {
+                    throw new DataParserException("컬럼 스냅샷의 행 묶음 크기가 올바르지 않습니다: " + groupSize
+                            + " (행 " + lineNum + " 이후)");
+                }
+                if (groupSize == 0) {
+                    ended = true;
+                    return false;
+                }
+                for (int column = 0; column < values.length; column++) {
+                    if (values[column] == null || values[column].length < groupSize) {
+                        values[column] = new String[groupSize];
+                    }
+                    for (int row = 0; row < groupSize; row++) {
+                        values[column][row] = readString();
+                    }
+                }
+                return true;
+            } catch (EOFException e) {
+                throw new DataParserException("컬럼 스냅샷 파일이 잘렸습니다. (행 " + lineNum + " 이후)", e);
+            }
+        }
+
+        private String readString() throws IOException {
+            int length = data.readInt();
+            if (length < 0 || length > MAX_VALUE_BYTES) {
+                throw new DataParserException("컬럼 스냅샷의 값 길이가 올바르지 않습니다: " + length
+                        + " (행 " + lineNum + " 이후)");
+            }
+            if (length == 0) {
+                return "";
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            data.readFully(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+
+/**
+ * 도서 목록 컬럼 스냅샷(.bcol) 쓰기 - 배포용 카탈로그 스냅샷을 만들 때 사용 (읽기는 {@link BookColumnarParser})
+ * <p>
+ * 형식: LZ4 프레임 안에 {@code [magic "B2OC"][버전][열 수][열 이름...]} 다음 행 묶음(row group)이 이어지고
+ * {@code [행 수 0]} 으로 끝납니다. 행 묶음은 {@code [행 수]} 뒤에 열마다 그 묶음의 값을 모아 {@code [바이트 길이][UTF-8]}
+ * 로 씁니다. 같은 열 값(출판사, 날짜, 가격)이 붙어 있어 행 단위 CSV 보다 잘 압축되고, 읽을 때 따옴표/구분자를 훑을 필요가
+ * 없습니다.
+ * <p>
+ * 값은 DTO 를 다시 만들 수 있는 원본 문자열 형태로 씁니다 (출간일은 yyyy-MM-dd, 저자는 "이름 (지은이), 이름 (옮긴이)").
+ */
+public final class BookColumnarWriter {
+
+    static final int MAGIC = 0x42324F43; // "B2OC"
+    static final int VERSION = 1;
+    static final int ROW_GROUP_SIZE = 4096;
+
+    private BookColumnarWriter() {
+    }
+
+    /**
+     * @param out 다 쓰고 나면 닫힘
+     * @return 쓴 행 수
+     */
+    public static long write(Stream<DataParserDto> books, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(
+                new LZ4FrameOutputStream(out, LZ4FrameOutputStream.BLOCKSIZE.SIZE_4MB), 64 * 1024));
+        String[] columns = BookRecordMapper.COLUMNS;
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(columns.length);
+        for (String column : columns) {
+            data.writeUTF(column);
+        }
+
+        long rows = 0;
+        List<String[]> group = new ArrayList<>(ROW_GROUP_SIZE);
+        Iterator<DataParserDto> iterator = books.iterator();
+        while (iterator.hasNext()) {
+            group.add(toColumns(iterator.next()));
+            if (group.size() == ROW_GROUP_SIZE) {
+                rows += writeGroup(data, group, columns.length);
+            }
+        }
+        rows += writeGroup(data, group, columns.length);
+        data.writeInt(0);
+        data.close();
+        return rows;
+    }
+
+    /// 내부 로직
+    private static int writeGroup(DataOutputStream data, List<String[]> group, int columnCount) throws IOException {
+        int size = group.size();
+        if (size == 0) {
+            return 0;
+        }
+        data.writeInt(size);
+        for (int column = 0; column < columnCount; column++) {
+            for (String[] row : group) {
+                byte[] bytes = row[column].getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        }
+        group.clear();
+        return size;
+    }
+
+    // BookRecordMapper.COLUMNS 순서
+    private static String[] toColumns(DataParserDto dto) {
+        return new String[]{
+                nullToEmpty(dto.getIsbn()),
+                "",
+                nullToEmpty(dto.getTitle()),
+                dto.joinedContributors(),
+                nullToEmpty(dto.getSeqNo()),
+                nullToEmpty(dto.getPublisherName()),
+                dto.getStandardPrice() == null ? "" : dto.getStandardPrice().toString(),
+                dto.getPublishedAt() == null ? "" : dto.getPublishedAt().toString(),
+                nullToEmpty(dto.getDescription()),
+                nullToEmpty(dto.getImageUrl()),
+                nullToEmpty(dto.getVolume())
+        };
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
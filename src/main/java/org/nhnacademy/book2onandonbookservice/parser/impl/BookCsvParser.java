@@ -2,35 +2,34 @@ package org.nhnacademy.book2onandonbookservice.parser.impl;
 
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
-import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import lombok.extern.slf4j.Slf4j;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
 import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
 import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookRecordMapper.Columns;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
-@Slf4j
 @Component
 public class BookCsvParser implements DataParser {
-    private static final String ISBN_13 = "ISBN_THIRTEEN_NO";
-    private static final String ISBN_10 = "ISBN_NO";
-    private static final String TITLE = "TITLE_NM";
-    private static final String AUTHOR = "AUTHR_NM";
-    private static final String SEQ_NO = "SEQ_NO";
-    private static final String PUBLISHER = "PUBLISHER_NM";
-    private static final String PRICE = "PRC_VALUE";
-    private static final String PUBLISHED_AT = "TWO_PBLICTE_DE";
-    private static final String DESCRIPTION = "BOOK_INTRCN_CN";
-    private static final String IMAGE_URL = "IMAGE_URL";
-    private static final String VOLUME = "VLM_NM";
+
+    // 큰 파일을 조각으로 나눠 변환할 스레드 수 (0 이하면 코어 수, 1 이면 항상 한 스레드로 읽음)
+    @Value("${book.import.csv.parse-parallelism:0}")
+    private int parseParallelism;
+
+    // 조각 하나의 크기, 파일이 이보다 작으면 나누지 않음 (0 이하면 ChunkedCsvParser 기본값)
+    @Value("${book.import.csv.chunk-bytes:0}")
+    private long chunkBytes;
 
     @Override
     public String getFileType() {
@@ -38,80 +37,198 @@ public class BookCsvParser implements DataParser {
     }
 
 
+    /**
+     * 압축하지 않은 파일이면 메모리 매핑({@link MappedCsvReader})으로, jar 안 리소스나 .csv.gz 처럼 매핑할 수 없으면
+     * OpenCSV 스트림으로 읽습니다. 매핑한 파일이 조각 크기보다 크고 스레드를 둘 이상 쓸 수 있으면 조각으로 나눠 병렬로
+     * 변환합니다({@link ChunkedCsvParser}). 어느 쪽이든 행 순서는 파일 순서와 같습니다.
+     */
     @Override
-    public List<DataParserDto> parsing(Resource resource) throws IOException {
-        List<DataParserDto> dtoList = new ArrayList<>(160000);
-        int lineNum = 1;
+    public Stream<DataParserDto> stream(Resource resource) throws IOException {
+        return stream(resource, BookCsvParser::dtoMapper);
+    }
 
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
-             CSVReader csvReader = new CSVReader(br)) {
-            String[] headers = csvReader.readNext();
-            if (headers == null || headers.length == 0) {
-                throw new DataParserException("CSV 파일이 비어있거나 헤더가 없습니다: ");
-            }
+    /**
+     * DTO 로 바꾸지 않고 원본 열 값 그대로 읽음 (행 해시/체크포인트가 원본 행 기준인 DataInitializer 적재용)
+     * <p>
+     * 읽는 방식은 {@link #stream} 과 같아서, 큰 파일은 조각 병렬로 읽고 행 순서는 파일 순서와 같습니다. 행마다 헤더 길이의
+     * 배열을 만들되 columns 에 든 열만 디코딩하고 나머지 칸은 null 로 둡니다. 값은 앞뒤 공백을 자르고 "nan" 은 "" 입니다.
+     *
+     * @param columns 값을 채울 헤더 이름
+     */
+    public RawRows openRawRows(Resource resource, Set<String> columns) throws IOException {
+        String[][] header = new String[1][];
+        Stream<String[]> rows = stream(resource, headers -> {
+            header[0] = headers;
+            return headers == null ? (row, lineNum) -> null : rawMapper(headers, columns);
+        });
+        return new RawRows(header[0], rows);
+    }
 
-            Map<String, Integer> headerMap = createHeaderMap(headers);
-            validateRequiredHeaders(headerMap);
+    /**
+     * {@link #openRawRows} 결과 (헤더가 없는 빈 파일이면 {@link #header()} 가 null 이고 행도 없음)
+     */
+    public static final class RawRows implements Closeable {
 
-            String[] values;
-            while ((values = csvReader.readNext()) != null) {
-                lineNum++;
-                DataParserDto dto = processRowAndCreateDto(values, headerMap, lineNum);
+        private final String[] header;
+        private final Stream<String[]> rows;
+        private final Iterator<String[]> iterator;
 
-                if (dto != null) {
-                    dtoList.add(dto);
-                }
+        private RawRows(String[] header, Stream<String[]> rows) {
+            this.header = header;
+            this.rows = rows;
+            this.iterator = rows.iterator();
+        }
+
+        public String[] header() {
+            return header;
+        }
+
+        /**
+         * @return 다음 행, 끝이면 null
+         */
+        public String[] next() {
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+
+        @Override
+        public void close() {
+            rows.close();
+        }
+    }
+
+    /// 내부 로직
+    // 헤더 → 행 변환기 (헤더가 없는 빈 파일이면 null 을 받음). 변환기가 null 을 돌려준 행은 결과에서 빠짐
+    <T> Stream<T> stream(Resource resource, Function<String[], RowMapper<T>> mapperForHeaders) throws IOException {
+        if (resource.isFile() && !ParserStreams.isCompressed(resource)) {
+            Path path = resource.getFile().toPath();
+            int parallelism = parseParallelism > 0 ? parseParallelism : Runtime.getRuntime().availableProcessors();
+            long chunk = chunkBytes > 0 ? chunkBytes : ChunkedCsvParser.DEFAULT_CHUNK_BYTES;
+            if (parallelism > 1 && Files.size(path) > chunk) {
+                return new ChunkedCsvParser(parallelism, chunk).stream(path, mapperForHeaders);
             }
-        } catch (CsvValidationException e) {
-            throw new DataParserException("CSV 파일 형식이 올바르지 않습니다. (라인 " + lineNum + " 근처)", e);
+            return streamMapped(path, mapperForHeaders);
         }
+        return streamOpenCsv(resource, mapperForHeaders);
+    }
 
-        return dtoList;
+    Stream<DataParserDto> streamMapped(Path path) throws IOException {
+        return streamMapped(path, BookCsvParser::dtoMapper);
     }
 
-    private DataParserDto processRowAndCreateDto(String[] values, Map<String, Integer> headerMap, int lineNum) {
+    <T> Stream<T> streamMapped(Path path, Function<String[], RowMapper<T>> mapperForHeaders) throws IOException {
+        MappedCsvReader reader = MappedCsvReader.open(path);
         try {
-            return createDtoFromValues(values, headerMap);
-        } catch (DataParserException e) {
-            log.warn("라인 {} 스킵: 데이터 유효성 검사 실패. (이유: {})", lineNum, e.getMessage());
-            return null;
+            if (!reader.next()) {
+                mapperForHeaders.apply(null);
+                reader.close();
+                return Stream.empty();
+            }
+            String[] headers = new String[reader.fieldCount()];
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = reader.value(i);
+            }
+            RowMapper<T> mapper = mapperForHeaders.apply(headers);
+
+            return ParserStreams.stream(new ParserStreams.RowIterator<T>() {
+                private long lineNum = 1;
+
+                @Override
+                protected T readNext() throws IOException {
+                    while (reader.next()) {
+                        lineNum++;
+                        T value = mapper.map(reader::value, lineNum);
+                        if (value != null) {
+                            return value;
+                        }
+                    }
+                    return null;
+                }
+            }, reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
         }
     }
 
+    Stream<DataParserDto> streamOpenCsv(Resource resource) throws IOException {
+        return streamOpenCsv(resource, BookCsvParser::dtoMapper);
+    }
 
-    private DataParserDto createDtoFromValues(String[] values, Map<String, Integer> headers) {
-        String isbn13 = getValue(values, headers.getOrDefault(ISBN_13, -1));
-        String isbn10 = getValue(values, headers.getOrDefault(ISBN_10, -1));
-        String title = getValue(values, headers.getOrDefault(TITLE, -1));
+    <T> Stream<T> streamOpenCsv(Resource resource, Function<String[], RowMapper<T>> mapperForHeaders)
+            throws IOException {
+        CSVReader csvReader = new CSVReader(ParserStreams.openReader(resource));
+        try {
+            String[] headers = csvReader.readNext();
+            if (headers == null || headers.length == 0) {
+                mapperForHeaders.apply(null);
+                csvReader.close();
+                return Stream.empty();
+            }
+            RowMapper<T> mapper = mapperForHeaders.apply(headers);
+
+            return ParserStreams.stream(new ParserStreams.RowIterator<T>() {
+                private long lineNum = 1;
+
+                @Override
+                protected T readNext() throws IOException {
+                    try {
+                        String[] values;
+                        while ((values = csvReader.readNext()) != null) {
+                            lineNum++;
+                            String[] row = values;
+                            T value = mapper.map(index -> getValue(row, index), lineNum);
+                            if (value != null) {
+                                return value;
+                            }
+                        }
+                        return null;
+                    } catch (CsvValidationException e) {
+                        throw new DataParserException("CSV 파일 형식이 올바르지 않습니다. (라인 " + lineNum + " 근처)", e);
+                    }
+                }
+            }, csvReader);
+        } catch (CsvValidationException e) {
+            csvReader.close();
+            throw new DataParserException("CSV 파일 형식이 올바르지 않습니다. (라인 1 근처)", e);
+        } catch (IOException | RuntimeException e) {
+            csvReader.close();
+            throw e;
+        }
+    }
 
-        String ISBN = duplicateIsbn(isbn13, isbn10);
+    /**
+     * 행 하나를 결과로 바꿈 (null 이면 결과에서 빠짐)
+     */
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(BookRecordMapper.Row row, long lineNum);
+    }
 
-        if (title.isEmpty()) {
-            throw new DataParserException("필수 값 'TITLE_NM'이 비어있습니다.");
+    static RowMapper<DataParserDto> dtoMapper(String[] headers) {
+        if (headers == null) {
+            throw new DataParserException("CSV 파일이 비어있거나 헤더가 없습니다: ");
         }
+        Columns columns = BookRecordMapper.columns(headers);
+        return (row, lineNum) -> BookRecordMapper.toDtoOrSkip(row, columns, lineNum);
+    }
 
-        String seqNo = getValue(values, headers.getOrDefault(SEQ_NO, -1));
-        String rawAuthorStr = getValue(values, headers.getOrDefault(AUTHOR, -1));
-        String publisherName = getValue(values, headers.getOrDefault(PUBLISHER, -1));
-        String priceStr = getValue(values, headers.getOrDefault(PRICE, -1));
-        String publishedStr = getValue(values, headers.getOrDefault(PUBLISHED_AT, -1));
-        String description = getValue(values, headers.getOrDefault(DESCRIPTION, -1));
-        String imageUrl = getValue(values, headers.getOrDefault(IMAGE_URL, -1));
-        String volume = getValue(values, headers.getOrDefault(VOLUME, -1));
-
-        return new DataParserDto(
-                seqNo,
-                ISBN,
-                title,
-                rawAuthorStr,
-                publisherName,
-                priceStr,
-                publishedStr,
-                description,
-                imageUrl,
-                volume
-        );
+    // 빈 행도 건너뛰지 않아야 원본 행 수(체크포인트)가 맞으므로 null 을 돌려주지 않음
+    private static RowMapper<String[]> rawMapper(String[] headers, Set<String> columns) {
+        List<Integer> wanted = new ArrayList<>();
+        for (int i = 0; i < headers.length; i++) {
+            if (columns.contains(headers[i].trim())) {
+                wanted.add(i);
+            }
+        }
+        int[] indexes = wanted.stream().mapToInt(Integer::intValue).toArray();
+        int width = headers.length;
+        return (row, lineNum) -> {
+            String[] values = new String[width];
+            for (int index : indexes) {
+                values[index] = row.get(index);
+            }
+            return values;
+        };
     }
 
     private String getValue(String[] values, int index) {
@@ -127,41 +244,4 @@ public class BookCsvParser implements DataParser {
         value = value.trim();
         return value.equalsIgnoreCase("nan") ? "" : value;
     }
-
-    private String duplicateIsbn(String isbn13, String isbn10) {
-        if (isbn13 != null && !isbn13.isEmpty()) {
-            return isbn13;
-        }
-        if (isbn10 != null && !isbn10.isEmpty()) {
-            return isbn10;
-        }
-
-        throw new DataParserException("필수 값 'ISBN'이 비어있습니다. (13자리, 10자리 모두 비어있음)");
-    }
-
-    private Map<String, Integer> createHeaderMap(String[] headers) {
-        Map<String, Integer> headerMap = new HashMap<>();
-        for (int i = 0; i < headers.length; i++) {
-            headerMap.put(headers[i].trim(), i);
-        }
-        return headerMap;
-    }
-
-    private void validateRequiredHeaders(Map<String, Integer> headerMap) {
-
-        String[] criticalHeader = {
-                TITLE, AUTHOR, PUBLISHER, PRICE, PUBLISHED_AT
-        };
-
-        if (!headerMap.containsKey(ISBN_13) && !headerMap.containsKey(ISBN_10)) {
-
-            throw new DataParserException("CSV 파일 헤더에 필수 컬럼이 없습니다: " + ISBN_13 + "또는 " + ISBN_10);
-        }
-
-        for (String header : criticalHeader) {
-            if (!headerMap.containsKey(header)) {
-                throw new DataParserException("CSV파일 헤더에 필수 컬럼이 없습니다: " + header);
-            }
-        }
-    }
 }
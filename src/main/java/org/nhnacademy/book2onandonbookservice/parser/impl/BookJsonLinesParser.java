@@ -0,0 +1,98 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookRecordMapper.Columns;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON Lines 도서 목록 파서 (.jsonl, .jsonl.gz)
+ * <p>
+ * 한 줄에 객체 하나, 키는 CSV 헤더와 같은 열 이름입니다 (예: {"ISBN_THIRTEEN_NO":"978...","TITLE_NM":"...",
+ * "PRC_VALUE":15000}). 트리(JsonNode)를 만들지 않고 토큰을 바로 읽어 DTO 에 쓰는 키만 꺼내며, 숫자 값은 문자열로 바꾸고
+ * 나머지 키와 중첩 값은 건너뜁니다.
+ */
+@Component
+public class BookJsonLinesParser implements DataParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Map<String, Integer> COLUMN_INDEXES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < BookRecordMapper.COLUMNS.length; i++) {
+            COLUMN_INDEXES.put(BookRecordMapper.COLUMNS[i], i);
+        }
+    }
+
+    @Override
+    public String getFileType() {
+        return "jsonl";
+    }
+
+    @Override
+    public Stream<DataParserDto> stream(Resource resource) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(ParserStreams.openReader(resource));
+        Columns columns = BookRecordMapper.canonicalColumns();
+        String[] values = new String[BookRecordMapper.COLUMNS.length];
+
+        return ParserStreams.stream(new ParserStreams.RowIterator<DataParserDto>() {
+            @Override
+            protected DataParserDto readNext() throws IOException {
+                try {
+                    return readNextObject();
+                } catch (JsonProcessingException e) {
+                    throw new DataParserException("JSON Lines 형식이 올바르지 않습니다. (라인 "
+                            + parser.currentLocation().getLineNr() + " 근처)", e);
+                }
+            }
+
+            private DataParserDto readNextObject() throws IOException {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null) {
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new DataParserException("JSON Lines 형식이 올바르지 않습니다. 객체가 아닌 값 (라인 "
+                                + parser.currentLocation().getLineNr() + ")");
+                    }
+                    long lineNum = parser.currentLocation().getLineNr();
+                    readObject(parser, values);
+                    DataParserDto dto = BookRecordMapper.toDtoOrSkip(index -> values[index], columns, lineNum);
+                    if (dto != null) {
+                        return dto;
+                    }
+                }
+                return null;
+            }
+        }, parser);
+    }
+
+    /// 내부 로직
+    // START_OBJECT 다음부터 END_OBJECT 까지, 아는 키만 values 에 채움
+    private void readObject(JsonParser parser, String[] values) throws IOException {
+        Arrays.fill(values, "");
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer index = COLUMN_INDEXES.get(parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (index == null || value.isStructStart()) {
+                parser.skipChildren();
+                continue;
+            }
+            values[index] = value == JsonToken.VALUE_NULL ? "" : normalize(parser.getValueAsString(""));
+        }
+    }
+
+    private String normalize(String value) {
+        String trimmed = value.trim();
+        return trimmed.equalsIgnoreCase("nan") ? "" : trimmed;
+    }
+}
@@ -0,0 +1,150 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+
+/**
+ * 파일 형식과 관계없는 "열 이름 → DataParserDto" 변환 (CSV/TSV/JSON Lines/컬럼 스냅샷 파서가 같이 씀)
+ * <p>
+ * 열 이름은 국립중앙도서관 CSV 헤더 그대로이며, 값은 이미 앞뒤 공백을 자르고 "nan" 을 빈 문자열로 바꾼 것을 받습니다.
+ */
+@Slf4j
+final class BookRecordMapper {
+
+    static final String ISBN_13 = "ISBN_THIRTEEN_NO";
+    static final String ISBN_10 = "ISBN_NO";
+    static final String TITLE = "TITLE_NM";
+    static final String AUTHOR = "AUTHR_NM";
+    static final String SEQ_NO = "SEQ_NO";
+    static final String PUBLISHER = "PUBLISHER_NM";
+    static final String PRICE = "PRC_VALUE";
+    static final String PUBLISHED_AT = "TWO_PBLICTE_DE";
+    static final String DESCRIPTION = "BOOK_INTRCN_CN";
+    static final String IMAGE_URL = "IMAGE_URL";
+    static final String VOLUME = "VLM_NM";
+
+    /// DTO 에 쓰는 열 (컬럼 스냅샷의 열 순서이기도 함)
+    static final String[] COLUMNS = {
+            ISBN_13, ISBN_10, TITLE, AUTHOR, SEQ_NO, PUBLISHER, PRICE, PUBLISHED_AT, DESCRIPTION, IMAGE_URL, VOLUME
+    };
+
+    private BookRecordMapper() {
+    }
+
+    /**
+     * 헤더에서 열 번호를 한 번만 찾아 둠 (필수 헤더가 없으면 예외)
+     */
+    static Columns columns(String[] headers) {
+        Map<String, Integer> headerMap = new HashMap<>();
+        for (int i = 0; i < headers.length; i++) {
+            headerMap.put(headers[i].trim(), i);
+        }
+        validateRequiredHeaders(headerMap);
+
+        int[] indexes = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            indexes[i] = headerMap.getOrDefault(COLUMNS[i], -1);
+        }
+        return Columns.of(indexes);
+    }
+
+    /**
+     * {@link #COLUMNS} 순서 그대로 값을 주는 행 (JSON Lines, 컬럼 스냅샷)
+     */
+    static Columns canonicalColumns() {
+        int[] indexes = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            indexes[i] = i;
+        }
+        return Columns.of(indexes);
+    }
+
+    /**
+     * @return 유효성 검사에 실패하면 경고 로그를 남기고 null
+     */
+    static DataParserDto toDtoOrSkip(Row row, Columns columns, long lineNum) {
+        try {
+            return toDto(row, columns);
+        } catch (DataParserException e) {
+            log.warn("라인 {} 스킵: 데이터 유효성 검사 실패. (이유: {})", lineNum, e.getMessage());
+            return null;
+        }
+    }
+
+    /// 내부 로직
+    private static DataParserDto toDto(Row row, Columns columns) {
+        String isbn13 = row.get(columns.isbn13());
+        String isbn = duplicateIsbn(isbn13, isbn13.isEmpty() ? row.get(columns.isbn10()) : "");
+        String title = row.get(columns.title());
+
+        if (title.isEmpty()) {
+            throw new DataParserException("필수 값 'TITLE_NM'이 비어있습니다.");
+        }
+
+        return new DataParserDto(
+                row.get(columns.seqNo()),
+                isbn,
+                title,
+                row.get(columns.author()),
+                row.get(columns.publisher()),
+                row.get(columns.price()),
+                row.get(columns.publishedAt()),
+                row.get(columns.description()),
+                row.get(columns.imageUrl()),
+                row.get(columns.volume())
+        );
+    }
+
+    private static String duplicateIsbn(String isbn13, String isbn10) {
+        if (isbn13 != null && !isbn13.isEmpty()) {
+            return isbn13;
+        }
+        if (isbn10 != null && !isbn10.isEmpty()) {
+            return isbn10;
+        }
+
+        throw new DataParserException("필수 값 'ISBN'이 비어있습니다. (13자리, 10자리 모두 비어있음)");
+    }
+
+    private static void validateRequiredHeaders(Map<String, Integer> headerMap) {
+
+        String[] criticalHeader = {
+                TITLE, AUTHOR, PUBLISHER, PRICE, PUBLISHED_AT
+        };
+
+        if (!headerMap.containsKey(ISBN_13) && !headerMap.containsKey(ISBN_10)) {
+
+            throw new DataParserException("파일 헤더에 필수 컬럼이 없습니다: " + ISBN_13 + "또는 " + ISBN_10);
+        }
+
+        for (String header : criticalHeader) {
+            if (!headerMap.containsKey(header)) {
+                throw new DataParserException("파일 헤더에 필수 컬럼이 없습니다: " + header);
+            }
+        }
+    }
+
+    /**
+     * 한 행에서 열 번호로 값 꺼내기 (공백 제거, "nan"/없는 열(-1 포함)은 "")
+     */
+    @FunctionalInterface
+    interface Row {
+        String get(int index);
+    }
+
+    /**
+     * 헤더에서 찾은 열 번호 (없으면 -1, {@link Row} 가 "" 를 돌려줌)
+     */
+    record Columns(int isbn13, int isbn10, int title, int author, int seqNo, int publisher, int price,
+                   int publishedAt, int description, int imageUrl, int volume) {
+
+        // {@link #COLUMNS} 순서의 열 번호 배열에서
+        private static Columns of(int[] indexes) {
+            return new Columns(indexes[0], indexes[1], indexes[2], indexes[3], indexes[4], indexes[5], indexes[6],
+                    indexes[7], indexes[8], indexes[9], indexes[10]);
+        }
+    }
+}
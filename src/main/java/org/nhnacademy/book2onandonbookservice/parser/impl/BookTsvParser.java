@@ -0,0 +1,131 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookRecordMapper.Columns;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 탭 구분(TSV) 도서 목록 파서 (.tsv, .tsv.gz)
+ * <p>
+ * 첫 줄이 헤더(CSV 와 같은 열 이름)이고, 따옴표 없이 한 줄이 한 행입니다. 값 안의 탭/개행/역슬래시는 \t, \n, \r, \\ 로
+ * 이스케이프합니다. 줄마다 탭 위치만 찾아 두고 DTO 에 쓰는 열만 잘라 냅니다.
+ */
+@Component
+public class BookTsvParser implements DataParser {
+
+    @Override
+    public String getFileType() {
+        return "tsv";
+    }
+
+    @Override
+    public Stream<DataParserDto> stream(Resource resource) throws IOException {
+        BufferedReader reader = ParserStreams.openReader(resource);
+        try {
+            String header = reader.readLine();
+            if (header == null || header.isBlank()) {
+                throw new DataParserException("TSV 파일이 비어있거나 헤더가 없습니다: " + resource.getFilename());
+            }
+            if (header.charAt(0) == '\uFEFF') { // UTF-8 BOM
+                header = header.substring(1);
+            }
+            Columns columns = BookRecordMapper.columns(header.split("\t", -1));
+            TabLine line = new TabLine();
+
+            return ParserStreams.stream(new ParserStreams.RowIterator<DataParserDto>() {
+                private long lineNum = 1;
+
+                @Override
+                protected DataParserDto readNext() throws IOException {
+                    String text;
+                    while ((text = reader.readLine()) != null) {
+                        lineNum++;
+                        if (text.isEmpty()) {
+                            continue;
+                        }
+                        line.reset(text);
+                        DataParserDto dto = BookRecordMapper.toDtoOrSkip(line::value, columns, lineNum);
+                        if (dto != null) {
+                            return dto;
+                        }
+                    }
+                    return null;
+                }
+            }, reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /// 내부 로직
+    // 한 줄의 탭 위치 (열 i 는 tabs[i - 1] + 1 부터 tabs[i] 앞까지)
+    private static final class TabLine {
+        private String text;
+        private int[] tabs = new int[16];
+        private int fieldCount;
+
+        void reset(String text) {
+            this.text = text;
+            fieldCount = 0;
+            int from = 0;
+            int tab;
+            while ((tab = text.indexOf('\t', from)) >= 0) {
+                add(tab);
+                from = tab + 1;
+            }
+            add(text.length());
+        }
+
+        String value(int column) {
+            if (column < 0 || column >= fieldCount) {
+                return "";
+            }
+            int start = column == 0 ? 0 : tabs[column - 1] + 1;
+            int end = tabs[column];
+            while (start < end && text.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && text.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (end - start == 3 && text.regionMatches(true, start, "nan", 0, 3)) {
+                return "";
+            }
+            return text.indexOf('\\', start, end) < 0 ? text.substring(start, end) : unescape(start, end);
+        }
+
+        private void add(int position) {
+            if (fieldCount == tabs.length) {
+                tabs = Arrays.copyOf(tabs, fieldCount * 2);
+            }
+            tabs[fieldCount++] = position;
+        }
+
+        private String unescape(int start, int end) {
+            StringBuilder value = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (c == '\\' && i + 1 < end) {
+                    char next = text.charAt(++i);
+                    value.append(switch (next) {
+                        case 't' -> '\t';
+                        case 'n' -> '\n';
+                        case 'r' -> '\r';
+                        default -> next;
+                    });
+                } else {
+                    value.append(c);
+                }
+            }
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookCsvParser.RowMapper;
+import org.nhnacademy.book2onandonbookservice.parser.impl.MappedCsvReader.Chunk;
+
+/**
+ * 큰 CSV 파일을 레코드 경계에서 조각(chunk)으로 나눠 여러 코어에서 변환하는 파서 ({@link BookCsvParser} 의 파일 경로용)
+ * <p>
+ * 헤더만 알면 행끼리는 서로 독립이므로, {@link MappedCsvReader.Splitter} 로 따옴표 밖 줄바꿈에서 자른 조각마다
+ * {@link MappedCsvReader} 를 따로 만들어 전용 {@link ForkJoinPool} 에서 변환합니다(DTO 또는 원본 행). 결과는 조각 순서대로
+ * 이어 붙이므로 스트림 순서는 한 스레드로 읽을 때와 같습니다. DataInitializer 는 이 순서 그대로 배치 저장에 넘깁니다.
+ * <p>
+ * 앞서 제출하는 조각은 병렬도 x 2 개까지라, 소비(배치 저장)가 느려도 메모리에는 그만큼의 조각 결과만 올라갑니다.
+ * 조각 변환이 실패하면 그 조각 차례에 소비자에게 예외를 던지고, 스트림을 닫으면 풀과 파일을 정리합니다.
+ */
+final class ChunkedCsvParser {
+
+    static final long DEFAULT_CHUNK_BYTES = 1024 * 1024;
+
+    private final int parallelism;
+    private final long chunkBytes;
+
+    /**
+     * @param parallelism 변환 스레드 수
+     * @param chunkBytes  조각 하나의 대략적인 크기 (조각은 이보다 조금 크게, 행 끝에서 잘림)
+     */
+    ChunkedCsvParser(int parallelism, long chunkBytes) {
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkBytes = Math.max(1, chunkBytes);
+    }
+
+    Stream<DataParserDto> stream(Path path) throws IOException {
+        return stream(path, BookCsvParser::dtoMapper);
+    }
+
+    /**
+     * @param mapperForHeaders 헤더 → 행 변환기 (빈 파일이면 null 을 받음), 변환기는 여러 스레드에서 동시에 호출됨
+     */
+    <T> Stream<T> stream(Path path, Function<String[], RowMapper<T>> mapperForHeaders) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            MappedCsvReader header = MappedCsvReader.of(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(channel.size(), MappedCsvReader.DEFAULT_WINDOW_BYTES)));
+            if (!header.next()) {
+                mapperForHeaders.apply(null);
+                channel.close();
+                return Stream.empty();
+            }
+            String[] headers = new String[header.fieldCount()];
+            for (int i = 0; i < headers.length; i++) {
+                headers[i] = header.value(i);
+            }
+            RowMapper<T> mapper = mapperForHeaders.apply(headers);
+            MappedCsvReader.Splitter splitter = MappedCsvReader.splitter(channel, header.bytesRead(), 1, chunkBytes);
+
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            Closeable cleanup = () -> {
+                pool.shutdownNow();
+                channel.close();
+            };
+            return ParserStreams.stream(new OrderedChunkIterator<>(pool, channel, splitter, mapper), cleanup);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /// 내부 로직
+    // 조각 하나를 처음부터 끝까지 읽어 변환 결과 목록으로 (변환기가 null 을 돌려준 행은 빠짐)
+    private static <T> List<T> parseChunk(FileChannel channel, Chunk chunk, RowMapper<T> mapper) throws IOException {
+        MappedCsvReader reader = MappedCsvReader.of(
+                channel.map(FileChannel.MapMode.READ_ONLY, chunk.start(), chunk.length()));
+        List<T> values = new ArrayList<>();
+        long lineNum = chunk.firstLine();
+        while (reader.next()) {
+            lineNum++;
+            T value = mapper.map(reader::value, lineNum);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    // 조각을 앞에서부터 (병렬도 x 2)개까지 미리 제출해 두고, 제출한 순서대로 기다려 꺼냄
+    private final class OrderedChunkIterator<T> extends ParserStreams.RowIterator<T> {
+
+        private final ForkJoinPool pool;
+        private final FileChannel channel;
+        private final MappedCsvReader.Splitter splitter;
+        private final RowMapper<T> mapper;
+        private final Deque<CompletableFuture<List<T>>> inFlight = new ArrayDeque<>();
+        private boolean splitDone;
+        private Iterator<T> current = Collections.emptyIterator();
+
+        private OrderedChunkIterator(ForkJoinPool pool, FileChannel channel, MappedCsvReader.Splitter splitter,
+                                     RowMapper<T> mapper) {
+            this.pool = pool;
+            this.channel = channel;
+            this.splitter = splitter;
+            this.mapper = mapper;
+        }
+
+        @Override
+        protected T readNext() throws IOException {
+            while (!current.hasNext()) {
+                submitAhead();
+                CompletableFuture<List<T>> head = inFlight.poll();
+                if (head == null) {
+                    return null;
+                }
+                current = await(head).iterator();
+            }
+            return current.next();
+        }
+
+        // 다음 조각 경계는 이 (소비) 스레드가 찾으므로, 나누는 동안에도 앞서 제출한 조각은 변환이 진행됨
+        private void submitAhead() throws IOException {
+            while (!splitDone && inFlight.size() < parallelism * 2) {
+                Chunk chunk = splitter.next();
+                if (chunk == null) {
+                    splitDone = true;
+                    return;
+                }
+                inFlight.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return parseChunk(channel, chunk, mapper);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, pool));
+            }
+        }
+
+        private List<T> await(CompletableFuture<List<T>> future) throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataParserException("CSV 병렬 변환이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof UncheckedIOException io) {
+                    throw io.getCause();
+                }
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new DataParserException("CSV 병렬 변환 실패: " + cause.getMessage(), cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,440 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+
+/**
+ * 메모리 매핑한 UTF-8 CSV 를 행 단위로 읽는 리더 ({@link BookCsvParser} 의 파일 경로용)
+ * <p>
+ * 바이트 버퍼를 상태 기계로 한 번 훑어 행마다 필드의 시작/끝 위치만 기록하고, 문자열은 {@link #value(int)} 로 요청한 열만
+ * 그때 디코딩합니다. 구분자/따옴표/개행이 모두 ASCII 라 UTF-8 멀티바이트 글자 중간에서 잘못 끊기지 않습니다.
+ * <ul>
+ *     <li>RFC 4180 따옴표 규칙 ("" → "), 따옴표 안의 개행은 값의 일부</li>
+ *     <li>LF / CRLF 줄바꿈, 빈 줄은 건너뜀, 맨 앞 UTF-8 BOM 무시</li>
+ *     <li>값은 앞뒤 공백을 자르고, "nan"(대소문자 무시)과 없는 열은 빈 문자열</li>
+ * </ul>
+ * 창 크기({@link #DEFAULT_WINDOW_BYTES}, 1GiB)를 넘는 파일은 창 단위로 나눠 매핑하고, 행이 창 끝에 걸리면 그 행 시작부터 다시 매핑합니다.
+ * 한 스레드에서만 사용합니다.
+ */
+final class MappedCsvReader implements Closeable {
+
+    static final int DEFAULT_WINDOW_BYTES = 1 << 30;
+    private static final int SPLIT_BLOCK_BYTES = 64 * 1024;
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    // 필드 스캔 상태
+    private static final int FIELD_START = 0;
+    private static final int UNQUOTED = 1;
+    private static final int QUOTED = 2;
+    private static final int AFTER_QUOTE = 3;
+
+    private final FileChannel channel; // 메모리 버퍼로 만들었으면 null
+    private final long totalBytes;
+    private final int windowBytes;
+
+    private ByteBuffer window;
+    private long windowStart;
+    private int position;
+
+    private int fieldCount;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private boolean[] fieldQuoted = new boolean[16]; // 따옴표를 풀어야 하는 필드
+    private byte[] scratch = new byte[256];
+
+    private MappedCsvReader(FileChannel channel, ByteBuffer window, long totalBytes, int windowBytes) {
+        this.channel = channel;
+        this.window = window;
+        this.totalBytes = totalBytes;
+        this.windowBytes = windowBytes;
+        skipBom();
+    }
+
+    static MappedCsvReader open(Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_BYTES);
+    }
+
+    /**
+     * @param windowBytes 한 번에 매핑할 최대 바이트 (가장 긴 행보다 커야 함)
+     */
+    static MappedCsvReader open(Path path, int windowBytes) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer first = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, windowBytes));
+            return new MappedCsvReader(channel, first, size, windowBytes);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 메모리에 있는 내용 (파일이 아닌 리소스, 테스트)
+     */
+    static MappedCsvReader of(ByteBuffer buffer) {
+        ByteBuffer slice = buffer.slice();
+        return new MappedCsvReader(null, slice, slice.limit(), Math.max(1, slice.limit()));
+    }
+
+    /**
+     * 다음 행으로 이동
+     *
+     * @return 행이 없으면 false
+     * @throws DataParserException 따옴표가 닫히지 않은 채 파일이 끝났거나, 한 행이 매핑 창보다 클 때
+     */
+    boolean next() throws IOException {
+        while (true) {
+            if (position >= window.limit() && !remapFrom(position)) {
+                return false;
+            }
+            int end = scanRow(position);
+            if (end < 0) {
+                continue; // 창을 다시 매핑했으니 같은 행을 처음부터
+            }
+            position = end;
+            if (fieldCount > 0) {
+                return true;
+            }
+        }
+    }
+
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * 현재 행의 열 값 (앞뒤 공백 제거, "nan" 과 없는 열은 "")
+     */
+    String value(int column) {
+        if (column < 0 || column >= fieldCount) {
+            return "";
+        }
+        int start = fieldStarts[column];
+        int end = fieldEnds[column];
+        while (start < end && isSpace(window.get(start))) {
+            start++;
+        }
+        while (end > start && isSpace(window.get(end - 1))) {
+            end--;
+        }
+        if (start == end || isNan(start, end)) {
+            return "";
+        }
+
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        if (!fieldQuoted[column]) {
+            window.get(start, scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return new String(scratch, 0, unquote(start, end), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 지금까지 읽은 바이트 (진행률 표시용)
+     */
+    long bytesRead() {
+        return windowStart + position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * from 부터 파일 끝까지를 chunkBytes 정도 크기의 조각으로 나누는 {@link Splitter} ({@link ChunkedCsvParser} 용)
+     *
+     * @param from      첫 조각 시작 위치 (헤더 다음)
+     * @param firstLine from 앞까지의 줄 수 (로그용 줄 번호의 시작)
+     */
+    static Splitter splitter(FileChannel channel, long from, long firstLine, long chunkBytes) throws IOException {
+        return new Splitter(channel, from, firstLine, chunkBytes);
+    }
+
+    /**
+     * 조각을 끝까지 한 번에 나눔 (테스트, 벤치마크)
+     */
+    static List<Chunk> split(FileChannel channel, long from, long firstLine, long chunkBytes) throws IOException {
+        Splitter splitter = splitter(channel, from, firstLine, chunkBytes);
+        List<Chunk> chunks = new ArrayList<>();
+        Chunk chunk;
+        while ((chunk = splitter.next()) != null) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * 파일의 [start, end) 구간
+     *
+     * @param firstLine 구간 앞까지의 줄 수 (구간 첫 행의 줄 번호 - 1)
+     */
+    record Chunk(long start, long end, long firstLine) {
+
+        long length() {
+            return end - start;
+        }
+    }
+
+    /**
+     * 레코드 경계에서 파일을 앞에서부터 조각으로 잘라 주는 분할기
+     * <p>
+     * 행을 만들지 않고 {@link #scanRow} 와 같은 따옴표 상태만 따라가며, 조각이 chunkBytes 를 넘은 뒤 따옴표 밖의 첫 LF
+     * 다음에서 자릅니다. 그래서 따옴표 안의 개행에서는 잘리지 않고, 조각마다 {@link #of} 로 따로 읽어도 한 번에 읽은 것과 같은
+     * 행이 나옵니다. 따옴표가 닫히지 않은 경우는 조각을 읽을 때 {@link #next()} 가 알려 줍니다.
+     * <p>
+     * 요청할 때마다 다음 조각까지만 훑으므로, 앞 조각들을 변환하는 동안 이어서 나눌 수 있습니다.
+     */
+    static final class Splitter {
+
+        private final FileChannel channel;
+        private final long size;
+        private final long chunkBytes;
+        private final byte[] block = new byte[SPLIT_BLOCK_BYTES];
+        private long blockStart;
+        private int blockLength;
+        private int index;
+        private long chunkStart;
+        private long line;
+        private int state = FIELD_START;
+
+        private Splitter(FileChannel channel, long from, long firstLine, long chunkBytes) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.chunkBytes = Math.max(1, chunkBytes);
+            this.blockStart = from;
+            this.chunkStart = from;
+            this.line = firstLine;
+        }
+
+        /**
+         * @return 다음 조각, 끝이면 null
+         * @throws DataParserException 따옴표 밖 LF 없이 한 조각이 매핑 크기를 넘을 때
+         */
+        Chunk next() throws IOException {
+            if (chunkStart >= size) {
+                return null;
+            }
+            long firstLine = line;
+            while (index < blockLength || fill()) {
+                int cut = scanBlock();
+                if (cut >= 0) {
+                    long end = blockStart + cut;
+                    Chunk chunk = chunk(chunkStart, end, firstLine);
+                    chunkStart = end;
+                    return chunk;
+                }
+            }
+            Chunk last = chunk(chunkStart, size, firstLine);
+            chunkStart = size;
+            return last;
+        }
+
+        // 블록의 index 부터 훑어 자를 위치(블록 안 오프셋, LF 다음)를 돌려줌. 블록 끝까지 없으면 -1
+        private int scanBlock() {
+            int s = state;
+            for (int i = index; i < blockLength; i++) {
+                byte b = block[i];
+                if (s == QUOTED) {
+                    if (b == QUOTE) {
+                        s = AFTER_QUOTE;
+                    }
+                    continue;
+                }
+                if (b == LF) {
+                    s = FIELD_START;
+                    line++;
+                    if (blockStart + i + 1 - chunkStart >= chunkBytes) {
+                        state = s;
+                        index = i + 1;
+                        return i + 1;
+                    }
+                } else if (b == COMMA || b == CR) {
+                    s = FIELD_START;
+                } else if (s == FIELD_START || s == AFTER_QUOTE) {
+                    if (b == QUOTE) {
+                        s = QUOTED;
+                    } else if (!isSpace(b)) {
+                        s = UNQUOTED;
+                    }
+                }
+            }
+            state = s;
+            index = blockLength;
+            return -1;
+        }
+
+        // 매핑 대신 위치 지정 읽기로 다음 블록을 채움 (한 바이트씩 매핑 버퍼를 get 하는 것보다 빠름)
+        private boolean fill() throws IOException {
+            long position = blockStart + blockLength;
+            if (position >= size) {
+                return false;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(block, 0, (int) Math.min(block.length, size - position));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0) {
+                    break;
+                }
+            }
+            blockStart = position;
+            blockLength = buffer.position();
+            index = 0;
+            return blockLength > 0;
+        }
+    }
+
+    /// 내부 로직
+    // 조각 하나는 한 번에 매핑하므로 매핑 크기를 넘으면 안 됨
+    private static Chunk chunk(long start, long end, long firstLine) {
+        if (end - start > DEFAULT_WINDOW_BYTES) {
+            throw new DataParserException("CSV 를 나눌 위치(따옴표 밖 줄바꿈)가 매핑 크기(" + DEFAULT_WINDOW_BYTES
+                    + " bytes) 안에 없습니다. (위치 " + start + ")");
+        }
+        return new Chunk(start, end, firstLine);
+    }
+
+    // 한 행을 훑어 필드 위치를 기록하고 다음 행 시작 위치를 돌려줌. 창 끝에 걸려 다시 매핑했으면 -1
+    private int scanRow(int rowStart) throws IOException {
+        fieldCount = 0;
+        int state = FIELD_START;
+        int fieldStart = rowStart;
+        int quoteEnd = rowStart; // 닫는 따옴표 위치
+        boolean quoted = false;
+        int limit = window.limit();
+
+        for (int i = rowStart; i < limit; i++) {
+            byte b = window.get(i);
+            if (state == QUOTED) {
+                if (b == QUOTE) {
+                    state = AFTER_QUOTE;
+                    quoteEnd = i;
+                }
+                continue;
+            }
+
+            boolean newline = b == LF || b == CR;
+            if (b == COMMA || newline) {
+                if (!(newline && state == FIELD_START && fieldCount == 0 && !quoted)) { // 빈 줄은 필드 없음
+                    addField(fieldStart, state == AFTER_QUOTE ? quoteEnd : i, quoted);
+                }
+                if (newline) {
+                    return b == CR && i + 1 < limit && window.get(i + 1) == LF ? i + 2 : i + 1;
+                }
+                state = FIELD_START;
+                quoted = false;
+                fieldStart = i + 1;
+            } else if (state == FIELD_START) {
+                if (b == QUOTE) {
+                    state = QUOTED;
+                    quoted = true;
+                    fieldStart = i + 1;
+                } else if (!isSpace(b)) {
+                    state = UNQUOTED;
+                }
+            } else if (state == AFTER_QUOTE) {
+                if (b == QUOTE) {
+                    state = QUOTED; // "" → "
+                } else if (!isSpace(b)) {
+                    state = UNQUOTED; // 닫는 따옴표 뒤에 붙은 글자는 값에 이어 붙임 (따옴표는 풀 때 버림)
+                }
+            }
+        }
+
+        // 창 끝: 파일이 더 남았으면 이 행 시작부터 다시 매핑
+        if (windowStart + limit < totalBytes) {
+            if (rowStart == 0) {
+                throw new DataParserException("CSV 한 행이 매핑 크기(" + windowBytes + " bytes)보다 큽니다. (위치 "
+                        + windowStart + ")");
+            }
+            remapFrom(rowStart);
+            return -1;
+        }
+        if (state == QUOTED) {
+            throw new DataParserException("CSV 파일 형식이 올바르지 않습니다. 따옴표가 닫히지 않았습니다. (위치 "
+                    + (windowStart + fieldStart) + ")");
+        }
+        if (state != FIELD_START || fieldCount > 0 || quoted) {
+            addField(fieldStart, state == AFTER_QUOTE ? quoteEnd : limit, quoted);
+        }
+        return limit;
+    }
+
+    private void addField(int start, int end, boolean quoted) {
+        if (fieldCount == fieldStarts.length) {
+            int grown = fieldCount * 2;
+            fieldStarts = Arrays.copyOf(fieldStarts, grown);
+            fieldEnds = Arrays.copyOf(fieldEnds, grown);
+            fieldQuoted = Arrays.copyOf(fieldQuoted, grown);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldQuoted[fieldCount] = quoted;
+        fieldCount++;
+    }
+
+    // "" 는 " 하나로, 짝 없는 따옴표는 버리며 scratch 로 복사. 복사한 길이를 돌려줌
+    private int unquote(int start, int end) {
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = window.get(i);
+            if (b == QUOTE) {
+                if (i + 1 < end && window.get(i + 1) == QUOTE) {
+                    scratch[length++] = QUOTE;
+                    i++;
+                }
+                continue;
+            }
+            scratch[length++] = b;
+        }
+        return length;
+    }
+
+    private boolean remapFrom(int offset) throws IOException {
+        long start = windowStart + offset;
+        if (channel == null || start >= totalBytes) {
+            return false;
+        }
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(totalBytes - start, windowBytes));
+        windowStart = start;
+        position = 0;
+        return true;
+    }
+
+    private void skipBom() {
+        if (window.limit() >= 3 && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB
+                && window.get(2) == (byte) 0xBF) {
+            position = 3;
+        }
+    }
+
+    private boolean isNan(int start, int end) {
+        return end - start == 3
+                && (window.get(start) | 0x20) == 'n'
+                && (window.get(start + 1) | 0x20) == 'a'
+                && (window.get(start + 2) | 0x20) == 'n';
+    }
+
+    // String.trim 과 같은 기준 (0x20 이하), UTF-8 멀티바이트는 음수라 해당 없음
+    private static boolean isSpace(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
@@ -0,0 +1,106 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.springframework.core.io.Resource;
+
+/**
+ * 파서 구현들이 같이 쓰는 입력 열기 / 행 단위 Stream 만들기
+ */
+final class ParserStreams {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private ParserStreams() {
+    }
+
+    static boolean isCompressed(Resource resource) {
+        String name = resource.getFilename();
+        return name != null && name.toLowerCase().endsWith(DataParser.COMPRESSED_SUFFIX);
+    }
+
+    /**
+     * 파일명이 .gz 로 끝나면 풀면서 읽음
+     */
+    static InputStream open(Resource resource) throws IOException {
+        InputStream in = resource.getInputStream();
+        try {
+            return isCompressed(resource)
+                    ? new GZIPInputStream(in, BUFFER_SIZE)
+                    : new BufferedInputStream(in, BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    static BufferedReader openReader(Resource resource) throws IOException {
+        return new BufferedReader(new InputStreamReader(open(resource), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * 스트림을 닫으면 source 도 닫힘
+     */
+    static <T> Stream<T> stream(RowIterator<T> rows, Closeable source) {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * 다음 값(DTO 등)을 미리 하나 읽어 두는 Iterator (건너뛴 행은 {@link #readNext()} 안에서 넘김)
+     */
+    abstract static class RowIterator<T> implements Iterator<T> {
+
+        private T next;
+        private boolean finished;
+
+        /**
+         * @return 다음 값, 끝이면 null
+         */
+        protected abstract T readNext() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = readNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                finished = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T current = next;
+            next = null;
+            return current;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+/**
+ * 문장 한 번에 넣을 행 수를 관측한 실행 시간에 맞춰 조절
+ * <p>
+ * 마지막 문장의 행당 시간으로 목표 시간 안에 들어갈 행 수를 추정하되, 한 번에 절반~2배 범위에서만 바꿔 튀는 값에 휘둘리지 않게
+ * 합니다. 여러 적재 스레드가 같이 쓰므로 메서드는 동기화합니다.
+ */
+class AdaptiveChunkSizer {
+
+    private final int minRows;
+    private final int maxRows;
+    private final long targetNanos;
+    private int currentRows;
+
+    AdaptiveChunkSizer(int minRows, int maxRows, int initialRows, long targetNanos) {
+        this.minRows = minRows;
+        this.maxRows = maxRows;
+        this.targetNanos = targetNanos;
+        this.currentRows = Math.clamp(initialRows, minRows, maxRows);
+    }
+
+    synchronized int currentRows() {
+        return currentRows;
+    }
+
+    /**
+     * 문장 실행 결과 반영
+     *
+     * @return 조절된 다음 행 수
+     */
+    synchronized int record(int rows, long elapsedNanos) {
+        if (rows <= 0) {
+            return currentRows;
+        }
+        double nanosPerRow = Math.max(1.0, (double) elapsedNanos / rows);
+        long ideal = (long) (targetNanos / nanosPerRow);
+        long bounded = Math.clamp(ideal, Math.max(1, currentRows / 2), (long) currentRows * 2);
+        currentRows = (int) Math.clamp(bounded, minRows, maxRows);
+        return currentRows;
+    }
+}
@@ -1,59 +1,179 @@
 package org.nhnacademy.book2onandonbookservice.repository;
 
+import jakarta.annotation.PostConstruct;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
 import org.nhnacademy.book2onandonbookservice.entity.BookImage;
 import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+/**
+ * CSV 대량 적재용 JDBC 일괄 INSERT
+ * <p>
+ * 도서는 여러 행을 한 문장에 담은 multi-row INSERT 로 넣고 생성된 키를 바로 받아, 다시 ISBN 으로 조회하지 않고 관계 테이블에
+ * 쓸 ID 를 돌려줍니다. 문장당 행 수는 실행 시간을 보고 조절하고(목표: book.import.insert.target-statement-millis),
+ * 문장 크기(max_allowed_packet)를 넘지 않도록 바이트 상한으로도 자릅니다.
+ * <p>
+ * 관계 테이블(이미지/기여자/출판사)은 키가 필요 없어 batchUpdate 그대로이며, MySQL 접속 URL 에 rewriteBatchedStatements=true 가
+ * 있으면 드라이버가 multi-row INSERT 로 바꿔 보냅니다.
+ * <p>
+ * 출판사/기여자는 이름 유니크 키에 INSERT ... ON DUPLICATE KEY UPDATE 로 한꺼번에 넣고 IN 조회로 ID 를 받습니다.
+ * <p>
+ * 증분 적재(book.import.incremental.enabled)는 ISBN 별 원본 행 해시(book_import_hash)를 읽고 쓰며, 바뀐 도서는 ISBN 으로
+ * UPDATE 하고 관계를 지웠다 다시 넣습니다.
+ */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
 public class BatchInsertRepository {
 
+    private static final String BOOK_INSERT_PREFIX = "INSERT INTO book (book_title, ISBN, book_publish_date, "
+            + "price_standard, price_sales, is_wrapped, stock_count, book_status, book_description, book_chapter, "
+            + "book_volume, like_count) VALUES ";
+    private static final String BOOK_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int BOOK_ROW_OVERHEAD_BYTES = 128; // 숫자/날짜 컬럼 + 구문
+    private static final int NAME_CHUNK_SIZE = 1000; // 이름 upsert/IN 조회 한 문장당 이름 수
+    private static final int HASH_PAGE_SIZE = 10_000; // 행 해시 한 번에 읽는 건수
+
+    // 적재 파일에서 빠져 판매 중단한 ISBN 의 해시 자리 (실제 해시는 0 이상)
+    public static final long TOMBSTONE_HASH = -1L;
+
     private final JdbcTemplate jdbcTemplate;
 
+    @Value("${book.import.insert.min-rows-per-statement:50}")
+    private int minRowsPerStatement;
 
-    public void saveAllBooks(List<Book> books) {
+    @Value("${book.import.insert.max-rows-per-statement:1000}")
+    private int maxRowsPerStatement;
 
-        String sql =
-                "INSERT INTO book (book_title, ISBN, book_publish_date, price_standard, price_sales, is_wrapped, stock_count, book_status, book_description, book_chapter, book_volume, like_count) "
-                        +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    @Value("${book.import.insert.target-statement-millis:200}")
+    private long targetStatementMillis;
 
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Book book = books.get(i);
-                ps.setString(1, book.getTitle());
-                ps.setString(2, book.getIsbn());
-                ps.setDate(3, Date.valueOf(book.getPublishDate()));
-                ps.setLong(4, book.getPriceStandard());
-                ps.setLong(5, book.getPriceSales() != null ? book.getPriceSales() : 0L);
-                ps.setBoolean(6, book.getIsWrapped());
-                ps.setInt(7, book.getStockCount());
-                ps.setString(8, book.getStatus().name());
-                ps.setString(9, book.getDescription());
-                ps.setString(10, book.getChapter());
-                ps.setString(11, book.getVolume());
-                ps.setLong(12, book.getLikeCount());
+    // MySQL max_allowed_packet(기본 64MB) 보다 충분히 작게
+    @Value("${book.import.insert.max-statement-bytes:4194304}")
+    private long maxStatementBytes;
+
+    private AdaptiveChunkSizer chunkSizer;
+
+    @PostConstruct
+    void init() {
+        chunkSizer = new AdaptiveChunkSizer(minRowsPerStatement, maxRowsPerStatement, maxRowsPerStatement,
+                TimeUnit.MILLISECONDS.toNanos(targetStatementMillis));
+    }
+
+    /**
+     * 도서 일괄 INSERT
+     *
+     * @return books 와 같은 순서의 생성된 book_id
+     */
+    public List<Long> saveAllBooks(List<Book> books) {
+        List<Long> ids = new ArrayList<>(books.size());
+        int from = 0;
+        while (from < books.size()) {
+            int to = chunkEnd(books, from, chunkSizer.currentRows());
+            List<Book> chunk = books.subList(from, to);
+
+            long start = System.nanoTime();
+            ids.addAll(insertBooks(chunk));
+            int next = chunkSizer.record(chunk.size(), System.nanoTime() - start);
+            log.debug("[BatchInsert] 도서 {}행 INSERT, 다음 문장 {}행", chunk.size(), next);
+            from = to;
+        }
+        return ids;
+    }
+
+    /// 내부 로직
+    // 행 수 상한과 문장 바이트 상한 중 먼저 닿는 곳까지 (최소 1행)
+    private int chunkEnd(List<Book> books, int from, int maxRows) {
+        int end = from;
+        long bytes = BOOK_INSERT_PREFIX.length();
+        while (end < books.size() && end - from < maxRows) {
+            bytes += estimateBytes(books.get(end));
+            if (bytes > maxStatementBytes && end > from) {
+                break;
             }
+            end++;
+        }
+        return end;
+    }
 
-            @Override
-            public int getBatchSize() {
-                return books.size();
+    // UTF-8 한글 3바이트 기준 대략값
+    private long estimateBytes(Book book) {
+        return BOOK_ROW_OVERHEAD_BYTES + 3L * (length(book.getTitle()) + length(book.getIsbn())
+                + length(book.getDescription()) + length(book.getChapter()) + length(book.getVolume()));
+    }
+
+    private int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private List<Long> insertBooks(List<Book> chunk) {
+        String sql = BOOK_INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), BOOK_VALUES));
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                int index = 1;
+                for (Book book : chunk) {
+                    index = bindBook(ps, index, book);
+                }
+                ps.executeUpdate();
+
+                List<Long> ids = new ArrayList<>(chunk.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != chunk.size()) {
+                    throw new DataRetrievalFailureException(
+                            "생성된 도서 ID 수가 INSERT 행 수와 다릅니다: " + ids.size() + "/" + chunk.size());
+                }
+                return ids;
             }
         });
     }
 
+    private int bindBook(PreparedStatement ps, int index, Book book) throws SQLException {
+        ps.setString(index++, book.getTitle());
+        ps.setString(index++, book.getIsbn());
+        ps.setDate(index++, Date.valueOf(book.getPublishDate()));
+        ps.setLong(index++, book.getPriceStandard());
+        ps.setLong(index++, book.getPriceSales() != null ? book.getPriceSales() : 0L);
+        ps.setBoolean(index++, book.getIsWrapped());
+        ps.setInt(index++, book.getStockCount());
+        ps.setString(index++, book.getStatus().name());
+        ps.setString(index++, book.getDescription());
+        ps.setString(index++, book.getChapter());
+        ps.setString(index++, book.getVolume());
+        ps.setLong(index++, book.getLikeCount());
+        return index;
+    }
+
     public void saveBookImages(List<BookImage> images) {
         if (images.isEmpty()) {
             return;
@@ -111,4 +231,251 @@ public class BatchInsertRepository {
             });
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 출판사 이름 일괄 등록 (이미 있는 이름은 그대로 둠)
+     *
+     * @return 이름 → publisher_id (요청한 이름 전부)
+     */
+    public Map<String, Long> upsertPublishers(Collection<String> names) {
+        return upsertNames("publisher", "publisher_id", "publisher_name", names);
+    }
+
+    /**
+     * 기여자 이름 일괄 등록 (이미 있는 이름은 그대로 둠)
+     *
+     * @return 이름 → contributor_id (요청한 이름 전부)
+     */
+    public Map<String, Long> upsertContributors(Collection<String> names) {
+        return upsertNames("contributor", "contributor_id", "contributor_name", names);
+    }
+
+    /**
+     * 증분 적재 - 이미 있는 도서의 내용을 ISBN 으로 갱신 (같은 ISBN 행이 여럿이면 모두)
+     * <p>
+     * 재고/판매 상태/좋아요 수는 건드리지 않고, 판매가는 정가와 같던(할인하지 않은) 행만 새 정가를 따라갑니다.
+     * (판매가를 정가보다 먼저 SET 해야 MySQL 에서도 바꾸기 전 정가와 비교함)
+     */
+    public void updateBooksByIsbn(List<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE book SET price_sales = CASE WHEN price_sales = price_standard THEN ? ELSE price_sales END, "
+                + "book_title = ?, book_publish_date = ?, price_standard = ?, book_description = ?, book_volume = ? "
+                + "WHERE ISBN = ?";
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Book book = books.get(i);
+                ps.setLong(1, book.getPriceStandard());
+                ps.setString(2, book.getTitle());
+                ps.setDate(3, Date.valueOf(book.getPublishDate()));
+                ps.setLong(4, book.getPriceStandard());
+                ps.setString(5, book.getDescription());
+                ps.setString(6, book.getVolume());
+                ps.setString(7, book.getIsbn());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return books.size();
+            }
+        });
+    }
+
+    /**
+     * ISBN → book_id 목록 (같은 ISBN 이 여러 행이면 모두, 없는 ISBN 은 빠짐)
+     */
+    public Map<String, List<Long>> findBookIdsByIsbn(Collection<String> isbns) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(isbns));
+        Map<String, List<Long>> ids = HashMap.newHashMap(distinct.size());
+        for (int from = 0; from < distinct.size(); from += NAME_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + NAME_CHUNK_SIZE, distinct.size()));
+            jdbcTemplate.query("SELECT book_id, ISBN FROM book WHERE ISBN IN (" + placeholders(chunk.size()) + ")",
+                    (RowCallbackHandler) rs -> ids.computeIfAbsent(rs.getString(2), isbn -> new ArrayList<>())
+                            .add(rs.getLong(1)),
+                    chunk.toArray());
+        }
+        return ids;
+    }
+
+    /**
+     * 증분 적재 - 기여자/출판사 관계를 지움 (바뀐 도서의 관계를 CSV 기준으로 다시 넣기 전)
+     */
+    public void deleteBookRelations(Collection<Long> bookIds) {
+        List<Long> ids = List.copyOf(bookIds);
+        for (int from = 0; from < ids.size(); from += NAME_CHUNK_SIZE) {
+            Object[] chunk = ids.subList(from, Math.min(from + NAME_CHUNK_SIZE, ids.size())).toArray();
+            String in = placeholders(chunk.length);
+            jdbcTemplate.update("DELETE FROM book_contributor WHERE book_id IN (" + in + ")", chunk);
+            jdbcTemplate.update("DELETE FROM book_publisher WHERE book_id IN (" + in + ")", chunk);
+        }
+    }
+
+    /**
+     * 같은 도서에 같은 경로의 이미지가 없을 때만 추가 (관리자가 올린 이미지는 그대로 둠)
+     */
+    public void saveMissingBookImages(List<BookImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO book_image (book_id, book_image_path) SELECT ?, ? FROM DUAL "
+                + "WHERE NOT EXISTS (SELECT 1 FROM book_image WHERE book_id = ? AND book_image_path = ?)";
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BookImage image = images.get(i);
+                ps.setLong(1, image.getBook().getId());
+                ps.setString(2, image.getImagePath());
+                ps.setLong(3, image.getBook().getId());
+                ps.setString(4, image.getImagePath());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return images.size();
+            }
+        });
+    }
+
+    /**
+     * ISBN 별 원본 행 해시 전체 (증분 적재 시작 때 메모리 사전에 올림, 판매 중단 표시 행은 빠짐)
+     * <p>
+     * 드라이버가 결과를 한꺼번에 들고 있지 않도록 ISBN 순 키셋으로 {@value #HASH_PAGE_SIZE}건씩 나눠 읽습니다.
+     */
+    public void forEachContentHash(ObjLongConsumer<String> action) {
+        String after = "";
+        while (true) {
+            List<String> page = new ArrayList<>(HASH_PAGE_SIZE);
+            jdbcTemplate.query("SELECT isbn, content_hash FROM book_import_hash WHERE isbn > ? AND content_hash <> ? "
+                            + "ORDER BY isbn LIMIT ?",
+                    (RowCallbackHandler) rs -> {
+                        page.add(rs.getString(1));
+                        action.accept(rs.getString(1), rs.getLong(2));
+                    }, after, TOMBSTONE_HASH, HASH_PAGE_SIZE);
+            if (page.size() < HASH_PAGE_SIZE) {
+                return;
+            }
+            after = page.get(page.size() - 1);
+        }
+    }
+
+    /**
+     * ISBN 별 원본 행 해시 저장 (있으면 덮어씀)
+     */
+    public void upsertContentHashes(Map<String, Long> hashes) {
+        List<Map.Entry<String, Long>> entries = List.copyOf(hashes.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < entries.size(); from += NAME_CHUNK_SIZE) {
+            List<Map.Entry<String, Long>> chunk = entries.subList(from, Math.min(from + NAME_CHUNK_SIZE, entries.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<String, Long> entry : chunk) {
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+                args.add(now);
+            }
+            jdbcTemplate.update("INSERT INTO book_import_hash (isbn, content_hash, updated_at) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)"))
+                    + " ON DUPLICATE KEY UPDATE content_hash = VALUES(content_hash), updated_at = VALUES(updated_at)",
+                    args.toArray());
+        }
+    }
+
+    /**
+     * 적재 파일에서 빠진 도서를 판매 중단(BOOK_DELETED)으로 바꾸고 해시 자리에 {@link #TOMBSTONE_HASH} 를 남김
+     * <p>
+     * 표시가 남은 ISBN 이 나중 파일에 다시 나오면 {@link #restoreImportDeletedBooks} 로 판매 상태를 되돌립니다.
+     *
+     * @return 상태를 바꾼 도서 행 수
+     */
+    public int softDeleteBooksByIsbn(Collection<String> isbns) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(isbns));
+        int deleted = 0;
+        for (int from = 0; from < distinct.size(); from += NAME_CHUNK_SIZE) {
+            Object[] chunk = distinct.subList(from, Math.min(from + NAME_CHUNK_SIZE, distinct.size())).toArray();
+            String in = placeholders(chunk.length);
+            List<Object> args = new ArrayList<>(chunk.length + 2);
+            args.add(BookStatus.BOOK_DELETED.name());
+            args.addAll(Arrays.asList(chunk));
+            args.add(BookStatus.BOOK_DELETED.name());
+            deleted += jdbcTemplate.update("UPDATE book SET book_status = ? WHERE ISBN IN (" + in + ")"
+                    + " AND book_status <> ?", args.toArray());
+            List<Object> hashArgs = new ArrayList<>(chunk.length + 2);
+            hashArgs.add(TOMBSTONE_HASH);
+            hashArgs.add(Timestamp.valueOf(LocalDateTime.now()));
+            hashArgs.addAll(Arrays.asList(chunk));
+            jdbcTemplate.update("UPDATE book_import_hash SET content_hash = ?, updated_at = ? WHERE isbn IN (" + in + ")",
+                    hashArgs.toArray());
+        }
+        return deleted;
+    }
+
+    /**
+     * 적재가 판매 중단했던({@link #TOMBSTONE_HASH}) ISBN 이 다시 나오면 판매 중(ON_SALE)으로 되돌림
+     * <p>
+     * 표시가 없는 BOOK_DELETED (관리자가 직접 판매 중단한 도서)는 그대로 둡니다. 새 해시로 덮어쓰기 전에 호출해야 합니다.
+     *
+     * @return 상태를 바꾼 도서 행 수
+     */
+    public int restoreImportDeletedBooks(Collection<String> isbns) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(isbns));
+        int restored = 0;
+        for (int from = 0; from < distinct.size(); from += NAME_CHUNK_SIZE) {
+            Object[] chunk = distinct.subList(from, Math.min(from + NAME_CHUNK_SIZE, distinct.size())).toArray();
+            String in = placeholders(chunk.length);
+            List<Object> args = new ArrayList<>(chunk.length * 2 + 3);
+            args.add(BookStatus.ON_SALE.name());
+            args.add(BookStatus.BOOK_DELETED.name());
+            args.addAll(Arrays.asList(chunk));
+            args.add(TOMBSTONE_HASH);
+            args.addAll(Arrays.asList(chunk));
+            restored += jdbcTemplate.update("UPDATE book SET book_status = ? WHERE book_status = ? AND ISBN IN (" + in
+                    + ") AND ISBN IN (SELECT isbn FROM book_import_hash WHERE content_hash = ? AND isbn IN (" + in
+                    + "))", args.toArray());
+        }
+        return restored;
+    }
+
+    /// 내부 로직
+    // 이름 1000개당 upsert 1번 + IN 조회 1번. 다른 파일/인스턴스가 같은 이름을 동시에 넣어도 유니크 키로 한 행만 남음
+    private Map<String, Long> upsertNames(String table, String idColumn, String nameColumn, Collection<String> names) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(names));
+        Map<String, Long> ids = HashMap.newHashMap(distinct.size());
+        for (int from = 0; from < distinct.size(); from += NAME_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + NAME_CHUNK_SIZE, distinct.size()));
+            jdbcTemplate.update("INSERT INTO " + table + " (" + nameColumn + ") VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?)"))
+                    + " ON DUPLICATE KEY UPDATE " + nameColumn + " = " + nameColumn, chunk.toArray());
+
+            Map<String, Long> found = HashMap.newHashMap(chunk.size());
+            jdbcTemplate.query("SELECT " + idColumn + ", " + nameColumn + " FROM " + table + " WHERE " + nameColumn
+                            + " IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+                    rs -> {
+                        found.put(rs.getString(2), rs.getLong(1));
+                    }, chunk.toArray());
+            for (String name : chunk) {
+                ids.put(name, findId(found, table, name));
+            }
+        }
+        return ids;
+    }
+
+    // MySQL 기본 collation 은 대소문자/끝 공백을 구분하지 않아, 이미 있던 행의 이름이 요청한 이름과 다르게 올 수 있음
+    private Long findId(Map<String, Long> found, String table, String name) {
+        Long id = found.get(name);
+        if (id != null) {
+            return id;
+        }
+        return found.entrySet().stream()
+                .filter(entry -> entry.getKey().strip().equalsIgnoreCase(name.strip()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElseThrow(() -> new DataRetrievalFailureException(table + " 에 등록한 이름의 ID 를 찾지 못했습니다: " + name));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,9 +1,11 @@
 package org.nhnacademy.book2onandonbookservice.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,19 +24,38 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     @Query("SELECT b FROM Book b WHERE (b.description IS NOT NULL AND b.description != '') AND SIZE(b.bookTags) = 0")
     List<Book> findBooksNeedingTags(Pageable pageable);
 
-    // Book 수정 시 연관관계를 한 번에 가져오기 위한 전용 쿼리
+    // Book 수정용 - 카테고리만 함께 가져오고 나머지 컬렉션은 각자 쿼리 한 번씩 (컬렉션 두 개를 같이 fetch 하면 행이 곱해짐)
     @Query("""
-            SELECT DISTINCT b FROM Book b
+            SELECT b FROM Book b
             LEFT JOIN FETCH b.bookCategories bc
-            LEFT JOIN FETCH b.bookContributors bct
             WHERE b.id = :bookId
             """)
     Optional<Book> findByIdWithRelations(Long bookId);
 
-    /// 신간 도서 조회용 (정렬 O)
+    /// 신간 도서 조회용 (정렬 O) - 하위 카테고리 id 를 IN 목록으로 받는 방식 (클로저 테이블 조회와 비교용)
     @Query("SELECT DISTINCT b FROM Book b JOIN b.bookCategories bc WHERE b.status='ON_SALE' AND bc.category.id IN :categoryIds ORDER BY b.publishDate DESC")
     Page<Book> findBooksByCategoryIdsSorted(@Param("categoryIds") List<Long> categoryIds, Pageable pageable);
 
+    /// 신간 도서 조회용 - 카테고리 하위 트리 전체를 클로저 테이블로 (DISTINCT 없는 EXISTS 라 출간일 인덱스 순서대로 읽다가 멈출 수 있음)
+    @Query(value = """
+            SELECT b FROM Book b
+            WHERE b.status = 'ON_SALE'
+              AND EXISTS (
+                  SELECT 1 FROM BookCategory bc, CategoryClosure cc
+                  WHERE bc.book = b AND cc.pk.descendantId = bc.category.id AND cc.pk.ancestorId = :categoryId
+              )
+            ORDER BY b.publishDate DESC
+            """,
+            countQuery = """
+                    SELECT COUNT(b) FROM Book b
+                    WHERE b.status = 'ON_SALE'
+                      AND EXISTS (
+                          SELECT 1 FROM BookCategory bc, CategoryClosure cc
+                          WHERE bc.book = b AND cc.pk.descendantId = bc.category.id AND cc.pk.ancestorId = :categoryId
+                      )
+                    """)
+    Page<Book> findOnSaleBooksInCategorySubtree(@Param("categoryId") Long categoryId, Pageable pageable);
+
     /// 검색 동기화용 (정렬 X)
     @Query("""
             SELECT DISTINCT b
@@ -57,12 +78,6 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     Page<Book> findAllByOrderByPublishDateDesc(Pageable pageable);
 
-    //주문 후 재고 차감 로직
-    @Modifying(clearAutomatically = true) // 쿼리 실행 후 영속성 컨텍스트 초기화 (데이터 동기화)
-    @Query("UPDATE Book b SET b.stockCount = b.stockCount - :quantity " +
-            "WHERE b.id = :id AND b.stockCount >= :quantity")
-    int decreaseStock(@Param("id") Long id, @Param("quantity") Integer quantity);
-
     // 판매중 + 좋아요순 + 페이징
     Page<Book> findByStatusOrderByLikeCountDesc(BookStatus status, Pageable pageable);
 
@@ -75,8 +90,124 @@ public interface BookRepository extends JpaRepository<Book, Long> {
     //판매 중 이거나 재고 없음인 책만 조회 (삭제된 책 제외)
     Page<Book> findByStatusNot(BookStatus status, Pageable pageable);
 
+    // 목록 화면용 - 엔티티 대신 필요한 컬럼만 조회 (삭제된 책 제외)
+    @Query(value = """
+            SELECT b.id AS id, b.title AS title, b.volume AS volume,
+                   b.priceStandard AS priceStandard, b.priceSales AS priceSales,
+                   b.rating AS rating, b.publishDate AS publishDate, b.likeCount AS likeCount
+            FROM Book b
+            WHERE b.status <> :status
+            """,
+            countQuery = "SELECT COUNT(b) FROM Book b WHERE b.status <> :status")
+    Page<BookListRow> findListRowsByStatusNot(@Param("status") BookStatus status, Pageable pageable);
+
+    // 커서 페이지 - (정렬 키, id) 가 커서보다 작은 행부터 limit 개, count 쿼리 없음
+    // publishDate <= 는 OR 조건만으로는 못 잡는 인덱스 범위 시작점 (idx_book_publish_date_id_status 를 커서 위치부터 읽음)
+    @Query("""
+            SELECT b.id AS id, b.title AS title, b.volume AS volume,
+                   b.priceStandard AS priceStandard, b.priceSales AS priceSales,
+                   b.rating AS rating, b.publishDate AS publishDate, b.likeCount AS likeCount
+            FROM Book b
+            WHERE b.status <> :status
+              AND b.publishDate <= :publishDate
+              AND (b.publishDate < :publishDate OR b.id < :id)
+            ORDER BY b.publishDate DESC, b.id DESC
+            """)
+    List<BookListRow> findListRowsByStatusNotBefore(@Param("status") BookStatus status,
+                                                    @Param("publishDate") LocalDate publishDate,
+                                                    @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT b.id AS id, b.title AS title, b.volume AS volume,
+                   b.priceStandard AS priceStandard, b.priceSales AS priceSales,
+                   b.rating AS rating, b.publishDate AS publishDate, b.likeCount AS likeCount
+            FROM Book b
+            WHERE b.status = :status
+              AND (b.publishDate < :publishDate OR (b.publishDate = :publishDate AND b.id < :id))
+            ORDER BY b.publishDate DESC, b.id DESC
+            """)
+    List<BookListRow> findListRowsByStatusBefore(@Param("status") BookStatus status,
+                                                 @Param("publishDate") LocalDate publishDate,
+                                                 @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT b.id AS id, b.title AS title, b.volume AS volume,
+                   b.priceStandard AS priceStandard, b.priceSales AS priceSales,
+                   b.rating AS rating, b.publishDate AS publishDate, b.likeCount AS likeCount
+            FROM Book b
+            WHERE b.status = :status
+              AND EXISTS (
+                  SELECT 1 FROM BookCategory bc, CategoryClosure cc
+                  WHERE bc.book = b AND cc.pk.descendantId = bc.category.id AND cc.pk.ancestorId = :categoryId
+              )
+              AND (b.publishDate < :publishDate OR (b.publishDate = :publishDate AND b.id < :id))
+            ORDER BY b.publishDate DESC, b.id DESC
+            """)
+    List<BookListRow> findListRowsInCategorySubtreeBefore(@Param("status") BookStatus status,
+                                                          @Param("categoryId") Long categoryId,
+                                                          @Param("publishDate") LocalDate publishDate,
+                                                          @Param("id") Long id, Limit limit);
+
+    @Query("""
+            SELECT b.id AS id, b.title AS title, b.volume AS volume,
+                   b.priceStandard AS priceStandard, b.priceSales AS priceSales,
+                   b.rating AS rating, b.publishDate AS publishDate, b.likeCount AS likeCount
+            FROM Book b
+            WHERE b.status = :status
+              AND (b.likeCount < :likeCount OR (b.likeCount = :likeCount AND b.id < :id))
+            ORDER BY b.likeCount DESC, b.id DESC
+            """)
+    List<BookListRow> findListRowsByStatusOrderByLikeCountBefore(@Param("status") BookStatus status,
+                                                                 @Param("likeCount") Long likeCount,
+                                                                 @Param("id") Long id, Limit limit);
+
+    // 목록 화면용 연관 정보 - 페이지의 도서 ID 를 IN 절 하나로 묶어서 관계별 쿼리 한 번씩
+    @Query("SELECT bi.book.id AS bookId, bi.imagePath AS name FROM BookImage bi "
+            + "WHERE bi.book.id IN :bookIds ORDER BY bi.id")
+    List<BookIdAndName> findImagePathsByBookIds(@Param("bookIds") List<Long> bookIds);
+
+    @Query("SELECT bc.book.id AS bookId, c.contributorName AS name FROM BookContributor bc JOIN bc.contributor c "
+            + "WHERE bc.book.id IN :bookIds ORDER BY bc.id")
+    List<BookIdAndName> findContributorNamesByBookIds(@Param("bookIds") List<Long> bookIds);
+
+    @Query("SELECT bp.book.id AS bookId, p.publisherName AS name FROM BookPublisher bp JOIN bp.publisher p "
+            + "WHERE bp.book.id IN :bookIds ORDER BY bp.id")
+    List<BookIdAndName> findPublisherNamesByBookIds(@Param("bookIds") List<Long> bookIds);
+
+    @Query("SELECT bc.book.id AS bookId, CAST(bc.category.id AS string) AS name FROM BookCategory bc "
+            + "WHERE bc.book.id IN :bookIds ORDER BY bc.id")
+    List<BookIdAndName> findCategoryIdsByBookIds(@Param("bookIds") List<Long> bookIds);
+
+    @Query("SELECT bt.book.id AS bookId, t.tagName AS name FROM BookTag bt JOIN bt.tag t "
+            + "WHERE bt.book.id IN :bookIds")
+    List<BookIdAndName> findTagNamesByBookIds(@Param("bookIds") List<Long> bookIds);
+
     List<Book> findAllByIdGreaterThan(Long idIsGreaterThan, Pageable limit);
 
+    interface BookListRow {
+        Long getId();
+
+        String getTitle();
+
+        String getVolume();
+
+        Long getPriceStandard();
+
+        Long getPriceSales();
+
+        Double getRating();
+
+        LocalDate getPublishDate();
+
+        Long getLikeCount();
+    }
+
+    interface BookIdAndName {
+        Long getBookId();
+
+        String getName();
+    }
+
     interface BookIdAndIsbn {
         Long getId();
 
@@ -0,0 +1,38 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import java.util.List;
+import org.nhnacademy.book2onandonbookservice.entity.CategoryClosure;
+import org.nhnacademy.book2onandonbookservice.entity.CategoryClosurePK;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository.CategoryNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosurePK> {
+
+    /// 새 카테고리의 경로 추가 - 자기 자신(0) + 부모의 모든 조상 (부모 경로가 먼저 있어야 함)
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT c.category_id, c.category_id, 0
+            FROM category c
+            WHERE c.category_id = :categoryId
+            UNION ALL
+            SELECT cc.ancestor_id, c.category_id, cc.depth + 1
+            FROM category c
+            JOIN category_closure cc ON cc.descendant_id = c.parent_id
+            WHERE c.category_id = :categoryId
+            """, nativeQuery = true)
+    int insertPaths(@Param("categoryId") Long categoryId);
+
+    /// 경로가 아직 없는 카테고리 (클로저 테이블 도입 전 데이터, 경로 추가 전에 실패한 생성)
+    @Query("""
+            SELECT c.id AS id, c.categoryName AS name, p.id AS parentId
+            FROM Category c LEFT JOIN c.parent p
+            WHERE NOT EXISTS (
+                SELECT 1 FROM CategoryClosure cc WHERE cc.pk.descendantId = c.id AND cc.depth = 0
+            )
+            """)
+    List<CategoryNode> findNodesWithoutPaths();
+}
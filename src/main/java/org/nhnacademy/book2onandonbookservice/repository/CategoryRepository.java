@@ -1,11 +1,25 @@
 package org.nhnacademy.book2onandonbookservice.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByCategoryNameAndParent(String name, Category parent);
 
     Optional<Category> findByCategoryNameAndParentIsNull(String name);
+
+    // 카테고리 트리 인덱스용 - 엔티티/부모 프록시 없이 전체를 쿼리 한 번으로
+    @Query("SELECT c.id AS id, c.categoryName AS name, p.id AS parentId FROM Category c LEFT JOIN c.parent p")
+    List<CategoryNode> findAllNodes();
+
+    interface CategoryNode {
+        Long getId();
+
+        String getName();
+
+        Long getParentId();
+    }
 }
@@ -1,10 +1,22 @@
 package org.nhnacademy.book2onandonbookservice.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.nhnacademy.book2onandonbookservice.entity.Contributor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ContributorRepository extends JpaRepository<Contributor, Long> {
 
     Optional<Contributor> findByContributorName(String name);
+
+    // 대량 적재 캐시 워밍업용 (엔티티 대신 ID/이름만)
+    @Query("SELECT c.id AS id, c.contributorName AS name FROM Contributor c")
+    List<ContributorIdAndName> findAllIdAndName();
+
+    interface ContributorIdAndName {
+        Long getId();
+
+        String getName();
+    }
 }
@@ -0,0 +1,26 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import java.time.LocalDateTime;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+import org.nhnacademy.book2onandonbookservice.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+
+    /// 진행 위치 갱신 - 뒤로 가지는 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportCheckpoint c SET c.rowsCommitted = :rows, c.updatedAt = :now "
+            + "WHERE c.fileName = :fileName AND c.rowsCommitted < :rows")
+    int advance(@Param("fileName") String fileName, @Param("rows") long rows, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportCheckpoint c SET c.status = :status, c.updatedAt = :now WHERE c.fileName = :fileName")
+    int updateStatus(@Param("fileName") String fileName, @Param("status") ImportStatus status,
+                     @Param("now") LocalDateTime now);
+}
@@ -1,9 +1,21 @@
 package org.nhnacademy.book2onandonbookservice.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.nhnacademy.book2onandonbookservice.entity.Publisher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface PublisherRepository extends JpaRepository<Publisher, Long> {
     Optional<Publisher> findByPublisherName(String publisherName);
+
+    // 대량 적재 캐시 워밍업용 (엔티티 대신 ID/이름만)
+    @Query("SELECT p.id AS id, p.publisherName AS name FROM Publisher p")
+    List<PublisherIdAndName> findAllIdAndName();
+
+    interface PublisherIdAndName {
+        Long getId();
+
+        String getName();
+    }
 }
@@ -1,5 +1,6 @@
 package org.nhnacademy.book2onandonbookservice.repository;
 
+import java.util.List;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.Review;
 import org.springframework.data.domain.Page;
@@ -17,4 +18,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Double getAverageScoreByBook(@Param("book") Book book);
 
     Page<Review> findAllByUserId(Long userId, Pageable pageable);
+
+    // 도서 상세용 - 전체 리뷰 대신 최신 3개 + 개수만 조회
+    List<Review> findTop3ByBookIdOrderByCreatedAtDescIdDesc(Long bookId);
+
+    long countByBookId(Long bookId);
 }
@@ -0,0 +1,180 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 장바구니 단위 재고 차감을 JDBC Batch 한 번으로 처리하는 저장소
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StockBatchRepository {
+
+    // book_status 를 먼저 계산해야 차감 전 stock_count 기준으로 품절 여부를 판단함 (MySQL 은 SET 절을 왼쪽부터 평가)
+    // 재고 조건은 걸지 않고 차감 뒤 다시 조회해 검증 (갱신 건수는 드라이버 설정에 따라 -2 로 와서 믿을 수 없음)
+    private static final String DECREASE_SQL =
+            "UPDATE book SET book_status = CASE WHEN stock_count - ? <= 0 THEN 'SOLD_OUT' ELSE book_status END, "
+                    + "stock_count = stock_count - ? "
+                    + "WHERE book_id = ?";
+
+    // 누적된 증감분(delta)을 반영하면서 품절/판매중 상태도 함께 전환
+    private static final String APPLY_DELTA_SQL =
+            "UPDATE book SET book_status = CASE WHEN stock_count + ? <= 0 THEN 'SOLD_OUT' "
+                    + "WHEN ? > 0 AND book_status IN ('SOLD_OUT', 'OUT_OF_STOCK') THEN 'ON_SALE' "
+                    + "ELSE book_status END, "
+                    + "stock_count = stock_count + ? "
+                    + "WHERE book_id = ?";
+
+    private static final String MARK_BATCH_SQL =
+            "INSERT IGNORE INTO applied_stock_batch (batch_id, applied_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고 차감 + 품절 상태 전환을 한 번의 Batch 로 실행한 뒤, 같은 트랜잭션에서 차감한 도서의 재고를 다시 조회해 검증
+     * <p>
+     * rewriteBatchedStatements=true 인 MySQL 드라이버는 행마다 SUCCESS_NO_INFO(-2)를 돌려주므로 갱신 건수로는 재고 부족을
+     * 알 수 없습니다. 그래서 조건 없이 차감하고, 없는 도서와 음수가 된 재고를 결과로 돌려줍니다. 실패가 있으면 호출 측이
+     * 예외를 던져 트랜잭션을 롤백해야 합니다.
+     */
+    public DecreaseResult decreaseStock(List<StockRequest> requests) {
+        if (requests.isEmpty()) {
+            return DecreaseResult.SUCCESS;
+        }
+
+        jdbcTemplate.batchUpdate(DECREASE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StockRequest req = requests.get(i);
+                ps.setInt(1, req.getQuantity());
+                ps.setInt(2, req.getQuantity());
+                ps.setLong(3, req.getBookId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return requests.size();
+            }
+        });
+
+        List<Long> bookIds = requests.stream().map(StockRequest::getBookId).distinct().toList();
+        Map<Long, Integer> stockCounts = findStockCounts(bookIds);
+        List<Long> notFoundBookIds = new ArrayList<>();
+        List<Long> outOfStockBookIds = new ArrayList<>();
+        for (Long bookId : bookIds) {
+            Integer stockCount = stockCounts.get(bookId);
+            if (stockCount == null) {
+                notFoundBookIds.add(bookId);
+            } else if (stockCount < 0) {
+                outOfStockBookIds.add(bookId);
+            }
+        }
+        return new DecreaseResult(notFoundBookIds, outOfStockBookIds);
+    }
+
+    /**
+     * 도서별 누적 증감분을 한 번의 Batch 로 반영 (write-behind 플러시용, 재고 검증은 호출 측 책임)
+     */
+    public void applyStockDeltas(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> entries = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey()) //데드락 방지
+                .toList();
+
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Map.Entry<Long, Integer> entry = entries.get(i);
+                ps.setInt(1, entry.getValue());
+                ps.setInt(2, entry.getValue());
+                ps.setInt(3, entry.getValue());
+                ps.setLong(4, entry.getKey());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+
+    /**
+     * 증감분 묶음을 한 번만 반영 (write-behind 플러시/복구용, 호출 측 트랜잭션 안에서 호출)
+     * <p>
+     * 묶음 ID 를 증감분과 같은 트랜잭션에 기록하므로, 반영이 커밋된 뒤 원본(저널 파일, flushing 해시)을 지우기 전에 죽어도
+     * 다음 시도는 이미 기록된 ID 를 보고 건너뜁니다.
+     *
+     * @return 이번에 반영했으면 true, 이미 반영된 묶음이면 false
+     */
+    public boolean applyStockDeltasOnce(String batchId, Map<Long, Integer> deltas) {
+        if (jdbcTemplate.update(MARK_BATCH_SQL, batchId, Timestamp.valueOf(LocalDateTime.now())) == 0) {
+            return false;
+        }
+        applyStockDeltas(deltas);
+        return true;
+    }
+
+    /**
+     * 묶음이 이미 반영됐는지 (반영 기록이 남아 있는지)
+     */
+    public boolean isBatchApplied(String batchId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applied_stock_batch WHERE batch_id = ?",
+                Integer.class, batchId);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 원본을 지운 묶음의 반영 기록 삭제
+     */
+    public void forgetAppliedBatch(String batchId) {
+        jdbcTemplate.update("DELETE FROM applied_stock_batch WHERE batch_id = ?", batchId);
+    }
+
+    /**
+     * 도서별 현재 재고 조회 (bookId -> stockCount)
+     */
+    public Map<Long, Integer> findStockCounts(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(bookIds.size(), "?"));
+        Map<Long, Integer> stockCounts = new HashMap<>();
+        jdbcTemplate.query("SELECT book_id, stock_count FROM book WHERE book_id IN (" + placeholders + ")",
+                (RowCallbackHandler) rs -> stockCounts.put(rs.getLong("book_id"), rs.getInt("stock_count")),
+                bookIds.toArray());
+        return stockCounts;
+    }
+
+    /**
+     * 재고 차감 검증 결과 (둘 다 비어 있으면 성공)
+     *
+     * @param notFoundBookIds   없는 도서 ID
+     * @param outOfStockBookIds 차감 후 재고가 음수가 된 도서 ID
+     */
+    public record DecreaseResult(List<Long> notFoundBookIds, List<Long> outOfStockBookIds) {
+
+        public static final DecreaseResult SUCCESS = new DecreaseResult(List.of(), List.of());
+
+        public boolean isSuccess() {
+            return notFoundBookIds.isEmpty() && outOfStockBookIds.isEmpty();
+        }
+    }
+}
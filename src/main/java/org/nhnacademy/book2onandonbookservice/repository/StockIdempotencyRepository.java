@@ -0,0 +1,49 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 변경 멱등키 저장소
+ * <p>
+ * 키 등록을 INSERT IGNORE 한 문장으로 처리해서 "조회 후 저장" 왕복 없이 PK 탐색 한 번으로 중복을 판별합니다. 재고 변경과 같은
+ * 트랜잭션에서 호출해야 하며, 변경이 실패해 롤백되면 키도 함께 사라져 재시도가 정상 처리됩니다.
+ * <p>
+ * 키는 (멱등키, 재고 변경 종류) 쌍이라 같은 키로 차감 후 증가(취소)를 보내도 각각 처리됩니다. 컬럼보다 긴 키는 잘려서 다른
+ * 키와 겹칠 수 있으므로 호출 측에서 {@link #MAX_KEY_LENGTH} 를 넘는 키를 거부해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockIdempotencyRepository {
+
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private static final String REGISTER_SQL =
+            "INSERT IGNORE INTO stock_idempotency_key (idempotency_key, operation, created_at) VALUES (?, ?, ?)";
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM stock_idempotency_key WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 멱등키 등록
+     *
+     * @return 처음 보는 키면 true, 이미 처리된 키면 false
+     */
+    public boolean register(String idempotencyKey, String operation) {
+        return jdbcTemplate.update(REGISTER_SQL, idempotencyKey, operation, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+
+    /**
+     * 보관 기간이 지난 키 삭제
+     *
+     * @return 삭제된 키 수
+     */
+    public int deleteExpired(LocalDateTime threshold) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(threshold));
+    }
+}
@@ -0,0 +1,28 @@
+package org.nhnacademy.book2onandonbookservice.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.service.cache.CacheAccessRecorder;
+import org.nhnacademy.book2onandonbookservice.service.cache.CacheWarmupService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupScheduler {
+
+    private final CacheAccessRecorder cacheAccessRecorder;
+    private final CacheWarmupService cacheWarmupService;
+
+    // 인스턴스마다 자기 조회 수를 반영해야 하므로 SchedulerLock 을 걸지 않음
+    @Scheduled(fixedDelayString = "${book.cache.warmup.record-flush-interval-ms:10000}")
+    public void flushAccessCounts() {
+        cacheAccessRecorder.flush();
+    }
+
+    // 인스턴스마다 자기 L1 을 채워야 하므로 SchedulerLock 을 걸지 않음 (L2 갱신은 캐시의 리스로 한 번만 실행)
+    @Scheduled(initialDelayString = "${book.cache.warmup.interval-ms:300000}",
+            fixedDelayString = "${book.cache.warmup.interval-ms:300000}")
+    public void warmUp() {
+        cacheWarmupService.warmUp();
+    }
+}
@@ -0,0 +1,31 @@
+package org.nhnacademy.book2onandonbookservice.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.nhnacademy.book2onandonbookservice.service.book.RedisStockReservation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Redis 재고 계층이 꺼져 있으면 빈을 만들지 않음 (꺼진 인스턴스가 주기마다 ShedLock 을 잡으러 Redis 에 가지 않도록)
+@Component
+@ConditionalOnProperty(name = "book.stock.redis.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RedisStockReconcileScheduler {
+
+    private final RedisStockReservation redisStockReservation;
+
+    // Redis 에 쌓인 재고 증감분을 MySQL 에 반영 (카운터가 공유되므로 클러스터에서 한 인스턴스만 실행)
+    @Scheduled(fixedDelayString = "${book.stock.redis.reconcile-interval-ms:1000}")
+    @SchedulerLock(name = "reconcileRedisStock", lockAtMostFor = "30s")
+    public void reconcile() {
+        redisStockReservation.reconcilePending();
+    }
+
+    // Redis 카운터와 MySQL 재고가 어긋났는지 주기적으로 점검 (반영 작업과 같은 락을 써서 동시에 돌지 않게 함)
+    @Scheduled(fixedDelayString = "${book.stock.redis.drift-check-interval-ms:300000}")
+    @SchedulerLock(name = "reconcileRedisStock", lockAtMostFor = "30s")
+    public void detectDrift() {
+        redisStockReservation.detectDrift();
+    }
+}
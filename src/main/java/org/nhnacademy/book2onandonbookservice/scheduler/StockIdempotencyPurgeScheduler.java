@@ -0,0 +1,31 @@
+package org.nhnacademy.book2onandonbookservice.scheduler;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.nhnacademy.book2onandonbookservice.repository.StockIdempotencyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockIdempotencyPurgeScheduler {
+
+    private final StockIdempotencyRepository stockIdempotencyRepository;
+
+    // 주문 서비스 재시도 창보다 충분히 길게 보관
+    @Value("${book.stock.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Scheduled(fixedDelayString = "${book.stock.idempotency.purge-interval-ms:3600000}")
+    @SchedulerLock(name = "purgeStockIdempotencyKeys", lockAtLeastFor = "1m", lockAtMostFor = "10m")
+    public void purgeExpiredKeys() {
+        int deleted = stockIdempotencyRepository.deleteExpired(LocalDateTime.now().minusHours(ttlHours));
+        if (deleted > 0) {
+            log.info("[Scheduler] 만료된 재고 멱등키 {}건 삭제", deleted);
+        }
+    }
+}
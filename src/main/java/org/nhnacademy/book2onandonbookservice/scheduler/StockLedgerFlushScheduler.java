@@ -0,0 +1,19 @@
+package org.nhnacademy.book2onandonbookservice.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.service.book.HotStockLedger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StockLedgerFlushScheduler {
+
+    private final HotStockLedger hotStockLedger;
+
+    // 인스턴스마다 자기 원장을 반영해야 하므로 SchedulerLock 을 걸지 않음
+    @Scheduled(fixedDelayString = "${book.stock.hot-ledger.flush-interval-ms:1000}")
+    public void flushHotStock() {
+        hotStockLedger.flush();
+    }
+}
@@ -1,17 +1,21 @@
 package org.nhnacademy.book2onandonbookservice.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
 import org.nhnacademy.book2onandonbookservice.entity.BookImage;
 import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.event.BookIndexChangedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository;
-import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.service.cache.SecondLevelCacheSynchronizer;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,33 +25,92 @@ import org.springframework.transaction.annotation.Transactional;
 public class BookBatchService {
 
     private final BatchInsertRepository batchInsertRepository;
-    private final BookRepository bookRepository;
+    private final SecondLevelCacheSynchronizer secondLevelCacheSynchronizer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void saveBooksInBatch(List<Book> books) {
         if (books.isEmpty()) {
             return;
         }
+        insertBooks(books);
+    }
+
+    /**
+     * 증분 적재 한 배치 - 없는 ISBN 은 INSERT, 있는 ISBN 은 내용을 UPDATE 하고 기여자/출판사 관계를 CSV 기준으로 다시 씀
+     * <p>
+     * 이미지는 같은 경로가 없을 때만 추가합니다. 행 해시도 같은 트랜잭션에서 저장하므로, 중간에 실패하면 그 배치는 다음
+     * 적재 때 다시 바뀐 행으로 잡힙니다. 적재가 판매 중단했던 ISBN 이 다시 나오면 판매 중으로 되돌립니다.
+     * <p>
+     * JDBC 로 바로 쓰므로 갱신한 도서의 관계 2차 캐시는 커밋 후 직접 지우고, 상세 캐시용 {@link BookDetailChangedEvent} 를
+     * 발행합니다. 등록/갱신한 도서 모두 검색 인덱스용 {@link BookIndexChangedEvent} 도 발행합니다.
+     *
+     * @param contentHashes ISBN → 원본 행 해시 (books 의 ISBN 전부)
+     */
+    @Transactional
+    public void upsertBooksInBatch(List<Book> books, Map<String, Long> contentHashes) {
+        if (books.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Long>> existingIds = batchInsertRepository.findBookIdsByIsbn(
+                books.stream().map(Book::getIsbn).toList());
+        List<Book> newBooks = new ArrayList<>();
+        List<Book> changedBooks = new ArrayList<>();
+        for (Book book : books) {
+            (existingIds.containsKey(book.getIsbn()) ? changedBooks : newBooks).add(book);
+        }
+
+        List<Long> indexedIds = new ArrayList<>();
+        if (!newBooks.isEmpty()) {
+            indexedIds.addAll(insertBooks(newBooks));
+        }
+        if (!changedBooks.isEmpty()) {
+            indexedIds.addAll(updateBooks(changedBooks, existingIds));
+        }
+        batchInsertRepository.upsertContentHashes(contentHashes);
+        eventPublisher.publishEvent(new BookIndexChangedEvent(indexedIds));
+    }
+
+    /**
+     * 적재 파일에서 빠진 ISBN 의 도서를 판매 중단하고 상세 캐시용 {@link BookDetailChangedEvent}, 검색 인덱스에서 빼도록
+     * {@link BookIndexChangedEvent} 를 발행
+     *
+     * @return 상태를 바꾼 도서 행 수
+     */
+    @Transactional
+    public int softDeleteBooksByIsbn(Collection<String> isbns) {
+        List<Long> bookIds = batchInsertRepository.findBookIdsByIsbn(isbns).values().stream()
+                .flatMap(List::stream)
+                .toList();
+        int deleted = batchInsertRepository.softDeleteBooksByIsbn(isbns);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new BookDetailChangedEvent(bookIds));
+            eventPublisher.publishEvent(new BookIndexChangedEvent(bookIds));
+        }
+        return deleted;
+    }
 
-        batchInsertRepository.saveAllBooks(books);
+    /**
+     * 적재가 끝난 뒤 도서 목록 캐시(베스트셀러, 신간)를 비움 - JDBC 로 쓴 변경은 캐시 무효화를 거치지 않으므로
+     */
+    @CacheEvict(cacheNames = {"bestsellers", "newArrivals"}, allEntries = true, cacheManager = "twoLevelCacheManager")
+    public void evictListCaches() {
+        log.info("적재 완료 - 베스트셀러/신간 캐시 비움");
+    }
 
-        List<String> isbns = books.stream().map(Book::getIsbn).collect(Collectors.toList());
-        List<BookRepository.BookIdAndIsbn> savedIds = bookRepository.findByIsbnIn(isbns);
-        Map<String, Long> isbnIdMap = savedIds.stream()
-                .collect(Collectors.toMap(BookRepository.BookIdAndIsbn::getIsbn, BookRepository.BookIdAndIsbn::getId,
-                        (oldVal, newVal) -> oldVal));
+    /// 내부 로직
+    private List<Long> insertBooks(List<Book> books) {
+        // INSERT 가 돌려준 생성 키를 순서대로 사용 (ISBN 재조회 없음, 같은 ISBN 이 여러 번 있어도 각자 ID)
+        List<Long> bookIds = batchInsertRepository.saveAllBooks(books);
 
         List<BookContributor> allContributors = new ArrayList<>();
         List<BookPublisher> allPublishers = new ArrayList<>();
         List<BookImage> allImages = new ArrayList<>();
 
-        for (Book originalBook : books) {
-            Long bookId = isbnIdMap.get(originalBook.getIsbn());
-            if (bookId == null) {
-                continue;
-            }
-
-            Book proxyBook = Book.builder().id(bookId).build();
+        for (int i = 0; i < books.size(); i++) {
+            Book originalBook = books.get(i);
+            Book proxyBook = Book.builder().id(bookIds.get(i)).build();
 
             for (BookContributor bc : originalBook.getBookContributors()) {
                 bc.setBook(proxyBook);
@@ -65,5 +128,42 @@ public class BookBatchService {
 
         batchInsertRepository.saveBookImages(allImages);
         batchInsertRepository.saveBookRelations(allContributors, allPublishers);
+        return bookIds;
+    }
+
+    // 같은 ISBN 행이 여럿이면 모두 같은 관계로 맞춤
+    private List<Long> updateBooks(List<Book> books, Map<String, List<Long>> existingIds) {
+        batchInsertRepository.updateBooksByIsbn(books);
+        // 해시를 덮어쓰기 전에 판매 중단 표시를 확인
+        batchInsertRepository.restoreImportDeletedBooks(books.stream().map(Book::getIsbn).toList());
+
+        List<Long> bookIds = new ArrayList<>();
+        List<BookContributor> allContributors = new ArrayList<>();
+        List<BookPublisher> allPublishers = new ArrayList<>();
+        List<BookImage> allImages = new ArrayList<>();
+        for (Book book : books) {
+            for (Long bookId : existingIds.get(book.getIsbn())) {
+                Book proxyBook = Book.builder().id(bookId).build();
+                bookIds.add(bookId);
+                for (BookContributor bc : book.getBookContributors()) {
+                    allContributors.add(BookContributor.builder().book(proxyBook)
+                            .contributor(bc.getContributor()).roleType(bc.getRoleType()).build());
+                }
+                for (BookPublisher bp : book.getBookPublishers()) {
+                    allPublishers.add(BookPublisher.builder().book(proxyBook).publisher(bp.getPublisher()).build());
+                }
+                for (BookImage bi : book.getImages()) {
+                    allImages.add(BookImage.builder().book(proxyBook).imagePath(bi.getImagePath()).build());
+                }
+            }
+        }
+
+        batchInsertRepository.deleteBookRelations(bookIds);
+        batchInsertRepository.saveBookRelations(allContributors, allPublishers);
+        batchInsertRepository.saveMissingBookImages(allImages);
+
+        secondLevelCacheSynchronizer.evictBookRelations(bookIds);
+        eventPublisher.publishEvent(new BookDetailChangedEvent(bookIds));
+        return bookIds;
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,8 @@ package org.nhnacademy.book2onandonbookservice.service;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
@@ -23,12 +21,16 @@ import org.nhnacademy.book2onandonbookservice.entity.BookTag;
 import org.nhnacademy.book2onandonbookservice.entity.BookTagPK;
 import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.entity.Tag;
+import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.BookCategoryRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookTagRepository;
 import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
 import org.nhnacademy.book2onandonbookservice.repository.TagRepository;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryClosureService;
 import org.nhnacademy.book2onandonbookservice.service.search.BookSearchIndexService;
+import org.nhnacademy.book2onandonbookservice.util.NameIdDictionary;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -45,11 +47,14 @@ public class BookEnrichmentService {
     private final TagRepository tagRepository;
     private final BookTagRepository bookTagRepository;
     private final BookSearchIndexService bookSearchIndexService;
+    private final CategoryClosureService categoryClosureService;
 
     private final GeminiApiClient geminiApiClient;
     private final AladinApiClient aladinApiClient;
     private final TransactionTemplate transactionTemplate;
-    private final Map<String, Long> categoryIdCache = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
+    // "부모ID:이름" → 카테고리 ID
+    private final NameIdDictionary categoryIdCache = new NameIdDictionary();
 
     private static final Pattern CATEGORY_SPLIT_PATTERN = Pattern.compile("\\s*>\\s*");
 
@@ -295,8 +300,8 @@ public class BookEnrichmentService {
         String parentKey = (parent == null) ? "root" : String.valueOf(parent.getId());
         String cacheKey = parentKey + ":" + name;
 
-        if (categoryIdCache.containsKey(cacheKey)) {
-            Long cachedId = categoryIdCache.get(cacheKey);
+        long cachedId = categoryIdCache.get(cacheKey);
+        if (cachedId != NameIdDictionary.NOT_FOUND) {
             return categoryRepository.findById(cachedId).orElseGet(() -> {
                 categoryIdCache.remove(cacheKey);
                 return createCategorySafely(name, parent, cacheKey);
@@ -317,8 +322,9 @@ public class BookEnrichmentService {
     }
 
     private synchronized Category createCategorySafely(String name, Category parent, String cacheKey) {
-        if (categoryIdCache.containsKey(cacheKey)) {
-            return categoryRepository.findById(categoryIdCache.get(cacheKey)).orElseThrow();
+        long cachedId = categoryIdCache.get(cacheKey);
+        if (cachedId != NameIdDictionary.NOT_FOUND) {
+            return categoryRepository.findById(cachedId).orElseThrow();
         }
 
         Optional<Category> doubleCheck;
@@ -340,6 +346,8 @@ public class BookEnrichmentService {
                     .parent(parent)
                     .build();
             Category saved = categoryRepository.save(newCategory);
+            categoryClosureService.addCategory(saved);
+            eventPublisher.publishEvent(new CategoryUpdatedEvent(saved.getId(), null, name)); // 커밋 후 카테고리 인덱스 재구성
             categoryIdCache.put(cacheKey, saved.getId());
             return saved;
         } catch (Exception e) {
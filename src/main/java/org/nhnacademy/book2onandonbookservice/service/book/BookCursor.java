@@ -0,0 +1,69 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.nhnacademy.book2onandonbookservice.exception.InvalidCursorException;
+
+/**
+ * 커서 페이지네이션 위치 - 정렬 키 + 도서 id (둘 다 내림차순)
+ * <p>
+ * 클라이언트에는 "정렬종류:정렬키:id" 를 Base64(URL-safe) 로 감싼 문자열로만 내보내고, 받은 커서는 정렬 종류가 맞는지 확인합니다.
+ * 커서가 없으면 {@link #first(Sort)} 로 가장 큰 값에서 시작합니다.
+ */
+public record BookCursor(Sort sort, long key, long id) {
+
+    // MySQL DATE 범위
+    private static final long MIN_PUBLISH_DATE = LocalDate.of(1000, 1, 1).toEpochDay();
+    private static final long MAX_PUBLISH_DATE = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    public enum Sort {
+        PUBLISH_DATE, // (출간일, id)
+        LIKE_COUNT // (좋아요 수, id)
+    }
+
+    public static BookCursor first(Sort sort) {
+        long key = sort == Sort.PUBLISH_DATE ? MAX_PUBLISH_DATE : Long.MAX_VALUE;
+        return new BookCursor(sort, key, Long.MAX_VALUE);
+    }
+
+    public static BookCursor afterPublishDate(LocalDate publishDate, Long id) {
+        return new BookCursor(Sort.PUBLISH_DATE, publishDate.toEpochDay(), id);
+    }
+
+    public static BookCursor afterLikeCount(Long likeCount, Long id) {
+        return new BookCursor(Sort.LIKE_COUNT, likeCount != null ? likeCount : 0L, id);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서 해석 (없으면 첫 페이지)
+     */
+    public static BookCursor decode(String cursor, Sort expected) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(expected);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || !expected.name().equals(parts[0])) {
+                throw new InvalidCursorException(cursor);
+            }
+            long key = Long.parseLong(parts[1]);
+            // 조작된 출간일 키는 LocalDate 변환(DateTimeException) 전에 걸러냄
+            if (expected == Sort.PUBLISH_DATE && (key < MIN_PUBLISH_DATE || key > MAX_PUBLISH_DATE)) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new BookCursor(expected, key, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) { // Base64, 숫자 형식 오류
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + ":" + key + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate publishDate() {
+        return LocalDate.ofEpochDay(key);
+    }
+}
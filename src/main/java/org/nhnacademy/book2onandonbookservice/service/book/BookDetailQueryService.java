@@ -0,0 +1,45 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.Review;
+import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
+import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ReviewRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 상세 조회 전용 로더
+ * <p>
+ * 컬렉션 여러 개를 한 쿼리로 fetch join 하면 결과 행이 곱해지므로(카테고리 x 기여자 x ...), Book 은 단건으로 읽고 각 컬렉션은 @BatchSize /
+ * 2차 캐시를 통해 관계마다 한 번씩 불러옵니다. 리뷰는 전체를 읽지 않고 최신 3개와 COUNT 만 조회합니다.
+ * <p>
+ * 사용자별 좋아요 여부는 캐시된 문서에 응답 시점에 붙이므로 여기서는 다루지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookDetailQueryService {
+
+    private final BookRepository bookRepository;
+    private final ReviewRepository reviewRepository;
+    private final BookLikeRepository bookLikeRepository;
+
+    /**
+     * 사용자와 무관한 상세 문서 (likedByCurrentUser 는 null) - BookDetailDocumentCache 의 로더
+     */
+    public BookDetailResponse loadDocument(Long bookId) {
+        Book book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new NotFoundBookException(bookId));
+
+        List<Review> latestReviews = reviewRepository.findTop3ByBookIdOrderByCreatedAtDescIdDesc(bookId);
+        long reviewCount = reviewRepository.countByBookId(bookId);
+        long likeCount = bookLikeRepository.countByBookId(bookId);
+
+        return BookDetailResponse.from(book, latestReviews, reviewCount, likeCount, null);
+    }
+}
@@ -6,8 +6,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookLike;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +21,7 @@ public class BookLikeService {
     private final BookRepository bookRepository;
     private final BookLikeRepository bookLikeRepository;
     private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /// 도서 좋아요 토글 기능 -> return 후 좋아요 등록(ture)/취소(false)
     @Transactional
@@ -37,6 +40,7 @@ public class BookLikeService {
                     .orElseThrow(() -> new IllegalArgumentException("도서를 찾을 수 없습니다. bookId=" + bookId));
 
             boolean exists = bookLikeRepository.existsByBookIdAndUserId(bookId, userId);
+            eventPublisher.publishEvent(BookDetailChangedEvent.of(bookId)); // 좋아요 수가 바뀜 -> 커밋 후 상세 캐시 무효화
 
             // 좋아요 취소
             if (exists) {
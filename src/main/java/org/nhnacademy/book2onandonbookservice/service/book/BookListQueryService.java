@@ -0,0 +1,126 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
+import org.nhnacademy.book2onandonbookservice.dto.common.CursorPage;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookIdAndName;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookListRow;
+import org.nhnacademy.book2onandonbookservice.service.book.BookCursor.Sort;
+import org.nhnacademy.book2onandonbookservice.service.mapper.BookListResponseMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 목록 조회 전용 읽기 모델
+ * <p>
+ * Book 엔티티를 불러오지 않고, 목록 컬럼은 projection 으로, 이미지/기여자/출판사/카테고리/태그는 페이지의 도서 ID 를 묶은 IN 쿼리로
+ * 관계마다 한 번씩만 조회합니다. 페이지 크기와 관계없이 쿼리 수는 최대 7번(목록 + count + 관계 5개)입니다.
+ * <p>
+ * 커서 페이지는 (정렬 키, id) 를 기준으로 이어서 읽어 페이지가 깊어져도 앞 행을 건너뛰지 않고, count 쿼리도 없습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookListQueryService {
+
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private final BookRepository bookRepository;
+    private final BookListResponseMapper bookListResponseMapper;
+
+    public Page<BookListResponse> getBookList(Pageable pageable) {
+        Page<BookListRow> rows = bookRepository.findListRowsByStatusNot(BookStatus.BOOK_DELETED, pageable);
+        Function<BookListRow, BookListResponse> toResponse = responseAssembler(rows.getContent());
+        return rows.map(toResponse);
+    }
+
+    /**
+     * 삭제되지 않은 도서 - 출간일 최신순 커서 페이지
+     */
+    public CursorPage<BookListResponse> getBookListByCursor(String cursor, int size) {
+        BookCursor position = BookCursor.decode(cursor, Sort.PUBLISH_DATE);
+        int limit = pageSize(size);
+        List<BookListRow> rows = bookRepository.findListRowsByStatusNotBefore(BookStatus.BOOK_DELETED,
+                position.publishDate(), position.id(), Limit.of(limit + 1));
+        return toCursorPage(rows, limit, Sort.PUBLISH_DATE);
+    }
+
+    /**
+     * 판매중 신간 - 출간일 최신순 커서 페이지 (categoryId 가 있으면 하위 카테고리 포함)
+     */
+    public CursorPage<BookListResponse> getNewArrivalsByCursor(Long categoryId, String cursor, int size) {
+        BookCursor position = BookCursor.decode(cursor, Sort.PUBLISH_DATE);
+        int limit = pageSize(size);
+        List<BookListRow> rows = categoryId == null
+                ? bookRepository.findListRowsByStatusBefore(BookStatus.ON_SALE,
+                        position.publishDate(), position.id(), Limit.of(limit + 1))
+                : bookRepository.findListRowsInCategorySubtreeBefore(BookStatus.ON_SALE, categoryId,
+                        position.publishDate(), position.id(), Limit.of(limit + 1));
+        return toCursorPage(rows, limit, Sort.PUBLISH_DATE);
+    }
+
+    /**
+     * 판매중 인기 도서 - 좋아요순 커서 페이지
+     */
+    public CursorPage<BookListResponse> getPopularBooksByCursor(String cursor, int size) {
+        BookCursor position = BookCursor.decode(cursor, Sort.LIKE_COUNT);
+        int limit = pageSize(size);
+        List<BookListRow> rows = bookRepository.findListRowsByStatusOrderByLikeCountBefore(BookStatus.ON_SALE,
+                position.key(), position.id(), Limit.of(limit + 1));
+        return toCursorPage(rows, limit, Sort.LIKE_COUNT);
+    }
+
+    /// 내부 로직
+    private int pageSize(int size) {
+        return Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // limit + 1 개를 읽어 다음 페이지 여부를 판단하고, 마지막 행으로 다음 커서를 만듦
+    private CursorPage<BookListResponse> toCursorPage(List<BookListRow> rows, int limit, Sort sort) {
+        boolean hasNext = rows.size() > limit;
+        List<BookListRow> page = hasNext ? rows.subList(0, limit) : rows;
+        Function<BookListRow, BookListResponse> toResponse = responseAssembler(page);
+
+        String nextCursor = null;
+        if (hasNext) {
+            BookListRow last = page.get(page.size() - 1);
+            BookCursor next = sort == Sort.PUBLISH_DATE
+                    ? BookCursor.afterPublishDate(last.getPublishDate(), last.getId())
+                    : BookCursor.afterLikeCount(last.getLikeCount(), last.getId());
+            nextCursor = next.encode();
+        }
+        return new CursorPage<>(page.stream().map(toResponse).toList(), nextCursor, hasNext);
+    }
+
+    // 페이지 도서들의 관계 정보를 관계별 IN 쿼리 한 번씩 읽어 두고 행 → 응답 변환 함수를 돌려줌 (빈 페이지면 쿼리 없음)
+    private Function<BookListRow, BookListResponse> responseAssembler(List<BookListRow> rows) {
+        if (rows.isEmpty()) {
+            return row -> bookListResponseMapper.fromRow(row, Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        }
+
+        List<Long> bookIds = rows.stream().map(BookListRow::getId).toList();
+        Map<Long, List<String>> imagePaths = groupByBookId(bookRepository.findImagePathsByBookIds(bookIds));
+        Map<Long, List<String>> contributorNames = groupByBookId(
+                bookRepository.findContributorNamesByBookIds(bookIds));
+        Map<Long, List<String>> publisherNames = groupByBookId(bookRepository.findPublisherNamesByBookIds(bookIds));
+        Map<Long, List<String>> categoryIds = groupByBookId(bookRepository.findCategoryIdsByBookIds(bookIds));
+        Map<Long, List<String>> tagNames = groupByBookId(bookRepository.findTagNamesByBookIds(bookIds));
+
+        return row -> bookListResponseMapper.fromRow(row, imagePaths, contributorNames, publisherNames,
+                categoryIds, tagNames);
+    }
+
+    private Map<Long, List<String>> groupByBookId(List<BookIdAndName> rows) {
+        return rows.stream().collect(Collectors.groupingBy(BookIdAndName::getBookId,
+                Collectors.mapping(BookIdAndName::getName, Collectors.toList())));
+    }
+}
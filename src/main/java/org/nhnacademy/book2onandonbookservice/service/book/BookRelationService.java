@@ -1,6 +1,5 @@
 package org.nhnacademy.book2onandonbookservice.service.book;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -20,6 +19,8 @@ import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.entity.Contributor;
 import org.nhnacademy.book2onandonbookservice.entity.Publisher;
 import org.nhnacademy.book2onandonbookservice.entity.Tag;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser.ParsedContributor;
 import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
 import org.nhnacademy.book2onandonbookservice.repository.ContributorRepository;
 import org.nhnacademy.book2onandonbookservice.repository.PublisherRepository;
@@ -45,29 +46,24 @@ public class BookRelationService {
         setImages(book, request.getImagePath());
     }
 
-    /// 기여자(저자) 설정: "XXX, XXX" 등의 형태를 , 기준으로 분리. 빈 문자열이면 아무것도 추가하지 않음.
+    /// 기여자(저자) 설정: "홍길동(지은이), 김철수 옮김" 등을 CSV 적재와 같은 규칙으로 분리. 빈 문자열이면 아무것도 추가하지 않음.
     private void setContributors(Book book, String contributorName) {
         if (StringUtils.isBlank(contributorName)) {
             return; // null or 빈 문자열이면 기여자 없음
         }
 
-        List<String> names = Arrays.stream(contributorName.split(","))
-                .map(String::trim)
-                .filter(this::notBlank)
-                .toList();
-
-        for (String name : names) {
-            Contributor contributor = contributorRepository.findByContributorName(name)
+        for (ParsedContributor parsed : ContributorParser.parse(contributorName)) {
+            Contributor contributor = contributorRepository.findByContributorName(parsed.name())
                     .orElseGet(() -> contributorRepository.save(
                             Contributor.builder()
-                                    .contributorName(name)
+                                    .contributorName(parsed.name())
                                     .build()
                     ));
 
             BookContributor bookContributor = BookContributor.builder()
                     .book(book)
                     .contributor(contributor)
-                    .roleType("AUTHOR") // 기본값
+                    .roleType(parsed.role()) // 역할이 없으면 지은이
                     .build();
             book.getBookContributors().add(bookContributor);
         }
@@ -10,6 +10,7 @@ import org.nhnacademy.book2onandonbookservice.dto.book.BookSearchCondition;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookUpdateRequest;
 import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
 import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.dto.common.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,29 +28,47 @@ public interface BookService {
     // 도서 목록 조회(검색 시)
     Page<BookListResponse> getBooks(BookSearchCondition condition, Pageable pageable);
 
+    // 도서 목록 조회 - 출간일 최신순 커서 페이지
+    CursorPage<BookListResponse> getBooksByCursor(String cursor, int size);
+
     // 도서 상세 조회
     BookDetailResponse getBookDetail(Long bookId, Long currentUserId, String guestId);
 
     List<CategoryDto> getCategories();
 
+    // getCategories 결과를 미리 직렬화한 JSON
+    byte[] getCategoryTreeJson();
+
     //베스트셀러 조회 및 캐싱
     List<BookListResponse> getBestsellers(String period);
 
     //신간 도서를 출간일 최신순으로 조회하고 캐싱
     Page<BookListResponse> getNewArrivals(Long categoryId, Pageable pageable);
 
+    //신간 도서 - 커서 페이지
+    CursorPage<BookListResponse> getNewArrivalsByCursor(Long categoryId, String cursor, int size);
+
     //[내부 통신용] 주문서 생성 및 결제 검증을 위한 도서 정보 다건 조회
     List<BookOrderResponse> getBooksForOrder(List<Long> bookIds);
 
     // 인기 도서 조회(좋아요 순)
     Page<BookListResponse> getPopularBooks(Pageable pageable);
 
+    // 인기 도서 - 커서 페이지
+    CursorPage<BookListResponse> getPopularBooksByCursor(String cursor, int size);
+
     //재고 감소
     void decreaseStock(List<StockRequest> requests);
 
+    //재고 감소 (이미 처리된 멱등키면 다시 반영하지 않음)
+    void decreaseStock(List<StockRequest> requests, String idempotencyKey);
+
     //재고 증가
     void increaseStock(List<StockRequest> requests);
 
+    //재고 증가 (이미 처리된 멱등키면 다시 반영하지 않음)
+    void increaseStock(List<StockRequest> requests, String idempotencyKey);
+
     //도서 상태 변경
     void updateBookStatus(Long bookId, BookStatus status);
 
@@ -1,6 +1,5 @@
 package org.nhnacademy.book2onandonbookservice.service.book;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -21,21 +20,29 @@ import org.nhnacademy.book2onandonbookservice.dto.book.BookSearchCondition;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookUpdateRequest;
 import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
 import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.dto.common.CursorPage;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookImage;
-import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.exception.InvalidIdempotencyKeyException;
 import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
 import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
 import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
-import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository.DecreaseResult;
+import org.nhnacademy.book2onandonbookservice.repository.StockIdempotencyRepository;
+import org.nhnacademy.book2onandonbookservice.service.cache.BookDetailDocumentCache;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryTreeIndex;
 import org.nhnacademy.book2onandonbookservice.service.image.ImageUploadService;
 import org.nhnacademy.book2onandonbookservice.service.mapper.BookListResponseMapper;
 import org.nhnacademy.book2onandonbookservice.service.search.BookSearchIndexService;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -50,13 +57,21 @@ public class BookServiceImpl implements BookService {
     private final BookRelationService bookRelationService;
     private final BookValidator bookValidator;
     private final BookRepository bookRepository;
-    private final BookLikeRepository bookLikeRepository;
-    private final CategoryRepository categoryRepository;
     private final BookSearchIndexService bookSearchIndexService;
     private final BookListResponseMapper bookListResponseMapper;
     private final OrderServiceClient orderServiceClient;
     private final BookHistoryService bookHistoryService;
     private final ImageUploadService imageUploadService;
+    private final StockBatchRepository stockBatchRepository;
+    private final HotStockLedger hotStockLedger;
+    private final RedisStockReservation redisStockReservation;
+    private final StockIdempotencyRepository stockIdempotencyRepository;
+    private final BookListQueryService bookListQueryService;
+    private final BookDetailQueryService bookDetailQueryService;
+    private final BookDetailDocumentCache bookDetailDocumentCache;
+    private final BookLikeRepository bookLikeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryTreeIndex categoryTreeIndex;
 
     // 도서 등록
     @Override
@@ -124,6 +139,7 @@ public class BookServiceImpl implements BookService {
         }
         bookRelationService.applyRelationsForUpdate(book, request);
         bookSearchIndexService.index(book);
+        eventPublisher.publishEvent(BookDetailChangedEvent.of(bookId));
     }
 
     // 도서 삭제
@@ -137,60 +153,53 @@ public class BookServiceImpl implements BookService {
 
         // ES 인덱스에서도 삭제
         bookSearchIndexService.deleteIndex(bookId);
+        eventPublisher.publishEvent(BookDetailChangedEvent.of(bookId));
     }
 
     // 공통 mapper 사용 -> 리스트용 DTO 매핑
     @Override
     @Transactional(readOnly = true)
     public Page<BookListResponse> getBooks(BookSearchCondition condition, Pageable pageable) {
-        Page<Book> books = bookRepository.findByStatusNot(BookStatus.BOOK_DELETED, pageable);
-        return books.map(bookListResponseMapper::fromEntity);
+        return bookListQueryService.getBookList(pageable);
     }
 
-
     @Override
     @Transactional(readOnly = true)
-    public BookDetailResponse getBookDetail(Long bookId, Long userId, String guestId) {
-        Book book = bookRepository.findByIdWithRelations(bookId)
-                .orElseThrow(() -> new NotFoundBookException(bookId));
+    public CursorPage<BookListResponse> getBooksByCursor(String cursor, int size) {
+        return bookListQueryService.getBookListByCursor(cursor, size);
+    }
 
-        if (userId != null) {
-            CompletableFuture.runAsync(() -> bookHistoryService.addRecentView(userId, guestId, bookId));
-        }
-        long likeCount = bookLikeRepository.countByBookId(bookId);
 
-        // 비로그인: null, 로그인: true/false
-        Boolean likedByCurrentUser = null;
-        if (userId != null) {
-            likedByCurrentUser = bookLikeRepository.existsByBookIdAndUserId(bookId, userId);
-        }
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    public BookDetailResponse getBookDetail(Long bookId, Long userId, String guestId) {
+        BookDetailResponse document = bookDetailDocumentCache.get(bookId, bookDetailQueryService::loadDocument);
 
-        return BookDetailResponse.from(book, likeCount, likedByCurrentUser);
+        if (userId == null) {
+            return document; // 비로그인: likedByCurrentUser = null
+        }
+        CompletableFuture.runAsync(() -> bookHistoryService.addRecentView(userId, guestId, bookId));
+        return document.withLikedByCurrentUser(bookLikeRepository.existsByBookIdAndUserId(bookId, userId));
     }
 
 
+    /// 카테고리 트리 (인스턴스 로컬 인덱스에서 응답, DB 커넥션 사용 안 함)
     @Override
-    @Transactional(readOnly = true)
-    //@Cacheable(value = "categories", unless = "#result == null || #result.isEmpty()", cacheManager = "RedisCacheManager")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CategoryDto> getCategories() {
-        List<Category> entities = categoryRepository.findAll();
-        List<CategoryDto> allDtos = entities.stream().map(this::CategoryToDto).toList();
-        Map<Long, List<CategoryDto>> childrenMap = allDtos.stream()
-                .collect(Collectors.groupingBy(dto -> dto.getParentId() != null ? dto.getParentId() : 0L));
-
-        allDtos.forEach(dto -> {
-            List<CategoryDto> children = childrenMap.get(dto.getId());
-            if (children != null) {
-                dto.getChildren().addAll(children);
-            }
-        });
-        return childrenMap.getOrDefault(0L, Collections.emptyList());
+        return categoryTreeIndex.tree();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public byte[] getCategoryTreeJson() {
+        return categoryTreeIndex.treeJson();
     }
 
-    //카테고리 생성/수정/삭제 로직이 있을 경우 @CacheEvict(value="categories", allEntries=true)를 붙여줘야함
 
     /// 베스트셀러 조회 및 캐싱
-    @Cacheable(value = "bestsellers", key = "#period", cacheManager = "RedisCacheManager") //redis
+    //로컬 L1 + redis, sync: soft 만료 시 이전 값 제공 + 백그라운드 갱신, 키가 없으면 클러스터에서 한 곳만 로딩
+    @Cacheable(value = "bestsellers", key = "#period", cacheManager = "twoLevelCacheManager", sync = true)
     @Override
     public List<BookListResponse> getBestsellers(String period) {
         List<Long> bookIds = orderServiceClient.getBestSellersBookIds(period);
@@ -214,20 +223,32 @@ public class BookServiceImpl implements BookService {
     }
 
     /// 신간 도서를 출간일 최신순으로 조회하고 캐싱
-    @Cacheable(value = "newArrivals", key = "#categoryId + '_' + #pageable.pageNumber", cacheManager = "RedisCacheManager")
+    @Cacheable(value = "newArrivals", key = "#categoryId + '_' + #pageable.pageNumber", cacheManager = "twoLevelCacheManager", sync = true)
     @Override
     public Page<BookListResponse> getNewArrivals(Long categoryId, Pageable pageable) {
         Page<Book> bookPage;
 
         if (categoryId != null) {
-            List<Long> allCategoryIds = getAllCategoryIds(categoryId);
-            bookPage = bookRepository.findBooksByCategoryIdsSorted(allCategoryIds, pageable);
+            if (categoryTreeIndex.descendantIds(categoryId).isEmpty()) {
+                throw new IllegalArgumentException("카테고리 없음");
+            }
+            bookPage = bookRepository.findOnSaleBooksInCategorySubtree(categoryId, pageable);
         } else {
             bookPage = bookRepository.findAllByOrderByPublishDateDesc(pageable);
         }
         return new RestPage<>(bookPage.map(BookListResponse::from));
     }
 
+    /// 신간 도서 커서 페이지 (앞 페이지를 건너뛰지 않아 깊은 페이지도 첫 페이지와 같은 비용, 캐시 없음)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookListResponse> getNewArrivalsByCursor(Long categoryId, String cursor, int size) {
+        if (categoryId != null && categoryTreeIndex.descendantIds(categoryId).isEmpty()) {
+            throw new IllegalArgumentException("카테고리 없음");
+        }
+        return bookListQueryService.getNewArrivalsByCursor(categoryId, cursor, size);
+    }
+
     /// 내부 통신용 주문서 생성 및 결제 검증을 위한 도서 정보 다건 조회
     @Override
     @Transactional(readOnly = true)
@@ -245,30 +266,63 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional
     public void decreaseStock(List<StockRequest> requests) {
-        requests.sort(Comparator.comparing(StockRequest::getBookId)); //데드락 방지
-        for (StockRequest req : requests) {
-            int result = bookRepository.decreaseStock(req.getBookId(), req.getQuantity());
-
-            if (result == 0) {
-                throw new OutOfStockException("재고가 부족합니다. BookId: " + req.getBookId());
-            }
+        decreaseStock(requests, null);
+    }
 
-            Book book = bookRepository.findById(req.getBookId())
-                    .orElseThrow(() -> new NotFoundBookException(req.getBookId()));
+    @Override
+    @Transactional
+    public void decreaseStock(List<StockRequest> requests, String idempotencyKey) {
+        if (isDuplicateRequest(idempotencyKey, "DECREASE")) {
+            return;
+        }
+        requests.sort(Comparator.comparing(StockRequest::getBookId)); //데드락 방지
 
-            if (book.getStockCount() <= 0) {
-                book.setStatus(BookStatus.SOLD_OUT);
-            }
+        // Redis 예약 계층이 켜져 있으면 Lua 스크립트 한 번으로 장바구니 전체를 예약 (MySQL 반영과 상세 캐시 무효화는
+        // 스케줄러가 비동기로, 트랜잭션이 롤백되면 예약 계층이 Redis 예약분을 되돌림)
+        if (redisStockReservation.isEnabled()) {
+            redisStockReservation.reserve(requests);
+            return;
+        }
+        Map<Boolean, List<StockRequest>> byHot = partitionByHot(requests);
+        publishDetailChanged(byHot.get(false)); // 커밋된 경우에만 상세 캐시 무효화 (핫 도서는 원장 플러시 후)
 
+        // 차감 + 품절 전환을 Batch 한 번으로 처리 (한 건이라도 실패하면 예외 -> 트랜잭션 전체 롤백)
+        DecreaseResult result = stockBatchRepository.decreaseStock(byHot.get(false));
+        if (!result.notFoundBookIds().isEmpty()) {
+            throw new NotFoundBookException(result.notFoundBookIds().get(0));
         }
+        if (!result.outOfStockBookIds().isEmpty()) {
+            throw new OutOfStockException("재고가 부족합니다. BookId: " + result.outOfStockBookIds());
+        }
+
+        // 핫 도서는 메모리 원장에서 예약 (트랜잭션 롤백 시 원장이 알아서 되돌림)
+        hotStockLedger.reserve(byHot.get(true));
     }
 
     /// 재고 증가
     @Override
     @Transactional
     public void increaseStock(List<StockRequest> requests) {
+        increaseStock(requests, null);
+    }
+
+    @Override
+    @Transactional
+    public void increaseStock(List<StockRequest> requests, String idempotencyKey) {
+        if (isDuplicateRequest(idempotencyKey, "INCREASE")) {
+            return;
+        }
         requests.sort(Comparator.comparing(StockRequest::getBookId)); //데드락 방지
-        for (StockRequest req : requests) {
+
+        if (redisStockReservation.isEnabled()) {
+            redisStockReservation.release(requests);
+            return;
+        }
+        Map<Boolean, List<StockRequest>> byHot = partitionByHot(requests);
+        publishDetailChanged(byHot.get(false)); // 커밋된 경우에만 상세 캐시 무효화 (핫 도서는 원장 플러시 후)
+        hotStockLedger.release(byHot.get(true));
+
+        for (StockRequest req : byHot.get(false)) {
             bookRepository.increaseStock(req.getBookId(), req.getQuantity());
 
             Book book = bookRepository.findById(req.getBookId())
@@ -290,6 +344,12 @@ public class BookServiceImpl implements BookService {
         return bookPage.map(BookListResponse::from);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<BookListResponse> getPopularBooksByCursor(String cursor, int size) {
+        return bookListQueryService.getPopularBooksByCursor(cursor, size);
+    }
+
 
     /// 도서 상태변경
     @Override
@@ -298,6 +358,7 @@ public class BookServiceImpl implements BookService {
                 .orElseThrow(() -> new NotFoundBookException(bookId));
 
         book.setStatus(status);
+        eventPublisher.publishEvent(BookDetailChangedEvent.of(bookId));
 
         try {
             bookSearchIndexService.index(book);
@@ -336,38 +397,37 @@ public class BookServiceImpl implements BookService {
     }
 
     ///    내부 로직
-    private CategoryDto CategoryToDto(Category category) {
-        return CategoryDto.builder()
-                .id(category.getId())
-                .name(category.getCategoryName())
-                .parentId(category.getParent() != null ? category.getParent().getId() : null)
-                .build();
+    // 같은 트랜잭션에서 멱등키를 등록 -> 재고 변경이 롤백되면 키도 롤백되어 재시도가 정상 처리됨
+    private boolean isDuplicateRequest(String idempotencyKey, String operation) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return false;
+        }
+        if (idempotencyKey.length() > StockIdempotencyRepository.MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(idempotencyKey.length(), StockIdempotencyRepository.MAX_KEY_LENGTH);
+        }
+        if (stockIdempotencyRepository.register(idempotencyKey, operation)) {
+            return false;
+        }
+        log.info("[Stock] 이미 처리된 재고 요청이라 건너뜀 - key={}, operation={}", idempotencyKey, operation);
+        return true;
     }
 
-    private boolean isSoldOut(BookStatus status) {
-        return status == BookStatus.SOLD_OUT || status == BookStatus.OUT_OF_STOCK;
+    private void publishDetailChanged(List<StockRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new BookDetailChangedEvent(
+                requests.stream().map(StockRequest::getBookId).distinct().toList()));
     }
 
-    private List<Long> getAllCategoryIds(Long parentId) {
-        Category parent = categoryRepository.findById(parentId)
-                .orElseThrow(() -> new IllegalArgumentException("카테고리 없음"));
-
-        List<Long> ids = new ArrayList<>();
-
-        ids.add(parent.getId());
-
-        collectChildIds(parent, ids);
-        return ids;
+    // true: 핫 도서(메모리 원장), false: 일반 도서(DB)
+    private Map<Boolean, List<StockRequest>> partitionByHot(List<StockRequest> requests) {
+        return requests.stream()
+                .collect(Collectors.partitioningBy(req -> hotStockLedger.isHot(req.getBookId())));
     }
 
-    private void collectChildIds(Category parent, List<Long> ids) {
-        if (parent.getChildren() == null || parent.getChildren().isEmpty()) {
-            return;
-        }
-        for (Category child : parent.getChildren()) {
-            ids.add(child.getId());
-            collectChildIds(child, ids);
-        }
+    private boolean isSoldOut(BookStatus status) {
+        return status == BookStatus.SOLD_OUT || status == BookStatus.OUT_OF_STOCK;
     }
 
 }
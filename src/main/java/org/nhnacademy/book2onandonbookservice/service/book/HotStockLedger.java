@@ -0,0 +1,461 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
+import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * 인기(핫) 도서 전용 인메모리 재고 원장
+ * <p>
+ * 핫 도서는 Book 행 락 대신 락 스트라이핑된 메모리 카운터에서 동기적으로 예약하고, 누적된 증감분은 주기적으로 한 번에 DB에
+ * 반영(write-behind)합니다. 예약한 재고는 바로 카운터에서 잡아 두지만, 저널과 DB 반영 대기 증감분에는 바깥 트랜잭션이
+ * 커밋된 뒤에만 기록합니다(롤백되면 잡아 둔 재고만 풀어 줌). 그래서 롤백된 주문이 재기동 복구나 플러시로 DB 에 반영되지
+ * 않고, 프로세스가 죽어도 커밋된 예약은 저널에서 복구합니다(커밋과 저널 기록 사이에 죽은 경우만 빠짐).
+ * 저널마다 반영 기록을 DB 반영과 같은 트랜잭션에 남기므로, 반영 후 저널을 지우지 못해도 다시 반영하지 않습니다.
+ * <p>
+ * 인스턴스 로컬 원장이므로 핫 도서 요청이 한 인스턴스로 모이는 환경(단일 인스턴스 또는 sticky 라우팅)에서만 켜야 합니다.
+ * book.stock.hot-ledger.book-ids 가 비어있으면 모든 요청이 기존 DB 경로로 갑니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotStockLedger {
+
+    private static final int STRIPE_COUNT = 64;
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final StockBatchRepository stockBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${book.stock.hot-ledger.book-ids:}")
+    private String hotBookIdsProperty;
+
+    @Value("${book.stock.hot-ledger.journal-dir:./stock-ledger}")
+    private String journalDirProperty;
+
+    @Value("${book.stock.hot-ledger.sync-on-write:true}")
+    private boolean syncOnWrite;
+
+    private final ReentrantLock[] stripes = Stream.generate(ReentrantLock::new)
+            .limit(STRIPE_COUNT)
+            .toArray(ReentrantLock[]::new);
+
+    // 예약(읽기 락)은 동시에, 저널 교체 + 증감분 스냅샷(쓰기 락)은 단독으로
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+
+    private final Map<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> pendingDeltas = new ConcurrentHashMap<>();
+    // 예약했지만 바깥 트랜잭션이 아직 끝나지 않은 증감분 (카운터에는 반영, 저널/pending 에는 아직)
+    private final Map<Long, AtomicInteger> heldDeltas = new ConcurrentHashMap<>();
+    // 교체된 저널 → 그 저널의 증감분 (DB 반영에 성공할 때까지 보관, flush 안에서만 접근)
+    private final Map<Path, Map<Long, Integer>> unflushedJournals = new LinkedHashMap<>();
+
+    private Set<Long> hotBookIds = Set.of();
+    private Path journalDir;
+    private Path journalPath;
+    private FileChannel journal;
+    private long journalSequence;
+
+    @PostConstruct
+    void init() throws IOException {
+        hotBookIds = Arrays.stream(hotBookIdsProperty.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        journalDir = Path.of(journalDirProperty);
+        Files.createDirectories(journalDir);
+        recoverJournals();
+        journal = openNewJournal();
+        log.info("[HotStockLedger] 핫 도서 재고 원장 활성화 - bookIds={}, journalDir={}", hotBookIds,
+                journalDir.toAbsolutePath());
+    }
+
+    public boolean isEnabled() {
+        return !hotBookIds.isEmpty();
+    }
+
+    public boolean isHot(Long bookId) {
+        return hotBookIds.contains(bookId);
+    }
+
+    /**
+     * 재고 예약 (차감) - 한 권이라도 부족하면 아무것도 차감하지 않고 OutOfStockException
+     */
+    public void reserve(List<StockRequest> requests) {
+        Map<Long, Integer> demand = aggregate(requests);
+        if (demand.isEmpty()) {
+            return;
+        }
+
+        int[] lockedStripes = lockStripes(demand.keySet());
+        try {
+            loadMissing(demand.keySet());
+
+            List<Long> shortBookIds = demand.entrySet().stream()
+                    .filter(e -> !available.containsKey(e.getKey())
+                            || available.get(e.getKey()).get() < e.getValue())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!shortBookIds.isEmpty()) {
+                throw new OutOfStockException("재고가 부족합니다. BookId: " + shortBookIds);
+            }
+
+            holdLocked(negate(demand));
+        } finally {
+            unlockStripes(lockedStripes);
+        }
+
+        // 커밋되면 저널/pending 에 기록, 롤백되면(다른 도서 차감 실패 등) 잡아 둔 재고를 풀어 줌
+        completeWithTransaction(negate(demand), true);
+    }
+
+    /**
+     * 재고 반환 (증가) - 주문 취소 등
+     */
+    public void release(List<StockRequest> requests) {
+        Map<Long, Integer> supply = aggregate(requests);
+        if (supply.isEmpty()) {
+            return;
+        }
+
+        int[] lockedStripes = lockStripes(supply.keySet());
+        try {
+            loadMissing(supply.keySet());
+
+            supply.keySet().stream()
+                    .filter(bookId -> !available.containsKey(bookId))
+                    .findFirst()
+                    .ifPresent(bookId -> {
+                        throw new NotFoundBookException(bookId);
+                    });
+        } finally {
+            unlockStripes(lockedStripes);
+        }
+
+        // 반환분은 롤백될 수 있으므로 커밋된 뒤에야 예약 가능한 재고로 돌림
+        completeWithTransaction(supply, false);
+    }
+
+    /**
+     * 누적된 증감분을 DB에 일괄 반영하고, 올라와 있는 핫 도서 카운터를 DB 재고로 재동기화 (스케줄러에서 주기적으로 호출)
+     */
+    public synchronized void flush() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        journalLock.writeLock().lock();
+        try {
+            Map<Long, Integer> snapshot = new TreeMap<>();
+            pendingDeltas.forEach((bookId, delta) -> {
+                int value = delta.getAndSet(0);
+                if (value != 0) {
+                    snapshot.put(bookId, value);
+                }
+            });
+            if (!snapshot.isEmpty()) {
+                unflushedJournals.put(rotateJournal(), snapshot);
+            }
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+
+        applyUnflushedJournals();
+        resync(Set.copyOf(available.keySet()));
+    }
+
+    @PreDestroy
+    void shutdown() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        flush();
+        journal.close();
+    }
+
+    /// 내부 로직
+    // 카운터에서 재고를 잡아 둠 (스트라이프 락을 잡은 상태에서 호출)
+    private void holdLocked(Map<Long, Integer> deltas) {
+        deltas.forEach((bookId, delta) -> {
+            available.get(bookId).addAndGet(delta);
+            heldOf(bookId).addAndGet(delta);
+        });
+    }
+
+    // 트랜잭션 안이면 끝난 뒤에, 밖이면 바로 확정 (held: 예약처럼 카운터에 이미 잡아 둔 증감분인지)
+    private void completeWithTransaction(Map<Long, Integer> deltas, boolean held) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(deltas, held);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    try {
+                        commit(deltas, held);
+                    } catch (UncheckedIOException e) {
+                        // 커밋된 주문은 되돌릴 수 없으므로 메모리에는 반영 (다음 플러시에 DB 반영, 그 전에 죽으면 유실)
+                        log.error("[HotStockLedger] 커밋된 재고 변경의 저널 기록 실패 - {}", deltas, e);
+                    }
+                    return;
+                }
+                if (held) {
+                    int[] lockedStripes = lockStripes(deltas.keySet());
+                    try {
+                        deltas.forEach((bookId, delta) -> {
+                            available.get(bookId).addAndGet(-delta);
+                            heldOf(bookId).addAndGet(-delta);
+                        });
+                    } finally {
+                        unlockStripes(lockedStripes);
+                    }
+                }
+            }
+        });
+    }
+
+    // 저널에 기록한 뒤 pending 에 옮김 (저널 기록이 실패해도 메모리 반영은 하고 예외를 다시 던짐)
+    private void commit(Map<Long, Integer> deltas, boolean held) {
+        int[] lockedStripes = lockStripes(deltas.keySet());
+        journalLock.readLock().lock();
+        try {
+            try {
+                appendJournal(deltas);
+            } finally {
+                deltas.forEach((bookId, delta) -> {
+                    if (held) {
+                        heldOf(bookId).addAndGet(-delta);
+                    } else {
+                        available.get(bookId).addAndGet(delta);
+                    }
+                    pendingOf(bookId).addAndGet(delta);
+                });
+            }
+        } finally {
+            journalLock.readLock().unlock();
+            unlockStripes(lockedStripes);
+        }
+    }
+
+    // 처음 예약되는 도서는 DB 재고로 카운터 초기화 (스트라이프 락을 잡은 상태에서 호출)
+    private void loadMissing(Set<Long> bookIds) {
+        List<Long> missing = bookIds.stream()
+                .filter(bookId -> !available.containsKey(bookId))
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        stockBatchRepository.findStockCounts(missing)
+                .forEach((bookId, stock) -> available.put(bookId, new AtomicInteger(stock)));
+    }
+
+    // 저널 순서대로 반영, 실패하면 그 저널부터 다음 주기에 그대로 재시도
+    private void applyUnflushedJournals() {
+        Iterator<Map.Entry<Path, Map<Long, Integer>>> journals = unflushedJournals.entrySet().iterator();
+        while (journals.hasNext()) {
+            Map.Entry<Path, Map<Long, Integer>> entry = journals.next();
+            try {
+                applyJournalOnce(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.error("[HotStockLedger] 재고 증감분 DB 반영 실패, 다음 주기에 재시도 - {}", entry.getValue(), e);
+                return;
+            }
+            journals.remove();
+            log.debug("[HotStockLedger] 재고 증감분 DB 반영 완료 - {}", entry.getValue());
+        }
+    }
+
+    // 저널 파일 이름을 묶음 ID 로 기록하며 반영하고, 저널을 지운 뒤 기록도 정리 (지우지 못하면 기록이 남아 다시 반영 안 됨)
+    // 상세 캐시 무효화는 반영 트랜잭션이 커밋된 뒤에 일어나도록 같은 트랜잭션 안에서 발행
+    private void applyJournalOnce(Path path, Map<Long, Integer> deltas) {
+        String batchId = path.getFileName().toString();
+        Boolean applied = transactionTemplate.execute(status -> {
+            boolean first = stockBatchRepository.applyStockDeltasOnce(batchId, deltas);
+            if (first && !deltas.isEmpty()) {
+                eventPublisher.publishEvent(new BookDetailChangedEvent(List.copyOf(deltas.keySet())));
+            }
+            return first;
+        });
+        if (!Boolean.TRUE.equals(applied)) {
+            log.info("[HotStockLedger] 이미 반영된 저널이라 건너뜀: {}", path);
+        }
+        try {
+            Files.deleteIfExists(path);
+            stockBatchRepository.forgetAppliedBatch(batchId);
+        } catch (IOException | RuntimeException e) {
+            log.warn("[HotStockLedger] 반영 완료된 저널 정리 실패 (반영 기록이 남아 다시 반영하지 않음): {}", path, e);
+        }
+    }
+
+    // 플러시 후 DB 재고 기준으로 카운터 재동기화 (관리자 수정 등 외부 변경 반영, 예약이 없던 도서 포함)
+    // 카운터 = DB 재고 + 아직 DB 에 반영 못 한 저널 증감분 + 이번 주기 증감분 + 트랜잭션이 끝나지 않은 예약분
+    private void resync(Set<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> unflushed = new HashMap<>();
+        unflushedJournals.values()
+                .forEach(deltas -> deltas.forEach((bookId, delta) -> unflushed.merge(bookId, delta, Integer::sum)));
+
+        Map<Long, Integer> dbStocks = stockBatchRepository.findStockCounts(bookIds);
+        for (Map.Entry<Long, Integer> entry : dbStocks.entrySet()) {
+            int[] lockedStripes = lockStripes(Set.of(entry.getKey()));
+            try {
+                int pending = pendingOf(entry.getKey()).get() + heldOf(entry.getKey()).get()
+                        + unflushed.getOrDefault(entry.getKey(), 0);
+                available.computeIfAbsent(entry.getKey(), id -> new AtomicInteger())
+                        .set(entry.getValue() + pending);
+            } finally {
+                unlockStripes(lockedStripes);
+            }
+        }
+    }
+
+    private AtomicInteger pendingOf(Long bookId) {
+        return pendingDeltas.computeIfAbsent(bookId, id -> new AtomicInteger());
+    }
+
+    private AtomicInteger heldOf(Long bookId) {
+        return heldDeltas.computeIfAbsent(bookId, id -> new AtomicInteger());
+    }
+
+    private Map<Long, Integer> aggregate(List<StockRequest> requests) {
+        Map<Long, Integer> merged = new TreeMap<>();
+        for (StockRequest req : requests) {
+            merged.merge(req.getBookId(), req.getQuantity(), Integer::sum);
+        }
+        return merged;
+    }
+
+    private Map<Long, Integer> negate(Map<Long, Integer> deltas) {
+        Map<Long, Integer> negated = new TreeMap<>();
+        deltas.forEach((bookId, delta) -> negated.put(bookId, -delta));
+        return negated;
+    }
+
+    // 스트라이프 인덱스 오름차순으로 잠가 교착 방지
+    private int[] lockStripes(Set<Long> bookIds) {
+        int[] indexes = bookIds.stream()
+                .mapToInt(bookId -> Math.floorMod(bookId.hashCode(), STRIPE_COUNT))
+                .boxed()
+                .collect(Collectors.toCollection(TreeSet::new))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        for (int index : indexes) {
+            stripes[index].lock();
+        }
+        return indexes;
+    }
+
+    private void unlockStripes(int[] indexes) {
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+        }
+    }
+
+    /// 저널
+    private void appendJournal(Map<Long, Integer> deltas) {
+        StringBuilder sb = new StringBuilder();
+        deltas.forEach((bookId, delta) -> sb.append(bookId).append(' ').append(delta).append('\n'));
+        try {
+            journal.write(ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8)));
+            if (syncOnWrite) {
+                journal.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 원장 저널 기록 실패", e);
+        }
+    }
+
+    private FileChannel openNewJournal() throws IOException {
+        journalPath = journalDir.resolve("ledger-" + System.currentTimeMillis() + "-" + journalSequence++
+                + JOURNAL_SUFFIX);
+        return FileChannel.open(journalPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path rotateJournal() {
+        try {
+            Path current = journalPath;
+            journal.close();
+            journal = openNewJournal();
+            return current;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 원장 저널 교체 실패", e);
+        }
+    }
+
+    // 재기동 시 남은 저널을 순서대로 반영 (반영 기록이 있는 저널은 파일만 정리)
+    private void recoverJournals() throws IOException {
+        List<Path> journals;
+        try (Stream<Path> files = Files.list(journalDir)) {
+            journals = files.filter(p -> p.getFileName().toString().endsWith(JOURNAL_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        if (journals.isEmpty()) {
+            return;
+        }
+
+        for (Path path : journals) {
+            Map<Long, Integer> recovered = new TreeMap<>();
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                String[] parts = line.trim().split(" ");
+                try {
+                    recovered.merge(Long.valueOf(parts[0]), Integer.valueOf(parts[1]), Integer::sum);
+                } catch (RuntimeException e) {
+                    log.warn("[HotStockLedger] 손상된 저널 라인 무시 ({}): {}", path, line); // 기록 도중 죽어서 잘린 마지막 줄
+                }
+            }
+            recovered.values().removeIf(delta -> delta == 0);
+            applyJournalOnce(path, recovered);
+            log.info("[HotStockLedger] 미반영 저널 복구 완료: {} - {}", path.getFileName(), recovered);
+        }
+    }
+}
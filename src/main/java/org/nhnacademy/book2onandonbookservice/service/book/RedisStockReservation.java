@@ -0,0 +1,402 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
+import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository.DecreaseResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 재고 예약 계층
+ * <p>
+ * 장바구니 전체를 Lua 스크립트 한 번으로 검사 + 차감(all-or-nothing)하고, 도서별 증감분은 pending 해시에 쌓아 두었다가
+ * {@link #reconcilePending()} 에서 MySQL 에 일괄 반영합니다. 여러 인스턴스가 같은 Redis 카운터를 공유하므로 레플리카 수만큼
+ * 처리량이 늘어납니다. book.stock.redis.enabled=true 일 때만 사용되며, 켜져 있으면 핫 도서 원장보다 우선합니다.
+ * <p>
+ * 예약/반환은 Redis 에 바로 반영되므로, 바깥 DB 트랜잭션이 롤백되면 반대 증감분으로 되돌립니다. flushing 해시에는 반영 묶음
+ * ID 를 같이 넣어 두고 DB 반영과 같은 트랜잭션에 기록하므로, 반영 후 해시를 지우기 전에 죽어도 다시 반영하지 않습니다.
+ * 카운터를 새로 초기화할 때도 이 기록을 보고, 이미 DB 에 반영된 flushing 해시는 더하지 않습니다.
+ * <p>
+ * 모든 키는 같은 해시 태그({stock})를 써서 Redis Cluster 에서도 한 슬롯에 모입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisStockReservation {
+
+    static final String STOCK_KEY_PREFIX = "book-service:{stock}:book:";
+    static final String PENDING_KEY = "book-service:{stock}:pending";
+    static final String FLUSHING_KEY = "book-service:{stock}:flushing";
+    // flushing 해시 안의 반영 묶음 ID 필드 (도서 ID 와 겹치지 않는 이름)
+    static final String BATCH_ID_FIELD = "batch-id";
+
+    private static final String OK = "OK";
+    private static final String MISSING = "MISSING";
+    private static final String SHORT = "SHORT";
+    private static final int SEED_ATTEMPTS = 3;
+
+    // KEYS: 재고 키 n개 + pending 해시, ARGV: 증감분 n개 + bookId n개
+    // 키가 하나라도 없으면 MISSING, 부족하면 SHORT, 모두 통과해야 한 번에 반영
+    private static final RedisScript<List> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 1
+            local missing = {}
+            for i = 1, n do
+                if redis.call('EXISTS', KEYS[i]) == 0 then
+                    table.insert(missing, ARGV[n + i])
+                end
+            end
+            if #missing > 0 then
+                table.insert(missing, 1, 'MISSING')
+                return missing
+            end
+            local short = {}
+            for i = 1, n do
+                local delta = tonumber(ARGV[i])
+                if delta < 0 and tonumber(redis.call('GET', KEYS[i])) + delta < 0 then
+                    table.insert(short, ARGV[n + i])
+                end
+            end
+            if #short > 0 then
+                table.insert(short, 1, 'SHORT')
+                return short
+            end
+            for i = 1, n do
+                redis.call('INCRBY', KEYS[i], ARGV[i])
+                redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+            end
+            return {'OK'}
+            """, List.class);
+
+    // 카운터가 없을 때만 (DB 재고 + 아직 DB 에 반영 안 된 증감분)으로 초기화
+    // ARGV: DB 재고 n개 + bookId n개 + 묶음 ID 필드 이름 + DB 를 읽기 전 본 묶음 ID('' 은 없음) + 그 묶음의 반영 여부('1'/'0')
+    // flushing 해시는 DB 를 읽을 때 반영되지 않은 묶음일 때만 더하고, 그사이 묶음이 바뀌었으면 -1 (DB 를 다시 읽어야 함)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 2
+            local current = redis.call('HGET', KEYS[n + 2], ARGV[2 * n + 1]) or ''
+            if current ~= ARGV[2 * n + 2] then
+                return -1
+            end
+            local countFlushing = current ~= '' and ARGV[2 * n + 3] == '0'
+            local seeded = 0
+            for i = 1, n do
+                local pending = tonumber(redis.call('HGET', KEYS[n + 1], ARGV[n + i]) or '0')
+                local flushing = 0
+                if countFlushing then
+                    flushing = tonumber(redis.call('HGET', KEYS[n + 2], ARGV[n + i]) or '0')
+                end
+                if redis.call('SETNX', KEYS[i], tonumber(ARGV[i]) + pending + flushing) == 1 then
+                    seeded = seeded + 1
+                end
+            end
+            return seeded
+            """, Long.class);
+
+    // 이전 반영이 실패해 남은 flushing 해시가 있으면 그것부터, 없으면 pending 을 flushing 으로 옮겨서 반환
+    // 묶음 ID 는 처음 옮길 때 한 번만 붙이므로 재시도해도 같은 ID (ARGV: 필드 이름, 새 묶음 ID)
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                if redis.call('EXISTS', KEYS[1]) == 0 then
+                    return {}
+                end
+                redis.call('RENAME', KEYS[1], KEYS[2])
+            end
+            redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2])
+            return redis.call('HGETALL', KEYS[2])
+            """, List.class);
+
+    // 카운터에서 미반영 증감분을 뺀 값(= MySQL 에 있어야 할 재고)을 원자적으로 계산, 카운터가 없으면 빈 문자열
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>("""
+            local n = #KEYS - 2
+            local result = {}
+            for i = 1, n do
+                local counter = redis.call('GET', KEYS[i])
+                if counter then
+                    local pending = tonumber(redis.call('HGET', KEYS[n + 1], ARGV[i]) or '0')
+                    local flushing = tonumber(redis.call('HGET', KEYS[n + 2], ARGV[i]) or '0')
+                    table.insert(result, tostring(tonumber(counter) - pending - flushing))
+                else
+                    table.insert(result, '')
+                end
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final StockBatchRepository stockBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${book.stock.redis.enabled:false}")
+    private boolean enabled;
+
+    @Value("${book.stock.redis.auto-repair:false}")
+    private boolean autoRepair;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 장바구니 재고 예약 (차감) - 한 권이라도 없거나 부족하면 아무것도 차감하지 않고 NotFoundBookException /
+     * OutOfStockException (DB 경로의 {@link DecreaseResult} 처리와 같음)
+     */
+    public void reserve(List<StockRequest> requests) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        requests.forEach(req -> deltas.merge(req.getBookId(), -req.getQuantity(), Integer::sum));
+
+        DecreaseResult result = apply(deltas);
+        if (!result.notFoundBookIds().isEmpty()) {
+            throw new NotFoundBookException(result.notFoundBookIds().get(0));
+        }
+        if (!result.outOfStockBookIds().isEmpty()) {
+            throw new OutOfStockException("재고가 부족합니다. BookId: " + result.outOfStockBookIds());
+        }
+        compensateOnRollback(deltas);
+    }
+
+    /**
+     * 재고 반환 (증가)
+     */
+    public void release(List<StockRequest> requests) {
+        Map<Long, Integer> deltas = new TreeMap<>();
+        requests.forEach(req -> deltas.merge(req.getBookId(), req.getQuantity(), Integer::sum));
+
+        DecreaseResult result = apply(deltas);
+        if (!result.notFoundBookIds().isEmpty()) {
+            throw new NotFoundBookException(result.notFoundBookIds().get(0));
+        }
+        compensateOnRollback(deltas);
+    }
+
+    /**
+     * pending 해시에 쌓인 증감분을 MySQL 에 일괄 반영 (스케줄러에서 클러스터 단일 실행)
+     *
+     * @return 반영한 도서 수
+     */
+    public int reconcilePending() {
+        List<String> drained = redisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY, FLUSHING_KEY),
+                BATCH_ID_FIELD, "redis-" + UUID.randomUUID());
+        if (drained == null || drained.isEmpty()) {
+            return 0;
+        }
+
+        String batchId = null;
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (int i = 0; i + 1 < drained.size(); i += 2) {
+            if (BATCH_ID_FIELD.equals(drained.get(i))) {
+                batchId = drained.get(i + 1);
+                continue;
+            }
+            int delta = Integer.parseInt(drained.get(i + 1));
+            if (delta != 0) {
+                deltas.put(Long.valueOf(drained.get(i)), delta);
+            }
+        }
+        if (batchId == null) {
+            throw new IllegalStateException("flushing 해시에 반영 묶음 ID 가 없습니다.");
+        }
+
+        // 실패하면 flushing 해시가 남아 다음 주기에 같은 묶음 ID 로 재시도 (이미 반영된 묶음이면 DB 는 건너뛰고 해시만 정리)
+        // 상세 캐시 무효화는 MySQL 반영이 커밋된 뒤에 일어나도록 같은 트랜잭션 안에서 발행
+        String appliedBatchId = batchId;
+        Boolean applied = transactionTemplate.execute(status -> {
+            boolean first = stockBatchRepository.applyStockDeltasOnce(appliedBatchId, deltas);
+            if (first && !deltas.isEmpty()) {
+                eventPublisher.publishEvent(new BookDetailChangedEvent(List.copyOf(deltas.keySet())));
+            }
+            return first;
+        });
+        redisTemplate.delete(FLUSHING_KEY);
+        stockBatchRepository.forgetAppliedBatch(appliedBatchId);
+        if (!Boolean.TRUE.equals(applied)) {
+            log.info("[RedisStock] 이미 반영된 묶음이라 flushing 해시만 정리 - batchId={}", appliedBatchId);
+            return 0;
+        }
+        log.info("[RedisStock] 재고 증감분 MySQL 반영 완료 - {}권", deltas.size());
+        return deltas.size();
+    }
+
+    /**
+     * Redis 카운터와 (MySQL 재고 + 미반영 증감분)을 비교해서 어긋난 도서 ID 를 반환
+     * 반영 작업과 같은 락 안에서 실행해야 flushing 해시가 DB 와 이중으로 계산되지 않음
+     * auto-repair 가 켜져 있으면 어긋난 카운터를 지워서 다음 요청 때 DB 기준으로 다시 초기화되게 함
+     */
+    public List<Long> detectDrift() {
+        List<Long> bookIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(STOCK_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> bookIds.add(Long.valueOf(key.substring(STOCK_KEY_PREFIX.length()))));
+        }
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> keys = new ArrayList<>(bookIds.stream().map(RedisStockReservation::stockKey).toList());
+        keys.add(PENDING_KEY);
+        keys.add(FLUSHING_KEY);
+        List<String> snapshot = redisTemplate.execute(SNAPSHOT_SCRIPT, keys,
+                bookIds.stream().map(String::valueOf).toArray());
+        if (snapshot == null) {
+            return List.of();
+        }
+
+        Map<Long, Integer> dbStocks = stockBatchRepository.findStockCounts(bookIds);
+        List<Long> drifted = new ArrayList<>();
+        for (int i = 0; i < bookIds.size(); i++) {
+            String expected = snapshot.get(i);
+            Long bookId = bookIds.get(i);
+            if (expected.isEmpty()) {
+                continue; // 스캔 이후 지워진 카운터
+            }
+            Integer dbStock = dbStocks.get(bookId);
+            if (dbStock == null || dbStock != Long.parseLong(expected)) {
+                drifted.add(bookId);
+                log.warn("[RedisStock] 재고 불일치 감지 - bookId={}, db={}, redis(미반영분 제외)={}", bookId, dbStock, expected);
+            }
+        }
+
+        if (autoRepair && !drifted.isEmpty()) {
+            redisTemplate.delete(drifted.stream().map(RedisStockReservation::stockKey).toList());
+            log.warn("[RedisStock] 불일치 카운터 {}개 초기화 (다음 요청 시 DB 기준 재적재)", drifted.size());
+        }
+        return drifted;
+    }
+
+    /// 내부 로직
+    // 바깥 트랜잭션이 롤백되면(멱등키 등록/커밋 실패 등) Redis 에 반영한 증감분을 되돌림
+    private void compensateOnRollback(Map<Long, Integer> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Map<Long, Integer> reverse = new TreeMap<>();
+        deltas.forEach((bookId, delta) -> reverse.put(bookId, -delta));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    DecreaseResult failed = apply(reverse);
+                    if (!failed.isSuccess()) {
+                        log.error("[RedisStock] 롤백된 재고 변경을 되돌리지 못함 (카운터 없음 {}, 재고 부족 {})",
+                                failed.notFoundBookIds(), failed.outOfStockBookIds());
+                    }
+                } catch (RuntimeException e) {
+                    log.error("[RedisStock] 롤백된 재고 변경 되돌리기 실패 - {}", reverse, e);
+                }
+            }
+        });
+    }
+
+    // 카운터가 없는 도서는 DB 재고로 초기화 후 한 번 더 시도, 그래도 없으면 DB 에도 없는 도서
+    private DecreaseResult apply(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return DecreaseResult.SUCCESS;
+        }
+
+        List<String> result = execute(deltas);
+        if (MISSING.equals(result.get(0))) {
+            seed(result.subList(1, result.size()).stream().map(Long::valueOf).toList());
+            result = execute(deltas);
+        }
+
+        String status = result.get(0);
+        if (OK.equals(status)) {
+            return DecreaseResult.SUCCESS;
+        }
+        List<Long> bookIds = result.subList(1, result.size()).stream().map(Long::valueOf).toList();
+        if (MISSING.equals(status)) {
+            return new DecreaseResult(bookIds, List.of());
+        }
+        if (SHORT.equals(status)) {
+            return new DecreaseResult(List.of(), bookIds);
+        }
+        throw new IllegalStateException("알 수 없는 재고 스크립트 응답: " + result);
+    }
+
+    private List<String> execute(Map<Long, Integer> deltas) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        deltas.forEach((bookId, delta) -> {
+            keys.add(stockKey(bookId));
+            args.add(String.valueOf(delta));
+        });
+        keys.add(PENDING_KEY);
+        deltas.keySet().forEach(bookId -> args.add(String.valueOf(bookId)));
+
+        List<String> result = redisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+        if (result == null || result.isEmpty()) {
+            throw new IllegalStateException("재고 스크립트 응답이 비어있습니다.");
+        }
+        return result;
+    }
+
+    // DB 재고를 읽는 사이 flushing 묶음이 반영되거나 바뀌면 flushing 해시를 이중으로 세거나 빠뜨리므로, 읽기 전에 본 묶음
+    // ID 와 그 묶음의 반영 여부를 재고와 같은 트랜잭션에서 읽어 스크립트에 넘기고, 스크립트가 묶음이 바뀌었다고 하면 다시 읽음
+    private void seed(List<Long> bookIds) {
+        for (int attempt = 1; attempt <= SEED_ATTEMPTS; attempt++) {
+            Object seenBatchId = redisTemplate.opsForHash().get(FLUSHING_KEY, BATCH_ID_FIELD);
+            String batchId = seenBatchId == null ? "" : seenBatchId.toString();
+            SeedSource source = transactionTemplate.execute(status -> new SeedSource(
+                    stockBatchRepository.findStockCounts(bookIds),
+                    !batchId.isEmpty() && stockBatchRepository.isBatchApplied(batchId)));
+            if (source == null || source.dbStocks().isEmpty()) {
+                return;
+            }
+            Long seeded = seed(source, batchId);
+            if (seeded == null || seeded >= 0) {
+                return;
+            }
+            log.info("[RedisStock] 카운터 초기화 중 반영 묶음이 바뀌어 다시 시도 - bookIds={}, 시도={}", bookIds, attempt);
+        }
+        throw new IllegalStateException("재고 카운터 초기화 중 반영 묶음이 계속 바뀌었습니다. BookId: " + bookIds);
+    }
+
+    private Long seed(SeedSource source, String batchId) {
+        Map<Long, Integer> dbStocks = source.dbStocks();
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        Set<Long> found = dbStocks.keySet();
+        found.forEach(bookId -> {
+            keys.add(stockKey(bookId));
+            args.add(String.valueOf(dbStocks.get(bookId)));
+        });
+        keys.add(PENDING_KEY);
+        keys.add(FLUSHING_KEY);
+        found.forEach(bookId -> args.add(String.valueOf(bookId)));
+        args.add(BATCH_ID_FIELD);
+        args.add(batchId);
+        args.add(source.batchApplied() ? "1" : "0");
+
+        return redisTemplate.execute(SEED_SCRIPT, keys, args.toArray());
+    }
+
+    static String stockKey(Long bookId) {
+        return STOCK_KEY_PREFIX + bookId;
+    }
+
+    // 카운터 초기화에 쓸 DB 재고와, DB 를 읽기 전 본 flushing 묶음이 그 시점에 이미 반영돼 있었는지
+    private record SeedSource(Map<Long, Integer> dbStocks, boolean batchApplied) {
+    }
+}
@@ -0,0 +1,189 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도서 상세 문서 캐시 (사용자와 무관한 부분만)
+ * <p>
+ * 상세 응답에서 likedByCurrentUser 를 뺀 나머지를 JSON byte[] 로 직렬화해 인스턴스 로컬 near cache(Caffeine) -> Redis 순으로 둡니다.
+ * 사용자별 좋아요 여부는 응답 시점에 따로 붙이므로, 적중 시 DB 작업은 좋아요 존재 여부 조회 한 번뿐입니다.
+ * <p>
+ * 무효화: {@link BookDetailChangedEvent} 커밋 후 로컬 near cache 와 Redis 키를 지우고, Redis 채널로 다른 인스턴스의 near cache 도
+ * 지우게 합니다. 무효화와 겹쳐 읽힌 이전 값이 다시 저장되지 않도록, 최근 무효화 시각 이후에 시작된 로딩 결과만 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookDetailDocumentCache implements MessageListener {
+
+    public static final String CHANNEL = "book-service:book-detail-evict";
+    static final String KEY_PREFIX = "book-service:book-detail:";
+
+    private final RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${book.detail-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${book.detail-cache.near.maximum-size:10000}")
+    private long nearMaximumSize;
+
+    @Value("${book.detail-cache.near.ttl-seconds:60}")
+    private long nearTtlSeconds;
+
+    @Value("${book.detail-cache.redis.ttl-minutes:30}")
+    private long redisTtlMinutes;
+
+    private Cache<Long, byte[]> nearCache;
+    private Cache<Long, Long> recentEvictions; // bookId -> 마지막 무효화 시각(nanoTime)
+
+    @PostConstruct
+    void init() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(nearTtlSeconds))
+                .build();
+        // 로딩 한 번보다 충분히 길게만 기억하면 됨
+        recentEvictions = Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(Duration.ofMinutes(1))
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 캐시된 상세 문서를 돌려주고, 없으면 loader 로 만들어 두 계층에 저장
+     *
+     * @param loader 사용자와 무관한 상세 문서를 DB 에서 만드는 함수 (likedByCurrentUser 는 null)
+     */
+    public BookDetailResponse get(Long bookId, Function<Long, BookDetailResponse> loader) {
+        if (!enabled) {
+            return loader.apply(bookId);
+        }
+
+        byte[] bytes = nearCache.getIfPresent(bookId);
+        if (bytes == null) {
+            bytes = readRedis(bookId);
+            if (bytes != null) {
+                nearCache.put(bookId, bytes);
+            }
+        }
+        if (bytes != null) {
+            BookDetailResponse cached = deserialize(bookId, bytes);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long loadStartedAt = System.nanoTime();
+        BookDetailResponse document = loader.apply(bookId);
+        store(bookId, document, loadStartedAt);
+        return document;
+    }
+
+    /**
+     * 도서 수정/상태 변경/재고 변경/리뷰 작성/좋아요 토글 커밋 후 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookDetailChanged(BookDetailChangedEvent event) {
+        List<Long> bookIds = event.bookIds();
+        bookIds.forEach(this::evictLocal);
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            byteArrayRedisTemplate.delete(bookIds.stream().map(BookDetailDocumentCache::key).toList());
+            for (Long bookId : bookIds) {
+                redisTemplate.convertAndSend(CHANNEL, bookId.toString());
+            }
+        } catch (RuntimeException e) {
+            // Redis 사본은 TTL 로 만료되고, 다른 인스턴스 near cache 는 near ttl 까지 이전 값을 볼 수 있음
+            log.warn("[DetailCache] 무효화 실패: bookIds={}", bookIds, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)에서 온 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("[DetailCache] 알 수 없는 무효화 메시지: {}", body);
+        }
+    }
+
+    static String key(Long bookId) {
+        return KEY_PREFIX + bookId;
+    }
+
+    /// 내부 로직
+    private void evictLocal(Long bookId) {
+        recentEvictions.put(bookId, System.nanoTime());
+        nearCache.invalidate(bookId);
+    }
+
+    private byte[] readRedis(Long bookId) {
+        try {
+            return byteArrayRedisTemplate.opsForValue().get(key(bookId));
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 상세 조회는 DB 로 계속 동작
+            log.warn("[DetailCache] Redis 조회 실패: bookId={}", bookId, e);
+            return null;
+        }
+    }
+
+    private BookDetailResponse deserialize(Long bookId, byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, BookDetailResponse.class);
+        } catch (IOException e) {
+            // 형식이 바뀐 이전 배포의 값 등 -> 버리고 다시 로딩
+            log.warn("[DetailCache] 역직렬화 실패, 캐시를 버림: bookId={}", bookId, e);
+            nearCache.invalidate(bookId);
+            return null;
+        }
+    }
+
+    private void store(Long bookId, BookDetailResponse document, long loadStartedAt) {
+        Long evictedAt = recentEvictions.getIfPresent(bookId);
+        if (evictedAt != null && evictedAt - loadStartedAt >= 0) {
+            return; // 로딩 중에 무효화됨 -> 이전 값일 수 있으므로 저장하지 않음
+        }
+
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(document);
+            nearCache.put(bookId, bytes);
+            byteArrayRedisTemplate.opsForValue().set(key(bookId), bytes, Duration.ofMinutes(redisTtlMinutes));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[DetailCache] 저장 실패: bookId={}", bookId, e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 키별 조회 횟수 기록 (워밍업 대상 선정용)
+ * <p>
+ * 조회마다 Redis 에 쓰지 않고 인스턴스 로컬에서 세다가 {@link #flush()} 에서 일자별 ZSET(ZINCRBY)에 합산합니다.
+ * 모든 인스턴스가 같은 ZSET 에 더하므로 상위 키는 클러스터 전체 기준이고, 오늘 + 어제 점수를 합쳐 순위를 매깁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheAccessRecorder {
+
+    static final String KEY_PREFIX = "book-service:cache-hot:";
+    private static final Duration RETENTION = Duration.ofDays(2);
+
+    // 워밍업 재생 중인 스레드 (워밍업 조회가 다시 인기 키로 집계되지 않도록)
+    private static final ThreadLocal<Boolean> SUPPRESSED = ThreadLocal.withInitial(() -> false);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${book.cache.warmup.caches:bestsellers,newArrivals}")
+    private Set<String> trackedCaches;
+
+    @Value("${book.cache.warmup.max-tracked-keys:1000}")
+    private long maxTrackedKeys;
+
+    private final Map<String, Map<String, LongAdder>> pending = new ConcurrentHashMap<>();
+
+    public void record(String cacheName, String key) {
+        if (SUPPRESSED.get() || !trackedCaches.contains(cacheName)) {
+            return;
+        }
+        pending.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * 쌓인 조회 수를 Redis 에 합산 (인스턴스마다 실행)
+     * <p>
+     * 꺼내는 순간 겹친 몇 건은 빠질 수 있는데, 순위 산정용이라 허용합니다.
+     */
+    public void flush() {
+        for (String cacheName : List.copyOf(pending.keySet())) {
+            Map<String, LongAdder> counts = pending.remove(cacheName);
+            if (counts == null || counts.isEmpty()) {
+                continue;
+            }
+            String hotKey = hotKey(cacheName, LocalDate.now());
+            try {
+                counts.forEach((key, count) -> redisTemplate.opsForZSet().incrementScore(hotKey, key, count.sum()));
+                redisTemplate.opsForZSet().removeRange(hotKey, 0, -(maxTrackedKeys + 1)); // 상위 키만 유지
+                redisTemplate.expire(hotKey, RETENTION);
+            } catch (Exception e) {
+                log.warn("[Warmup] 캐시 조회 수 반영 실패: cache={}, keys={}", cacheName, counts.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 오늘 + 어제 기준 조회 수 상위 키 (많이 조회된 순)
+     */
+    public List<String> topKeys(String cacheName, int limit) {
+        LocalDate today = LocalDate.now();
+        Map<String, Double> scores = new HashMap<>();
+        for (LocalDate day : List.of(today, today.minusDays(1))) {
+            Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(hotKey(cacheName, day), 0, limit - 1L);
+            if (tuples == null) {
+                continue;
+            }
+            for (TypedTuple<String> tuple : tuples) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    scores.merge(tuple.getValue(), tuple.getScore(), Double::sum);
+                }
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * action 실행 중의 조회는 기록하지 않음
+     */
+    public static void runWithoutRecording(Runnable action) {
+        SUPPRESSED.set(true);
+        try {
+            action.run();
+        } finally {
+            SUPPRESSED.remove();
+        }
+    }
+
+    static String hotKey(String cacheName, LocalDate day) {
+        return KEY_PREFIX + cacheName + ":" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
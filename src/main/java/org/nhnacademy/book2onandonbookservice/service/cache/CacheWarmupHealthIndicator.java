@@ -0,0 +1,33 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.service.cache.CacheWarmupService.WarmupResult;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 캐시 워밍업이 끝나기 전까지 OUT_OF_SERVICE (readiness 그룹에 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public Health health() {
+        if (!cacheWarmupService.isStartupCompleted()) {
+            return Health.outOfService().withDetail("phase", "warming").build();
+        }
+        WarmupResult result = cacheWarmupService.getLastResult();
+        Health.Builder builder = Health.up().withDetail("phase", "completed");
+        if (result != null) {
+            builder.withDetail("warmedKeys", result.warmedKeys())
+                    .withDetail("failedKeys", result.failedKeys())
+                    .withDetail("timedOut", result.timedOut())
+                    .withDetail("elapsedMs", result.elapsed().toMillis());
+        }
+        return builder.build();
+    }
+}
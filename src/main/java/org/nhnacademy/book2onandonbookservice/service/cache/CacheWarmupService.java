@@ -0,0 +1,151 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.service.book.BookService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Service;
+
+/**
+ * 캐시 워밍업
+ * <p>
+ * 자주 조회된 캐시 키({@link CacheAccessRecorder})를 서비스 메서드로 다시 호출해 L2(Redis) 와 이 인스턴스의 L1 을 채웁니다.
+ * 기록이 없어도 항상 데우는 기본 키(베스트셀러 기간, 카테고리 트리, 전체 신간 첫 페이지)를 먼저 재생합니다.
+ * <p>
+ * 시작 시: ApplicationReadyEvent 리스너에서 동기로 실행하므로 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되고,
+ * Eureka 상태도 STARTING(eureka.instance.initial-status) 에서 UP 으로 바꿉니다. 실패하거나 제한 시간을 넘겨도 트래픽은 받습니다.
+ * 이후에는 스케줄러가 주기적으로 다시 실행해 soft 만료된 인기 키를 사용자 요청보다 먼저 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupService {
+
+    static final String BESTSELLERS = "bestsellers";
+    static final String NEW_ARRIVALS = "newArrivals";
+    static final String CATEGORIES = "categories";
+
+    // 키 공간이 작아 항상 데우는 키
+    private static final Map<String, List<String>> BASELINE_KEYS = Map.of(
+            BESTSELLERS, List.of("DAILY", "WEEKLY"),
+            NEW_ARRIVALS, List.of("null_0"),
+            CATEGORIES, List.of("all")
+    );
+
+    // 신간 캐시 키에는 페이지 크기/정렬이 없으므로 BookController 의 기본값(@PageableDefault)으로 재생
+    private static final int NEW_ARRIVALS_PAGE_SIZE = 10;
+    private static final Sort NEW_ARRIVALS_SORT = Sort.by(Direction.DESC, "publishDate");
+
+    private final BookService bookService;
+    private final CacheAccessRecorder cacheAccessRecorder;
+    private final ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+    @Value("${book.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${book.cache.warmup.top-keys:50}")
+    private int topKeys;
+
+    @Value("${book.cache.warmup.timeout-seconds:60}")
+    private long timeoutSeconds;
+
+    private volatile boolean startupCompleted;
+    private volatile WarmupResult lastResult;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        try {
+            warmUp();
+        } catch (RuntimeException e) {
+            log.error("[Warmup] 시작 시 워밍업 실패, 그대로 트래픽을 받습니다.", e);
+        } finally {
+            startupCompleted = true;
+            applicationInfoManager.ifAvailable(manager -> manager.setInstanceStatus(InstanceStatus.UP));
+        }
+    }
+
+    public WarmupResult warmUp() {
+        if (!enabled) {
+            return new WarmupResult(0, 0, false, Duration.ZERO);
+        }
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + Duration.ofSeconds(timeoutSeconds).toNanos();
+        int warmed = 0;
+        int failed = 0;
+        boolean timedOut = false;
+
+        for (String cacheName : List.of(CATEGORIES, BESTSELLERS, NEW_ARRIVALS)) {
+            for (String key : keysToWarm(cacheName)) {
+                if (System.nanoTime() > deadline) {
+                    timedOut = true;
+                    break;
+                }
+                try {
+                    CacheAccessRecorder.runWithoutRecording(() -> replay(cacheName, key));
+                    warmed++;
+                } catch (RuntimeException e) {
+                    failed++;
+                    log.warn("[Warmup] 캐시 키 재생 실패: cache={}, key={}", cacheName, key, e);
+                }
+            }
+        }
+
+        WarmupResult result = new WarmupResult(warmed, failed, timedOut,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+        lastResult = result;
+        log.info("[Warmup] 캐시 워밍업 완료: {}", result);
+        return result;
+    }
+
+    public boolean isStartupCompleted() {
+        return startupCompleted;
+    }
+
+    public WarmupResult getLastResult() {
+        return lastResult;
+    }
+
+    /// 내부 로직
+    private List<String> keysToWarm(String cacheName) {
+        Set<String> keys = new LinkedHashSet<>(BASELINE_KEYS.getOrDefault(cacheName, List.of()));
+        try {
+            keys.addAll(cacheAccessRecorder.topKeys(cacheName, topKeys));
+        } catch (RuntimeException e) {
+            log.warn("[Warmup] 인기 키 조회 실패, 기본 키만 데웁니다: cache={}", cacheName, e);
+        }
+        return new ArrayList<>(keys);
+    }
+
+    private void replay(String cacheName, String key) {
+        switch (cacheName) {
+            case CATEGORIES -> bookService.getCategories();
+            case BESTSELLERS -> bookService.getBestsellers(key);
+            case NEW_ARRIVALS -> {
+                // 키 형식: categoryId_pageNumber (전체는 categoryId 자리에 null)
+                int separator = key.lastIndexOf('_');
+                String categoryId = key.substring(0, separator);
+                int page = Integer.parseInt(key.substring(separator + 1));
+                bookService.getNewArrivals("null".equals(categoryId) ? null : Long.valueOf(categoryId),
+                        PageRequest.of(page, NEW_ARRIVALS_PAGE_SIZE, NEW_ARRIVALS_SORT));
+            }
+            default -> throw new IllegalArgumentException("워밍업을 지원하지 않는 캐시입니다: " + cacheName);
+        }
+    }
+
+    public record WarmupResult(int warmedKeys, int failedKeys, boolean timedOut, Duration elapsed) {
+    }
+}
@@ -0,0 +1,123 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시별 값 타입을 알고 쓰는 바이너리(Smile) RedisSerializer
+ * <p>
+ * GenericJackson2JsonRedisSerializer 는 객체마다 클래스 이름(@class)을 JSON 으로 남기는데, 캐시 이름별로 값 타입이 정해져 있으므로 타입 정보 없이
+ * Smile 로 씁니다. 반복되는 필드명/문자열(출판사, 기여자 등)은 Smile 이 back-reference 로 한 번만 기록합니다.
+ * 직렬화 결과가 compressionThreshold 바이트 이상이면 LZ4 로 압축합니다.
+ * <p>
+ * 형식: {@code [0x01][smile]} 또는 {@code [0x02][원본 길이(int)][lz4(smile)]}.
+ * 첫 바이트가 이 둘이 아니면 이전 JSON 직렬화 값으로 보고 legacy 로 읽습니다 (배포 직후 기존 키 호환).
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte SMILE = 0x01;
+    static final byte SMILE_LZ4 = 0x02;
+
+    private static final ObjectMapper SMILE_MAPPER = createMapper();
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int compressionThreshold;
+    private final RedisSerializer<?> legacy;
+
+    public CompactRedisSerializer(JavaType valueType, int compressionThreshold, RedisSerializer<?> legacy) {
+        this.writer = SMILE_MAPPER.writerFor(valueType);
+        this.reader = SMILE_MAPPER.readerFor(valueType);
+        this.compressionThreshold = compressionThreshold;
+        this.legacy = legacy;
+    }
+
+    public static JavaType type(Class<?> rawType, Class<?>... parameterTypes) {
+        if (parameterTypes.length == 0) {
+            return SMILE_MAPPER.getTypeFactory().constructType(rawType);
+        }
+        return SMILE_MAPPER.getTypeFactory().constructParametricType(rawType, parameterTypes);
+    }
+
+    // 값 타입을 감싸는 경우 (예: SoftExpiringValue<List<BookListResponse>>)
+    public static JavaType type(Class<?> rawType, JavaType parameterType) {
+        return SMILE_MAPPER.getTypeFactory().constructParametricType(rawType, parameterType);
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] smile;
+        try {
+            smile = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+
+        if (smile.length < compressionThreshold) {
+            return ByteBuffer.allocate(1 + smile.length).put(SMILE).put(smile).array();
+        }
+
+        LZ4Compressor compressor = LZ4.fastCompressor();
+        byte[] compressed = new byte[compressor.maxCompressedLength(smile.length)];
+        int compressedLength = compressor.compress(smile, 0, smile.length, compressed, 0, compressed.length);
+        return ByteBuffer.allocate(1 + Integer.BYTES + compressedLength)
+                .put(SMILE_LZ4)
+                .putInt(smile.length)
+                .put(compressed, 0, compressedLength)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return switch (bytes[0]) {
+                case SMILE -> reader.readValue(bytes, 1, bytes.length - 1);
+                case SMILE_LZ4 -> reader.readValue(decompress(bytes));
+                default -> legacy.deserialize(bytes);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+
+    /// 내부 로직
+    private byte[] decompress(byte[] bytes) {
+        int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+        byte[] restored = new byte[originalLength];
+        decompressor.decompress(bytes, 1 + Integer.BYTES, restored, 0, originalLength);
+        return restored;
+    }
+
+    private static ObjectMapper createMapper() {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper mapper = new ObjectMapper(factory);
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return mapper;
+    }
+}
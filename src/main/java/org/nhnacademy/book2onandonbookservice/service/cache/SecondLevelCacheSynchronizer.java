@@ -0,0 +1,222 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.nhnacademy.book2onandonbookservice.entity.BookTag;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate 2차 캐시 인스턴스 간 무효화
+ * <p>
+ * 2차 캐시는 인스턴스마다 로컬(Caffeine)이라서, 한 인스턴스에서 커밋된 변경(예: CategoryService.updateCategoryName,
+ * TagService.updateTagName, 도서 연관관계 수정)을 Redis 채널로 알리고 다른 인스턴스는 해당 엔티티/컬렉션 캐시를 지웁니다.
+ * <p>
+ * 메시지 형식: {@code E|엔티티명|id} (엔티티), {@code C|컬렉션 role|소유자 id} (Book 연관 컬렉션),
+ * {@code R|엔티티명|*} (엔티티 영역 전체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheSynchronizer implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, MessageListener {
+
+    public static final String CHANNEL = "book-service:hibernate-cache-evict";
+
+    private static final String ENTITY = "E";
+    private static final String COLLECTION = "C";
+    private static final String REGION = "R";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private CacheImplementor cache;
+
+    @PostConstruct
+    void init() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        cache = sessionFactory.getCache();
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시 대상 엔티티만 커밋 후 처리
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // 새 엔티티는 다른 인스턴스 캐시에 없으므로, 소속 컬렉션만 무효화
+        broadcast(collectionMessages(event.getEntity()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        List<String> messages = collectionMessages(event.getEntity());
+        entityMessage(event.getPersister().getEntityName(), event.getId(), messages);
+        broadcast(messages);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        List<String> messages = collectionMessages(event.getEntity());
+        entityMessage(event.getPersister().getEntityName(), event.getId(), messages);
+        broadcast(messages);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 알릴 필요 없음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 알릴 필요 없음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 변경은 알릴 필요 없음
+    }
+
+    /**
+     * 다른 인스턴스(자기 자신 포함)에서 온 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * JDBC 로 직접 다시 쓴 도서 기여자/출판사 관계의 캐시를 커밋 후 모든 인스턴스에서 지움 (트랜잭션 밖이면 바로)
+     * <p>
+     * Hibernate 를 거치지 않은 변경이라 커밋 후 리스너가 불리지 않습니다. 지운 관계 행의 ID 는 모르므로 두 엔티티 영역은
+     * 통째로 지웁니다. Redis 전파가 실패해도 이 인스턴스 캐시는 바로 지웁니다.
+     */
+    public void evictBookRelations(Collection<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        List<String> messages = new ArrayList<>(bookIds.size() * 2 + 2);
+        for (Long bookId : bookIds) {
+            messages.add(COLLECTION + "|" + Book.class.getName() + ".bookContributors|" + bookId);
+            messages.add(COLLECTION + "|" + Book.class.getName() + ".bookPublishers|" + bookId);
+        }
+        messages.add(REGION + "|" + BookContributor.class.getName() + "|*");
+        messages.add(REGION + "|" + BookPublisher.class.getName() + "|*");
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEverywhere(messages);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEverywhere(messages);
+            }
+        });
+    }
+
+    /// 내부 로직
+    private void evict(String body) {
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("[L2Cache] 알 수 없는 무효화 메시지: {}", body);
+            return;
+        }
+
+        try {
+            if (REGION.equals(parts[0])) {
+                cache.evictEntityData(parts[1]);
+                return;
+            }
+            Long id = Long.valueOf(parts[2]);
+            if (ENTITY.equals(parts[0])) {
+                cache.evictEntityData(parts[1], id);
+            } else if (COLLECTION.equals(parts[0])) {
+                cache.evictCollectionData(parts[1], id);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[L2Cache] 무효화 메시지 처리 실패: {}", body, e);
+        }
+    }
+
+    private void evictEverywhere(List<String> messages) {
+        messages.forEach(this::evict);
+        broadcast(messages);
+    }
+
+    private void entityMessage(String entityName, Object id, List<String> messages) {
+        // 복합키(BookTag)는 컬렉션 무효화만으로 충분
+        if (id instanceof Long longId) {
+            messages.add(ENTITY + "|" + entityName + "|" + longId);
+        }
+    }
+
+    // 연관 엔티티가 바뀌면 소유 Book 의 컬렉션 캐시를 무효화
+    private List<String> collectionMessages(Object entity) {
+        List<String> messages = new ArrayList<>();
+        switch (entity) {
+            case BookCategory bc -> addCollection(messages, "bookCategories", bc.getBook());
+            case BookTag bt -> addCollection(messages, "bookTags", bt.getBook());
+            case BookContributor bc -> addCollection(messages, "bookContributors", bc.getBook());
+            case BookPublisher bp -> addCollection(messages, "bookPublishers", bp.getBook());
+            default -> {
+                // 연관 컬렉션이 없는 엔티티
+            }
+        }
+        return messages;
+    }
+
+    private void addCollection(List<String> messages, String property, Book book) {
+        if (book != null && book.getId() != null) {
+            messages.add(COLLECTION + "|" + Book.class.getName() + "." + property + "|" + book.getId());
+        }
+    }
+
+    private void broadcast(List<String> messages) {
+        for (String message : messages) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, message);
+            } catch (RuntimeException e) {
+                // 전파 실패 시 다른 인스턴스는 캐시 만료(application.conf)까지 이전 값을 볼 수 있음
+                log.warn("[L2Cache] 무효화 메시지 전송 실패: {}", message, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * soft 만료 시각을 함께 저장하는 캐시 값
+ * <p>
+ * Redis TTL(hard 만료)과 별개로, softExpiresAt 이 지나면 값은 계속 돌려주되 백그라운드에서 다시 계산합니다.
+ * (기본 타이핑 JSON 직렬화에서 @class 가 붙도록 final 이 아닌 클래스로 둠)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SoftExpiringValue<T> {
+
+    private T value;
+    private long softExpiresAt; // epoch millis
+
+    public boolean isStale(long nowMillis) {
+        return nowMillis >= softExpiresAt;
+    }
+}
@@ -0,0 +1,354 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * soft/hard 만료 + 단일 로딩(single-flight)을 더한 Redis 캐시
+ * <p>
+ * 값은 {@link SoftExpiringValue} 로 감싸 저장하고, Redis TTL 은 soft TTL 보다 긴 hard 만료로 둡니다.
+ * <ul>
+ *     <li>soft 만료 전: 그대로 반환</li>
+ *     <li>soft 만료 후 ~ hard 만료 전: 이전 값을 바로 반환하고, 백그라운드에서 한 번만 다시 계산</li>
+ *     <li>hard 만료(키 없음): 클러스터 전체에서 리스를 얻은 한 곳만 로딩하고, 나머지는 값이 채워질 때까지 잠깐 기다림</li>
+ * </ul>
+ * 리스는 짧은 TTL 의 Redis 키(SET NX PX)이고, 로딩한 쪽이 끝나면 자기 리스만 지웁니다. 리스를 가진 쪽이 죽어도 TTL 이 지나면 풀립니다.
+ * 같은 인스턴스 안의 동시 미스는 로컬 future 하나로 묶어 한 스레드만 리스를 시도하고, 나머지는 Redis 를 폴링하지 않고 그 결과를
+ * 받습니다. 리스가 값 없이 사라지면(로딩 실패) 제한 시간까지 기다리지 않고 바로 리스를 다시 시도합니다.
+ * 로더가 넘어오는 경로({@code @Cacheable(sync = true)})에서만 갱신/단일 로딩이 동작합니다.
+ */
+@Slf4j
+public class StaleWhileRevalidateCache implements Cache {
+
+    static final String LEASE_KEY_PREFIX = "book-service:cache-lease:";
+    private static final String NO_LEASE = ""; // Redis 장애로 리스 없이 로딩 (가용성 우선)
+
+    // 자기 리스일 때만 삭제 (TTL 이 지나 다른 쪽이 가져간 리스는 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final Cache delegate;
+    private final Duration softTtl;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor refreshExecutor;
+    private final Duration leaseTtl;
+    private final Duration pollInterval;
+    private final Clock clock;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet(); // 이 인스턴스에서 갱신 중인 키
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>(); // 이 인스턴스에서 로딩 중인 키
+
+    public StaleWhileRevalidateCache(Cache delegate, Duration softTtl, StringRedisTemplate redisTemplate,
+                                     Executor refreshExecutor, Duration leaseTtl, Duration pollInterval,
+                                     Clock clock) {
+        this.delegate = delegate;
+        this.softTtl = softTtl;
+        this.redisTemplate = redisTemplate;
+        this.refreshExecutor = refreshExecutor;
+        this.leaseTtl = leaseTtl;
+        this.pollInterval = pollInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        SoftExpiringValue<?> entry = lookup(key);
+        return entry != null ? new SimpleValueWrapper(entry.getValue()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        SoftExpiringValue<?> entry = lookup(key);
+        Object value = entry != null ? entry.getValue() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 맞지 않습니다. cache=" + getName() + ", key=" + key);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        SoftExpiringValue<?> entry = lookup(key);
+        if (entry != null) {
+            if (entry.isStale(clock.millis())) {
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) entry.getValue();
+        }
+        return loadOnce(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            delegate.evict(key); // null 은 저장하지 않음 (disableCachingNullValues)
+            return;
+        }
+        delegate.put(key, wrap(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        ValueWrapper existing = delegate.putIfAbsent(key, wrap(value));
+        if (existing == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(existing.get() instanceof SoftExpiringValue<?> entry
+                ? entry.getValue() : existing.get());
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /// 내부 로직
+    private SoftExpiringValue<?> lookup(Object key) {
+        ValueWrapper wrapper;
+        try {
+            wrapper = delegate.get(key);
+        } catch (SerializationException e) {
+            // 저장 형식이 바뀌기 전에 쓰인 값 -> 미스로 보고 다시 채움
+            log.warn("[SWR] 캐시 값을 읽지 못해 미스로 처리합니다. cache={}, key={}", getName(), key, e);
+            return null;
+        }
+        if (wrapper == null || wrapper.get() == null) {
+            return null;
+        }
+        if (wrapper.get() instanceof SoftExpiringValue<?> entry) {
+            return entry;
+        }
+        // soft 만료 정보가 없는 이전 형식 값은 이미 soft 만료된 것으로 보고 제공하면서 갱신
+        return new SoftExpiringValue<>(wrapper.get(), 0L);
+    }
+
+    // 같은 인스턴스의 동시 미스는 먼저 온 스레드의 로딩 결과를 공유
+    @SuppressWarnings("unchecked")
+    private <T> T loadOnce(Object key, Callable<T> valueLoader) {
+        String localKey = String.valueOf(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(localKey, mine);
+        if (inFlight != null) {
+            return (T) awaitLocalLoader(key, valueLoader, inFlight);
+        }
+
+        try {
+            T value = loadWithLease(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(localKey, mine);
+        }
+    }
+
+    private Object awaitLocalLoader(Object key, Callable<?> valueLoader, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private <T> T loadWithLease(Object key, Callable<T> valueLoader) {
+        String lease = tryAcquireLease(key);
+        if (lease == null) {
+            SoftExpiringValue<?> loaded = awaitOtherLoader(key);
+            if (loaded != null) {
+                return castValue(loaded);
+            }
+            // 리스를 가진 쪽이 값 없이 끝났거나 제한 시간 안에 채우지 못함 -> 리스를 다시 시도하고, 그래도 없으면 직접 로딩
+            lease = tryAcquireLease(key);
+            if (lease == null) {
+                log.warn("[SWR] 다른 로더를 기다리다 시간 초과, 직접 로딩합니다. cache={}, key={}", getName(), key);
+                return load(key, valueLoader);
+            }
+        }
+
+        try {
+            // 리스를 얻는 사이 다른 쪽이 이미 채우고 리스를 놓았을 수 있음
+            SoftExpiringValue<?> current = lookup(key);
+            if (current != null) {
+                return castValue(current);
+            }
+            return load(key, valueLoader);
+        } finally {
+            releaseLease(key, lease);
+        }
+    }
+
+    private SoftExpiringValue<?> awaitOtherLoader(Object key) {
+        long attempts = Math.max(1, leaseTtl.toMillis() / Math.max(1, pollInterval.toMillis()));
+        for (long i = 0; i < attempts; i++) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            SoftExpiringValue<?> entry = lookup(key);
+            if (entry != null) {
+                return entry;
+            }
+            if (!isLeaseHeld(key)) {
+                return lookup(key); // 리스가 풀렸는데 값이 없으면 로딩 실패 -> 더 기다리지 않음
+            }
+        }
+        return null;
+    }
+
+    private boolean isLeaseHeld(Object key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey(key)));
+        } catch (RuntimeException e) {
+            log.warn("[SWR] 리스 확인 실패, 대기를 멈춥니다. cache={}, key={}", getName(), key, e);
+            return false;
+        }
+    }
+
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        String localKey = String.valueOf(key);
+        if (!refreshing.add(localKey)) {
+            return; // 이 인스턴스에서 이미 갱신 중
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, valueLoader);
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다음 요청에서 다시 시도 (그동안은 이전 값 제공)
+            refreshing.remove(localKey);
+            log.warn("[SWR] 갱신 작업이 거부되었습니다. cache={}, key={}", getName(), key);
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        String lease = tryAcquireLease(key);
+        if (lease == null) {
+            return; // 다른 인스턴스가 갱신 중
+        }
+        try {
+            SoftExpiringValue<?> current = lookup(key);
+            if (current != null && !current.isStale(clock.millis())) {
+                return; // 리스를 얻는 사이 이미 갱신됨
+            }
+            load(key, valueLoader);
+            log.debug("[SWR] 백그라운드 갱신 완료. cache={}, key={}", getName(), key);
+        } catch (RuntimeException e) {
+            log.warn("[SWR] 백그라운드 갱신 실패, hard 만료 전까지 이전 값을 제공합니다. cache={}, key={}", getName(), key, e);
+        } finally {
+            releaseLease(key, lease);
+        }
+    }
+
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    // 리스 토큰, 다른 쪽이 가진 경우 null
+    private String tryAcquireLease(Object key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(key), token, leaseTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            log.warn("[SWR] 리스 획득 실패, 리스 없이 로딩합니다. cache={}, key={}", getName(), key, e);
+            return NO_LEASE;
+        }
+    }
+
+    private void releaseLease(Object key, String token) {
+        if (NO_LEASE.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(key)), token);
+        } catch (RuntimeException e) {
+            // TTL 이 지나면 풀림
+            log.warn("[SWR] 리스 해제 실패. cache={}, key={}", getName(), key, e);
+        }
+    }
+
+    private String leaseKey(Object key) {
+        return LEASE_KEY_PREFIX + getName() + "::" + key;
+    }
+
+    private SoftExpiringValue<Object> wrap(Object value) {
+        return new SoftExpiringValue<>(value, clock.millis() + softTtl.toMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T castValue(SoftExpiringValue<?> entry) {
+        return (T) entry.getValue();
+    }
+}
@@ -0,0 +1,62 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 지정한 캐시만 {@link StaleWhileRevalidateCache} 로 감싸는 CacheManager (나머지는 그대로 위임)
+ * <p>
+ * softTtls 에 있는 캐시 이름이 대상이며, 해당 캐시의 Redis TTL 은 soft TTL 보다 길게(hard 만료) 설정되어 있어야 합니다.
+ */
+public class StaleWhileRevalidateCacheManager implements CacheManager {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> softTtls;
+    private final StringRedisTemplate redisTemplate;
+    private final Executor refreshExecutor;
+    private final Duration leaseTtl;
+
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public StaleWhileRevalidateCacheManager(CacheManager delegate, Map<String, Duration> softTtls,
+                                            StringRedisTemplate redisTemplate, Executor refreshExecutor,
+                                            Duration leaseTtl) {
+        this.delegate = delegate;
+        this.softTtls = Map.copyOf(softTtls);
+        this.redisTemplate = redisTemplate;
+        this.refreshExecutor = refreshExecutor;
+        this.leaseTtl = leaseTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Duration softTtl = softTtls.get(name);
+        if (softTtl == null) {
+            return delegate.getCache(name);
+        }
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new StaleWhileRevalidateCache(target, softTtl,
+                redisTemplate, refreshExecutor, leaseTtl, POLL_INTERVAL, Clock.systemUTC()));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,162 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * L1(인스턴스 로컬 Caffeine) + L2(Redis) 캐시
+ * <p>
+ * 조회는 L1 -> L2 순, L2 적중 값은 L1 에 채웁니다. 쓰기/삭제는 두 계층 모두 반영하고, 다른 인스턴스의 L1 은 evictionPublisher 로 알립니다.
+ * L1 키는 RedisCache 와 같은 문자열 표현을 씁니다 (무효화 메시지로 주고받기 위함).
+ */
+public class TwoLevelCache implements Cache {
+
+    static final String METRIC_NAME = "cache.tier.requests";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final Consumer<String> evictionPublisher; // 키 (전체 삭제는 null)
+    private final Consumer<String> accessListener; // 조회된 키 (워밍업 대상 집계)
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote,
+                  Consumer<String> evictionPublisher, Consumer<String> accessListener, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+        this.accessListener = accessListener;
+        this.l1Hit = counter(meterRegistry, "l1", "hit");
+        this.l1Miss = counter(meterRegistry, "l1", "miss");
+        this.l2Hit = counter(meterRegistry, "l2", "hit");
+        this.l2Miss = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        accessListener.accept(localKey);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            l1Hit.increment();
+            return new SimpleValueWrapper(value);
+        }
+        l1Miss.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            l2Miss.increment();
+            return wrapper;
+        }
+        l2Hit.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 맞지 않습니다. cache=" + name + ", key=" + key);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        accessListener.accept(localKey);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hit.increment();
+            return (T) cached;
+        }
+        l1Miss.increment();
+
+        // L1 미스면 로더와 함께 L2 로 넘김 (L2 가 키 단위 동기화 로딩, soft 만료 시 갱신까지 처리)
+        AtomicBoolean loaded = new AtomicBoolean();
+        T value = remote.get(key, () -> {
+            loaded.set(true);
+            return valueLoader.call();
+        });
+        (loaded.get() ? l2Miss : l2Hit).increment();
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        if (value == null) {
+            local.invalidate(localKey);
+        } else {
+            local.put(localKey, value);
+        }
+        evictionPublisher.accept(localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        evictionPublisher.accept(localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        evictionPublisher.accept(null);
+    }
+
+    /**
+     * 다른 인스턴스에서 온 무효화 (L1 만)
+     */
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("계층별 캐시 적중/미스 수")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,128 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * RedisCacheManager 앞에 인스턴스 로컬 L1(Caffeine)을 두는 CacheManager
+ * <p>
+ * 적중 시 Redis 왕복과 JSON 역직렬화를 건너뜁니다. L1 은 크기 제한이 있고, 만료 시간은 min(near ttl, 해당 캐시의 Redis ttl) 입니다.
+ * 한 인스턴스에서 put/evict/clear 하면 Redis 채널로 알려 다른 인스턴스의 L1 도 같은 키를 지웁니다.
+ * <p>
+ * 메시지 형식: {@code 인스턴스ID|캐시명|키} (clear 는 키 자리에 {@code *})
+ * <p>
+ * 조회된 키는 accessListener(캐시명, 키)로 알립니다 (워밍업 대상 집계).
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String CHANNEL = "book-service:cache-evict";
+    private static final String ALL_KEYS = "*";
+
+    private final CacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long nearMaximumSize;
+    private final Duration nearTtl;
+    private final BiConsumer<String, String> accessListener;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry, long nearMaximumSize, Duration nearTtl,
+                                BiConsumer<String, String> accessListener) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nearMaximumSize = nearMaximumSize;
+        this.nearTtl = nearTtl;
+        this.accessListener = accessListener;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = redisCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 다른 인스턴스에서 온 L1 무효화 메시지 처리 (자기 자신이 보낸 것은 이미 반영했으므로 무시)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("[NearCache] 알 수 없는 무효화 메시지: {}", body);
+            return;
+        }
+        if (instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    /// 내부 로직
+    private TwoLevelCache createCache(String name, Cache remote) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(nearMaximumSize)
+                .expireAfterWrite(localTtl(remote))
+                .build();
+        return new TwoLevelCache(name, local, remote, key -> publishEviction(name, key),
+                key -> accessListener.accept(name, key), meterRegistry);
+    }
+
+    // L1 이 L2 보다 오래 살아 만료된 값을 돌려주지 않도록
+    private Duration localTtl(Cache remote) {
+        if (remote instanceof RedisCache redisCache) {
+            Duration remoteTtl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive("", null);
+            if (remoteTtl != null && !remoteTtl.isZero() && !remoteTtl.isNegative()
+                    && remoteTtl.compareTo(nearTtl) < 0) {
+                return remoteTtl;
+            }
+        }
+        return nearTtl;
+    }
+
+    private void publishEviction(String cacheName, String key) {
+        String message = instanceId + "|" + cacheName + "|" + (key == null ? ALL_KEYS : key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 인스턴스는 L1 만료까지 이전 값을 볼 수 있음
+            log.warn("[NearCache] 무효화 메시지 전송 실패: {}", message, e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.nhnacademy.book2onandonbookservice.service.category;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryClosureRepository;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository.CategoryNode;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카테고리 클로저 테이블 유지
+ * <p>
+ * 카테고리를 만드는 곳에서 같은 트랜잭션 안에 {@link #addCategory(Category)} 를 호출하고,
+ * 시작 시 {@link #fillMissingPaths()} 로 경로가 없는 카테고리(도입 전 데이터 등)를 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryClosureService {
+
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 새로 저장한 카테고리의 경로 추가 (부모 경로는 이미 있어야 함)
+     */
+    public void addCategory(Category category) {
+        categoryClosureRepository.insertPaths(category.getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingPathsOnStartup() {
+        try {
+            fillMissingPaths();
+        } catch (Exception e) {
+            // 경로가 빠진 카테고리는 신간 조회에서 도서가 안 보일 뿐이라 시작은 계속
+            log.error("[CategoryClosure] 누락 경로 채우기 실패", e);
+        }
+    }
+
+    /**
+     * 경로가 없는 카테고리를 부모부터 채움 (카테고리마다 별도 트랜잭션)
+     *
+     * @return 경로를 추가한 카테고리 수
+     */
+    public int fillMissingPaths() {
+        List<CategoryNode> missing = categoryClosureRepository.findNodesWithoutPaths();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+        Map<Long, CategoryNode> missingById = new HashMap<>(missing.size() * 2);
+        missing.forEach(node -> missingById.put(node.getId(), node));
+
+        Set<Long> done = new HashSet<>();
+        int added = 0;
+        for (CategoryNode node : missing) {
+            added += fill(node, missingById, done, new HashSet<>());
+        }
+        log.info("[CategoryClosure] 누락 경로 채움: {}/{}개", added, missing.size());
+        return added;
+    }
+
+    /// 내부 로직
+    private int fill(CategoryNode node, Map<Long, CategoryNode> missingById, Set<Long> done, Set<Long> visiting) {
+        if (done.contains(node.getId()) || !visiting.add(node.getId())) {
+            return 0; // 이미 처리했거나 부모 관계가 순환
+        }
+        int added = 0;
+        CategoryNode parent = node.getParentId() != null ? missingById.get(node.getParentId()) : null;
+        if (parent != null) {
+            added += fill(parent, missingById, done, visiting);
+        }
+        done.add(node.getId());
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> categoryClosureRepository.insertPaths(node.getId()));
+            added++;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 채움
+            log.debug("[CategoryClosure] 이미 경로가 있는 카테고리: {}", node.getId());
+        }
+        return added;
+    }
+}
@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +18,6 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final ApplicationEventPublisher eventPublisher;
 
-    @CacheEvict(value = "categories", allEntries = true, cacheManager = "RedisCacheManager")
     @Transactional
     public Category updateCategoryName(Long categoryId, String newName) {
         Category category = categoryRepository.findById(categoryId)
@@ -38,7 +36,7 @@ public class CategoryService {
 
         log.info("카테고리 이름 변경 사항이 업데이트 되었습니다. id={}, oldName={}, newName={}", categoryId, oldName, newName);
 
-        // 변경 감지 이벤트 발생
+        // 변경 감지 이벤트 발생 (커밋 후 검색 재인덱싱, 카테고리 트리 인덱스 재구성)
         eventPublisher.publishEvent(new CategoryUpdatedEvent(categoryId, oldName, newName));
 
         return category;
@@ -0,0 +1,282 @@
+package org.nhnacademy.book2onandonbookservice.service.category;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository.CategoryNode;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 인스턴스 로컬 카테고리 트리 인덱스 (불변 스냅샷 교체 방식)
+ * <p>
+ * 전체 카테고리를 (id, 이름, 부모 id) 쿼리 한 번으로 읽어 전위 순회 순서의 id 배열을 만들고, 각 카테고리의 하위 트리를 배열 구간
+ * [시작, 끝) 으로 기억합니다 (nested set). "자신 + 모든 하위 카테고리 id" 는 구간을 감싼 리스트라 O(1) 이고,
+ * {@code GET /books/categories} 응답 JSON 도 만들 때 한 번만 직렬화해 둡니다.
+ * <p>
+ * 재구성: {@link CategoryUpdatedEvent} 커밋 후 다시 만들고, Redis 채널로 다른 인스턴스에도 알립니다.
+ * 인덱스에 없는 id 조회는 (다른 경로로 새로 생긴 카테고리일 수 있으므로) 최근 재구성 후 일정 시간이 지났으면 한 번 다시 만들어 봅니다.
+ * 재구성 중에도 읽기는 이전 스냅샷으로 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeIndex implements MessageListener {
+
+    public static final String CHANNEL = "book-service:category-index-rebuild";
+    private static final long MISS_REBUILD_INTERVAL_NANOS = Duration.ofSeconds(5).toNanos();
+
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Object buildLock = new Object();
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 자신 + 모든 하위 카테고리 id (전위 순회 순서, 읽기 전용), 없는 카테고리면 empty
+     */
+    public Optional<List<Long>> descendantIds(Long categoryId) {
+        Snapshot current = snapshot();
+        List<Long> ids = current.descendantIds(categoryId);
+        if (ids == null && System.nanoTime() - current.builtAt > MISS_REBUILD_INTERVAL_NANOS) {
+            ids = build().descendantIds(categoryId);
+        }
+        return Optional.ofNullable(ids);
+    }
+
+    /**
+     * 최상위 카테고리 목록 (children 포함, 모든 단계가 불변 리스트)
+     */
+    public List<CategoryDto> tree() {
+        return snapshot().tree;
+    }
+
+    /**
+     * {@link #tree()} 를 미리 직렬화한 JSON
+     */
+    public byte[] treeJson() {
+        return snapshot().treeJson;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryUpdated(CategoryUpdatedEvent event) {
+        rebuild();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, instanceId);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 인덱스에 없는 id 조회 시 또는 재시작 시 다시 만듦
+            log.warn("[CategoryIndex] 재구성 알림 전송 실패", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (instanceId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        rebuild();
+    }
+
+    public void rebuild() {
+        build();
+    }
+
+    /// 내부 로직
+    private Snapshot build() {
+        synchronized (buildLock) {
+            Snapshot built = Snapshot.build(categoryRepository.findAllNodes(), objectMapper);
+            snapshot = built;
+            log.info("[CategoryIndex] 카테고리 인덱스 재구성: {}개", built.ids.length);
+            return built;
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (buildLock) {
+            return snapshot != null ? snapshot : build();
+        }
+    }
+
+    static final class Snapshot {
+
+        private final long[] ids; // 전위 순회 순서
+        private final int[] subtreeEnd; // ids[i] 의 하위 트리는 [i, subtreeEnd[i])
+        private final Map<Long, Integer> positions;
+        private final List<CategoryDto> tree;
+        private final byte[] treeJson;
+        private final long builtAt = System.nanoTime();
+
+        private Snapshot(long[] ids, int[] subtreeEnd, Map<Long, Integer> positions, List<CategoryDto> tree,
+                         byte[] treeJson) {
+            this.ids = ids;
+            this.subtreeEnd = subtreeEnd;
+            this.positions = positions;
+            this.tree = tree;
+            this.treeJson = treeJson;
+        }
+
+        List<Long> descendantIds(Long categoryId) {
+            Integer position = categoryId != null ? positions.get(categoryId) : null;
+            return position != null ? new IdRange(ids, position, subtreeEnd[position]) : null;
+        }
+
+        static Snapshot build(List<CategoryNode> nodes, ObjectMapper objectMapper) {
+            List<CategoryNode> sorted = new ArrayList<>(nodes);
+            sorted.sort(Comparator.comparing(CategoryNode::getId));
+
+            Map<Long, CategoryDto> dtos = new HashMap<>(sorted.size() * 2);
+            for (CategoryNode node : sorted) {
+                dtos.put(node.getId(), CategoryDto.builder()
+                        .id(node.getId())
+                        .name(node.getName())
+                        .parentId(node.getParentId())
+                        .build());
+            }
+
+            // 부모가 없거나(최상위) 부모가 사라진 카테고리부터 순회, 자식은 id 순
+            List<CategoryDto> starts = new ArrayList<>();
+            List<CategoryDto> roots = new ArrayList<>();
+            for (CategoryNode node : sorted) {
+                CategoryDto dto = dtos.get(node.getId());
+                CategoryDto parent = node.getParentId() != null ? dtos.get(node.getParentId()) : null;
+                if (parent != null) {
+                    parent.getChildren().add(dto);
+                } else {
+                    starts.add(dto);
+                    if (node.getParentId() == null) {
+                        roots.add(dto);
+                    }
+                }
+            }
+
+            int size = sorted.size();
+            long[] ids = new long[size];
+            int[] parentPositions = new int[size];
+            Map<Long, Integer> positions = new HashMap<>(size * 2);
+            Deque<CategoryDto> stack = new ArrayDeque<>();
+            Deque<Integer> parentStack = new ArrayDeque<>();
+            int next = 0;
+            for (CategoryDto start : starts) {
+                stack.push(start);
+                parentStack.push(-1);
+                while (!stack.isEmpty()) {
+                    CategoryDto dto = stack.pop();
+                    int parentPosition = parentStack.pop();
+                    if (positions.containsKey(dto.getId())) {
+                        continue;
+                    }
+                    int position = next++;
+                    ids[position] = dto.getId();
+                    parentPositions[position] = parentPosition;
+                    positions.put(dto.getId(), position);
+                    List<CategoryDto> children = dto.getChildren();
+                    for (int i = children.size() - 1; i >= 0; i--) {
+                        stack.push(children.get(i));
+                        parentStack.push(position);
+                    }
+                }
+            }
+            if (next < size) {
+                // 부모 관계가 순환하는 카테고리는 어느 시작점에서도 닿지 않음
+                log.warn("[CategoryIndex] 순환 참조로 인덱스에서 제외된 카테고리: {}개", size - next);
+            }
+
+            // 뒤에서부터 하위 트리 크기를 부모에 더해 구간 끝을 계산
+            int[] subtreeSize = new int[next];
+            int[] subtreeEnd = new int[next];
+            for (int i = next - 1; i >= 0; i--) {
+                subtreeSize[i]++;
+                subtreeEnd[i] = i + subtreeSize[i];
+                if (parentPositions[i] >= 0) {
+                    subtreeSize[parentPositions[i]] += subtreeSize[i];
+                }
+            }
+
+            // 스냅샷은 여러 요청이 공유하므로 children 까지 불변 리스트로 고정
+            List<CategoryDto> tree = freeze(roots);
+            try {
+                return new Snapshot(next == size ? ids : Arrays.copyOf(ids, next), subtreeEnd,
+                        positions, tree, objectMapper.writeValueAsBytes(tree));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("카테고리 트리 직렬화 실패", e);
+            }
+        }
+
+        private static List<CategoryDto> freeze(List<CategoryDto> dtos) {
+            List<CategoryDto> frozen = new ArrayList<>(dtos.size());
+            for (CategoryDto dto : dtos) {
+                frozen.add(CategoryDto.builder()
+                        .id(dto.getId())
+                        .name(dto.getName())
+                        .parentId(dto.getParentId())
+                        .children(freeze(dto.getChildren()))
+                        .build());
+            }
+            return List.copyOf(frozen);
+        }
+    }
+
+    // 전위 순회 배열의 한 구간을 복사 없이 보여주는 리스트
+    private static final class IdRange extends AbstractList<Long> implements RandomAccess {
+
+        private final long[] ids;
+        private final int from;
+        private final int to;
+
+        private IdRange(long[] ids, int from, int to) {
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Long get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return ids[from + index];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
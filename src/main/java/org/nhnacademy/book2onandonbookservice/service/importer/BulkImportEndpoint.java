@@ -0,0 +1,38 @@
+package org.nhnacademy.book2onandonbookservice.service.importer;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress.FileSnapshot;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 적재 진행 상황 - GET /actuator/bulkimport
+ */
+@Component
+@Endpoint(id = "bulkimport")
+@RequiredArgsConstructor
+public class BulkImportEndpoint {
+
+    private final BulkImportProgress bulkImportProgress;
+
+    @ReadOperation
+    public Summary progress() {
+        List<FileSnapshot> files = bulkImportProgress.snapshot();
+        long inProgress = files.stream().filter(file -> file.status() == ImportStatus.IN_PROGRESS).count();
+        long rowsCommitted = files.stream().mapToLong(FileSnapshot::rowsCommitted).sum();
+        long booksWritten = files.stream().mapToLong(FileSnapshot::booksWritten).sum();
+        // 동시에 적재 중인 파일들의 처리량 합
+        long rowsPerSecond = files.stream()
+                .filter(file -> file.status() == ImportStatus.IN_PROGRESS)
+                .mapToLong(FileSnapshot::rowsPerSecond)
+                .sum();
+        return new Summary(inProgress, rowsCommitted, booksWritten, rowsPerSecond, files);
+    }
+
+    public record Summary(long filesInProgress, long rowsCommitted, long booksWritten, long rowsPerSecond,
+                          List<FileSnapshot> files) {
+    }
+}
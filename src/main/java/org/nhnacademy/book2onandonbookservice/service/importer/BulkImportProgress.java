@@ -0,0 +1,108 @@
+package org.nhnacademy.book2onandonbookservice.service.importer;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대량 적재 파일별 진행 상황 (이 인스턴스 메모리, Actuator {@link BulkImportEndpoint} 로 노출)
+ * <p>
+ * 재시작 위치는 import_checkpoint 테이블이 기준이고, 여기는 처리량/경과 시간 등 모니터링용입니다.
+ */
+@Component
+public class BulkImportProgress {
+
+    private final Map<String, FileProgress> files = new ConcurrentHashMap<>();
+
+    /**
+     * 파일 적재 시작 (같은 파일을 다시 시작하면 새로 기록)
+     *
+     * @param startRow 체크포인트에서 이어 시작하는 행 (처음이면 0)
+     */
+    public FileProgress start(String fileName, long startRow) {
+        FileProgress progress = new FileProgress(fileName, startRow);
+        files.put(fileName, progress);
+        return progress;
+    }
+
+    public List<FileSnapshot> snapshot() {
+        return files.values().stream()
+                .map(FileProgress::snapshot)
+                .sorted(Comparator.comparing(FileSnapshot::fileName))
+                .toList();
+    }
+
+    /**
+     * 파일 하나의 진행 상황 (읽기 스레드와 저장 스레드가 동시에 갱신)
+     */
+    public static final class FileProgress {
+        private final String fileName;
+        private final long startRow;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong booksWritten = new AtomicLong();
+        private volatile long rowsCommitted;
+        private volatile long finishedNanos;
+        private volatile ImportStatus status = ImportStatus.IN_PROGRESS;
+        private volatile String error;
+
+        private FileProgress(String fileName, long startRow) {
+            this.fileName = fileName;
+            this.startRow = startRow;
+            this.rowsCommitted = startRow;
+        }
+
+        public void rowRead() {
+            rowsRead.incrementAndGet();
+        }
+
+        /**
+         * 배치 저장 완료
+         *
+         * @param rowsCommitted 파일 처음부터 빠짐없이 처리된 행 수 (체크포인트와 같은 값)
+         * @param books         이번 배치에서 저장한 도서 수
+         */
+        public void committed(long rowsCommitted, int books) {
+            this.rowsCommitted = rowsCommitted;
+            booksWritten.addAndGet(books);
+        }
+
+        public void completed() {
+            finish(ImportStatus.COMPLETED, null);
+        }
+
+        public void failed(Throwable cause) {
+            finish(ImportStatus.FAILED, cause.getMessage());
+        }
+
+        /// 내부 로직
+        private void finish(ImportStatus status, String error) {
+            this.error = error;
+            this.finishedNanos = System.nanoTime();
+            this.status = status;
+        }
+
+        private FileSnapshot snapshot() {
+            long end = status == ImportStatus.IN_PROGRESS ? System.nanoTime() : finishedNanos;
+            long elapsedMs = Math.max(1, (end - startNanos) / 1_000_000);
+            long read = rowsRead.get();
+            return new FileSnapshot(fileName, status, startRow, read, rowsCommitted, booksWritten.get(), elapsedMs,
+                    read * 1000 / elapsedMs, error);
+        }
+    }
+
+    /**
+     * @param startRow      이어 시작한 행 (처음이면 0)
+     * @param rowsRead      이번 실행에서 읽은 행 수
+     * @param rowsCommitted 파일 처음부터 빠짐없이 처리된 행 수
+     * @param booksWritten  이번 실행에서 저장한 도서 수
+     * @param rowsPerSecond 이번 실행의 읽기 처리량
+     */
+    public record FileSnapshot(String fileName, ImportStatus status, long startRow, long rowsRead, long rowsCommitted,
+                               long booksWritten, long elapsedMs, long rowsPerSecond, String error) {
+    }
+}
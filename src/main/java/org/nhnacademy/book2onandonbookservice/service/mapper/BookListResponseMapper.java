@@ -1,10 +1,12 @@
 package org.nhnacademy.book2onandonbookservice.service.mapper;
 
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookImage;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookListRow;
 import org.nhnacademy.book2onandonbookservice.service.search.BookSearchDocument;
 import org.springframework.stereotype.Component;
 
@@ -50,6 +52,29 @@ public class BookListResponseMapper {
                 .build();
     }
 
+    /// 목록용 projection + 관계별 이름 목록 → 목록 DTO 변환 (엔티티 로딩 없음)
+    public BookListResponse fromRow(BookListRow row, Map<Long, List<String>> imagePaths,
+                                    Map<Long, List<String>> contributorNames, Map<Long, List<String>> publisherNames,
+                                    Map<Long, List<String>> categoryIds, Map<Long, List<String>> tagNames) {
+        Long bookId = row.getId();
+        List<String> images = imagePaths.getOrDefault(bookId, List.of());
+
+        return BookListResponse.builder()
+                .id(bookId)
+                .title(row.getTitle())
+                .volume(row.getVolume())
+                .priceStandard(row.getPriceStandard())
+                .priceSales(row.getPriceSales())
+                .rating(row.getRating())
+                .publisherDate(row.getPublishDate())
+                .imagePath(images.isEmpty() ? null : images.get(0))
+                .contributorNames(contributorNames.getOrDefault(bookId, List.of()))
+                .publisherNames(publisherNames.getOrDefault(bookId, List.of()))
+                .categoryIds(categoryIds.getOrDefault(bookId, List.of()))
+                .tagNames(tagNames.getOrDefault(bookId, List.of()))
+                .build();
+    }
+
     /// Elasticsearch Document → 목록 DTO 변환
     public BookListResponse fromDocument(BookSearchDocument doc) {
         return BookListResponse.builder()
@@ -12,6 +12,7 @@ import org.nhnacademy.book2onandonbookservice.dto.review.ReviewUpdateRequest;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.Review;
 import org.nhnacademy.book2onandonbookservice.entity.ReviewImage;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
 import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
 import org.nhnacademy.book2onandonbookservice.exception.NotFoundReviewException;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
@@ -19,6 +20,7 @@ import org.nhnacademy.book2onandonbookservice.repository.ReviewRepository;
 import org.nhnacademy.book2onandonbookservice.service.image.ImageUploadService;
 import org.nhnacademy.book2onandonbookservice.service.review.ReviewService;
 import org.nhnacademy.book2onandonbookservice.util.UserHeaderUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -44,6 +46,8 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final StringRedisTemplate redisTemplate;
 
+    private final ApplicationEventPublisher eventPublisher;
+
 
     /// 리뷰생성
     @Override
@@ -198,8 +202,9 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     /// 내부 로직 메서드
-    //평점 업데이트 로직
+    //평점 업데이트 로직 (리뷰 작성/수정/삭제 공통 -> 도서 상세 캐시 무효화도 여기서)
     private void updateBookRating(Book book) {
+        eventPublisher.publishEvent(BookDetailChangedEvent.of(book.getId()));
         Double average = reviewRepository.getAverageScoreByBook(book);
 
         if (average == null) {
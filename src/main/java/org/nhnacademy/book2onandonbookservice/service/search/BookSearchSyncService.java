@@ -1,20 +1,20 @@
 package org.nhnacademy.book2onandonbookservice.service.search;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
-import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
-import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryTreeIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-// 카테고리/태그별 재인덱싱
+// 카테고리/태그/도서별 재인덱싱
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,7 +24,7 @@ public class BookSearchSyncService {
 
     private final BookRepository bookRepository;
     private final BookSearchIndexService bookSearchIndexService;
-    private final CategoryRepository categoryRepository;
+    private final CategoryTreeIndex categoryTreeIndex;
 
     /**
      * 특정 카테고리에 속한 책들을 모두 재인덱싱
@@ -50,6 +50,25 @@ public class BookSearchSyncService {
         return total;
     }
 
+    /**
+     * 도서 한 권을 지금 DB 상태대로 반영 - 판매 중(또는 품절 등)이면 인덱싱, 판매 중단(BOOK_DELETED)이거나 없으면 인덱스에서 삭제
+     * <p>
+     * 메시지 순서가 바뀌거나 재시도되어도 마지막 상태로 맞춰지도록 메시지 내용이 아니라 DB 를 다시 읽습니다.
+     *
+     * @return 인덱싱한 도서 수 (삭제했으면 0)
+     */
+    @Transactional(readOnly = true)
+    public long syncBook(Long bookId) {
+        Optional<Book> book = bookRepository.findByIdWithRelations(bookId)
+                .filter(found -> found.getStatus() != BookStatus.BOOK_DELETED);
+        if (book.isEmpty()) {
+            bookSearchIndexService.deleteIndex(bookId);
+            return 0;
+        }
+        bookSearchIndexService.index(book.get());
+        return 1;
+    }
+
     /**
      * 공통 페이지네이션 재인덱싱 로직
      */
@@ -83,22 +102,7 @@ public class BookSearchSyncService {
     }
 
     private List<Long> getAllCategoryIds(Long rootId) {
-        Category root = categoryRepository.findById(rootId)
+        return categoryTreeIndex.descendantIds(rootId)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + rootId));
-
-        List<Long> ids = new ArrayList<>();
-        ids.add(root.getId());
-        collectChildIds(root, ids);
-        return ids;
-    }
-
-    private void collectChildIds(Category parent, List<Long> ids) {
-        if (parent.getChildren() == null || parent.getChildren().isEmpty()) {
-            return;
-        }
-        for (Category child : parent.getChildren()) {
-            ids.add(child.getId());
-            collectChildIds(child, ids);
-        }
     }
 }
\ No newline at end of file
@@ -23,6 +23,8 @@ public class SearchSyncConsumer {
                 count = bookSearchSyncService.reindexByCategoryId(message.getTargetId());
             } else if (message.getType() == SyncType.TAG) {
                 count = bookSearchSyncService.reindexByTagId(message.getTargetId());
+            } else if (message.getType() == SyncType.BOOK) {
+                count = bookSearchSyncService.syncBook(message.getTargetId());
             }
 
             log.info("[MQ - consumer] 검색 동기화 완료: type={}, id={}, reindexCount={}", message.getType(),
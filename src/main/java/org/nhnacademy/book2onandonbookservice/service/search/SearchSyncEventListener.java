@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.nhnacademy.book2onandonbookservice.config.RabbitMqConfig;
 import org.nhnacademy.book2onandonbookservice.dto.message.SearchSyncMessage;
 import org.nhnacademy.book2onandonbookservice.dto.message.SearchSyncMessage.SyncType;
+import org.nhnacademy.book2onandonbookservice.event.BookIndexChangedEvent;
 import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
 import org.nhnacademy.book2onandonbookservice.event.TagUpdatedEvent;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -50,4 +51,19 @@ public class SearchSyncEventListener {
         log.info("[MQ} 태그 업데이트 메시지 전송: {}", message);
     }
 
+    /**
+     * JDBC 로 바뀐 도서 (증분 적재) -> 도서마다 RabbitMQ로 메시지 전송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookIndexChanged(BookIndexChangedEvent event) {
+        for (Long bookId : event.bookIds()) {
+            rabbitTemplate.convertAndSend(
+                    RabbitMqConfig.SEARCH_SYNC_EXCHANGE,
+                    RabbitMqConfig.SEARCH_SYNC_ROUTING_KEY,
+                    new SearchSyncMessage(bookId, SyncType.BOOK)
+            );
+        }
+        log.info("[MQ} 도서 검색 동기화 메시지 전송: {}건", event.bookIds().size());
+    }
+
 }
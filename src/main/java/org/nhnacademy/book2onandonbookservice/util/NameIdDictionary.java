@@ -0,0 +1,332 @@
+package org.nhnacademy.book2onandonbookservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * 이름 → ID 사전 (대량 적재/보강 중 출판사·기여자·카테고리 ID 캐시용)
+ * <p>
+ * Map&lt;String, 엔티티&gt; 대신 이름을 UTF-8 바이트로 한 배열(arena)에 이어 붙이고, 슬롯은 선형 탐사(open addressing) 원시형
+ * 배열(해시/키 위치/키 길이/ID)이라 항목마다 객체가 생기지 않습니다. 조회는 문자열을 인코딩하지 않고 바로 arena 바이트와
+ * 비교하므로 할당이 없습니다.
+ * <p>
+ * 키는 String 해시가 같은 슬롯만 바이트로 비교합니다. 읽기는 여러 스레드가 동시에, 쓰기는 한 번에 하나씩
+ * (ReadWriteLock). 지운 키의 바이트는 {@link #clear()} 전까지 arena 에 남습니다.
+ */
+public final class NameIdDictionary {
+
+    public static final long NOT_FOUND = -1L;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int ARENA_BYTES_PER_KEY = 16; // 초기 arena 크기 추정용 (한글 이름 4~5자)
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int initialCapacity;
+    private final int initialArenaBytes;
+
+    private int[] hashes;
+    private int[] keyStarts; // arena 위치 + 1 (0 이면 빈 슬롯)
+    private int[] keyLengths;
+    private long[] ids;
+    private byte[] arena;
+    private int arenaSize;
+    private int size;
+
+    public NameIdDictionary() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize 예상 항목 수 (이만큼은 다시 늘리지 않고 넣을 수 있음)
+     */
+    public NameIdDictionary(int expectedSize) {
+        this.initialCapacity = tableSizeFor((int) Math.ceil(Math.max(1, expectedSize) / LOAD_FACTOR));
+        this.initialArenaBytes = Math.max(MIN_CAPACITY, expectedSize) * ARENA_BYTES_PER_KEY;
+        allocate(initialCapacity, initialArenaBytes);
+    }
+
+    /**
+     * @return ID, 없으면 {@link #NOT_FOUND}
+     */
+    public long get(String name) {
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(name, spread(name.hashCode()));
+            return keyStarts[slot] == 0 ? NOT_FOUND : ids[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean containsKey(String name) {
+        return get(name) != NOT_FOUND;
+    }
+
+    /**
+     * 추가 또는 덮어쓰기
+     *
+     * @param id 0 이상
+     */
+    public void put(String name, long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("ID 는 0 이상이어야 합니다: " + id);
+        }
+        lock.writeLock().lock();
+        try {
+            int hash = spread(name.hashCode());
+            int slot = findSlot(name, hash);
+            if (keyStarts[slot] != 0) {
+                ids[slot] = id;
+                return;
+            }
+            insert(name, hash, slot, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 값(없으면 {@link #NOT_FOUND})으로 새 값을 계산해 넣는 것을 한 번에 (여러 스레드가 같은 키를 읽고 고쳐 쓸 때)
+     *
+     * @param update 현재 값 → 새 값 (0 이상), 쓰기 잠금 안에서 호출하므로 짧게
+     * @return 바꾸기 전 값, 없었으면 {@link #NOT_FOUND}
+     */
+    public long getAndUpdate(String name, LongUnaryOperator update) {
+        lock.writeLock().lock();
+        try {
+            int hash = spread(name.hashCode());
+            int slot = findSlot(name, hash);
+            long previous = keyStarts[slot] == 0 ? NOT_FOUND : ids[slot];
+            long id = update.applyAsLong(previous);
+            if (id < 0) {
+                throw new IllegalArgumentException("ID 는 0 이상이어야 합니다: " + id);
+            }
+            if (previous != NOT_FOUND) {
+                ids[slot] = id;
+            } else {
+                insert(name, hash, slot, id);
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String name) {
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(name, spread(name.hashCode()));
+            if (keyStarts[slot] == 0) {
+                return;
+            }
+            keyStarts[slot] = 0;
+            size--;
+            shiftBack(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 항목 순회 (순서 없음, 키는 이때 문자열로 만듦). 순회하는 동안 쓰기는 기다립니다.
+     */
+    public void forEach(ObjLongConsumer<String> action) {
+        lock.readLock().lock();
+        try {
+            for (int slot = 0; slot < keyStarts.length; slot++) {
+                if (keyStarts[slot] != 0) {
+                    action.accept(new String(arena, keyStarts[slot] - 1, keyLengths[slot], StandardCharsets.UTF_8),
+                            ids[slot]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모두 지우고 처음 크기로 되돌림 (적재가 끝난 뒤 메모리 반납)
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            allocate(initialCapacity, initialArenaBytes);
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 슬롯 배열 + arena 가 차지하는 바이트 (배열 헤더 제외)
+     */
+    public long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) hashes.length * (Integer.BYTES * 3 + Long.BYTES) + arena.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /// 내부 로직
+    // 쓰기 잠금 안에서, findSlot 이 돌려준 빈 슬롯에 새 키를 넣음 (꽉 차면 늘린 뒤 슬롯을 다시 찾음)
+    private void insert(String name, int hash, int slot, long id) {
+        if (size + 1 > hashes.length * LOAD_FACTOR) {
+            resize(hashes.length * 2);
+            slot = findSlot(name, hash);
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        hashes[slot] = hash;
+        keyStarts[slot] = append(bytes) + 1;
+        keyLengths[slot] = bytes.length;
+        ids[slot] = id;
+        size++;
+    }
+
+    private void allocate(int capacity, int arenaBytes) {
+        hashes = new int[capacity];
+        keyStarts = new int[capacity];
+        keyLengths = new int[capacity];
+        ids = new long[capacity];
+        arena = new byte[arenaBytes];
+        arenaSize = 0;
+    }
+
+    // 키가 있는 슬롯, 없으면 들어갈 빈 슬롯
+    private int findSlot(String name, int hash) {
+        int mask = hashes.length - 1;
+        int slot = hash & mask;
+        while (keyStarts[slot] != 0) {
+            if (hashes[slot] == hash && equalsUtf8(name, keyStarts[slot] - 1, keyLengths[slot])) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 지운 자리 뒤의 연속된 항목 중 원래 자리가 비게 된 구간을 지나는 것을 당겨 옴 (선형 탐사 삭제, 묘비 없음)
+    private void shiftBack(int empty) {
+        int mask = hashes.length - 1;
+        int slot = (empty + 1) & mask;
+        while (keyStarts[slot] != 0) {
+            int home = hashes[slot] & mask;
+            boolean movable = empty <= slot ? (home <= empty || home > slot) : (home <= empty && home > slot);
+            if (movable) {
+                hashes[empty] = hashes[slot];
+                keyStarts[empty] = keyStarts[slot];
+                keyLengths[empty] = keyLengths[slot];
+                ids[empty] = ids[slot];
+                keyStarts[slot] = 0;
+                empty = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldHashes = hashes;
+        int[] oldStarts = keyStarts;
+        int[] oldLengths = keyLengths;
+        long[] oldIds = ids;
+        hashes = new int[capacity];
+        keyStarts = new int[capacity];
+        keyLengths = new int[capacity];
+        ids = new long[capacity];
+
+        int mask = capacity - 1;
+        for (int i = 0; i < oldStarts.length; i++) {
+            if (oldStarts[i] == 0) {
+                continue;
+            }
+            int slot = oldHashes[i] & mask;
+            while (keyStarts[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = oldHashes[i];
+            keyStarts[slot] = oldStarts[i];
+            keyLengths[slot] = oldLengths[i];
+            ids[slot] = oldIds[i];
+        }
+    }
+
+    private int append(byte[] bytes) {
+        if (arenaSize + bytes.length > arena.length) {
+            long grown = Math.max((long) arena.length * 2, (long) arenaSize + bytes.length);
+            if (grown > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("이름 사전이 최대 크기를 넘었습니다: " + size);
+            }
+            arena = Arrays.copyOf(arena, (int) grown);
+        }
+        int start = arenaSize;
+        System.arraycopy(bytes, 0, arena, start, bytes.length);
+        arenaSize += bytes.length;
+        return start;
+    }
+
+    // String.getBytes(UTF_8) 와 같은 규칙으로 한 글자씩 인코딩하며 비교 (짝 없는 서로게이트는 '?')
+    private boolean equalsUtf8(String name, int start, int length) {
+        int pos = start;
+        int end = start + length;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            int codePoint = c;
+            if (Character.isHighSurrogate(c) && i + 1 < name.length()
+                    && Character.isLowSurrogate(name.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, name.charAt(++i));
+            } else if (Character.isSurrogate(c)) {
+                codePoint = '?';
+            }
+
+            if (codePoint < 0x80) {
+                if (pos >= end || arena[pos++] != (byte) codePoint) {
+                    return false;
+                }
+            } else if (codePoint < 0x800) {
+                if (pos + 2 > end
+                        || arena[pos++] != (byte) (0xC0 | codePoint >> 6)
+                        || arena[pos++] != (byte) (0x80 | codePoint & 0x3F)) {
+                    return false;
+                }
+            } else if (codePoint < 0x10000) {
+                if (pos + 3 > end
+                        || arena[pos++] != (byte) (0xE0 | codePoint >> 12)
+                        || arena[pos++] != (byte) (0x80 | codePoint >> 6 & 0x3F)
+                        || arena[pos++] != (byte) (0x80 | codePoint & 0x3F)) {
+                    return false;
+                }
+            } else if (pos + 4 > end
+                    || arena[pos++] != (byte) (0xF0 | codePoint >> 18)
+                    || arena[pos++] != (byte) (0x80 | codePoint >> 12 & 0x3F)
+                    || arena[pos++] != (byte) (0x80 | codePoint >> 6 & 0x3F)
+                    || arena[pos++] != (byte) (0x80 | codePoint & 0x3F)) {
+                return false;
+            }
+        }
+        return pos == end;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int size = Integer.highestOneBit(Math.max(MIN_CAPACITY, capacity) - 1) << 1;
+        return size > 0 ? size : 1 << 30;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -62,6 +63,10 @@ class Book2OnAndOnBookServiceApplicationTests {
     @MockitoBean
     DataInitializer dataInitializer;
 
+    // 테스트 환경에는 Redis 가 없으므로 pub/sub 리스너 컨테이너는 가짜로 대체 (시작 시 구독 연결 실패 방지)
+    @MockitoBean
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
     @Test
     void contextLoads() {
         //애플리케이션 컨텍스트 오류 없이 정상적으로 로드되는지 확인하는 테스트입니다.
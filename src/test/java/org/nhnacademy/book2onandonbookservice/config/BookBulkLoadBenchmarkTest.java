@@ -0,0 +1,176 @@
+package org.nhnacademy.book2onandonbookservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opencsv.CSVWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.parser.DataParserResolver;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookCsvParser;
+import org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ContributorRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ImportCheckpointRepository;
+import org.nhnacademy.book2onandonbookservice.repository.PublisherRepository;
+import org.nhnacademy.book2onandonbookservice.service.BookBatchService;
+import org.nhnacademy.book2onandonbookservice.service.cache.SecondLevelCacheSynchronizer;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * CSV 전체 적재 처리량 (books/sec) - 도서 INSERT 단계: 기존(단건 batchUpdate + ISBN 재조회) vs multi-row INSERT + 생성 키
+ * <p>
+ * 데이터 적재에 시간이 걸려 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=BookBulkLoadBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=200000]}
+ * <p>
+ * H2(MySQL 모드, 메모리) 기준이라 네트워크 왕복이 없어 실제 MySQL 보다 문장 수 감소 효과가 작게 나옵니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookBulkLoadBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookBatchService.class, BatchInsertRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookBulkLoadBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @TempDir
+    Path tempDir;
+
+    // 2차 캐시를 끈 벤치마크라 무효화할 캐시 없음
+    @MockitoBean
+    private SecondLevelCacheSynchronizer secondLevelCacheSynchronizer;
+    @Autowired
+    private BatchInsertRepository batchInsertRepository;
+    @Autowired
+    private BookBatchService bookBatchService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private PublisherRepository publisherRepository;
+    @Autowired
+    private ContributorRepository contributorRepository;
+    @Autowired
+    private ImportCheckpointRepository importCheckpointRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void measureBookInsertAndFullCsvLoad() throws IOException {
+        int rowCount = Integer.getInteger("benchmark.rows", 200_000);
+
+        long legacyMillis = timeMillis(() -> insertInBatches(rowCount, "legacy-", this::legacyInsert));
+        long multiRowMillis = timeMillis(() -> insertInBatches(rowCount, "multi-", batchInsertRepository::saveAllBooks));
+        jdbcTemplate.update("DELETE FROM book");
+
+        Path csv = writeCsv(rowCount);
+        // 기동 시 classpath:/data 스캔(ApplicationRunner)은 필요 없어 빈 대신 직접 만듭니다
+        DataInitializer dataInitializer = new DataInitializer(bookRepository, publisherRepository,
+                contributorRepository, bookBatchService, batchInsertRepository, importCheckpointRepository,
+                new BulkImportProgress(), new DataParserResolver(List.of()),
+                new BookCsvParser());
+        long csvMillis = timeMillis(() -> dataInitializer.processFile(new FileSystemResource(csv)));
+        assertThat(bookRepository.count()).isEqualTo(rowCount);
+
+        log.info("[Benchmark] 도서 {}권 INSERT - 기존(batchUpdate + ISBN 재조회): {}권/초, multi-row + 생성 키: {}권/초 / "
+                        + "CSV 전체 적재(관계 포함): {}ms, {}권/초",
+                rowCount, perSecond(rowCount, legacyMillis), perSecond(rowCount, multiRowMillis), csvMillis,
+                perSecond(rowCount, csvMillis));
+    }
+
+    // 변경 전 BookBatchService 의 도서 INSERT + ID 조회 경로
+    private List<Long> legacyInsert(List<Book> books) {
+        jdbcTemplate.batchUpdate("INSERT INTO book (book_title, ISBN, book_publish_date, price_standard, price_sales, "
+                        + "is_wrapped, stock_count, book_status, book_description, book_chapter, book_volume, like_count) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                books.stream().map(book -> new Object[]{book.getTitle(), book.getIsbn(),
+                        Date.valueOf(book.getPublishDate()), book.getPriceStandard(), book.getPriceSales(),
+                        book.getIsWrapped(), book.getStockCount(), book.getStatus().name(), book.getDescription(),
+                        book.getChapter(), book.getVolume(), book.getLikeCount()}).toList());
+        return bookRepository.findByIsbnIn(books.stream().map(Book::getIsbn).toList()).stream()
+                .map(BookRepository.BookIdAndIsbn::getId)
+                .toList();
+    }
+
+    private void insertInBatches(int rowCount, String isbnPrefix, BookInserter inserter) {
+        List<Book> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rowCount; i++) {
+            batch.add(Book.builder()
+                    .title("도서 제목 " + i)
+                    .isbn(isbnPrefix + i)
+                    .publishDate(LocalDate.of(2020, 1, 1).plusDays(i % 1000))
+                    .priceStandard(15000L)
+                    .priceSales(15000L)
+                    .isWrapped(true)
+                    .stockCount(100)
+                    .status(BookStatus.ON_SALE)
+                    .description("책 소개 문장입니다. ".repeat(5) + i)
+                    .build());
+            if (batch.size() == BATCH_SIZE || i == rowCount - 1) {
+                assertThat(inserter.insert(batch)).hasSize(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private Path writeCsv(int rowCount) throws IOException {
+        Path csv = tempDir.resolve("books.csv");
+        try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             CSVWriter writer = new CSVWriter(out)) {
+            writer.writeNext(new String[]{"ISBN_THIRTEEN_NO", "TITLE_NM", "PUBLISHER_NM", "AUTHR_NM", "PRC_VALUE",
+                    "TWO_PBLICTE_DE", "BOOK_INTRCN_CN", "VLM_NM", "IMAGE_URL"});
+            for (int i = 0; i < rowCount; i++) {
+                writer.writeNext(new String[]{String.valueOf(9780000000000L + i), "도서 제목 " + i,
+                        "출판사" + (i % 500), "작가" + (i % 5000) + "(지은이), 역자" + (i % 3000) + "(옮긴이)",
+                        "15000", "2020-01-15", "책 소개 문장입니다. ".repeat(5) + i, "",
+                        "https://image.example.com/" + i + ".jpg"}, false);
+            }
+        }
+        return csv;
+    }
+
+    private long timeMillis(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private long perSecond(long count, long millis) {
+        return count * 1000 / Math.max(1, millis);
+    }
+
+    @FunctionalInterface
+    private interface BookInserter {
+        List<Long> insert(List<Book> books);
+    }
+}
@@ -0,0 +1,165 @@
+package org.nhnacademy.book2onandonbookservice.config;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.parser.DataParserResolver;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookCsvParser;
+import org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ContributorRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ImportCheckpointRepository;
+import org.nhnacademy.book2onandonbookservice.repository.PublisherRepository;
+import org.nhnacademy.book2onandonbookservice.service.BookBatchService;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * CSV 적재 처리량/메모리 측정 - 스트리밍 파이프라인 vs (기존) readAll
+ * <p>
+ * 파일 생성에 시간이 걸려 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=DataInitializerStreamingBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]}
+ * <p>
+ * DB 저장은 빼고(저장 단계는 건수만 셈) 읽기 + 변환만 측정합니다. 힙은 10ms 간격 샘플링 최대값, RSS 는 /proc/self/status 의
+ * VmHWM(프로세스 최대값, 줄지 않음)이라 스트리밍을 먼저 측정합니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DataInitializerStreamingBenchmarkTest {
+
+    private static final String[] HEADER = {"ISBN_THIRTEEN_NO", "TITLE_NM", "PUBLISHER_NM", "AUTHR_NM", "PRC_VALUE",
+            "TWO_PBLICTE_DE", "BOOK_INTRCN_CN", "VLM_NM", "IMAGE_URL"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measureStreamingAndReadAll() throws Exception {
+        int rowCount = Integer.getInteger("benchmark.rows", 1_000_000);
+        Path csv = writeCsv(rowCount);
+
+        AtomicLong written = new AtomicLong();
+        BookBatchService countingBatchService = new BookBatchService(null, null, null) {
+            @Override
+            public void saveBooksInBatch(List<Book> books) {
+                written.addAndGet(books.size());
+            }
+        };
+        BatchInsertRepository batchInsertRepository = mock(BatchInsertRepository.class, withSettings().stubOnly());
+        AtomicLong ids = new AtomicLong();
+        Answer<Map<String, Long>> upsert = invocation -> invocation.<Collection<String>>getArgument(0).stream()
+                .collect(Collectors.toMap(Function.identity(), name -> ids.incrementAndGet()));
+        when(batchInsertRepository.upsertPublishers(anyCollection())).thenAnswer(upsert);
+        when(batchInsertRepository.upsertContributors(anyCollection())).thenAnswer(upsert);
+        DataInitializer dataInitializer = new DataInitializer(mock(BookRepository.class),
+                mock(PublisherRepository.class), mock(ContributorRepository.class), countingBatchService,
+                batchInsertRepository, mock(ImportCheckpointRepository.class, withSettings().stubOnly()),
+                new BulkImportProgress(), new DataParserResolver(List.of()),
+                new BookCsvParser());
+
+        HeapSampler streamingHeap = HeapSampler.start();
+        long start = System.nanoTime();
+        dataInitializer.processFile(new FileSystemResource(csv));
+        long streamingMillis = (System.nanoTime() - start) / 1_000_000;
+        long streamingPeakHeap = streamingHeap.stop();
+        long streamingRss = peakRssKb();
+
+        HeapSampler readAllHeap = HeapSampler.start();
+        start = System.nanoTime();
+        int readAllRows;
+        try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+             CSVReader csvReader = new CSVReader(reader)) {
+            readAllRows = csvReader.readAll().size() - 1;
+        }
+        long readAllMillis = (System.nanoTime() - start) / 1_000_000;
+        long readAllPeakHeap = readAllHeap.stop();
+
+        log.info("[Benchmark] {}행 ({}MB) - 스트리밍(읽기+변환): {}건, {}ms, {}행/초, 최대 힙 {}MB, 최대 RSS {}MB / "
+                        + "readAll(읽기만): {}행, {}ms, 최대 힙 {}MB, 최대 RSS {}MB",
+                rowCount, Files.size(csv) >> 20, written.get(), streamingMillis,
+                rowCount * 1000L / Math.max(1, streamingMillis), streamingPeakHeap >> 20, streamingRss >> 10,
+                readAllRows, readAllMillis, readAllPeakHeap >> 20, peakRssKb() >> 10);
+    }
+
+    private Path writeCsv(int rowCount) throws IOException {
+        Path csv = tempDir.resolve("books.csv");
+        try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             CSVWriter writer = new CSVWriter(out)) {
+            writer.writeNext(HEADER);
+            for (int i = 0; i < rowCount; i++) {
+                writer.writeNext(new String[]{
+                        String.valueOf(9780000000000L + i),
+                        "도서 제목 " + i,
+                        "출판사" + (i % 500),
+                        "작가" + (i % 5000) + "(지은이), 역자" + (i % 3000) + "(옮긴이)",
+                        String.valueOf(10000 + i % 50 * 500),
+                        "2020-01-" + String.format("%02d", i % 28 + 1),
+                        "책 소개 문장입니다. ".repeat(5) + i,
+                        "",
+                        "https://image.example.com/" + i + ".jpg"
+                }, false);
+            }
+        }
+        return csv;
+    }
+
+    private long peakRssKb() throws IOException {
+        return Files.readAllLines(Path.of("/proc/self/status")).stream()
+                .filter(line -> line.startsWith("VmHWM:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElse(-1L);
+    }
+
+    // 사용 중인 힙을 주기적으로 읽어 최대값을 기록
+    private static final class HeapSampler {
+        private final AtomicLong peak = new AtomicLong();
+        private volatile boolean running = true;
+        private Thread thread;
+
+        static HeapSampler start() {
+            System.gc();
+            HeapSampler sampler = new HeapSampler();
+            sampler.thread = Thread.ofPlatform().daemon().start(() -> {
+                Runtime runtime = Runtime.getRuntime();
+                while (sampler.running) {
+                    sampler.peak.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            return sampler;
+        }
+
+        long stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            return peak.get();
+        }
+    }
+}
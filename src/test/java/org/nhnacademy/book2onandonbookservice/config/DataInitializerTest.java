@@ -2,10 +2,14 @@ package org.nhnacademy.book2onandonbookservice.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.lenient;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,9 +19,15 @@ import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,17 +35,30 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
-import org.nhnacademy.book2onandonbookservice.entity.Contributor;
-import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.entity.ImportCheckpoint;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.nhnacademy.book2onandonbookservice.parser.DataParserResolver;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookCsvParser;
+import org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookIdAndIsbn;
 import org.nhnacademy.book2onandonbookservice.repository.ContributorRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ImportCheckpointRepository;
 import org.nhnacademy.book2onandonbookservice.repository.PublisherRepository;
 import org.nhnacademy.book2onandonbookservice.service.BookBatchService;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress;
+import org.nhnacademy.book2onandonbookservice.util.NameIdDictionary;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class DataInitializerTest {
@@ -52,6 +75,21 @@ class DataInitializerTest {
     @Mock
     private BookBatchService bookBatchService;
 
+    @Mock
+    private BatchInsertRepository batchInsertRepository;
+
+    @Mock
+    private ImportCheckpointRepository importCheckpointRepository;
+
+    @Mock
+    private DataParserResolver dataParserResolver;
+
+    @Spy
+    private BulkImportProgress bulkImportProgress = new BulkImportProgress();
+
+    @Spy
+    private BookCsvParser bookCsvParser = new BookCsvParser();
+
     @Mock
     private ApplicationArguments applicationArguments;
 
@@ -61,22 +99,6 @@ class DataInitializerTest {
     @InjectMocks
     private DataInitializer dataInitializer;
 
-    private Publisher testPublisher;
-    private Contributor testContributor;
-
-    @BeforeEach
-    void setUp() {
-        testPublisher = Publisher.builder()
-                .id(1L)
-                .publisherName("테스트 출판사")
-                .build();
-
-        testContributor = Contributor.builder()
-                .id(1L)
-                .contributorName("홍길동")
-                .build();
-    }
-
     @Test
     @DisplayName("데이터가 이미 존재하면 초기화를 건너뜀")
     void run_SkipWhenDataExists() throws Exception {
@@ -85,8 +107,8 @@ class DataInitializerTest {
         dataInitializer.run(applicationArguments);
 
         verify(bookRepository).count();
-        verify(publisherRepository, never()).findAll();
-        verify(contributorRepository, never()).findAll();
+        verify(publisherRepository, never()).findAllIdAndName();
+        verify(contributorRepository, never()).findAllIdAndName();
     }
 
 
@@ -101,14 +123,124 @@ class DataInitializerTest {
         when(resource.getInputStream()).thenReturn(inputStream);
         when(resource.getFilename()).thenReturn("test.csv");
 
-        when(publisherRepository.save(any(Publisher.class))).thenReturn(testPublisher);
-        when(contributorRepository.save(any(Contributor.class))).thenReturn(testContributor);
+        stubNameUpserts();
 
-        dataInitializer.processCsvFile(resource);
+        dataInitializer.processFile(resource);
 
         verify(bookBatchService).saveBooksInBatch(anyList());
     }
 
+    @Test
+    @DisplayName("CSV 가 아닌 파일 처리 - 확장자에 맞는 파서로 읽어 같은 배치 저장 경로를 탐")
+    void processFile_NonCsvThroughParser() throws Exception {
+        DataParser parser = mock(DataParser.class);
+        when(resource.getFilename()).thenReturn("test.jsonl.gz");
+        when(dataParserResolver.getDataParser("test.jsonl.gz")).thenReturn(parser);
+        when(parser.stream(resource)).thenReturn(Stream.of(new DataParserDto("1", "9788901234567", "테스트책",
+                "홍길동 (지은이), 김번역 (옮긴이)", "테스트출판사", "15000", "2024-01-15", "책소개", null, "")));
+        stubNameUpserts();
+
+        dataInitializer.processFile(resource);
+
+        verify(bookBatchService).saveBooksInBatch(argThat(books -> books.size() == 1
+                && books.get(0).getIsbn().equals("9788901234567")
+                && books.get(0).getPriceStandard() == 15000L
+                && books.get(0).getPublishDate().equals(LocalDate.of(2024, 1, 15))
+                && books.get(0).getBookContributors().size() == 2));
+    }
+
+    @Test
+    @DisplayName("CSV 파일 처리 - 체크포인트 다음 행부터 이어서 적재하고, 이미 저장된 ISBN 은 거름")
+    void processCsvFile_ResumeFromCheckpoint() throws Exception {
+        String csvContent = """
+                ISBN_THIRTEEN_NO,TITLE_NM,PUBLISHER_NM,AUTHR_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,VLM_NM,IMAGE_URL
+                9788901234567,첫번째책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                9788901234568,두번째책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                9788901234569,세번째책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                """;
+        when(resource.getInputStream())
+                .thenReturn(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+        when(resource.getFilename()).thenReturn("resume.csv");
+        when(importCheckpointRepository.findById("resume.csv")).thenReturn(Optional.of(ImportCheckpoint.builder()
+                .fileName("resume.csv").rowsCommitted(1).status(ImportStatus.IN_PROGRESS).build()));
+        BookIdAndIsbn saved = mock(BookIdAndIsbn.class);
+        when(saved.getIsbn()).thenReturn("9788901234568");
+        when(bookRepository.findByIsbnIn(anyList())).thenReturn(List.of(saved));
+        stubNameUpserts();
+
+        dataInitializer.processFile(resource);
+
+        verify(bookBatchService).saveBooksInBatch(
+                argThat(list -> list.size() == 1 && list.get(0).getTitle().equals("세번째책")));
+        verify(importCheckpointRepository).advance(eq("resume.csv"), eq(3L), any());
+        verify(importCheckpointRepository).updateStatus(eq("resume.csv"), eq(ImportStatus.COMPLETED), any());
+        assertThat(bulkImportProgress.snapshot()).singleElement()
+                .satisfies(file -> {
+                    assertThat(file.startRow()).isEqualTo(1);
+                    assertThat(file.rowsRead()).isEqualTo(2);
+                    assertThat(file.rowsCommitted()).isEqualTo(3);
+                    assertThat(file.status()).isEqualTo(ImportStatus.COMPLETED);
+                });
+    }
+
+    @Test
+    @DisplayName("CSV 파일 처리 - 배치에서 처음 보는 출판사/기여자는 한 번에 등록하고 저장할 도서에 ID 를 채움")
+    void processCsvFile_UpsertNewNamesPerBatch() throws Exception {
+        String csvContent = """
+                ISBN_THIRTEEN_NO,TITLE_NM,PUBLISHER_NM,AUTHR_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,VLM_NM,IMAGE_URL
+                9788901234567,첫번째책,가출판사,"홍길동(지은이), 김철수(옮긴이)",15000,2024-01-15,책소개,,
+                9788901234568,두번째책,가출판사,홍길동,15000,2024-01-15,책소개,,
+                9788901234569,세번째책,나출판사,이영희,15000,2024-01-15,책소개,,
+                """;
+        when(resource.getInputStream())
+                .thenReturn(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+        when(resource.getFilename()).thenReturn("names.csv");
+        stubNameUpserts();
+
+        dataInitializer.processFile(resource);
+
+        verify(batchInsertRepository).upsertPublishers(Set.of("가출판사", "나출판사"));
+        verify(batchInsertRepository).upsertContributors(Set.of("홍길동", "김철수", "이영희"));
+        verify(bookBatchService).saveBooksInBatch(argThat(books -> books.size() == 3 && books.stream()
+                .allMatch(book -> book.getBookPublishers().stream().allMatch(bp -> bp.getPublisher().getId() != null)
+                        && book.getBookContributors().stream()
+                        .allMatch(bc -> bc.getContributor().getId() != null))));
+    }
+
+    @Test
+    @DisplayName("CSV 파일 처리 - 이미 등록한 이름은 다음 파일에서 다시 등록하지 않음")
+    void processCsvFile_ReuseResolvedNames() throws Exception {
+        String csvContent = """
+                ISBN_THIRTEEN_NO,TITLE_NM,PUBLISHER_NM,AUTHR_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,VLM_NM,IMAGE_URL
+                9788901234567,테스트책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                """;
+        when(resource.getInputStream())
+                .thenReturn(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)))
+                .thenReturn(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+        when(resource.getFilename()).thenReturn("first.csv", "second.csv");
+        stubNameUpserts();
+
+        dataInitializer.processFile(resource);
+        dataInitializer.processFile(resource);
+
+        verify(batchInsertRepository, times(1)).upsertPublishers(anyCollection());
+        verify(batchInsertRepository, times(1)).upsertContributors(anyCollection());
+        verify(bookBatchService, times(2)).saveBooksInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("CSV 파일 처리 - 적재 완료된 파일은 열지 않음")
+    void processCsvFile_SkipCompleted() throws Exception {
+        when(resource.getFilename()).thenReturn("done.csv");
+        when(importCheckpointRepository.findById("done.csv")).thenReturn(Optional.of(ImportCheckpoint.builder()
+                .fileName("done.csv").rowsCommitted(10).status(ImportStatus.COMPLETED).build()));
+
+        dataInitializer.processFile(resource);
+
+        verify(resource, never()).getInputStream();
+        verify(bookBatchService, never()).saveBooksInBatch(anyList());
+    }
+
     @Test
     @DisplayName("CSV 파일 처리 - 빈 파일")
     void processCsvFile_EmptyFile() throws Exception {
@@ -117,7 +249,7 @@ class DataInitializerTest {
         when(resource.getInputStream()).thenReturn(inputStream);
         when(resource.getFilename()).thenReturn("empty.csv");
 
-        dataInitializer.processCsvFile(resource);
+        dataInitializer.processFile(resource);
 
         verify(bookBatchService, never()).saveBooksInBatch(anyList());
     }
@@ -128,9 +260,11 @@ class DataInitializerTest {
         when(resource.getInputStream()).thenThrow(new IOException("File read error"));
         when(resource.getFilename()).thenReturn("error.csv");
 
-        dataInitializer.processCsvFile(resource);
+        dataInitializer.processFile(resource);
 
         verify(bookBatchService, never()).saveBooksInBatch(anyList());
+        verify(importCheckpointRepository, never()).save(any());
+        verify(importCheckpointRepository).updateStatus(eq("error.csv"), eq(ImportStatus.FAILED), any());
     }
 
     @Test
@@ -146,10 +280,9 @@ class DataInitializerTest {
         when(resource.getInputStream()).thenReturn(inputStream);
         when(resource.getFilename()).thenReturn("mixed.csv");
 
-        when(publisherRepository.save(any(Publisher.class))).thenReturn(testPublisher);
-        when(contributorRepository.save(any(Contributor.class))).thenReturn(testContributor);
+        stubNameUpserts();
 
-        dataInitializer.processCsvFile(resource);
+        dataInitializer.processFile(resource);
 
         verify(bookBatchService).saveBooksInBatch(
                 argThat(list -> list.size() == 1 && (list.get(0)).getTitle().equals("정상책")));
@@ -163,11 +296,103 @@ class DataInitializerTest {
         when(resource.getInputStream()).thenReturn(inputStream);
         when(resource.getFilename()).thenReturn("header.csv");
 
-        dataInitializer.processCsvFile(resource);
+        dataInitializer.processFile(resource);
 
         verify(bookBatchService, never()).saveBooksInBatch(anyList());
     }
 
+    @Test
+    @DisplayName("증분 적재 - 데이터가 있어도 건너뛰지 않고, 저장된 해시와 다른 행은 갱신, 파일에 없는 ISBN 은 판매 중단, 끝나면 목록 캐시 비움")
+    void run_Incremental() throws Exception {
+        ReflectionTestUtils.setField(dataInitializer, "incremental", true);
+        ReflectionTestUtils.setField(dataInitializer, "softDeleteMissing", true);
+        ReflectionTestUtils.setField(dataInitializer, "maxDeleteRatio", 0.5);
+        PathMatchingResourcePatternResolver resolver = mock(PathMatchingResourcePatternResolver.class);
+        when(resolver.getResources("classpath:/data/*")).thenReturn(new Resource[]{resource});
+        when(dataParserResolver.supports("catalogue.csv")).thenReturn(true);
+        ReflectionTestUtils.setField(dataInitializer, "resolver", resolver);
+        String csvContent = """
+                ISBN_THIRTEEN_NO,TITLE_NM,PUBLISHER_NM,AUTHR_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,VLM_NM,IMAGE_URL
+                9788901234567,테스트책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                """;
+        when(resource.getInputStream())
+                .thenReturn(new ByteArrayInputStream(csvContent.getBytes(StandardCharsets.UTF_8)));
+        when(resource.getFilename()).thenReturn("catalogue.csv");
+        doAnswer(invocation -> {
+            ObjLongConsumer<String> action = invocation.getArgument(0);
+            action.accept("9788901234567", 1L);
+            action.accept("9788900000000", 2L);
+            return null;
+        }).when(batchInsertRepository).forEachContentHash(any());
+        stubNameUpserts();
+
+        dataInitializer.run(applicationArguments);
+
+        verify(bookRepository, never()).count();
+        verify(bookBatchService).upsertBooksInBatch(
+                argThat(books -> books.size() == 1 && books.get(0).getIsbn().equals("9788901234567")),
+                argThat(hashes -> hashes.size() == 1 && hashes.get("9788901234567") != 1L));
+        verify(bookBatchService).softDeleteBooksByIsbn(List.of("9788900000000"));
+        verify(bookBatchService).evictListCaches();
+        assertThat(contentHashes().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("증분 적재 - 같은 파일을 다시 적재하면 저장하지 않고, 바뀐 행만 등록/갱신")
+    void processCsvFileIncremental_OnlyChangedRows() throws Exception {
+        String header = "ISBN_THIRTEEN_NO,TITLE_NM,PUBLISHER_NM,AUTHR_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,"
+                + "VLM_NM,IMAGE_URL\n";
+        String first = header + """
+                9788901234567,첫번째책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                9788901234568,두번째책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                """;
+        String changed = header + """
+                9788901234567,첫번째책,테스트출판사,홍길동,15000,2024-01-15,책소개,,
+                9788901234568,두번째책,테스트출판사,홍길동,18000,2024-01-15,책소개,,
+                """;
+        when(resource.getInputStream())
+                .thenReturn(new ByteArrayInputStream(first.getBytes(StandardCharsets.UTF_8)))
+                .thenReturn(new ByteArrayInputStream(first.getBytes(StandardCharsets.UTF_8)))
+                .thenReturn(new ByteArrayInputStream(changed.getBytes(StandardCharsets.UTF_8)));
+        when(resource.getFilename()).thenReturn("delta.csv");
+        stubNameUpserts();
+        Map<String, Long> stored = new HashMap<>();
+        doAnswer(invocation -> {
+            stored.putAll(invocation.getArgument(1));
+            return null;
+        }).when(bookBatchService).upsertBooksInBatch(anyList(), any());
+
+        assertThat(dataInitializer.processFileIncremental(resource)).isTrue();
+        reloadContentHashes(stored);
+        assertThat(dataInitializer.processFileIncremental(resource)).isTrue();
+        reloadContentHashes(stored);
+        assertThat(dataInitializer.processFileIncremental(resource)).isTrue();
+
+        verify(bookBatchService, times(2)).upsertBooksInBatch(anyList(), any());
+        verify(bookBatchService).upsertBooksInBatch(argThat(books -> books.size() == 2), any());
+        verify(bookBatchService).upsertBooksInBatch(argThat(books -> books.size() == 1
+                        && books.get(0).getIsbn().equals("9788901234568") && books.get(0).getPriceStandard() == 18000L),
+                argThat(hashes -> hashes.keySet().equals(Set.of("9788901234568"))));
+        verify(bookBatchService, never()).saveBooksInBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("증분 적재 - 파일에 없던 ISBN 만 판매 중단, 빠진 비율이 한도를 넘으면 건너뜀")
+    void softDeleteMissingBooks() throws Exception {
+        ReflectionTestUtils.setField(dataInitializer, "maxDeleteRatio", 0.5);
+        NameIdDictionary contentHashes = contentHashes();
+        contentHashes.put("9788901234567", 11L | 1L << 62);
+        contentHashes.put("9788901234568", 12L);
+        when(bookBatchService.softDeleteBooksByIsbn(anyCollection())).thenReturn(1);
+
+        invokeSoftDeleteMissingBooks();
+        contentHashes.put("9788901234569", 13L);
+        invokeSoftDeleteMissingBooks();
+
+        verify(bookBatchService, times(1)).softDeleteBooksByIsbn(anyCollection());
+        verify(bookBatchService).softDeleteBooksByIsbn(List.of("9788901234568"));
+    }
+
     @Test
     @DisplayName("convertToBook - 필수값 없으면 null 반환")
     void convertToBook_NullWhenMissingRequired() throws Exception {
@@ -189,8 +414,6 @@ class DataInitializerTest {
                 "15000", "2024-01-15", "책소개", "1권", "http://image.url"};
         Map<String, Integer> headerMap = createHeaderMap();
 
-        when(publisherRepository.save(any(Publisher.class))).thenReturn(testPublisher);
-        when(contributorRepository.save(any(Contributor.class))).thenReturn(testContributor);
 
         Book result = invokeConvertToBook(row, headerMap);
 
@@ -199,6 +422,13 @@ class DataInitializerTest {
         assertThat(result.getTitle()).isEqualTo("테스트책");
         assertThat(result.getPriceStandard()).isEqualTo(15000L);
         assertThat(result.getStatus()).isEqualTo(BookStatus.ON_SALE);
+        // 처음 보는 이름은 변환 단계에서 저장하지 않고 이름만 담아 둠
+        assertThat(result.getBookPublishers()).singleElement()
+                .satisfies(bookPublisher -> assertThat(bookPublisher.getPublisher().getId()).isNull());
+        assertThat(result.getBookContributors()).singleElement()
+                .satisfies(bookContributor -> assertThat(bookContributor.getContributor().getContributorName())
+                        .isEqualTo("홍길동"));
+        verify(batchInsertRepository, never()).upsertPublishers(anyCollection());
     }
 
     @Test
@@ -207,16 +437,12 @@ class DataInitializerTest {
         String[] row = {"9788901234567", "테스트책", "", "", "", "", "", "", ""};
         Map<String, Integer> headerMap = createHeaderMap();
 
-        Publisher unknownPublisher = Publisher.builder()
-                .id(999L)
-                .publisherName("Unknown")
-                .build();
-        when(publisherRepository.save(any(Publisher.class))).thenReturn(unknownPublisher);
-
         Book result = invokeConvertToBook(row, headerMap);
 
         assertThat(result).isNotNull();
-        assertThat(result.getBookPublishers()).hasSize(1);
+        assertThat(result.getBookPublishers()).singleElement()
+                .satisfies(bookPublisher -> assertThat(bookPublisher.getPublisher().getPublisherName())
+                        .isEqualTo("Unknown"));
     }
 
     @DisplayName("parseAndAddContributors - 다양한 입력 케이스 통합 테스트")
@@ -233,53 +459,11 @@ class DataInitializerTest {
     void parseAndAddContributors_Parameterized(String authorStr, int expectedSize) throws Exception {
         Book book = Book.builder().build();
 
-        lenient().when(contributorRepository.save(any(Contributor.class))).thenReturn(testContributor);
-
         invokeParseAndAddContributors(book, authorStr);
 
         assertThat(book.getBookContributors()).hasSize(expectedSize);
     }
 
-    @DisplayName("extractNameAndRole - 다양한 입력 형식 파싱 검증")
-    @ParameterizedTest(name = "[{index}] 입력: \"{0}\" -> 이름: {1}, 역할: {2}")
-    @CsvSource(value = {
-            "홍길동(지은이), 홍길동, 지은이",  // 괄호 역할
-            "홍길동 지음, 홍길동, 지은이",     // 접미사 역할 ('지음' -> '지은이' 정규화됨)
-            "홍길동, 홍길동, 지은이"          // 역할 없음 (기본값 '지은이')
-    })
-    void extractNameAndRole_Parameterized(String token, String expectedName, String expectedRole) throws Exception {
-        Object result = invokeExtractNameAndRole(token);
-        String name = getField(result, "name");
-        String role = getField(result, "role");
-
-        assertThat(name).isEqualTo(expectedName);
-        assertThat(role).isEqualTo(expectedRole);
-    }
-
-    @Test
-    @DisplayName("normalizeRole - 다양한 역할 통일")
-    void normalizeRole_Various() throws Exception {
-        assertThat(invokeNormalizeRole("지음")).isEqualTo("지은이");
-        assertThat(invokeNormalizeRole("저")).isEqualTo("지은이");
-        assertThat(invokeNormalizeRole("공저")).isEqualTo("지은이");
-        assertThat(invokeNormalizeRole("옮김")).isEqualTo("옮긴이");
-        assertThat(invokeNormalizeRole("역")).isEqualTo("옮긴이");
-        assertThat(invokeNormalizeRole("편")).isEqualTo("엮은이");
-        assertThat(invokeNormalizeRole("엮음")).isEqualTo("엮은이");
-        assertThat(invokeNormalizeRole("글")).isEqualTo("글");
-        assertThat(invokeNormalizeRole("그림")).isEqualTo("그림");
-    }
-
-    @Test
-    @DisplayName("normalizeRole - 50자 넘으면 자르기")
-    void normalizeRole_TruncateLongRole() throws Exception {
-        String longRole = "a".repeat(60);
-
-        String result = invokeNormalizeRole(longRole);
-
-        assertThat(result).hasSize(50);
-    }
-
     @Test
     @DisplayName("safeGet - 정상 값 가져오기")
     void safeGet_Success() throws Exception {
@@ -430,18 +614,6 @@ class DataInitializerTest {
         method.invoke(dataInitializer, book, authorStr);
     }
 
-    private Object invokeExtractNameAndRole(String token) throws Exception {
-        Method method = DataInitializer.class.getDeclaredMethod("extractNameAndRole", String.class);
-        method.setAccessible(true);
-        return method.invoke(dataInitializer, token);
-    }
-
-    private String invokeNormalizeRole(String role) throws Exception {
-        Method method = DataInitializer.class.getDeclaredMethod("normalizeRole", String.class);
-        method.setAccessible(true);
-        return (String) method.invoke(dataInitializer, role);
-    }
-
     private String invokeSafeGet(String[] row, Map<String, Integer> headerMap, String... keys) throws Exception {
         Method method = DataInitializer.class.getDeclaredMethod("safeGet", String[].class, Map.class, String[].class);
         method.setAccessible(true);
@@ -472,9 +644,32 @@ class DataInitializerTest {
         return (Map<String, Integer>) method.invoke(dataInitializer, (Object) headers);
     }
 
-    private String getField(Object obj, String fieldName) throws Exception {
-        java.lang.reflect.Field field = obj.getClass().getDeclaredField(fieldName);
-        field.setAccessible(true);
-        return (String) field.get(obj);
+    private NameIdDictionary contentHashes() {
+        return (NameIdDictionary) ReflectionTestUtils.getField(dataInitializer, "contentHashes");
+    }
+
+    // 다음 증분 적재처럼 저장된 해시만 다시 올림 (SEEN 표시 없음)
+    private void reloadContentHashes(Map<String, Long> stored) {
+        NameIdDictionary contentHashes = contentHashes();
+        contentHashes.clear();
+        stored.forEach(contentHashes::put);
+    }
+
+    private void invokeSoftDeleteMissingBooks() throws Exception {
+        Method method = DataInitializer.class.getDeclaredMethod("softDeleteMissingBooks");
+        method.setAccessible(true);
+        method.invoke(dataInitializer);
+    }
+
+    // 요청한 이름마다 새 ID 를 돌려주는 upsert
+    private void stubNameUpserts() {
+        AtomicLong ids = new AtomicLong();
+        Answer<Map<String, Long>> upsert = invocation -> {
+            Map<String, Long> result = new HashMap<>();
+            invocation.<Collection<String>>getArgument(0).forEach(name -> result.put(name, ids.incrementAndGet()));
+            return result;
+        };
+        when(batchInsertRepository.upsertPublishers(anyCollection())).thenAnswer(upsert);
+        when(batchInsertRepository.upsertContributors(anyCollection())).thenAnswer(upsert);
     }
-}
\ No newline at end of file
+}
@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
 import org.nhnacademy.book2onandonbookservice.dto.book.BookSearchCondition;
-import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.dto.common.CursorPage;
+import org.nhnacademy.book2onandonbookservice.exception.InvalidCursorException;
 import org.nhnacademy.book2onandonbookservice.service.book.BookLikeService;
 import org.nhnacademy.book2onandonbookservice.service.book.BookLikeService.BookLikeToggleResult;
 import org.nhnacademy.book2onandonbookservice.service.book.BookService;
@@ -30,6 +32,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -57,11 +60,12 @@ class BookControllerTest {
     @Test
     @DisplayName("카테고리 목록 조회")
     void getCategory() throws Exception {
-        List<CategoryDto> categoryDtos = List.of(CategoryDto.builder().id(1L).name("DDDD").build());
-        given(bookService.getCategories()).willReturn(categoryDtos);
+        given(bookService.getCategoryTreeJson())
+                .willReturn("[{\"id\":1,\"name\":\"DDDD\",\"children\":[]}]".getBytes(StandardCharsets.UTF_8));
 
         mockMvc.perform(get("/books/categories"))
                 .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].name").value("DDDD"));
     }
 
@@ -133,6 +137,39 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("인기도서를 조회 해보자!"));
     }
 
+    @Test
+    @DisplayName("인기 도서 커서 조회 - 다음 커서를 그대로 넘김")
+    void getPopularBooksByCursor() throws Exception {
+        CursorPage<BookListResponse> page = new CursorPage<>(
+                List.of(BookListResponse.builder().id(1L).title("인기도서").build()), "next-cursor", true);
+        given(bookService.getPopularBooksByCursor("abc", 10)).willReturn(page);
+
+        mockMvc.perform(get("/books/popular/cursor").param("cursor", "abc").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("인기도서"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("신간 커서 조회 - 잘못된 커서면 400")
+    void getNewArrivalsByCursor_invalidCursor() throws Exception {
+        given(bookService.getNewArrivalsByCursor(null, "broken", 20)).willThrow(new InvalidCursorException("broken"));
+
+        mockMvc.perform(get("/books/new-arrivals/cursor").param("cursor", "broken"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("도서 목록 커서 조회 - 첫 페이지")
+    void getBooksByCursor() throws Exception {
+        given(bookService.getBooksByCursor(null, 20)).willReturn(new CursorPage<>(List.of(), null, false));
+
+        mockMvc.perform(get("/books/cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     @DisplayName("최근 본 상품 조회 - 로그인 유저 버전")
     void getRecentViews_user() throws Exception {
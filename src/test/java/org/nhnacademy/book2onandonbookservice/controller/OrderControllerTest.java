@@ -3,6 +3,8 @@ package org.nhnacademy.book2onandonbookservice.controller;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doNothing;
@@ -92,7 +94,21 @@ class OrderControllerTest {
                         .content(objectMapper.writeValueAsString(reqs)))
                 .andExpect(status().isOk());
 
-        verify(bookService).decreaseStock(anyList());
+        verify(bookService).decreaseStock(anyList(), isNull());
+    }
+
+    @Test
+    @DisplayName("재고 차감 - Idempotency-Key 헤더를 서비스로 전달")
+    void decreaseStock_WithIdempotencyKey() throws Exception {
+        List<StockRequest> reqs = List.of(StockRequest.builder().bookId(1L).quantity(2).build());
+
+        mockMvc.perform(post("/internal/books/stock/decrease")
+                        .header("Idempotency-Key", "order-1-decrease")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reqs)))
+                .andExpect(status().isOk());
+
+        verify(bookService).decreaseStock(anyList(), eq("order-1-decrease"));
     }
 
     @Test
@@ -103,7 +119,7 @@ class OrderControllerTest {
                 StockRequest.builder().bookId(2L).quantity(4).build()
         );
 
-        willThrow(new OutOfStockException("재고가 부족합니다.")).given(bookService).decreaseStock(anyList());
+        willThrow(new OutOfStockException("재고가 부족합니다.")).given(bookService).decreaseStock(anyList(), isNull());
         mockMvc.perform(post("/internal/books/stock/decrease")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqs)))
@@ -118,14 +134,14 @@ class OrderControllerTest {
                 StockRequest.builder().bookId(1L).quantity(2).build()
         );
 
-        doNothing().when(bookService).increaseStock(anyList());
+        doNothing().when(bookService).increaseStock(anyList(), isNull());
 
         mockMvc.perform(post("/internal/books/stock/increase")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(reqs)))
                 .andExpect(status().isOk());
 
-        verify(bookService).increaseStock(anyList());
+        verify(bookService).increaseStock(anyList(), isNull());
     }
 
     @Test
@@ -135,7 +151,7 @@ class OrderControllerTest {
                 StockRequest.builder().bookId(999L).quantity(2).build()
         );
 
-        willThrow(new NotFoundBookException(999L)).given(bookService).increaseStock(anyList());
+        willThrow(new NotFoundBookException(999L)).given(bookService).increaseStock(anyList(), isNull());
 
         mockMvc.perform(post("/internal/books/stock/increase")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -89,6 +89,26 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo(errorMessage);
     }
 
+    @Test
+    void handleInvalidCursorException() {
+        ResponseEntity<ErrorResponse> response =
+                globalExceptionHandler.handleInvalidCursorException(new InvalidCursorException("abc"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("잘못된 커서입니다: abc");
+    }
+
+    @Test
+    void handleInvalidIdempotencyKeyException() {
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleInvalidIdempotencyKeyException(
+                new InvalidIdempotencyKeyException(65, 64));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Idempotency-Key 는 64자 이하여야 합니다: 65자");
+    }
+
     @Test
     void handleAccessDeniedException() {
         String errorMessage = "Access is denied";
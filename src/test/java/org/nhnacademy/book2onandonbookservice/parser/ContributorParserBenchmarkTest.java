@@ -0,0 +1,130 @@
+package org.nhnacademy.book2onandonbookservice.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 저자 문자열 파싱 - 행당 ns / 행당 할당 바이트: (기존) 정규식 split + ROLE_PATTERN vs ContributorParser
+ * <p>
+ * 반복 측정이라 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=ContributorParserBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]}
+ * <p>
+ * 할당량은 현재 스레드 기준(com.sun.management.ThreadMXBean)이며 워밍업 후 같은 입력을 돌려 잽니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ContributorParserBenchmarkTest {
+
+    // 공공 도서 CSV AUTHR_NM 에서 자주 보이는 형태
+    private static final String[] CORPUS = {
+            "한강 (지은이)",
+            "유발 하라리 (지은이), 조현욱 (옮긴이), 이태수 (감수)",
+            "김영하 지음",
+            "베르나르 베르베르 (지은이), 이세욱 (옮긴이)",
+            "무라카미 하루키 지음 ; 양억관 옮김",
+            "by J.K. Rowling / illustrated by Jim Kay",
+            "편집부 엮음",
+            "홍길동 외 3명",
+            "김철수 글, 이영희 그림",
+            "Robert C. Martin (지은이), 박재호 (옮긴이) | 이해영 (옮긴이)"
+    };
+
+    private static final Pattern SPLIT_PATTERN = Pattern.compile("[,|/;]");
+    private static final Pattern ROLE_PATTERN = Pattern.compile(
+            "^(.*?)(?:\\s*\\((.*?)\\)|\\s+(지음|옮김|그림|글|엮음|편|저|공저|감수|사진|기획))\\s*$", Pattern.CANON_EQ);
+
+    @Test
+    void measureNanosAndBytesPerRow() {
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+        // 두 방식이 같은 기여자 수를 내는지 먼저 확인
+        for (String raw : CORPUS) {
+            assertThat(ContributorParser.parse(raw)).hasSize(legacyParse(raw));
+        }
+
+        ToIntFunction<String> parser = raw -> ContributorParser.parse(raw).size();
+        run(rows, this::legacyParse);
+        run(rows, parser);
+
+        long[] legacy = run(rows, this::legacyParse);
+        long[] scanner = run(rows, parser);
+
+        log.info("[Benchmark] 저자 문자열 {}행 - 기존(정규식): {}ns/행, {}B/행 / ContributorParser: {}ns/행, {}B/행",
+                rows, legacy[0] / rows, legacy[1] / rows, scanner[0] / rows, scanner[1] / rows);
+    }
+
+    // {걸린 ns, 할당 바이트}
+    private long[] run(int rows, ToIntFunction<String> parse) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long sink = 0;
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            sink += parse.applyAsInt(CORPUS[i % CORPUS.length]);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        assertThat(sink).isPositive();
+        return new long[]{elapsed, allocated};
+    }
+
+    // 변경 전 DataInitializer.parseAndAddContributors 의 파싱 경로 (엔티티 연결 제외)
+    private int legacyParse(String rawAuthorStr) {
+        String cleaned = rawAuthorStr.replaceAll("(?i)\\s*by\\s*", "")
+                .replaceAll("(?i)\\s*illustrated\\s*", "");
+        Set<String> processedKeys = new HashSet<>();
+        List<String[]> result = new ArrayList<>();
+
+        Arrays.stream(SPLIT_PATTERN.split(cleaned))
+                .map(String::trim)
+                .filter(token -> !token.isBlank() && !token.equals("외"))
+                .map(token -> {
+                    int index = token.indexOf(" 외");
+                    return index != -1 ? token.substring(0, index).trim() : token;
+                })
+                .map(token -> {
+                    Matcher matcher = ROLE_PATTERN.matcher(token);
+                    String name = token;
+                    String role = "지은이";
+                    if (matcher.find()) {
+                        name = matcher.group(1).trim();
+                        String found = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+                        if (found != null) {
+                            role = legacyNormalizeRole(found.trim());
+                        }
+                    }
+                    return new String[]{name, role};
+                })
+                .filter(parsed -> !parsed[0].isBlank())
+                .forEach(parsed -> {
+                    if (processedKeys.add(parsed[0] + "_" + parsed[1])) {
+                        result.add(parsed);
+                    }
+                });
+        return result.size();
+    }
+
+    private String legacyNormalizeRole(String role) {
+        return switch (role) {
+            case "지음", "저", "공저" -> "지은이";
+            case "옮김", "역" -> "옮긴이";
+            case "편", "엮음" -> "엮은이";
+            default -> role.length() > 50 ? role.substring(0, 50) : role;
+        };
+    }
+}
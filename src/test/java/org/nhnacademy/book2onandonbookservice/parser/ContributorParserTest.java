@@ -0,0 +1,78 @@
+package org.nhnacademy.book2onandonbookservice.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.nhnacademy.book2onandonbookservice.parser.ContributorParser.ParsedContributor;
+
+class ContributorParserTest {
+
+    @DisplayName("이름/역할 분리 - 괄호, 띄어 쓴 접미사, 역할 없음")
+    @ParameterizedTest(name = "[{index}] 입력: \"{0}\" -> 이름: {1}, 역할: {2}")
+    @CsvSource(value = {
+            "홍길동(지은이), 홍길동, 지은이",      // 괄호 역할
+            "홍길동 (옮긴이), 홍길동, 옮긴이",     // 괄호 앞 공백
+            "홍길동 지음, 홍길동, 지은이",         // 접미사 역할 ('지음' -> '지은이' 정규화됨)
+            "홍길동 그림, 홍길동, 그림",
+            "홍길동, 홍길동, 지은이",             // 역할 없음 (기본값 '지은이')
+            "'by 홍길동', 홍길동, 지은이",        // 'by' 접두사 제거
+            "'Illustrated by Kim', Kim, 지은이",
+            "'홍길동 외 2명', 홍길동, 지은이",     // '외 N명' 제거
+            "'Jane Doe', Jane Doe, 지은이"       // 마지막 단어가 역할이 아니면 이름의 일부
+    })
+    void parse_NameAndRole(String raw, String expectedName, String expectedRole) {
+        assertThat(ContributorParser.parse(raw))
+                .containsExactly(new ParsedContributor(expectedName, expectedRole));
+    }
+
+    @DisplayName("역할 통일")
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource(value = {
+            "지음, 지은이", "저, 지은이", "공저, 지은이",
+            "옮김, 옮긴이", "역, 옮긴이",
+            "편, 엮은이", "엮음, 엮은이",
+            "글, 글", "그림, 그림"
+    })
+    void parse_NormalizeRole(String role, String expected) {
+        assertThat(ContributorParser.parse("홍길동(" + role + ")"))
+                .containsExactly(new ParsedContributor("홍길동", expected));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 역할은 그대로, 50자 넘으면 자르기")
+    void parse_TruncateLongRole() {
+        assertThat(ContributorParser.parse("홍길동(해설)"))
+                .containsExactly(new ParsedContributor("홍길동", "해설"));
+
+        List<ParsedContributor> result = ContributorParser.parse("홍길동(" + "a".repeat(60) + ")");
+
+        assertThat(result).singleElement()
+                .satisfies(parsed -> assertThat(parsed.role()).hasSize(50));
+    }
+
+    @Test
+    @DisplayName("구분자(, | / ;) 로 나누고 '외' 뿐인 토큰과 같은 이름+역할 중복은 버림")
+    void parse_DelimitersAndDuplicates() {
+        List<ParsedContributor> result = ContributorParser.parse(
+                "홍길동(지은이), 김철수 옮김 | 이영희(그림) / 외; 홍길동 지음 ; 홍길동(옮긴이)");
+
+        assertThat(result).containsExactly(
+                new ParsedContributor("홍길동", "지은이"),
+                new ParsedContributor("김철수", "옮긴이"),
+                new ParsedContributor("이영희", "그림"),
+                new ParsedContributor("홍길동", "옮긴이"));
+    }
+
+    @Test
+    @DisplayName("null, 빈 문자열, 구분자/공백뿐인 입력은 빈 목록")
+    void parse_Empty() {
+        assertThat(ContributorParser.parse(null)).isEmpty();
+        assertThat(ContributorParser.parse("")).isEmpty();
+        assertThat(ContributorParser.parse(" , ;  | ")).isEmpty();
+        assertThat(ContributorParser.parse("(지은이)")).isEmpty();
+    }
+}
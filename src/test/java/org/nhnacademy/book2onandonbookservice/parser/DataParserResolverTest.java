@@ -0,0 +1,49 @@
+package org.nhnacademy.book2onandonbookservice.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookColumnarParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookCsvParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookJsonLinesParser;
+import org.nhnacademy.book2onandonbookservice.parser.impl.BookTsvParser;
+
+class DataParserResolverTest {
+
+    private final DataParserResolver resolver = new DataParserResolver(List.of(
+            new BookCsvParser(), new BookTsvParser(), new BookJsonLinesParser(), new BookColumnarParser()));
+
+    @DisplayName("확장자(.gz 포함)로 파서 선택")
+    @ParameterizedTest(name = "[{index}] {0} -> {1}")
+    @CsvSource({
+            "books.csv, csv",
+            "books.csv.gz, csv",
+            "BOOKS.TSV, tsv",
+            "2024-01/books.jsonl.gz, jsonl",
+            "catalogue.bcol, bcol"
+    })
+    void getDataParser(String fileName, String expectedType) {
+        assertThat(resolver.getDataParser(fileName).getFileType()).isEqualTo(expectedType);
+    }
+
+    @DisplayName("확장자가 없거나 지원하지 않으면 DataParserException")
+    @ParameterizedTest
+    @ValueSource(strings = {"books", "books.json", "books.parquet", "books.gz", " "})
+    void getDataParser_Unsupported(String fileName) {
+        assertThatThrownBy(() -> resolver.getDataParser(fileName)).isInstanceOf(DataParserException.class);
+        assertThat(resolver.supports(fileName)).isFalse();
+    }
+
+    @DisplayName("supports - 파서가 있는 확장자만 true (예외 없음)")
+    @ParameterizedTest
+    @ValueSource(strings = {"books.csv", "books.csv.gz", "books.tsv", "books.jsonl.gz", "catalogue.bcol"})
+    void supports(String fileName) {
+        assertThat(resolver.supports(fileName)).isTrue();
+    }
+}
@@ -0,0 +1,116 @@
+package org.nhnacademy.book2onandonbookservice.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.ImportPipeline.RowReader;
+
+@Timeout(10)
+class ImportPipelineTest {
+
+    private RowReader<Integer> rangeReader(int count) {
+        AtomicInteger next = new AtomicInteger();
+        return () -> next.get() < count ? next.getAndIncrement() : null;
+    }
+
+    @Test
+    @DisplayName("모든 행을 변환해 배치 크기 이하로 나눠 저장, null 변환 결과는 건너뜀")
+    void run_writesAllInBatches() {
+        List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        ImportPipeline<Integer, String> pipeline = new ImportPipeline<>("test", 4, 8, 10);
+
+        ImportPipeline.Result result = pipeline.run(rangeReader(1000),
+                i -> i % 10 == 0 ? null : "row-" + i,
+                (batch, processedRows) -> batches.add(batch));
+
+        assertThat(result.rowsRead()).isEqualTo(1000);
+        assertThat(result.written()).isEqualTo(900);
+        assertThat(result.batches()).isEqualTo(batches.size()).isEqualTo(90);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+        assertThat(batches.stream().flatMap(List::stream).distinct()).hasSize(900).doesNotContain("row-0");
+    }
+
+    @Test
+    @DisplayName("processedRows: 그 앞의 행은 모두 저장됐거나 건너뛴 행이고, 마지막 배치에서 전체 행 수가 됨")
+    void run_processedRowsIsContiguousWatermark() {
+        Set<Integer> written = new HashSet<>();
+        List<Long> watermarks = new ArrayList<>();
+        ImportPipeline<Integer, Integer> pipeline = new ImportPipeline<>("test", 4, 16, 7);
+
+        pipeline.run(rangeReader(5000), i -> i % 3 == 0 ? null : i, (batch, processedRows) -> {
+            written.addAll(batch);
+            for (int i = 0; i < processedRows; i++) {
+                assertThat(i % 3 == 0 || written.contains(i)).as("row %d", i).isTrue();
+            }
+            watermarks.add(processedRows);
+        });
+
+        assertThat(watermarks).isSorted();
+        assertThat(watermarks.get(watermarks.size() - 1)).isEqualTo(5000L); // 3333건 / 7 → 마지막 배치가 남음
+    }
+
+    @Test
+    @DisplayName("순서 유지: 변환이 늦은 행이 있어도 읽은 순서 그대로 저장하고, processedRows 는 배치 마지막 행까지의 행 수")
+    void run_ordered_writesInReadOrder() {
+        List<Integer> written = new ArrayList<>();
+        List<Long> watermarks = new ArrayList<>();
+        ImportPipeline<Integer, Integer> pipeline = new ImportPipeline<>("test", 4, 8, 10, true);
+
+        pipeline.run(rangeReader(2000), i -> {
+            if (i % 97 == 0) {
+                LockSupport.parkNanos(1_000_000); // 앞 행의 변환이 늦어 뒤 행이 먼저 끝나게 함
+            }
+            return i % 5 == 0 ? null : i;
+        }, (batch, processedRows) -> {
+            written.addAll(batch);
+            watermarks.add(processedRows);
+            assertThat(processedRows).isEqualTo(batch.get(batch.size() - 1) + 1L);
+        });
+
+        assertThat(written).hasSize(1600).isSorted();
+        assertThat(watermarks.get(watermarks.size() - 1)).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("저장이 실패하면 읽기를 멈추고 예외를 그대로 던짐 (끝없는 입력이어도 종료)")
+    void run_writerFailure_stopsReader() {
+        AtomicInteger writes = new AtomicInteger();
+        ImportPipeline<Integer, Integer> pipeline = new ImportPipeline<>("test", 2, 4, 5);
+
+        assertThatThrownBy(() -> pipeline.run(() -> 1, i -> i, (batch, processedRows) -> {
+            if (writes.incrementAndGet() == 3) {
+                throw new IllegalStateException("DB 오류");
+            }
+        })).isInstanceOf(IllegalStateException.class).hasMessage("DB 오류");
+    }
+
+    @Test
+    @DisplayName("읽기가 실패하면 DataParserException 으로 감싸 던지고, 실패 이후 남은 배치는 저장하지 않음")
+    void run_readerFailure() {
+        AtomicInteger next = new AtomicInteger();
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        ImportPipeline<Integer, Integer> pipeline = new ImportPipeline<>("test", 2, 4, 100);
+
+        assertThatThrownBy(() -> pipeline.run(() -> {
+            if (next.get() == 50) {
+                throw new IOException("CSV 깨짐");
+            }
+            return next.getAndIncrement();
+        }, i -> i, (batch, processedRows) -> written.addAll(batch)))
+                .isInstanceOf(DataParserException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(written).isEmpty();
+    }
+}
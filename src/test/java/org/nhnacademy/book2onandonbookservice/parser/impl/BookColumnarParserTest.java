@@ -0,0 +1,94 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.springframework.core.io.ByteArrayResource;
+
+class BookColumnarParserTest {
+
+    private final BookColumnarParser parser = new BookColumnarParser();
+
+    @Test
+    @DisplayName("CSV 에서 만든 스냅샷을 다시 읽으면 같은 DTO")
+    void roundTripFromCsv() throws IOException {
+        String csv = "ISBN_THIRTEEN_NO,ISBN_NO,TITLE_NM,AUTHR_NM,SEQ_NO,PUBLISHER_NM,PRC_VALUE,TWO_PBLICTE_DE,"
+                + "BOOK_INTRCN_CN,IMAGE_URL,VLM_NM\n"
+                + "978111,111,제목,\"김작가 (지은이), 박역자 (옮긴이)\",1,출판사,1000,2023-05-05,\"설명, 인용\",,1권\n"
+                + ",222,제목2,작가,2,출판사,2000,2020년 발행,설명,http://image.url,\n";
+        List<DataParserDto> original = new BookCsvParser()
+                .parsing(new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)));
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        long written = BookColumnarWriter.write(original.stream(), snapshot);
+        List<DataParserDto> restored = parser.parsing(new ByteArrayResource(snapshot.toByteArray()));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(restored).usingRecursiveFieldByFieldElementComparator().isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("행 묶음 여러 개 - 순서대로 모두 읽음")
+    void multipleRowGroups() throws IOException {
+        int count = BookColumnarWriter.ROW_GROUP_SIZE * 2 + 10;
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        BookColumnarWriter.write(IntStream.range(0, count).mapToObj(i -> new DataParserDto(String.valueOf(i),
+                "978" + i, "제목" + i, "작가" + i, "출판사", "1000", "2023-01-01", "", "", "")), snapshot);
+
+        List<DataParserDto> restored = parser.parsing(new ByteArrayResource(snapshot.toByteArray()));
+
+        assertThat(restored).hasSize(count);
+        assertThat(restored.get(count - 1).getIsbn()).isEqualTo("978" + (count - 1));
+        assertThat(restored.get(count - 1).getAuthors()).containsExactly("작가" + (count - 1));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 아니거나 빈 파일은 DataParserException")
+    void parsing_fail_not_snapshot() {
+        assertThatThrownBy(() -> parser.parsing(new ByteArrayResource("a,b,c".getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(DataParserException.class);
+        assertThatThrownBy(() -> parser.parsing(new ByteArrayResource(new byte[0])))
+                .isInstanceOf(DataParserException.class);
+    }
+
+    @Test
+    @DisplayName("값 길이/행 묶음 크기/열 수가 음수이거나 상한을 넘으면 큰 배열을 만들지 않고 DataParserException")
+    void parsing_fail_corruptLengths() throws IOException {
+        byte[] negativeLength = snapshot(BookRecordMapper.COLUMNS.length, 1, -1);
+        byte[] hugeLength = snapshot(BookRecordMapper.COLUMNS.length, 1, Integer.MAX_VALUE);
+        byte[] hugeGroup = snapshot(BookRecordMapper.COLUMNS.length, Integer.MAX_VALUE, 0);
+        byte[] negativeColumns = snapshot(-1, 1, 0);
+
+        for (byte[] corrupt : List.of(negativeLength, hugeLength, hugeGroup, negativeColumns)) {
+            assertThatThrownBy(() -> parser.parsing(new ByteArrayResource(corrupt)))
+                    .isInstanceOf(DataParserException.class);
+        }
+    }
+
+    // 헤더 다음에 행 묶음 하나의 첫 값 길이까지만 쓴 스냅샷
+    private byte[] snapshot(int columnCount, int groupSize, int firstValueLength) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(new LZ4FrameOutputStream(out))) {
+            data.writeInt(BookColumnarWriter.MAGIC);
+            data.writeByte(BookColumnarWriter.VERSION);
+            data.writeInt(columnCount);
+            for (String column : BookRecordMapper.COLUMNS) {
+                data.writeUTF(column);
+            }
+            data.writeInt(groupSize);
+            data.writeInt(firstValueLength);
+        }
+        return out.toByteArray();
+    }
+}
@@ -5,17 +5,27 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
 import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class BookCsvParserTest {
 
+    @TempDir
+    Path tempDir;
+
     private final BookCsvParser parser = new BookCsvParser();
 
     private static final String FULL_HEADERS = "ISBN_THIRTEEN_NO,ISBN_NO,TITLE_NM,AUTHR_NM,SEQ_NO,PUBLISHER_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,IMAGE_URL,VLM_NM";
@@ -126,6 +136,39 @@ class BookCsvParserTest {
         assertThat(result.get(0).getTitle()).isEqualTo("정상책");
     }
 
+    @Test
+    @DisplayName("파일 리소스: 메모리 매핑 경로도 스트림 경로와 같은 DTO 를 만든다")
+    void parsing_file_resource_same_as_stream() throws IOException {
+        String csvContent = FULL_HEADERS + "\n" +
+                "978111,111,제목,\"김작가 (지은이), 박역자 (옮긴이)\",1,출판사,1000,2023-01-01,\"설명, \"\"인용\"\"\",,nan\n" +
+                "978222,222,,작가,2,출판사,1000,2023-01-01,설명,,\n" +
+                ",,제목2,작가,3,출판사,1000,2023-01-01,설명,,\n" +
+                ",222,제목3,작가,4,출판사,2000,20230505,설명,http://image.url,2권";
+        Path file = Files.writeString(tempDir.resolve("books.csv"), csvContent, StandardCharsets.UTF_8);
+
+        List<DataParserDto> mapped = parser.parsing(new FileSystemResource(file));
+        List<DataParserDto> stream = parser.parsing(new ByteArrayResource(csvContent.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(mapped).hasSize(2);
+        assertThat(mapped).usingRecursiveFieldByFieldElementComparator().isEqualTo(stream);
+        assertThat(mapped.get(0).getDescription()).isEqualTo("설명, \"인용\"");
+        assertThat(mapped.get(0).getVolume()).isEmpty();
+        assertThat(mapped.get(1).getIsbn()).isEqualTo("222");
+    }
+
+    @Test
+    @DisplayName("파일 리소스: 헤더 검증 실패와 빈 파일은 스트림 경로와 같은 예외")
+    void parsing_file_resource_fail() throws IOException {
+        Path broken = Files.writeString(tempDir.resolve("broken.csv"), "ISBN_THIRTEEN_NO,ISBN_NO,AUTHR_NM,SEQ_NO");
+        Path empty = Files.writeString(tempDir.resolve("empty.csv"), "");
+
+        assertThatThrownBy(() -> parser.parsing(new FileSystemResource(broken)))
+                .isInstanceOf(DataParserException.class)
+                .hasMessageContaining("필수 컬럼이 없습니다");
+        assertThatThrownBy(() -> parser.parsing(new FileSystemResource(empty)))
+                .isInstanceOf(DataParserException.class);
+    }
+
     @Test
     @DisplayName("Row 스킵: Title이 없으면 해당 라인은 스킵된다")
     void parsing_skip_row_no_title() throws IOException {
@@ -157,4 +200,52 @@ class BookCsvParserTest {
         assertThatThrownBy(() -> parser.parsing(resource))
                 .isInstanceOf(DataParserException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("원본 행 읽기: 큰 파일은 조각 병렬로 읽어도 파일 순서 그대로, 요청한 열만 채우고 나머지는 null")
+    void openRawRows_chunked_keeps_file_order() throws IOException {
+        StringBuilder csv = new StringBuilder(FULL_HEADERS).append('\n');
+        for (int i = 0; i < 500; i++) {
+            csv.append(i).append(",,\"제목\n").append(i).append("\",작가,").append(i)
+                    .append(",출판사, nan ,2023-01-01,설명,,\n");
+        }
+        Path file = Files.writeString(tempDir.resolve("raw.csv"), csv, StandardCharsets.UTF_8);
+        BookCsvParser chunked = new BookCsvParser();
+        ReflectionTestUtils.setField(chunked, "parseParallelism", 4);
+        ReflectionTestUtils.setField(chunked, "chunkBytes", 256L);
+        Set<String> columns = Set.of("ISBN_THIRTEEN_NO", "TITLE_NM", "PRC_VALUE");
+
+        List<String[]> fromFile = readAll(chunked.openRawRows(new FileSystemResource(file), columns));
+        List<String[]> fromStream = readAll(chunked.openRawRows(
+                new ByteArrayResource(csv.toString().getBytes(StandardCharsets.UTF_8)), columns));
+
+        assertThat(fromFile).hasSize(500);
+        for (int i = 0; i < 500; i++) {
+            assertThat(fromFile.get(i)).containsExactly(String.valueOf(i), null, "제목\n" + i, null, null, null, "",
+                    null, null, null, null);
+        }
+        assertThat(fromFile).usingRecursiveFieldByFieldElementComparator().isEqualTo(fromStream);
+    }
+
+    @Test
+    @DisplayName("원본 행 읽기: 빈 파일은 예외 없이 헤더가 null 이고 행도 없다")
+    void openRawRows_empty_file() throws IOException {
+        Path empty = Files.writeString(tempDir.resolve("empty.csv"), "");
+
+        try (BookCsvParser.RawRows rows = parser.openRawRows(new FileSystemResource(empty), Set.of("TITLE_NM"))) {
+            assertThat(rows.header()).isNull();
+            assertThat(rows.next()).isNull();
+        }
+    }
+
+    private List<String[]> readAll(BookCsvParser.RawRows rows) {
+        try (rows) {
+            List<String[]> all = new ArrayList<>();
+            String[] row;
+            while ((row = rows.next()) != null) {
+                all.add(row);
+            }
+            return all;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * BookCsvParser 처리량 (MB/s) - (기존) OpenCSV 스트림 vs 메모리 매핑 리더
+ * <p>
+ * 큰 파일을 만들어 읽으므로 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=BookCsvParserThroughputBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=300000]}
+ * <p>
+ * "스캔" 은 행을 나누고 DTO 에 쓰는 열만 꺼내는 데까지, "전체" 는 DataParserDto 생성(날짜/가격/저자 파싱)까지 포함합니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookCsvParserThroughputBenchmarkTest {
+
+    private static final String[] HEADERS = {"ISBN_THIRTEEN_NO", "ISBN_NO", "TITLE_NM", "AUTHR_NM", "SEQ_NO",
+            "PUBLISHER_NM", "PRC_VALUE", "TWO_PBLICTE_DE", "BOOK_INTRCN_CN", "IMAGE_URL", "VLM_NM",
+            "ADTION_SMBL_NM", "KDC_NM", "TITLE_SBST_NM", "INTNT_BOOKST_BOOK_EXST_AT", "PORTAL_SITE_BOOK_EXST_AT"};
+    private static final int[] USED_COLUMNS = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+    @TempDir
+    Path tempDir;
+
+    private final BookCsvParser parser = new BookCsvParser();
+    private long sink; // 꺼낸 값을 쓰지 않으면 JIT 가 디코딩을 없앨 수 있어 길이를 누적
+
+    @Test
+    void measureMegabytesPerSecond() throws Exception {
+        int rows = Integer.getInteger("benchmark.rows", 300_000);
+        Path csv = writeCsv(rows);
+        double megabytes = Files.size(csv) / (1024.0 * 1024.0);
+
+        // 워밍업
+        scanStream(csv);
+        scanMapped(csv);
+
+        long streamScan = timeNanos(() -> assertThat(scanStream(csv)).isEqualTo(rows));
+        long mappedScan = timeNanos(() -> assertThat(scanMapped(csv)).isEqualTo(rows));
+        long streamFull = timeNanos(() -> assertThat(count(parser.streamOpenCsv(new FileSystemResource(csv)))).isEqualTo(rows));
+        long mappedFull = timeNanos(() -> assertThat(count(parser.streamMapped(csv))).isEqualTo(rows));
+
+        log.info("[Benchmark] CSV {}행 ({}MB) - 스캔: OpenCSV {}MB/s, 메모리 매핑 {}MB/s / "
+                        + "전체(DTO 생성): OpenCSV {}MB/s, 메모리 매핑 {}MB/s",
+                rows, Math.round(megabytes), perSecond(megabytes, streamScan), perSecond(megabytes, mappedScan),
+                perSecond(megabytes, streamFull), perSecond(megabytes, mappedFull));
+        assertThat(sink).isPositive();
+    }
+
+    // 변경 전 읽기 경로: CSVReader 가 행마다 모든 열을 String[] 으로 만든 뒤 trim/nan 비교
+    private int scanStream(Path csv) throws IOException, CsvValidationException {
+        int count = 0;
+        try (CSVReader reader = new CSVReader(new BufferedReader(
+                new InputStreamReader(Files.newInputStream(csv), StandardCharsets.UTF_8)))) {
+            reader.readNext();
+            String[] values;
+            while ((values = reader.readNext()) != null) {
+                for (int column : USED_COLUMNS) {
+                    String value = values[column].trim();
+                    if (value.equalsIgnoreCase("nan")) {
+                        value = "";
+                    }
+                    sink += value.length();
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int scanMapped(Path csv) throws IOException {
+        int count = 0;
+        try (MappedCsvReader reader = MappedCsvReader.open(csv)) {
+            reader.next();
+            while (reader.next()) {
+                for (int column : USED_COLUMNS) {
+                    sink += reader.value(column).length();
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long count(Stream<DataParserDto> rows) {
+        try (rows) {
+            return rows.count();
+        }
+    }
+
+    private Path writeCsv(int rows) throws IOException {
+        Path csv = tempDir.resolve("books.csv");
+        try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             CSVWriter writer = new CSVWriter(out)) {
+            writer.writeNext(HEADERS, false);
+            for (int i = 0; i < rows; i++) {
+                writer.writeNext(new String[]{String.valueOf(9780000000000L + i), String.valueOf(8900000000L + i),
+                        "도서 제목, 부제 " + i, "작가" + (i % 5000) + " (지은이), 역자" + (i % 3000) + " (옮긴이)",
+                        String.valueOf(i), "출판사" + (i % 500), "15000", "2020-01-15",
+                        "책 소개 \"문장\"입니다. ".repeat(8) + i, "https://image.example.com/" + i + ".jpg", "nan",
+                        "", "813.7", "도서 제목 " + i, "Y", "N"});
+            }
+        }
+        return csv;
+    }
+
+    private long timeNanos(ThrowingRunnable task) throws Exception {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private long perSecond(double megabytes, long nanos) {
+        return Math.round(megabytes * 1_000_000_000L / Math.max(1, nanos));
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,83 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+class BookJsonLinesParserTest {
+
+    private final BookJsonLinesParser parser = new BookJsonLinesParser();
+
+    @Test
+    @DisplayName("정상 파싱: 숫자 값은 문자열로, null/nan/없는 키는 빈 값, 모르는 키와 중첩 값은 건너뜀")
+    void parsing_success() throws IOException {
+        Resource resource = jsonl("""
+                {"ISBN_THIRTEEN_NO":"9781234567890","TITLE_NM":" 제목 ","AUTHR_NM":"김작가 (지은이), 박역자 (옮긴이)",\
+                "PUBLISHER_NM":"출판사","PRC_VALUE":15000,"TWO_PBLICTE_DE":"2023-01-01","VLM_NM":"nan",\
+                "IMAGE_URL":null,"KDC":{"code":"813","names":["소설"]},"TAGS":["a","b"]}
+
+                {"ISBN_NO":1234567890,"TITLE_NM":"제목2","AUTHR_NM":"작가","PRC_VALUE":"1000.5"}
+                """);
+
+        List<DataParserDto> result = parser.parsing(resource);
+
+        assertThat(result).hasSize(2);
+        DataParserDto dto = result.get(0);
+        assertThat(dto.getIsbn()).isEqualTo("9781234567890");
+        assertThat(dto.getTitle()).isEqualTo("제목");
+        assertThat(dto.getAuthors()).containsExactly("김작가");
+        assertThat(dto.getTranslators()).containsExactly("박역자");
+        assertThat(dto.getStandardPrice()).isEqualTo(15000L);
+        assertThat(dto.getPublishedAt()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(dto.getImageUrl()).isNull();
+        assertThat(dto.getVolume()).isEmpty();
+        assertThat(result.get(1).getIsbn()).isEqualTo("1234567890");
+        assertThat(result.get(1).getStandardPrice()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("ISBN 이나 제목이 없는 줄은 건너뛰고 다음 줄을 계속 읽음")
+    void parsing_skip_invalid_row() throws IOException {
+        Resource resource = jsonl("""
+                {"TITLE_NM":"ISBN 없음"}
+                {"ISBN_THIRTEEN_NO":"978111"}
+                {"ISBN_THIRTEEN_NO":"978222","TITLE_NM":"제목"}
+                """);
+
+        try (Stream<DataParserDto> rows = parser.stream(resource)) {
+            assertThat(rows.map(DataParserDto::getIsbn)).containsExactly("978222");
+        }
+    }
+
+    @Test
+    @DisplayName("깨진 JSON 이나 객체가 아닌 줄은 DataParserException")
+    void parsing_fail_malformed() {
+        assertThatThrownBy(() -> parser.parsing(jsonl("{\"TITLE_NM\":\"제목\"\n")))
+                .isInstanceOf(DataParserException.class);
+        assertThatThrownBy(() -> parser.parsing(jsonl("[1, 2]\n")))
+                .isInstanceOf(DataParserException.class)
+                .hasMessageContaining("객체가 아닌 값");
+    }
+
+    @Test
+    void matchFileType() {
+        assertThat(parser.matchFileType("books.jsonl")).isTrue();
+        assertThat(parser.matchFileType("books.jsonl.gz")).isTrue();
+        assertThat(parser.matchFileType("books.json")).isFalse();
+    }
+
+    private Resource jsonl(String content) {
+        return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
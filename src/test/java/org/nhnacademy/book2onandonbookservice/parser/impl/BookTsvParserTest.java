@@ -0,0 +1,93 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.springframework.core.io.FileSystemResource;
+
+class BookTsvParserTest {
+
+    private static final String HEADERS = String.join("\t", "ISBN_THIRTEEN_NO", "ISBN_NO", "TITLE_NM", "AUTHR_NM",
+            "SEQ_NO", "PUBLISHER_NM", "PRC_VALUE", "TWO_PBLICTE_DE", "BOOK_INTRCN_CN", "IMAGE_URL", "VLM_NM");
+
+    @TempDir
+    Path tempDir;
+
+    private final BookTsvParser parser = new BookTsvParser();
+
+    @Test
+    @DisplayName("정상 파싱: 탭 구분, 이스케이프(\\t \\n \\\\) 복원, nan 과 빈 열은 빈 값")
+    void parsing_success() throws IOException {
+        Path file = write("books.tsv", HEADERS + "\n"
+                + "9781234567890\t\t제목\t김작가 (지은이), 박역자 (옮긴이)\t1\t출판사\t15000\t2023-01-01\t"
+                + "첫 줄\\n둘째\\t줄 \\\\끝\thttp://image.url\tnan\n"
+                + "\n"
+                + "\t1234567890\t제목2\t작가\t2\t출판사\t1000\t2023\t설명\t\t");
+
+        List<DataParserDto> result = parser.parsing(new FileSystemResource(file));
+
+        assertThat(result).hasSize(2);
+        DataParserDto dto = result.get(0);
+        assertThat(dto.getIsbn()).isEqualTo("9781234567890");
+        assertThat(dto.getAuthors()).containsExactly("김작가");
+        assertThat(dto.getTranslators()).containsExactly("박역자");
+        assertThat(dto.getDescription()).isEqualTo("첫 줄\n둘째\t줄 \\끝");
+        assertThat(dto.getPublishedAt()).isEqualTo(LocalDate.of(2023, 1, 1));
+        assertThat(dto.getVolume()).isEmpty();
+        assertThat(result.get(1).getIsbn()).isEqualTo("1234567890");
+        assertThat(result.get(1).getImageUrl()).isNull();
+    }
+
+    @Test
+    @DisplayName(".tsv.gz 는 풀면서 읽고, 제목이 없는 행은 건너뜀")
+    void parsing_gzip() throws IOException {
+        Path file = tempDir.resolve("books.tsv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write((HEADERS + "\n"
+                    + "978111\t\t제목\t작가\t1\t출판사\t1000\t2023-01-01\t설명\t\t\n"
+                    + "978222\t\t\t작가\t2\t출판사\t1000\t2023-01-01\t설명\t\t\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (Stream<DataParserDto> rows = parser.stream(new FileSystemResource(file))) {
+            assertThat(rows.map(DataParserDto::getIsbn)).containsExactly("978111");
+        }
+    }
+
+    @Test
+    @DisplayName("헤더 검증 실패와 빈 파일은 DataParserException")
+    void parsing_fail() throws IOException {
+        Path broken = write("broken.tsv", "ISBN_THIRTEEN_NO\tAUTHR_NM\n978\t작가");
+        Path empty = write("empty.tsv", "");
+
+        assertThatThrownBy(() -> parser.parsing(new FileSystemResource(broken)))
+                .isInstanceOf(DataParserException.class)
+                .hasMessageContaining("필수 컬럼이 없습니다");
+        assertThatThrownBy(() -> parser.parsing(new FileSystemResource(empty)))
+                .isInstanceOf(DataParserException.class);
+    }
+
+    @Test
+    void matchFileType() {
+        assertThat(parser.matchFileType("books.tsv")).isTrue();
+        assertThat(parser.matchFileType("BOOKS.TSV.GZ")).isTrue();
+        assertThat(parser.matchFileType("books.csv")).isFalse();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
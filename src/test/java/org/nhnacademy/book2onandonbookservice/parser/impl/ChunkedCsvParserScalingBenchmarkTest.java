@@ -0,0 +1,106 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.opencsv.CSVWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+
+/**
+ * 조각 병렬 CSV 변환 - 병렬도 1/2/4/8 에서의 처리량(MB/s)과 한 스레드 대비 배율
+ * <p>
+ * 큰 파일을 만들어 여러 번 읽으므로 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=ChunkedCsvParserScalingBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=300000]}
+ * <p>
+ * "기준" 은 나누지 않고 한 스레드로 읽는 {@link BookCsvParser#streamMapped}, "분할" 은 조각 경계를 찾는 앞단 스캔만의
+ * 시간입니다. 코어 수보다 큰 병렬도에서는 배율이 늘지 않습니다 (로그에 코어 수를 함께 남김).
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ChunkedCsvParserScalingBenchmarkTest {
+
+    private static final int[] PARALLELISMS = {1, 2, 4, 8};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measureScalingByParallelism() throws Exception {
+        int rows = Integer.getInteger("benchmark.rows", 300_000);
+        Path csv = writeCsv(rows);
+        double megabytes = Files.size(csv) / (1024.0 * 1024.0);
+
+        // 워밍업
+        count(new BookCsvParser().streamMapped(csv));
+        count(new ChunkedCsvParser(2, ChunkedCsvParser.DEFAULT_CHUNK_BYTES).stream(csv));
+
+        long sequential = timeNanos(() -> assertThat(count(new BookCsvParser().streamMapped(csv))).isEqualTo(rows));
+        long split = timeNanos(() -> {
+            try (FileChannel channel = FileChannel.open(csv, StandardOpenOption.READ)) {
+                assertThat(MappedCsvReader.split(channel, 0, 0, ChunkedCsvParser.DEFAULT_CHUNK_BYTES)).isNotEmpty();
+            }
+        });
+
+        StringBuilder report = new StringBuilder();
+        for (int parallelism : PARALLELISMS) {
+            long nanos = timeNanos(() -> assertThat(count(
+                    new ChunkedCsvParser(parallelism, ChunkedCsvParser.DEFAULT_CHUNK_BYTES).stream(csv)))
+                    .isEqualTo(rows));
+            report.append(String.format(" %d: %dMB/s (x%.2f) /", parallelism, perSecond(megabytes, nanos),
+                    (double) sequential / nanos));
+        }
+
+        log.info("[Benchmark] CSV {}행 ({}MB), 코어 {}개 - 기준 {}MB/s, 분할 스캔 {}MB/s, 병렬도별:{}", rows,
+                Math.round(megabytes), Runtime.getRuntime().availableProcessors(), perSecond(megabytes, sequential),
+                perSecond(megabytes, split), report);
+    }
+
+    private long count(Stream<DataParserDto> rows) {
+        try (rows) {
+            return rows.count();
+        }
+    }
+
+    private Path writeCsv(int rows) throws IOException {
+        Path csv = tempDir.resolve("books.csv");
+        try (Writer out = Files.newBufferedWriter(csv, StandardCharsets.UTF_8);
+             CSVWriter writer = new CSVWriter(out)) {
+            writer.writeNext(BookRecordMapper.COLUMNS, false);
+            for (int i = 0; i < rows; i++) {
+                writer.writeNext(new String[]{String.valueOf(9780000000000L + i), String.valueOf(8900000000L + i),
+                        "도서 제목, 부제 " + i, "작가" + (i % 5000) + " (지은이), 역자" + (i % 3000) + " (옮긴이)",
+                        String.valueOf(i), "출판사" + (i % 500), String.valueOf(10000 + i % 20 * 500),
+                        "20" + (10 + i % 14) + "-0" + (1 + i % 9) + "-15",
+                        "책 소개 \"문장\"입니다.\n둘째 줄 ".repeat(4) + i, "https://image.example.com/" + i + ".jpg",
+                        i % 10 == 0 ? "1권" : ""});
+            }
+        }
+        return csv;
+    }
+
+    private long timeNanos(ThrowingRunnable task) throws Exception {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private long perSecond(double megabytes, long nanos) {
+        return Math.round(megabytes * 1_000_000_000L / Math.max(1, nanos));
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
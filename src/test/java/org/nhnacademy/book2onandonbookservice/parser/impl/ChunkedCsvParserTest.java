@@ -0,0 +1,139 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+import org.nhnacademy.book2onandonbookservice.parser.impl.MappedCsvReader.Chunk;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ChunkedCsvParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String FULL_HEADERS = "ISBN_THIRTEEN_NO,ISBN_NO,TITLE_NM,AUTHR_NM,SEQ_NO,PUBLISHER_NM,PRC_VALUE,TWO_PBLICTE_DE,BOOK_INTRCN_CN,IMAGE_URL,VLM_NM";
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 64, 1024 * 1024})
+    @DisplayName("조각 크기와 관계없이 한 스레드로 읽은 것과 같은 DTO 를 같은 순서로 만든다")
+    void sameAsSequential(long chunkBytes) throws IOException {
+        Path file = writeCsv(200);
+
+        List<DataParserDto> sequential;
+        try (Stream<DataParserDto> books = new BookCsvParser().streamMapped(file)) {
+            sequential = books.toList();
+        }
+        List<DataParserDto> chunked;
+        try (Stream<DataParserDto> books = new ChunkedCsvParser(4, chunkBytes).stream(file)) {
+            chunked = books.toList();
+        }
+
+        assertThat(sequential).hasSize(180); // 10행마다 ISBN 없는 행은 건너뜀
+        assertThat(chunked).usingRecursiveFieldByFieldElementComparator().isEqualTo(sequential);
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 줄바꿈에서는 자르지 않고, 조각은 빈틈없이 이어진다")
+    void splitAtRecordBoundaries() throws IOException {
+        String content = "h1,h2\n" + "a,\"줄\n바꿈\"\r\n" + "b,\"\"\"x\n\"\"\"\n" + "c,d\n" + "e,\"f\n\"";
+        Path file = Files.writeString(tempDir.resolve("quoted.csv"), content, StandardCharsets.UTF_8);
+
+        List<Chunk> chunks;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            chunks = MappedCsvReader.split(channel, 6, 1, 1);
+        }
+
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        assertThat(chunks).extracting(Chunk::firstLine).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(chunks.get(0).start()).isEqualTo(6);
+        assertThat(chunks.get(chunks.size() - 1).end()).isEqualTo(bytes.length);
+        for (int i = 1; i < chunks.size(); i++) {
+            assertThat(chunks.get(i).start()).isEqualTo(chunks.get(i - 1).end());
+            assertThat(bytes[(int) chunks.get(i).start() - 1]).isEqualTo((byte) '\n');
+        }
+        assertThat(new String(bytes, (int) chunks.get(1).start(), (int) chunks.get(1).length(),
+                StandardCharsets.UTF_8)).isEqualTo("b,\"\"\"x\n\"\"\"\n");
+    }
+
+    @Test
+    @DisplayName("헤더만 있으면 빈 스트림, 빈 파일과 헤더 검증 실패는 DataParserException")
+    void headerOnlyAndEmpty() throws IOException {
+        Path headerOnly = Files.writeString(tempDir.resolve("header.csv"), FULL_HEADERS + "\n");
+        Path empty = Files.writeString(tempDir.resolve("empty.csv"), "");
+        Path broken = Files.writeString(tempDir.resolve("broken.csv"), "ISBN_THIRTEEN_NO,ISBN_NO\n1,2\n");
+        ChunkedCsvParser parser = new ChunkedCsvParser(2, 1);
+
+        try (Stream<DataParserDto> books = parser.stream(headerOnly)) {
+            assertThat(books).isEmpty();
+        }
+        assertThatThrownBy(() -> parser.stream(empty))
+                .isInstanceOf(DataParserException.class)
+                .hasMessageContaining("헤더가 없습니다");
+        assertThatThrownBy(() -> parser.stream(broken))
+                .isInstanceOf(DataParserException.class)
+                .hasMessageContaining("필수 컬럼이 없습니다");
+    }
+
+    @Test
+    @DisplayName("조각 변환 실패(닫히지 않은 따옴표)는 그 조각 차례에 소비자에게 그대로 던진다")
+    void chunkFailurePropagates() throws IOException {
+        String content = FULL_HEADERS + "\n"
+                + "978111,111,제목1,작가,1,출판사,1000,2023-01-01,설명,,\n"
+                + "978222,222,제목2,작가,2,출판사,1000,2023-01-01,\"닫히지 않은 설명,,\n";
+        Path file = Files.writeString(tempDir.resolve("broken-quote.csv"), content, StandardCharsets.UTF_8);
+
+        try (Stream<DataParserDto> books = new ChunkedCsvParser(2, 1).stream(file)) {
+            assertThatThrownBy(books::toList)
+                    .isInstanceOf(DataParserException.class)
+                    .hasMessageContaining("따옴표가 닫히지 않았습니다");
+        }
+    }
+
+    @Test
+    @DisplayName("BookCsvParser - 파일이 조각 크기보다 크고 병렬도가 2 이상이면 조각으로 나눠 읽는다")
+    void bookCsvParserUsesChunksForLargeFiles() throws IOException {
+        Path file = writeCsv(50);
+        BookCsvParser parser = new BookCsvParser();
+        ReflectionTestUtils.setField(parser, "parseParallelism", 3);
+        ReflectionTestUtils.setField(parser, "chunkBytes", 256L);
+
+        List<DataParserDto> books = parser.parsing(new FileSystemResource(file));
+
+        assertThat(books).hasSize(45);
+        assertThat(books).extracting(DataParserDto::getSeqNo)
+                .isSortedAccordingTo((a, b) -> Integer.compare(Integer.parseInt(a), Integer.parseInt(b)));
+    }
+
+    /// 내부 로직
+    // 따옴표 안 쉼표/줄바꿈/"" 가 섞인 행, 10행마다 ISBN 없는 행 (건너뜀)
+    private Path writeCsv(int rows) throws IOException {
+        StringBuilder csv = new StringBuilder(FULL_HEADERS).append('\n');
+        for (int i = 0; i < rows; i++) {
+            String isbn = i % 10 == 0 ? "" : String.valueOf(9780000000000L + i);
+            csv.append(isbn).append(",,\"제목, ").append(i).append("\",")
+                    .append("\"작가").append(i % 7).append(" (지은이), 역자 (옮긴이)\",")
+                    .append(i).append(",출판사").append(i % 3).append(',').append(10000 + i).append(',')
+                    .append("2023-01-").append(10 + i % 20).append(',')
+                    .append("\"설명 \"\"인용\"\"\n둘째 줄 ").append(i).append("\",")
+                    .append("http://image/").append(i).append(".jpg,nan")
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        return Files.writeString(tempDir.resolve("books-" + rows + ".csv"), csv, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.opencsv.CSVWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.dto.DataParserDto;
+import org.nhnacademy.book2onandonbookservice.parser.DataParser;
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * 형식별 카탈로그 적재 - 파일 크기와 행/초: CSV, CSV.gz, TSV.gz, JSON Lines.gz, 컬럼 스냅샷(.bcol)
+ * <p>
+ * 큰 파일을 형식마다 만들어 읽으므로 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=DataParserFormatBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=300000]}
+ * <p>
+ * 각 파서의 stream() 을 끝까지 읽는 시간(압축 해제 + 행 분리 + DataParserDto 생성)입니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DataParserFormatBenchmarkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void measureRowsPerSecondByFormat() throws IOException {
+        int rows = Integer.getInteger("benchmark.rows", 300_000);
+        Path csv = tempDir.resolve("books.csv");
+        Path csvGz = tempDir.resolve("books.csv.gz");
+        Path tsvGz = tempDir.resolve("books.tsv.gz");
+        Path jsonlGz = tempDir.resolve("books.jsonl.gz");
+        Path bcol = tempDir.resolve("books.bcol");
+
+        writeCsv(Files.newOutputStream(csv), rows);
+        writeCsv(new GZIPOutputStream(Files.newOutputStream(csvGz)), rows);
+        writeTsv(new GZIPOutputStream(Files.newOutputStream(tsvGz)), rows);
+        writeJsonLines(new GZIPOutputStream(Files.newOutputStream(jsonlGz)), rows);
+        try (Stream<DataParserDto> books = new BookCsvParser().stream(new FileSystemResource(csv))) {
+            BookColumnarWriter.write(books, Files.newOutputStream(bcol));
+        }
+
+        // 워밍업
+        load(new BookCsvParser(), csv, rows);
+        load(new BookColumnarParser(), bcol, rows);
+
+        StringBuilder report = new StringBuilder();
+        report.append(measure("csv", new BookCsvParser(), csv, rows));
+        report.append(measure("csv.gz", new BookCsvParser(), csvGz, rows));
+        report.append(measure("tsv.gz", new BookTsvParser(), tsvGz, rows));
+        report.append(measure("jsonl.gz", new BookJsonLinesParser(), jsonlGz, rows));
+        report.append(measure("bcol", new BookColumnarParser(), bcol, rows));
+
+        log.info("[Benchmark] 카탈로그 {}행 형식별 적재 -{}", rows, report);
+    }
+
+    private String measure(String name, DataParser parser, Path file, int rows) throws IOException {
+        long start = System.nanoTime();
+        load(parser, file, rows);
+        long nanos = System.nanoTime() - start;
+        return String.format(" %s: %dMB, %d행/초 /", name, Files.size(file) / (1024 * 1024),
+                rows * 1_000_000_000L / Math.max(1, nanos));
+    }
+
+    private void load(DataParser parser, Path file, int rows) throws IOException {
+        try (Stream<DataParserDto> books = parser.stream(new FileSystemResource(file))) {
+            assertThat(books.count()).isEqualTo(rows);
+        }
+    }
+
+    private String[] row(int i) {
+        return new String[]{String.valueOf(9780000000000L + i), String.valueOf(8900000000L + i),
+                "도서 제목, 부제 " + i, "작가" + (i % 5000) + " (지은이), 역자" + (i % 3000) + " (옮긴이)",
+                String.valueOf(i), "출판사" + (i % 500), String.valueOf(10000 + i % 20 * 500),
+                "20" + (10 + i % 14) + "-0" + (1 + i % 9) + "-15", "책 소개 \"문장\"입니다. ".repeat(8) + i,
+                "https://image.example.com/" + i + ".jpg", i % 10 == 0 ? "1권" : ""};
+    }
+
+    private void writeCsv(OutputStream out, int rows) throws IOException {
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+             CSVWriter csv = new CSVWriter(writer)) {
+            csv.writeNext(BookRecordMapper.COLUMNS, false);
+            for (int i = 0; i < rows; i++) {
+                csv.writeNext(row(i));
+            }
+        }
+    }
+
+    private void writeTsv(OutputStream out, int rows) throws IOException {
+        try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+            writer.write(String.join("\t", BookRecordMapper.COLUMNS));
+            writer.write('\n');
+            for (int i = 0; i < rows; i++) {
+                writer.write(String.join("\t", row(i)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void writeJsonLines(OutputStream out, int rows) throws IOException {
+        try (JsonGenerator json = new JsonFactory().createGenerator(out)) {
+            json.setRootValueSeparator(new SerializedString("\n"));
+            for (int i = 0; i < rows; i++) {
+                String[] values = row(i);
+                json.writeStartObject();
+                for (int column = 0; column < values.length; column++) {
+                    json.writeStringField(BookRecordMapper.COLUMNS[column], values[column]);
+                }
+                json.writeEndObject();
+            }
+        }
+    }
+}
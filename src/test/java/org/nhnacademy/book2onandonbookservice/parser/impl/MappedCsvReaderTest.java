@@ -0,0 +1,121 @@
+package org.nhnacademy.book2onandonbookservice.parser.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.exception.DataParserException;
+
+class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("따옴표 필드 - 구분자/개행 포함, \"\" 는 \" 로, 닫는 따옴표 뒤 공백 무시")
+    void readQuotedFields() throws IOException {
+        List<List<String>> rows = readAll("a,\"b, \"\"c\"\"\",\"줄\n바꿈\"  ,d\n");
+
+        assertThat(rows).containsExactly(List.of("a", "b, \"c\"", "줄\n바꿈", "d"));
+    }
+
+    @Test
+    @DisplayName("CRLF/LF, 빈 줄 건너뜀, 마지막 줄 개행 없음, 끝 쉼표는 빈 열")
+    void readLineEndings() throws IOException {
+        List<List<String>> rows = readAll("h1,h2\r\n\r\n1,2\n\n3,\n4,5");
+
+        assertThat(rows).containsExactly(List.of("h1", "h2"), List.of("1", "2"), List.of("3", ""), List.of("4", "5"));
+    }
+
+    @Test
+    @DisplayName("값 - 앞뒤 공백 제거, nan 은 빈 문자열, 없는 열도 빈 문자열, BOM 무시")
+    void valueNormalization() throws IOException {
+        try (MappedCsvReader reader = MappedCsvReader.of(utf8("\uFEFF  홍길동 , NaN ,\" nan \"\n"))) {
+            assertThat(reader.next()).isTrue();
+
+            assertThat(reader.value(0)).isEqualTo("홍길동");
+            assertThat(reader.value(1)).isEmpty();
+            assertThat(reader.value(2)).isEmpty();
+            assertThat(reader.value(3)).isEmpty();
+            assertThat(reader.value(-1)).isEmpty();
+            assertThat(reader.next()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("따옴표가 닫히지 않은 채 끝나면 DataParserException")
+    void unterminatedQuote() throws IOException {
+        try (MappedCsvReader reader = MappedCsvReader.of(utf8("a,\"bc\nd"))) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(DataParserException.class)
+                    .hasMessageContaining("따옴표가 닫히지 않았습니다");
+        }
+    }
+
+    @Test
+    @DisplayName("매핑 창보다 큰 파일 - 창 끝에 걸린 행은 다시 매핑해 이어 읽음")
+    void remapAcrossWindows() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        List<List<String>> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            csv.append(i).append(",\"작가").append(i).append(", 역자\",제목").append(i).append('\n');
+            expected.add(List.of(String.valueOf(i), "작가" + i + ", 역자", "제목" + i));
+        }
+        Path file = Files.writeString(tempDir.resolve("books.csv"), csv, StandardCharsets.UTF_8);
+
+        List<List<String>> rows = new ArrayList<>();
+        try (MappedCsvReader reader = MappedCsvReader.open(file, 64)) {
+            while (reader.next()) {
+                rows.add(values(reader));
+            }
+            assertThat(reader.bytesRead()).isEqualTo(Files.size(file));
+        }
+
+        assertThat(rows).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("한 행이 매핑 창보다 크면 DataParserException")
+    void rowLargerThanWindow() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("wide.csv"), "a,b\n" + "x".repeat(100) + "\n",
+                StandardCharsets.UTF_8);
+
+        try (MappedCsvReader reader = MappedCsvReader.open(file, 32)) {
+            assertThat(reader.next()).isTrue();
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(DataParserException.class)
+                    .hasMessageContaining("매핑 크기");
+        }
+    }
+
+    private List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (MappedCsvReader reader = MappedCsvReader.of(utf8(csv))) {
+            while (reader.next()) {
+                rows.add(values(reader));
+            }
+        }
+        return rows;
+    }
+
+    private List<String> values(MappedCsvReader reader) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < reader.fieldCount(); i++) {
+            values.add(reader.value(i));
+        }
+        return values;
+    }
+
+    private ByteBuffer utf8(String csv) {
+        return ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
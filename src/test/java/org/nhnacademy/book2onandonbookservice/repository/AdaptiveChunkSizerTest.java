@@ -0,0 +1,39 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveChunkSizerTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("목표보다 빠르면 늘리고 느리면 줄이되, 한 번에 2배/절반까지만")
+    void record_movesTowardTarget() {
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(10, 1000, 100, TARGET);
+
+        // 100행 10ms → 목표 100ms 면 1000행이 맞지만 2배까지만
+        assertThat(sizer.record(100, TimeUnit.MILLISECONDS.toNanos(10))).isEqualTo(200);
+        // 200행 400ms → 50행이 맞지만 절반까지만
+        assertThat(sizer.record(200, TimeUnit.MILLISECONDS.toNanos(400))).isEqualTo(100);
+        // 100행 125ms → 80행
+        assertThat(sizer.record(100, TimeUnit.MILLISECONDS.toNanos(125))).isEqualTo(80);
+        assertThat(sizer.currentRows()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("최소/최대 행 수 밖으로는 나가지 않음")
+    void record_staysWithinBounds() {
+        AdaptiveChunkSizer sizer = new AdaptiveChunkSizer(10, 150, 100, TARGET);
+
+        assertThat(sizer.record(100, 1)).isEqualTo(150);
+        for (int i = 0; i < 10; i++) {
+            sizer.record(sizer.currentRows(), TimeUnit.SECONDS.toNanos(10));
+        }
+        assertThat(sizer.currentRows()).isEqualTo(10);
+        assertThat(sizer.record(0, 0)).isEqualTo(10);
+    }
+}
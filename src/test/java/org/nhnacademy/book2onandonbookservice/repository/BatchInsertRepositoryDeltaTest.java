@@ -0,0 +1,149 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 증분 적재용 JDBC 검증 - ISBN 기준 갱신(할인가 유지), 행 해시 upsert/순회, 판매 중단/복구, 관계 다시 쓰기
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:batchInsertDeltaDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BatchInsertRepository.class)
+class BatchInsertRepositoryDeltaTest {
+
+    @Autowired
+    private BatchInsertRepository batchInsertRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Book book(String isbn, String title, long priceStandard, long priceSales) {
+        return Book.builder()
+                .title(title)
+                .isbn(isbn)
+                .publishDate(LocalDate.of(2024, 1, 1))
+                .priceStandard(priceStandard)
+                .priceSales(priceSales)
+                .isWrapped(true)
+                .stockCount(100)
+                .status(BookStatus.ON_SALE)
+                .description("설명")
+                .volume("")
+                .build();
+    }
+
+    @Test
+    @DisplayName("ISBN 으로 갱신 - 제목/정가를 바꾸고, 판매가는 할인하지 않은 도서만 새 정가를 따라감")
+    void updateBooksByIsbn_keepsDiscountedSalesPrice() {
+        List<Long> ids = batchInsertRepository.saveAllBooks(List.of(
+                book("isbn-1", "도서1", 10000L, 10000L), book("isbn-2", "도서2", 10000L, 9000L)));
+
+        batchInsertRepository.updateBooksByIsbn(List.of(
+                book("isbn-1", "도서1 개정판", 12000L, 12000L), book("isbn-2", "도서2 개정판", 12000L, 12000L)));
+
+        assertThat(jdbcTemplate.queryForMap("SELECT book_title, price_standard, price_sales FROM book WHERE book_id = ?",
+                ids.get(0))).containsValues("도서1 개정판", 12000L, 12000L);
+        assertThat(jdbcTemplate.queryForMap("SELECT book_title, price_standard, price_sales FROM book WHERE book_id = ?",
+                ids.get(1))).containsValues("도서2 개정판", 12000L, 9000L);
+        assertThat(batchInsertRepository.findBookIdsByIsbn(List.of("isbn-1", "isbn-2", "isbn-없음")))
+                .containsOnlyKeys("isbn-1", "isbn-2")
+                .containsEntry("isbn-1", List.of(ids.get(0)));
+    }
+
+    @Test
+    @DisplayName("행 해시 upsert - 같은 ISBN 은 덮어쓰고, 순회하면 저장된 해시를 모두 돌려줌")
+    void upsertContentHashes_overwritesAndIterates() {
+        batchInsertRepository.upsertContentHashes(Map.of("isbn-1", 1L, "isbn-2", 2L));
+        batchInsertRepository.upsertContentHashes(Map.of("isbn-2", 22L, "isbn-3", 3L));
+
+        Map<String, Long> stored = new HashMap<>();
+        batchInsertRepository.forEachContentHash(stored::put);
+
+        assertThat(stored).containsExactlyInAnyOrderEntriesOf(Map.of("isbn-1", 1L, "isbn-2", 22L, "isbn-3", 3L));
+    }
+
+    @Test
+    @DisplayName("판매 중단 - 빠진 ISBN 의 도서 상태를 바꾸고 해시 자리에 표시를 남김, 다시 호출하면 바뀌는 행 없음")
+    void softDeleteBooksByIsbn_marksDeletedAndLeavesTombstone() {
+        List<Long> ids = batchInsertRepository.saveAllBooks(List.of(
+                book("isbn-1", "도서1", 10000L, 10000L), book("isbn-2", "도서2", 10000L, 10000L)));
+        batchInsertRepository.upsertContentHashes(Map.of("isbn-1", 1L, "isbn-2", 2L));
+
+        int deleted = batchInsertRepository.softDeleteBooksByIsbn(List.of("isbn-2"));
+        int again = batchInsertRepository.softDeleteBooksByIsbn(List.of("isbn-2"));
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(again).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT book_status FROM book WHERE book_id = ?", String.class,
+                ids.get(1))).isEqualTo(BookStatus.BOOK_DELETED.name());
+        assertThat(jdbcTemplate.queryForObject("SELECT book_status FROM book WHERE book_id = ?", String.class,
+                ids.get(0))).isEqualTo(BookStatus.ON_SALE.name());
+        assertThat(jdbcTemplate.queryForObject("SELECT content_hash FROM book_import_hash WHERE isbn = ?", Long.class,
+                "isbn-2")).isEqualTo(BatchInsertRepository.TOMBSTONE_HASH);
+        Map<String, Long> stored = new HashMap<>();
+        batchInsertRepository.forEachContentHash(stored::put);
+        assertThat(stored).containsOnlyKeys("isbn-1");
+    }
+
+    @Test
+    @DisplayName("다시 나온 ISBN - 적재가 판매 중단한 도서만 판매 중으로 되돌리고, 관리자가 중단한 도서는 그대로 둠")
+    void restoreImportDeletedBooks_onlyTombstoned() {
+        List<Long> ids = batchInsertRepository.saveAllBooks(List.of(
+                book("isbn-1", "도서1", 10000L, 10000L), book("isbn-2", "도서2", 10000L, 10000L)));
+        batchInsertRepository.upsertContentHashes(Map.of("isbn-1", 1L, "isbn-2", 2L));
+        batchInsertRepository.softDeleteBooksByIsbn(List.of("isbn-1"));
+        jdbcTemplate.update("UPDATE book SET book_status = ? WHERE book_id = ?", BookStatus.BOOK_DELETED.name(),
+                ids.get(1));
+
+        int restored = batchInsertRepository.restoreImportDeletedBooks(List.of("isbn-1", "isbn-2"));
+
+        assertThat(restored).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT book_status FROM book WHERE book_id = ?", String.class,
+                ids.get(0))).isEqualTo(BookStatus.ON_SALE.name());
+        assertThat(jdbcTemplate.queryForObject("SELECT book_status FROM book WHERE book_id = ?", String.class,
+                ids.get(1))).isEqualTo(BookStatus.BOOK_DELETED.name());
+    }
+
+    @Test
+    @DisplayName("관계 다시 쓰기 - 기여자/출판사 관계는 지우고, 이미지는 같은 경로가 없을 때만 추가")
+    void deleteRelationsAndSaveMissingImages() {
+        Long bookId = batchInsertRepository.saveAllBooks(List.of(book("isbn-1", "도서1", 10000L, 10000L))).get(0);
+        Long publisherId = batchInsertRepository.upsertPublishers(List.of("출판사")).get("출판사");
+        Long contributorId = batchInsertRepository.upsertContributors(List.of("작가")).get("작가");
+        jdbcTemplate.update("INSERT INTO book_publisher (book_id, publisher_id) VALUES (?, ?)", bookId, publisherId);
+        jdbcTemplate.update("INSERT INTO book_contributor (book_id, contributor_id, role_type) VALUES (?, ?, ?)",
+                bookId, contributorId, "지은이");
+        Book proxyBook = Book.builder().id(bookId).build();
+        batchInsertRepository.saveBookImages(List.of(BookImage.builder().book(proxyBook).imagePath("a.jpg").build()));
+
+        batchInsertRepository.deleteBookRelations(List.of(bookId));
+        batchInsertRepository.saveMissingBookImages(List.of(
+                BookImage.builder().book(proxyBook).imagePath("a.jpg").build(),
+                BookImage.builder().book(proxyBook).imagePath("b.jpg").build()));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_publisher", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_contributor", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForList("SELECT book_image_path FROM book_image WHERE book_id = ?",
+                String.class, bookId)).containsExactlyInAnyOrder("a.jpg", "b.jpg");
+    }
+}
@@ -0,0 +1,102 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 도서 multi-row INSERT 검증 - 문장을 여러 번 나눠도 생성 키가 입력 순서대로
+ * <p>
+ * 출판사/기여자 이름 upsert 검증 - 이미 있는 이름은 기존 ID, 새 이름은 한 번만 등록
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:batchInsertMultiRowDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "book.import.insert.min-rows-per-statement=1",
+        "book.import.insert.max-rows-per-statement=4"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BatchInsertRepository.class)
+class BatchInsertRepositoryMultiRowTest {
+
+    @Autowired
+    private BatchInsertRepository batchInsertRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Book book(int i) {
+        return Book.builder()
+                .title("도서" + i)
+                .isbn(i % 3 == 0 ? "dup-isbn" : "isbn-" + i)
+                .publishDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                .priceStandard(10000L + i)
+                .priceSales(9000L)
+                .isWrapped(true)
+                .stockCount(100)
+                .status(BookStatus.ON_SALE)
+                .description("설명" + i)
+                .volume(i + "권")
+                .build();
+    }
+
+    @Test
+    @DisplayName("문장당 최대 4행으로 나눠 넣고, 같은 ISBN 이 있어도 행마다 생성 ID 를 순서대로 돌려줌")
+    void saveAllBooks_returnsGeneratedIdsInOrder() {
+        List<Book> books = IntStream.range(0, 10).mapToObj(this::book).toList();
+
+        List<Long> ids = batchInsertRepository.saveAllBooks(books);
+
+        assertThat(ids).hasSize(10).doesNotHaveDuplicates();
+        for (int i = 0; i < books.size(); i++) {
+            assertThat(jdbcTemplate.queryForObject("SELECT book_title FROM book WHERE book_id = ?", String.class,
+                    ids.get(i))).isEqualTo("도서" + i);
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT price_standard FROM book WHERE book_id = ?", Long.class,
+                ids.get(7))).isEqualTo(10007L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book WHERE ISBN = 'dup-isbn'", Integer.class))
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("출판사 upsert - 기존 이름은 기존 ID 를 돌려주고 새 이름만 한 번 등록, 다시 호출해도 행이 늘지 않음")
+    void upsertPublishers_insertsOnlyNewNames() {
+        jdbcTemplate.update("INSERT INTO publisher (publisher_name) VALUES ('기존출판사')");
+        Long existingId = jdbcTemplate.queryForObject(
+                "SELECT publisher_id FROM publisher WHERE publisher_name = '기존출판사'", Long.class);
+
+        Map<String, Long> ids = batchInsertRepository.upsertPublishers(List.of("기존출판사", "새출판사", "새출판사"));
+        Map<String, Long> again = batchInsertRepository.upsertPublishers(Set.of("새출판사"));
+
+        assertThat(ids).containsOnlyKeys("기존출판사", "새출판사").containsEntry("기존출판사", existingId);
+        assertThat(again).containsEntry("새출판사", ids.get("새출판사"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM publisher", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("기여자 upsert - 이름마다 contributor_id 를 돌려줌")
+    void upsertContributors_returnsIdPerName() {
+        Map<String, Long> ids = batchInsertRepository.upsertContributors(List.of("홍길동", "김철수"));
+
+        assertThat(ids).hasSize(2);
+        ids.forEach((name, id) -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT contributor_name FROM contributor WHERE contributor_id = ?", String.class, id))
+                .isEqualTo(name));
+    }
+}
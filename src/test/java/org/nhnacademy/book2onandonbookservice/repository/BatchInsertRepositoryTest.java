@@ -10,10 +10,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +21,6 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
 import org.nhnacademy.book2onandonbookservice.entity.BookImage;
@@ -44,58 +41,6 @@ class BatchInsertRepositoryTest {
     @InjectMocks
     private BatchInsertRepository batchInsertRepository;
 
-    @Test
-    @DisplayName("saveAllBooks: 도서 리스트 Batch Insert 성공 테스트")
-    void saveAllBooks_success() throws SQLException {
-        Book book = Book.builder()
-                .title("테스트 책")
-                .isbn("1234567890123")
-                .publishDate(LocalDate.of(2023, 1, 1))
-                .priceStandard(15000L)
-                .priceSales(13500L)
-                .isWrapped(true)
-                .stockCount(100)
-                .status(BookStatus.ON_SALE)
-                .description("설명")
-                .chapter("목차는 대체 언제 주시나요..")
-                .volume("1권")
-                .likeCount(10L)
-                .build();
-
-        List<Book> books = List.of(book);
-
-        batchInsertRepository.saveAllBooks(books);
-
-        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<BatchPreparedStatementSetter> pssCaptor = ArgumentCaptor.forClass(
-                BatchPreparedStatementSetter.class);
-
-        verify(jdbcTemplate).batchUpdate(sqlCaptor.capture(), pssCaptor.capture());
-
-        String actualSql = sqlCaptor.getValue();
-        assertThat(actualSql).contains("INSERT INTO book");
-
-        BatchPreparedStatementSetter pss = pssCaptor.getValue();
-
-        assertThat(pss.getBatchSize()).isEqualTo(1);
-
-        pss.setValues(preparedStatement, 0);
-
-        verify(preparedStatement).setString(1, book.getTitle());
-        verify(preparedStatement).setString(1, book.getTitle());
-        verify(preparedStatement).setString(2, book.getIsbn());
-        verify(preparedStatement).setDate(3, Date.valueOf(book.getPublishDate()));
-        verify(preparedStatement).setLong(4, book.getPriceStandard());
-        verify(preparedStatement).setLong(5, book.getPriceSales() != null ? book.getPriceSales() : 0L);
-        verify(preparedStatement).setBoolean(6, book.getIsWrapped());
-        verify(preparedStatement).setInt(7, book.getStockCount());
-        verify(preparedStatement).setString(8, book.getStatus().name());
-        verify(preparedStatement).setString(9, book.getDescription());
-        verify(preparedStatement).setString(10, book.getChapter());
-        verify(preparedStatement).setString(11, book.getVolume());
-        verify(preparedStatement).setLong(12, book.getLikeCount());
-    }
-
     @Test
     @DisplayName("saveBooImages: 이미지 리스트 Batch Insert 성공 테스트")
     void saveBookImages_success() throws SQLException {
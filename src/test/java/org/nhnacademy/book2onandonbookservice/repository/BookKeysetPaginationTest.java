@@ -0,0 +1,127 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookListRow;
+import org.nhnacademy.book2onandonbookservice.service.book.BookCursor;
+import org.nhnacademy.book2onandonbookservice.service.book.BookCursor.Sort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+/**
+ * 커서 페이지 조회 검증 - 정렬 키가 같은 도서가 페이지 경계에 걸려도 빠지거나 겹치지 않음
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookKeysetDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookKeysetPaginationTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private BookRepository bookRepository;
+
+    private final List<Book> books = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 출간일 3종 x 4권, 좋아요 수는 0~2 반복 (같은 정렬 키가 여러 권)
+        for (int i = 0; i < 12; i++) {
+            books.add(em.persist(Book.builder()
+                    .title("도서" + i)
+                    .isbn("isbn-" + i)
+                    .priceStandard(10000L)
+                    .isWrapped(false)
+                    .publishDate(LocalDate.of(2025, 1, 1).minusDays(i % 3))
+                    .likeCount((long) (i % 3))
+                    .status(i == 11 ? BookStatus.BOOK_DELETED : BookStatus.ON_SALE)
+                    .build()));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private List<Long> walkByPublishDate(int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        BookCursor cursor = BookCursor.first(Sort.PUBLISH_DATE);
+        while (true) {
+            List<BookListRow> rows = bookRepository.findListRowsByStatusNotBefore(BookStatus.BOOK_DELETED,
+                    cursor.publishDate(), cursor.id(), Limit.of(pageSize));
+            rows.forEach(row -> ids.add(row.getId()));
+            if (rows.size() < pageSize) {
+                return ids;
+            }
+            BookListRow last = rows.get(rows.size() - 1);
+            cursor = BookCursor.afterPublishDate(last.getPublishDate(), last.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("출간일 커서: 끝까지 넘기면 삭제 도서 빼고 (출간일, id) 내림차순으로 한 번씩")
+    void publishDateCursor_visitsEveryBookOnce() {
+        List<Long> expected = books.stream()
+                .filter(book -> book.getStatus() != BookStatus.BOOK_DELETED)
+                .sorted((a, b) -> a.getPublishDate().equals(b.getPublishDate())
+                        ? Long.compare(b.getId(), a.getId())
+                        : b.getPublishDate().compareTo(a.getPublishDate()))
+                .map(Book::getId)
+                .toList();
+
+        assertThat(walkByPublishDate(5)).containsExactlyElementsOf(expected);
+        assertThat(walkByPublishDate(2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("출간일 커서: 커서 위치부터 (출간일, id, 상태) 인덱스 순서로 읽고 따로 정렬하지 않음")
+    void publishDateCursor_readsIndexRangeInOrder() {
+        // findListRowsByStatusNotBefore 와 같은 조건/정렬의 H2 실행 계획
+        String plan = (String) em.getEntityManager().createNativeQuery("""
+                        EXPLAIN SELECT b.book_id FROM book b
+                        WHERE b.book_status <> 'BOOK_DELETED'
+                          AND b.book_publish_date <= DATE '2024-01-01'
+                          AND (b.book_publish_date < DATE '2024-01-01' OR b.book_id < 100)
+                        ORDER BY b.book_publish_date DESC, b.book_id DESC
+                        LIMIT 5
+                        """)
+                .getSingleResult();
+
+        assertThat(plan.toUpperCase())
+                .contains("IDX_BOOK_PUBLISH_DATE_ID_STATUS: BOOK_PUBLISH_DATE <= DATE '2024-01-01'")
+                .contains("/* INDEX SORTED */");
+    }
+
+    @Test
+    @DisplayName("좋아요 커서: 같은 좋아요 수 안에서는 id 내림차순으로 이어짐")
+    void likeCountCursor_continuesWithinTies() {
+        BookCursor first = BookCursor.first(Sort.LIKE_COUNT);
+        List<BookListRow> page1 = bookRepository.findListRowsByStatusOrderByLikeCountBefore(BookStatus.ON_SALE,
+                first.key(), first.id(), Limit.of(3));
+        BookListRow last = page1.get(2);
+        List<BookListRow> page2 = bookRepository.findListRowsByStatusOrderByLikeCountBefore(BookStatus.ON_SALE,
+                last.getLikeCount(), last.getId(), Limit.of(3));
+
+        // 좋아요 2: 인덱스 2, 5, 8 (11 은 삭제) / 좋아요 1: 10, 7, 4, 1
+        assertThat(page1).extracting(BookListRow::getId)
+                .containsExactly(books.get(8).getId(), books.get(5).getId(), books.get(2).getId());
+        assertThat(page2).extracting(BookListRow::getId)
+                .containsExactly(books.get(10).getId(), books.get(7).getId(), books.get(4).getId());
+        assertThat(page2).extracting(BookListRow::getLikeCount).containsOnly(1L);
+    }
+}
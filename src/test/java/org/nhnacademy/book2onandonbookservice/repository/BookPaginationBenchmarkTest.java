@@ -0,0 +1,123 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookListRow;
+import org.nhnacademy.book2onandonbookservice.service.book.BookCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 목록 1페이지 vs 1000페이지 비교 - 오프셋(LIMIT/OFFSET + count) vs 커서((출간일, id) 이어 읽기)
+ * <p>
+ * 데이터 적재에 시간이 걸려 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=BookPaginationBenchmarkTest -Dbenchmark=true [-Dbenchmark.books=500000]}
+ * <p>
+ * H2(MySQL 모드) 기준이라 절대값보다 페이지가 깊어질 때 늘어나는 폭을 봅니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookPaginationBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 999;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    void compareOffsetAndKeyset() {
+        int bookCount = Integer.getInteger("benchmark.books", 500_000);
+        insertBooks(bookCount);
+
+        PageRequest firstPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "publishDate", "id"));
+        PageRequest deepPage = firstPage.withPage(DEEP_PAGE);
+
+        // 1000페이지 직전 행을 커서로 (오프셋 999페이지 앞의 마지막 행)
+        BookListRow beforeDeep = bookRepository.findListRowsByStatusNot(BookStatus.BOOK_DELETED,
+                PageRequest.of(DEEP_PAGE * PAGE_SIZE - 1, 1, firstPage.getSort())).getContent().get(0);
+        BookCursor top = BookCursor.first(BookCursor.Sort.PUBLISH_DATE);
+        BookCursor deep = BookCursor.afterPublishDate(beforeDeep.getPublishDate(), beforeDeep.getId());
+
+        Supplier<List<BookListRow>> offsetFirst = () -> bookRepository
+                .findListRowsByStatusNot(BookStatus.BOOK_DELETED, firstPage).getContent();
+        Supplier<List<BookListRow>> offsetDeep = () -> bookRepository
+                .findListRowsByStatusNot(BookStatus.BOOK_DELETED, deepPage).getContent();
+        Supplier<List<BookListRow>> keysetFirst = () -> bookRepository.findListRowsByStatusNotBefore(
+                BookStatus.BOOK_DELETED, top.publishDate(), top.id(), Limit.of(PAGE_SIZE + 1));
+        Supplier<List<BookListRow>> keysetDeep = () -> bookRepository.findListRowsByStatusNotBefore(
+                BookStatus.BOOK_DELETED, deep.publishDate(), deep.id(), Limit.of(PAGE_SIZE + 1));
+
+        assertThat(keysetDeep.get().subList(0, PAGE_SIZE)).extracting(BookListRow::getId)
+                .isEqualTo(offsetDeep.get().stream().map(BookListRow::getId).toList());
+
+        log.info("[Benchmark] 도서 {}권, 페이지 크기 {} 중앙값 - 오프셋 1페이지: {}ms, 1000페이지: {}ms / "
+                        + "커서 1페이지: {}ms, 1000페이지: {}ms",
+                bookCount, PAGE_SIZE, medianMillis(offsetFirst), medianMillis(offsetDeep),
+                medianMillis(keysetFirst), medianMillis(keysetDeep));
+    }
+
+    private void insertBooks(int bookCount) {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2000, 1, 1);
+        List<Object[]> books = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= bookCount; i++) {
+            String status = random.nextInt(20) == 0 ? "BOOK_DELETED" : "ON_SALE";
+            books.add(new Object[]{i, "book-" + i, "isbn-" + i, Date.valueOf(base.plusDays(random.nextInt(9000))),
+                    status, random.nextInt(1000)});
+            if (books.size() == BATCH_SIZE || i == bookCount) {
+                jdbcTemplate.batchUpdate("INSERT INTO book (book_id, book_title, ISBN, book_publish_date, book_status, "
+                        + "like_count, price_standard, is_wrapped) VALUES (?, ?, ?, ?, ?, ?, 10000, false)", books);
+                books.clear();
+            }
+        }
+    }
+
+    private long medianMillis(Supplier<List<BookListRow>> query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.get();
+        }
+        long[] elapsed = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[MEASURE_ROUNDS / 2];
+    }
+}
@@ -0,0 +1,150 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.BookImage;
+import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.nhnacademy.book2onandonbookservice.entity.BookTag;
+import org.nhnacademy.book2onandonbookservice.entity.BookTagPK;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.entity.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.transaction.TestTransaction;
+
+/**
+ * Book 연관 컬렉션 배치 로딩 + 2차 캐시 동작 검증 (쿼리 수 기준)
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookRelationFetchDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class BookRelationFetchTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private BookRepository bookRepository;
+
+    private Statistics statistics;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        for (int i = 0; i < 20; i++) {
+            Category category = em.persist(Category.builder().categoryName("카테고리" + i).build());
+            Publisher publisher = em.persist(Publisher.builder().publisherName("출판사" + i).build());
+            Contributor contributor = em.persist(Contributor.builder().contributorName("저자" + i).build());
+            Tag tag = em.persist(Tag.builder().tagName("태그" + i).build());
+            categoryId = category.getId();
+
+            Book book = em.persist(Book.builder()
+                    .title("도서" + i)
+                    .isbn("isbn-" + i)
+                    .priceStandard(10000L)
+                    .isWrapped(false)
+                    .publishDate(LocalDate.of(2024, 1, 1))
+                    .status(BookStatus.ON_SALE)
+                    .build());
+            em.persist(BookImage.builder().book(book).imagePath("img-" + i).build());
+            em.persist(BookContributor.builder().book(book).contributor(contributor).roleType("지은이").build());
+            em.persist(BookPublisher.builder().book(book).publisher(publisher).build());
+            em.persist(BookCategory.builder().book(book).category(category).build());
+            em.persist(BookTag.builder().pk(new BookTagPK(book.getId(), tag.getId())).book(book).tag(tag).build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private long statementsToTouchRelations(int pageSize) {
+        em.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        List<Book> books = bookRepository.findAll(PageRequest.of(0, pageSize)).getContent();
+        for (Book book : books) {
+            book.getImages().size();
+            book.getReviews().size();
+            book.getLikes().size();
+            book.getBookCategories().forEach(bc -> bc.getCategory().getCategoryName());
+            book.getBookTags().forEach(bt -> bt.getTag().getTagName());
+            book.getBookContributors().forEach(bc -> bc.getContributor().getContributorName());
+            book.getBookPublishers().forEach(bp -> bp.getPublisher().getPublisherName());
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("연관 컬렉션을 모두 건드려도 쿼리 수는 페이지 크기와 무관하게 일정 (배치 로딩)")
+    void batchFetchKeepsStatementCountConstant() {
+        long small = statementsToTouchRelations(5);
+        long large = statementsToTouchRelations(20);
+
+        // 목록 + count + 컬렉션 7개 + 참조 엔티티 4개 (배치 미적용 시 20권 기준 150개 이상)
+        assertThat(large).isEqualTo(small).isLessThanOrEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("카테고리/컬렉션은 2차 캐시에서 읽어 다음 트랜잭션부터 쿼리가 줄어듦")
+    void secondLevelCacheServesRepeatedReads() {
+        // READ_WRITE 캐시는 커밋 전 엔티티를 잠그고, 트랜잭션 시작 이후에 적재된 항목은 다음 트랜잭션부터 읽으므로 단계마다 새 트랜잭션 사용
+        nextTransaction(true);
+        entityManagerFactory.getCache().evictAll();
+        em.find(Category.class, categoryId);
+
+        nextTransaction(false);
+        statistics.clear();
+        em.find(Category.class, categoryId);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+
+        nextTransaction(false);
+        long cold = statementsToTouchRelations(20);
+
+        nextTransaction(false);
+        statistics.clear();
+        bookRepository.findAll(PageRequest.of(0, 20)).getContent()
+                .forEach(book -> book.getBookCategories().forEach(bc -> bc.getCategory().getCategoryName()));
+        long warm = statistics.getPrepareStatementCount();
+
+        // 목록 + count 만 DB 에서 읽고 카테고리 컬렉션/엔티티는 캐시에서
+        assertThat(warm).isLessThan(cold).isEqualTo(2);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    private void nextTransaction(boolean commit) {
+        if (commit) {
+            TestTransaction.flagForCommit();
+        }
+        TestTransaction.end();
+        TestTransaction.start();
+    }
+}
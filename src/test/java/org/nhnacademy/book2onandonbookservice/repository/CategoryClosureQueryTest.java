@@ -0,0 +1,142 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.entity.CategoryClosure;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryClosureService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 카테고리 클로저 테이블 유지 + 하위 트리 신간 조회 검증 (IN 목록 방식과 결과 비교)
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:categoryClosureDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CategoryClosureService.class)
+class CategoryClosureQueryTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CategoryClosureRepository categoryClosureRepository;
+    @Autowired
+    private CategoryClosureService categoryClosureService;
+
+    // 국내도서 ─ 소설 ─ 한국소설
+    // 외국도서
+    private Category domestic;
+    private Category novel;
+    private Category koreanNovel;
+    private Category foreign;
+
+    @BeforeEach
+    void setUp() {
+        domestic = em.persist(Category.builder().categoryName("국내도서").build());
+        novel = em.persist(Category.builder().categoryName("소설").parent(domestic).build());
+        koreanNovel = em.persist(Category.builder().categoryName("한국소설").parent(novel).build());
+        foreign = em.persist(Category.builder().categoryName("외국도서").build());
+        em.flush();
+    }
+
+    private Book book(String title, LocalDate publishDate, BookStatus status, Category... categories) {
+        Book book = em.persist(Book.builder()
+                .title(title)
+                .isbn("isbn-" + title)
+                .priceStandard(10000L)
+                .isWrapped(false)
+                .publishDate(publishDate)
+                .status(status)
+                .build());
+        for (Category category : categories) {
+            em.persist(BookCategory.builder().book(book).category(category).build());
+        }
+        return book;
+    }
+
+    private int depth(Category ancestor, Category descendant) {
+        return em.getEntityManager()
+                .createQuery("SELECT cc FROM CategoryClosure cc "
+                        + "WHERE cc.pk.ancestorId = :ancestor AND cc.pk.descendantId = :descendant", CategoryClosure.class)
+                .setParameter("ancestor", ancestor.getId())
+                .setParameter("descendant", descendant.getId())
+                .getSingleResult()
+                .getDepth();
+    }
+
+    @Test
+    @DisplayName("경로 없는 카테고리를 부모부터 채워 모든 조상-자손 쌍을 저장")
+    void fillMissingPaths() {
+        assertThat(categoryClosureService.fillMissingPaths()).isEqualTo(4);
+
+        assertThat(categoryClosureRepository.count()).isEqualTo(7); // 1 + 2 + 3 + 1
+        assertThat(depth(domestic, domestic)).isZero();
+        assertThat(depth(domestic, koreanNovel)).isEqualTo(2);
+        assertThat(depth(novel, koreanNovel)).isEqualTo(1);
+        assertThat(categoryClosureService.fillMissingPaths()).isZero();
+    }
+
+    @Test
+    @DisplayName("새 카테고리는 부모의 경로를 복사해 추가")
+    void addCategory() {
+        categoryClosureService.fillMissingPaths();
+        Category essay = em.persist(Category.builder().categoryName("에세이").parent(novel).build());
+        em.flush();
+
+        categoryClosureService.addCategory(essay);
+
+        assertThat(depth(domestic, essay)).isEqualTo(2);
+        assertThat(depth(novel, essay)).isEqualTo(1);
+        assertThat(depth(essay, essay)).isZero();
+        assertThat(categoryClosureRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("하위 트리 신간 조회: 판매중만, 출간일 최신순, 여러 하위 카테고리에 걸린 도서도 한 번만 (IN 목록 방식과 동일)")
+    void findOnSaleBooksInCategorySubtree() {
+        categoryClosureService.fillMissingPaths();
+        Book newest = book("newest", LocalDate.of(2025, 3, 1), BookStatus.ON_SALE, koreanNovel);
+        Book both = book("both", LocalDate.of(2025, 2, 1), BookStatus.ON_SALE, novel, koreanNovel);
+        Book oldest = book("oldest", LocalDate.of(2024, 1, 1), BookStatus.ON_SALE, domestic);
+        book("deleted", LocalDate.of(2025, 4, 1), BookStatus.BOOK_DELETED, novel);
+        book("other", LocalDate.of(2025, 5, 1), BookStatus.ON_SALE, foreign);
+        em.flush();
+        em.clear();
+
+        PageRequest firstPage = PageRequest.of(0, 2);
+        Page<Book> closure = bookRepository.findOnSaleBooksInCategorySubtree(domestic.getId(), firstPage);
+        Page<Book> inList = bookRepository.findBooksByCategoryIdsSorted(
+                List.of(domestic.getId(), novel.getId(), koreanNovel.getId()), firstPage);
+
+        assertThat(closure.getContent()).extracting(Book::getId).containsExactly(newest.getId(), both.getId());
+        assertThat(closure.getTotalElements()).isEqualTo(3);
+        assertThat(closure.getContent()).extracting(Book::getId)
+                .isEqualTo(inList.getContent().stream().map(Book::getId).toList());
+        assertThat(bookRepository.findOnSaleBooksInCategorySubtree(domestic.getId(), PageRequest.of(1, 2)))
+                .extracting(Book::getId).containsExactly(oldest.getId());
+        assertThat(bookRepository.findOnSaleBooksInCategorySubtree(koreanNovel.getId(), firstPage).getTotalElements())
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,149 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryClosureService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 하위 트리 신간 조회 비교 - IN 목록(DISTINCT) vs 클로저 테이블(EXISTS)
+ * <p>
+ * 데이터 적재에 시간이 걸려 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=CategorySubtreeQueryBenchmarkTest -Dbenchmark=true [-Dbenchmark.books=500000]}
+ * <p>
+ * H2(MySQL 모드) 기준이라 절대값보다 두 방식의 차이를 봅니다. 카테고리는 3단계 10x10x10, 도서는 말단 카테고리에 고르게 분포합니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:categorySubtreeBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CategoryClosureService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CategorySubtreeQueryBenchmarkTest {
+
+    private static final int FANOUT = 10;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CategoryClosureService categoryClosureService;
+
+    @Test
+    void compareInListAndClosureTable() {
+        int bookCount = Integer.getInteger("benchmark.books", 500_000);
+        List<Long> leaves = new ArrayList<>();
+        List<Long> rootSubtree = new ArrayList<>();
+        long rootId = insertCategories(leaves, rootSubtree);
+        categoryClosureService.fillMissingPaths();
+        insertBooks(bookCount, leaves);
+
+        Pageable firstPage = PageRequest.of(0, 20);
+        Supplier<Page<Book>> inList = () -> bookRepository.findBooksByCategoryIdsSorted(rootSubtree, firstPage);
+        Supplier<Page<Book>> closure = () -> bookRepository.findOnSaleBooksInCategorySubtree(rootId, firstPage);
+
+        // 출간일이 같은 도서끼리는 순서가 정해져 있지 않아 출간일과 전체 건수로 비교
+        assertThat(closure.get().getContent()).extracting(Book::getPublishDate)
+                .isEqualTo(inList.get().getContent().stream().map(Book::getPublishDate).toList());
+        assertThat(closure.get().getTotalElements()).isEqualTo(inList.get().getTotalElements());
+
+        long inListMedian = medianMillis(inList);
+        long closureMedian = medianMillis(closure);
+        log.info("[Benchmark] 도서 {}권, 하위 카테고리 {}개 첫 페이지 중앙값 - IN 목록: {}ms, 클로저 테이블: {}ms",
+                bookCount, rootSubtree.size(), inListMedian, closureMedian);
+    }
+
+    // 최상위 10개 x 중간 10개 x 말단 10개, 첫 번째 최상위의 하위 트리 id 를 rootSubtree 에 모음
+    private long insertCategories(List<Long> leaves, List<Long> rootSubtree) {
+        long nextId = 1;
+        List<Object[]> rows = new ArrayList<>();
+        for (int r = 0; r < FANOUT; r++) {
+            List<Long> subtree = new ArrayList<>();
+            long rootId = nextId++;
+            rows.add(new Object[]{rootId, "root-" + r, null});
+            subtree.add(rootId);
+            for (int m = 0; m < FANOUT; m++) {
+                long middleId = nextId++;
+                rows.add(new Object[]{middleId, "middle-" + r + "-" + m, rootId});
+                subtree.add(middleId);
+                for (int l = 0; l < FANOUT; l++) {
+                    long leafId = nextId++;
+                    rows.add(new Object[]{leafId, "leaf-" + r + "-" + m + "-" + l, middleId});
+                    subtree.add(leafId);
+                    leaves.add(leafId);
+                }
+            }
+            if (r == 0) {
+                rootSubtree.addAll(subtree);
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO category (category_id, category_name, parent_id) VALUES (?, ?, ?)", rows);
+        return rootSubtree.get(0);
+    }
+
+    private void insertBooks(int bookCount, List<Long> leaves) {
+        Random random = new Random(42);
+        LocalDate base = LocalDate.of(2000, 1, 1);
+        List<Object[]> books = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> links = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= bookCount; i++) {
+            String status = random.nextInt(10) == 0 ? "SOLD_OUT" : "ON_SALE";
+            books.add(new Object[]{i, "book-" + i, "isbn-" + i, Date.valueOf(base.plusDays(random.nextInt(9000))),
+                    status});
+            links.add(new Object[]{i, leaves.get(random.nextInt(leaves.size()))});
+            if (books.size() == BATCH_SIZE || i == bookCount) {
+                jdbcTemplate.batchUpdate("INSERT INTO book (book_id, book_title, ISBN, book_publish_date, book_status, "
+                        + "price_standard, is_wrapped, like_count) VALUES (?, ?, ?, ?, ?, 10000, false, 0)", books);
+                jdbcTemplate.batchUpdate("INSERT INTO book_category (book_id, category_id) VALUES (?, ?)", links);
+                books.clear();
+                links.clear();
+            }
+        }
+    }
+
+    private long medianMillis(Supplier<Page<Book>> query) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            query.get();
+        }
+        long[] elapsed = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[MEASURE_ROUNDS / 2];
+    }
+}
@@ -0,0 +1,134 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository.DecreaseResult;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class StockBatchRepositoryTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @InjectMocks
+    private StockBatchRepository stockBatchRepository;
+
+    @Test
+    @DisplayName("decreaseStock: 장바구니 전체를 Batch 한 번으로 차감하고 품절 전환을 같은 문장에서 처리")
+    void decreaseStock_success() throws SQLException {
+        List<StockRequest> requests = List.of(
+                StockRequest.builder().bookId(1L).quantity(2).build(),
+                StockRequest.builder().bookId(2L).quantity(5).build()
+        );
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{1, 1});
+        stubStockCounts(Map.of(1L, 3, 2L, 0));
+
+        DecreaseResult result = stockBatchRepository.decreaseStock(requests);
+
+        assertThat(result.isSuccess()).isTrue();
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<BatchPreparedStatementSetter> pssCaptor = ArgumentCaptor.forClass(
+                BatchPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(sqlCaptor.capture(), pssCaptor.capture());
+
+        assertThat(sqlCaptor.getValue())
+                .contains("UPDATE book")
+                .contains("'SOLD_OUT'")
+                .doesNotContain("stock_count >= ?");
+
+        BatchPreparedStatementSetter pss = pssCaptor.getValue();
+        assertThat(pss.getBatchSize()).isEqualTo(2);
+
+        pss.setValues(preparedStatement, 1);
+        verify(preparedStatement).setInt(1, 5);
+        verify(preparedStatement).setInt(2, 5);
+        verify(preparedStatement).setLong(3, 2L);
+    }
+
+    @Test
+    @DisplayName("decreaseStock: 갱신 건수가 모두 SUCCESS_NO_INFO(-2)여도 차감 후 재고를 다시 읽어 부족/없는 도서를 나눠 반환")
+    void decreaseStock_verifiesAfterBatchWithoutRowCounts() {
+        List<StockRequest> requests = List.of(
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(2L).quantity(100).build(),
+                StockRequest.builder().bookId(3L).quantity(1).build()
+        );
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenReturn(new int[]{-2, -2, -2});
+        stubStockCounts(Map.of(1L, 4, 2L, -90));
+
+        DecreaseResult result = stockBatchRepository.decreaseStock(requests);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.outOfStockBookIds()).containsExactly(2L);
+        assertThat(result.notFoundBookIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("decreaseStock: 요청이 비어있으면 쿼리를 실행하지 않음")
+    void decreaseStock_empty() {
+        DecreaseResult result = stockBatchRepository.decreaseStock(Collections.emptyList());
+
+        assertThat(result.isSuccess()).isTrue();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("applyStockDeltasOnce: 묶음 ID 가 처음이면 기록 후 반영, 이미 기록돼 있으면 반영하지 않음")
+    void applyStockDeltasOnce_skipsAppliedBatch() {
+        when(jdbcTemplate.update(contains("applied_stock_batch"), eq("ledger-1-0.journal"), any()))
+                .thenReturn(1, 0);
+
+        boolean first = stockBatchRepository.applyStockDeltasOnce("ledger-1-0.journal", Map.of(1L, -2));
+        boolean second = stockBatchRepository.applyStockDeltasOnce("ledger-1-0.journal", Map.of(1L, -2));
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    // findStockCounts 조회 결과를 도서별 재고로 흉내냄
+    private void stubStockCounts(Map<Long, Integer> stockCounts) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<Long, Integer> entry : stockCounts.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("book_id")).thenReturn(entry.getKey());
+                when(rs.getInt("stock_count")).thenReturn(entry.getValue());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+    }
+}
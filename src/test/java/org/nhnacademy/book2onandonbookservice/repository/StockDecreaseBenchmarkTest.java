@@ -0,0 +1,144 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 장바구니 한 건의 재고 차감 지연 (1/10/50권) - 기존(도서마다 조건부 UPDATE + clear + 재조회) vs JDBC Batch 한 번
+ * <p>
+ * 측정 반복이 많아 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=StockDecreaseBenchmarkTest -Dbenchmark=true [-Dbenchmark.rounds=500]}
+ * <p>
+ * H2(MySQL 모드, 메모리) 기준이라 네트워크 왕복이 없어 실제 MySQL 보다 왕복 수 감소 효과가 작게 나옵니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:stockDecreaseBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StockBatchRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockDecreaseBenchmarkTest {
+
+    private static final int BOOK_COUNT = 10_000;
+    private static final int[] CART_SIZES = {1, 10, 50};
+    private static final int WARMUP_ROUNDS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private StockBatchRepository stockBatchRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareCartDecreaseLatency() {
+        int rounds = Integer.getInteger("benchmark.rounds", 500);
+        insertBooks();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Random random = new Random(42);
+
+        StringBuilder report = new StringBuilder();
+        for (int cartSize : CART_SIZES) {
+            List<List<StockRequest>> carts = new ArrayList<>();
+            for (int i = 0; i < WARMUP_ROUNDS + rounds; i++) {
+                carts.add(randomCart(random, cartSize));
+            }
+            long[] perRow = measure(carts, cart -> tx.executeWithoutResult(status -> decreasePerRow(cart)));
+            long[] batched = measure(carts, cart -> tx.executeWithoutResult(status -> {
+                assertThat(stockBatchRepository.decreaseStock(cart).isSuccess()).isTrue();
+            }));
+            report.append(String.format(" / %d권 - 기존 p50 %dus p99 %dus, Batch p50 %dus p99 %dus",
+                    cartSize, percentile(perRow, 50), percentile(perRow, 99),
+                    percentile(batched, 50), percentile(batched, 99)));
+        }
+        log.info("[Benchmark] 장바구니 재고 차감 지연 ({}회){}", rounds, report);
+    }
+
+    // 기존 BookServiceImpl.decreaseStock: 도서마다 조건부 UPDATE (clearAutomatically) + 재조회 + 품절 전환
+    private void decreasePerRow(List<StockRequest> cart) {
+        for (StockRequest req : cart) {
+            int updated = entityManager.createQuery("UPDATE Book b SET b.stockCount = b.stockCount - :quantity "
+                            + "WHERE b.id = :id AND b.stockCount >= :quantity")
+                    .setParameter("quantity", req.getQuantity())
+                    .setParameter("id", req.getBookId())
+                    .executeUpdate();
+            entityManager.clear();
+            if (updated == 0) {
+                throw new OutOfStockException("재고가 부족합니다. BookId: " + req.getBookId());
+            }
+            Book book = entityManager.find(Book.class, req.getBookId());
+            if (book.getStockCount() <= 0) {
+                book.setStatus(BookStatus.SOLD_OUT);
+            }
+        }
+    }
+
+    // 같은 도서가 두 번 들어가지 않고 bookId 순으로 정렬된 장바구니 (서비스가 교착 방지로 정렬해서 넘기는 것과 같게)
+    private List<StockRequest> randomCart(Random random, int size) {
+        return random.ints(1, BOOK_COUNT + 1).distinct().limit(size).sorted()
+                .mapToObj(id -> StockRequest.builder().bookId((long) id).quantity(1).build())
+                .toList();
+    }
+
+    private long[] measure(List<List<StockRequest>> carts, Consumer<List<StockRequest>> decrease) {
+        long[] micros = new long[carts.size() - WARMUP_ROUNDS];
+        for (int i = 0; i < carts.size(); i++) {
+            long start = System.nanoTime();
+            decrease.accept(carts.get(i));
+            if (i >= WARMUP_ROUNDS) {
+                micros[i - WARMUP_ROUNDS] = (System.nanoTime() - start) / 1_000;
+            }
+        }
+        Arrays.sort(micros);
+        return micros;
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+
+    private void insertBooks() {
+        List<Object[]> books = new ArrayList<>(BOOK_COUNT);
+        Date publishDate = Date.valueOf(LocalDate.of(2024, 1, 1));
+        for (int i = 1; i <= BOOK_COUNT; i++) {
+            books.add(new Object[]{i, "book-" + i, "isbn-" + i, publishDate});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO book (book_id, book_title, ISBN, book_publish_date, book_status, "
+                + "like_count, price_standard, is_wrapped, stock_count) "
+                + "VALUES (?, ?, ?, ?, 'ON_SALE', 0, 10000, false, 1000000)", books);
+    }
+}
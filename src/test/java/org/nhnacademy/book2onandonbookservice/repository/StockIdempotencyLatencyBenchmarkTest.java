@@ -0,0 +1,134 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 멱등키 중복 판별 지연 - 블룸 필터 없이 INSERT IGNORE 한 문장(PK 탐색 한 번)만으로 p99 가 1ms 아래인지 확인
+ * <p>
+ * 보관 기간(24시간) 동안 쌓일 만큼의 키를 미리 넣어 두고, 이미 처리된 키(중복)와 처음 보는 키를 섞어 등록하며 호출마다
+ * {@link StockIdempotencyRepository#register} 한 번의 지연을 잽니다. 서비스처럼 트랜잭션 안에서 호출하되 커밋은 재지 않습니다.
+ * <p>
+ * 벽시계 시간과 함께 호출 스레드의 CPU 시간도 잽니다. 코어가 적은 환경에서는 호출 도중 다른 스레드(JIT 등)에 CPU 를 뺏긴
+ * 구간이 스케줄러 한 틱(수 ms)씩 벽시계 꼬리에 끼므로, 1ms 판정은 판별 자체의 비용인 CPU 시간 p99 로 합니다.
+ * 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=StockIdempotencyLatencyBenchmarkTest -Dbenchmark=true [-Dbenchmark.keys=500000]
+ * [-Dbenchmark.rounds=20000]}
+ * <p>
+ * H2(MySQL 모드, 메모리) 기준이라 네트워크 왕복이 빠져 있습니다. 실제 MySQL 에서는 여기에 왕복 한 번이 더해지며, 블룸 필터가
+ * 있어도 "처음 보는 키" 판정은 DB 를 거쳐야 하므로(다른 인스턴스가 본 키) 그 왕복은 줄지 않습니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:stockIdempotencyLatencyBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StockIdempotencyRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StockIdempotencyLatencyBenchmarkTest {
+
+    private static final String OPERATION = "DECREASE";
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int INSERT_BATCH = 10_000;
+    private static final long P99_LIMIT_MICROS = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StockIdempotencyRepository stockIdempotencyRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void duplicateCheckP99UnderOneMillisecond() {
+        int keyCount = Integer.getInteger("benchmark.keys", 500_000);
+        int rounds = Integer.getInteger("benchmark.rounds", 20_000);
+        insertKeys(keyCount);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Random random = new Random(42);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        List<long[]> duplicate = new ArrayList<>();
+        List<long[]> fresh = new ArrayList<>();
+        int nextFresh = 0;
+        for (int i = 0; i < WARMUP_ROUNDS + rounds; i++) {
+            boolean retry = random.nextBoolean();
+            String key = retry ? "order-" + random.nextInt(keyCount) : "new-" + nextFresh++;
+            long[] micros = new long[2]; // 벽시계, CPU
+            Boolean registered = tx.execute(status -> {
+                long cpuStart = threads.getCurrentThreadCpuTime();
+                long start = System.nanoTime();
+                boolean result = stockIdempotencyRepository.register(key, OPERATION);
+                micros[0] = (System.nanoTime() - start) / 1_000;
+                micros[1] = (threads.getCurrentThreadCpuTime() - cpuStart) / 1_000;
+                return result;
+            });
+            assertThat(registered).isEqualTo(!retry);
+            if (i >= WARMUP_ROUNDS) {
+                (retry ? duplicate : fresh).add(micros);
+            }
+        }
+
+        long[] duplicateWall = sorted(duplicate, 0);
+        long[] duplicateCpu = sorted(duplicate, 1);
+        long[] freshWall = sorted(fresh, 0);
+        long[] freshCpu = sorted(fresh, 1);
+        log.info("[Benchmark] 멱등키 등록 (저장된 키 {}건, 코어 {}개) - 중복 {}회 벽시계 p50 {}us p99 {}us, CPU p50 {}us "
+                        + "p99 {}us / 새 키 {}회 벽시계 p50 {}us p99 {}us, CPU p50 {}us p99 {}us",
+                keyCount, Runtime.getRuntime().availableProcessors(), duplicateWall.length,
+                percentile(duplicateWall, 50), percentile(duplicateWall, 99), percentile(duplicateCpu, 50),
+                percentile(duplicateCpu, 99), freshWall.length, percentile(freshWall, 50), percentile(freshWall, 99),
+                percentile(freshCpu, 50), percentile(freshCpu, 99));
+        assertThat(percentile(duplicateCpu, 99)).isLessThan(P99_LIMIT_MICROS);
+        assertThat(percentile(freshCpu, 99)).isLessThan(P99_LIMIT_MICROS);
+    }
+
+    private void insertKeys(int keyCount) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < keyCount; from += INSERT_BATCH) {
+            List<Object[]> keys = new ArrayList<>(INSERT_BATCH);
+            for (int i = from; i < Math.min(keyCount, from + INSERT_BATCH); i++) {
+                keys.add(new Object[]{"order-" + i, OPERATION, createdAt});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO stock_idempotency_key (idempotency_key, operation, created_at) "
+                    + "VALUES (?, ?, ?)", keys);
+        }
+    }
+
+    private long[] sorted(List<long[]> micros, int column) {
+        long[] values = micros.stream().mapToLong(sample -> sample[column]).toArray();
+        Arrays.sort(values);
+        return values;
+    }
+
+    private long percentile(long[] sorted, int percentile) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,38 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 멱등키 테이블 검증 - (멱등키, 재고 변경 종류) 복합 키
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:stockIdempotencyKeyDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StockIdempotencyRepository.class)
+class StockIdempotencyRepositoryKeyTest {
+
+    @Autowired
+    private StockIdempotencyRepository stockIdempotencyRepository;
+
+    @Test
+    @DisplayName("같은 멱등키라도 차감과 증가는 따로 등록되고, 같은 종류로 다시 보내면 중복")
+    void register_sameKeyDifferentOperation() {
+        assertThat(stockIdempotencyRepository.register("order-1", "DECREASE")).isTrue();
+        assertThat(stockIdempotencyRepository.register("order-1", "INCREASE")).isTrue();
+        assertThat(stockIdempotencyRepository.register("order-1", "DECREASE")).isFalse();
+        assertThat(stockIdempotencyRepository.register("order-1", "INCREASE")).isFalse();
+    }
+}
@@ -0,0 +1,42 @@
+package org.nhnacademy.book2onandonbookservice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StockIdempotencyRepositoryTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private StockIdempotencyRepository stockIdempotencyRepository;
+
+    @Test
+    @DisplayName("register: INSERT IGNORE 로 한 건 삽입되면 처음 보는 키")
+    void register_newKey() {
+        when(jdbcTemplate.update(contains("INSERT IGNORE"), eq("order-1"), eq("DECREASE"), any()))
+                .thenReturn(1);
+
+        assertThat(stockIdempotencyRepository.register("order-1", "DECREASE")).isTrue();
+    }
+
+    @Test
+    @DisplayName("register: 삽입된 행이 없으면 이미 처리된 키")
+    void register_duplicateKey() {
+        when(jdbcTemplate.update(anyString(), eq("order-1"), eq("DECREASE"), any())).thenReturn(0);
+
+        assertThat(stockIdempotencyRepository.register("order-1", "DECREASE")).isFalse();
+    }
+}
@@ -1,19 +1,25 @@
 package org.nhnacademy.book2onandonbookservice.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mockito;
 import org.mockito.Mock;
+import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
@@ -21,17 +27,21 @@ import org.nhnacademy.book2onandonbookservice.entity.BookImage;
 import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
 import org.nhnacademy.book2onandonbookservice.entity.Contributor;
 import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.event.BookIndexChangedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.BatchInsertRepository;
-import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.service.cache.SecondLevelCacheSynchronizer;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class BookBatchServiceTest {
 
     @Mock
     private BatchInsertRepository batchInsertRepository;
-
     @Mock
-    private BookRepository bookRepository;
+    private SecondLevelCacheSynchronizer secondLevelCacheSynchronizer;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookBatchService bookBatchService;
@@ -60,20 +70,17 @@ class BookBatchServiceTest {
 
         List<Book> books = List.of(book1, book2);
 
-        List<BookRepository.BookIdAndIsbn> idMappings = new ArrayList<>();
-        idMappings.add(createBookIdAndIsbn(1L, "111"));
-        idMappings.add(createBookIdAndIsbn(2L, "222"));
-
-        given(bookRepository.findByIsbnIn(anyList())).willReturn(idMappings);
+        given(batchInsertRepository.saveAllBooks(books)).willReturn(List.of(1L, 2L));
 
         bookBatchService.saveBooksInBatch(books);
 
         verify(batchInsertRepository, times(1)).saveAllBooks(books);
 
-        verify(bookRepository, times(1)).findByIsbnIn(anyList());
-
-        verify(batchInsertRepository, times(1)).saveBookImages(anyList());
-        verify(batchInsertRepository, times(1)).saveBookRelations(anyList(), anyList());
+        verify(batchInsertRepository, times(1)).saveBookImages(List.of(bi1));
+        verify(batchInsertRepository, times(1)).saveBookRelations(List.of(bc1), List.of(bp1));
+        assertThat(bc1.getBook().getId()).isEqualTo(1L);
+        assertThat(bp1.getBook().getId()).isEqualTo(1L);
+        assertThat(bi1.getBook().getId()).isEqualTo(1L);
     }
 
     @Test
@@ -84,42 +91,96 @@ class BookBatchServiceTest {
         bookBatchService.saveBooksInBatch(emptyList);
 
         verify(batchInsertRepository, never()).saveAllBooks(anyList());
-        verify(bookRepository, never()).findByIsbnIn(anyList());
     }
 
     @Test
-    @DisplayName("배치 저장 - ID 조회 실패 시 연관관계 저장 스킵")
-    void saveBooksInBatch_IdMappingFail() {
-        Book book1 = Book.builder().isbn("111").title("Book 1").build();
+    @DisplayName("배치 저장 - 같은 ISBN 이 두 번 있어도 각 행의 생성 ID 로 연관관계 저장")
+    void saveBooksInBatch_DuplicateIsbnUsesOwnId() {
+        Book first = Book.builder().isbn("111").title("Book 1").build();
+        Book second = Book.builder().isbn("111").title("Book 1 (2판)").build();
         BookContributor bc1 = BookContributor.builder()
                 .contributor(Contributor.builder().id(10L).build())
                 .roleType("AUTHOR")
                 .build();
-        book1.getBookContributors().add(bc1);
-
-        List<Book> books = List.of(book1);
+        BookContributor bc2 = BookContributor.builder()
+                .contributor(Contributor.builder().id(11L).build())
+                .roleType("AUTHOR")
+                .build();
+        first.getBookContributors().add(bc1);
+        second.getBookContributors().add(bc2);
+        List<Book> books = List.of(first, second);
 
-        given(bookRepository.findByIsbnIn(anyList())).willReturn(Collections.emptyList());
+        given(batchInsertRepository.saveAllBooks(books)).willReturn(List.of(7L, 8L));
 
         bookBatchService.saveBooksInBatch(books);
 
-        verify(batchInsertRepository, times(1)).saveAllBooks(books);
+        assertThat(bc1.getBook().getId()).isEqualTo(7L);
+        assertThat(bc2.getBook().getId()).isEqualTo(8L);
+        verify(batchInsertRepository).saveBookRelations(List.of(bc1, bc2), Collections.emptyList());
+    }
 
-        verify(batchInsertRepository).saveBookImages(Collections.emptyList());
-        verify(batchInsertRepository).saveBookRelations(Collections.emptyList(), Collections.emptyList());
+    @Test
+    @DisplayName("증분 배치 - 없는 ISBN 은 등록, 있는 ISBN 은 갱신 후 관계를 다시 쓰고 행 해시 저장")
+    void upsertBooksInBatch_InsertNewAndUpdateExisting() {
+        Book newBook = Book.builder().isbn("111").title("New").build();
+        Book changedBook = Book.builder().isbn("222").title("Changed").build();
+        BookContributor bc = BookContributor.builder()
+                .contributor(Contributor.builder().id(10L).build())
+                .roleType("AUTHOR")
+                .build();
+        BookImage bi = BookImage.builder().imagePath("path/to/img2.jpg").build();
+        changedBook.getBookContributors().add(bc);
+        changedBook.getImages().add(bi);
+        Map<String, Long> hashes = Map.of("111", 1L, "222", 2L);
+
+        given(batchInsertRepository.findBookIdsByIsbn(List.of("111", "222"))).willReturn(Map.of("222", List.of(5L)));
+        given(batchInsertRepository.saveAllBooks(List.of(newBook))).willReturn(List.of(9L));
+
+        bookBatchService.upsertBooksInBatch(List.of(newBook, changedBook), hashes);
+
+        verify(batchInsertRepository).saveAllBooks(List.of(newBook));
+        verify(batchInsertRepository).updateBooksByIsbn(List.of(changedBook));
+        verify(batchInsertRepository).deleteBookRelations(List.of(5L));
+        verify(batchInsertRepository).saveBookRelations(
+                argThat(contributors -> contributors.size() == 1 && contributors.get(0).getBook().getId() == 5L
+                        && contributors.get(0).getContributor().getId() == 10L),
+                eq(Collections.emptyList()));
+        verify(batchInsertRepository).saveMissingBookImages(argThat(images -> images.size() == 1
+                && images.get(0).getBook().getId() == 5L && images.get(0).getImagePath().equals("path/to/img2.jpg")));
+        InOrder inOrder = Mockito.inOrder(batchInsertRepository);
+        inOrder.verify(batchInsertRepository).restoreImportDeletedBooks(List.of("222"));
+        inOrder.verify(batchInsertRepository).upsertContentHashes(hashes);
+        verify(secondLevelCacheSynchronizer).evictBookRelations(List.of(5L));
+        verify(eventPublisher).publishEvent(new BookDetailChangedEvent(List.of(5L)));
+        verify(eventPublisher).publishEvent(new BookIndexChangedEvent(List.of(9L, 5L)));
+    }
+
+    @Test
+    @DisplayName("증분 배치 - 새 도서만 있으면 관계 캐시를 지우거나 상세 변경 이벤트를 발행하지 않고, 검색 인덱스 이벤트만 발행")
+    void upsertBooksInBatch_OnlyNewBooks_NoEviction() {
+        Book newBook = Book.builder().isbn("111").title("New").build();
+        given(batchInsertRepository.findBookIdsByIsbn(List.of("111"))).willReturn(Map.of());
+        given(batchInsertRepository.saveAllBooks(List.of(newBook))).willReturn(List.of(9L));
+
+        bookBatchService.upsertBooksInBatch(List.of(newBook), Map.of("111", 1L));
+
+        verify(batchInsertRepository, never()).restoreImportDeletedBooks(any());
+        verify(secondLevelCacheSynchronizer, never()).evictBookRelations(any());
+        verify(eventPublisher, never()).publishEvent(any(BookDetailChangedEvent.class));
+        verify(eventPublisher).publishEvent(new BookIndexChangedEvent(List.of(9L)));
     }
 
-    private BookRepository.BookIdAndIsbn createBookIdAndIsbn(Long id, String isbn) {
-        return new BookRepository.BookIdAndIsbn() {
-            @Override
-            public Long getId() {
-                return id;
-            }
-
-            @Override
-            public String getIsbn() {
-                return isbn;
-            }
-        };
+    @Test
+    @DisplayName("판매 중단 - 같은 ISBN 의 도서 ID 모두로 상세 변경/검색 인덱스 이벤트 발행, 바뀐 행이 없으면 발행하지 않음")
+    void softDeleteBooksByIsbn_PublishesDetailChanged() {
+        given(batchInsertRepository.findBookIdsByIsbn(List.of("111")))
+                .willReturn(Map.of("111", List.of(3L, 4L)));
+        given(batchInsertRepository.softDeleteBooksByIsbn(List.of("111"))).willReturn(2, 0);
+
+        assertThat(bookBatchService.softDeleteBooksByIsbn(List.of("111"))).isEqualTo(2);
+        assertThat(bookBatchService.softDeleteBooksByIsbn(List.of("111"))).isZero();
+
+        verify(eventPublisher, times(1)).publishEvent(new BookDetailChangedEvent(List.of(3L, 4L)));
+        verify(eventPublisher, times(1)).publishEvent(new BookIndexChangedEvent(List.of(3L, 4L)));
     }
-}
\ No newline at end of file
+}
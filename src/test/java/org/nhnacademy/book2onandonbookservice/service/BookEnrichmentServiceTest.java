@@ -34,12 +34,15 @@ import org.nhnacademy.book2onandonbookservice.entity.BookImage;
 import org.nhnacademy.book2onandonbookservice.entity.BookTag;
 import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.entity.Tag;
+import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.BookCategoryRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookTagRepository;
 import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
 import org.nhnacademy.book2onandonbookservice.repository.TagRepository;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryClosureService;
 import org.nhnacademy.book2onandonbookservice.service.search.BookSearchIndexService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,12 +61,16 @@ class BookEnrichmentServiceTest {
     @Mock
     private BookSearchIndexService bookSearchIndexService;
     @Mock
+    private CategoryClosureService categoryClosureService;
+    @Mock
     private GeminiApiClient geminiApiClient;
     @Mock
     private AladinApiClient aladinApiClient;
 
     @Mock
     private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BookEnrichmentService bookEnrichmentService;
@@ -360,6 +367,8 @@ class BookEnrichmentServiceTest {
         bookEnrichmentService.updateBookInTransaction(1L, aladinItem, null);
 
         verify(categoryRepository).save(any(Category.class));
+        verify(categoryClosureService).addCategory(newCategory);
+        verify(eventPublisher).publishEvent(new CategoryUpdatedEvent(1L, null, "새로운카테고리"));
     }
 
     @Test
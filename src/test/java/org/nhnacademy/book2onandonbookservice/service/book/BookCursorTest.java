@@ -0,0 +1,65 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.exception.InvalidCursorException;
+import org.nhnacademy.book2onandonbookservice.service.book.BookCursor.Sort;
+
+class BookCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 정렬로 해석하면 원래 위치")
+    void encodeDecode() {
+        BookCursor cursor = BookCursor.afterPublishDate(LocalDate.of(2024, 5, 1), 42L);
+
+        BookCursor decoded = BookCursor.decode(cursor.encode(), Sort.PUBLISH_DATE);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.publishDate()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 가장 큰 값에서 시작")
+    void decode_blankIsFirstPage() {
+        assertThat(BookCursor.decode(null, Sort.LIKE_COUNT)).isEqualTo(BookCursor.first(Sort.LIKE_COUNT));
+        assertThat(BookCursor.decode(" ", Sort.PUBLISH_DATE).publishDate()).isEqualTo(LocalDate.of(9999, 12, 31));
+    }
+
+    @Test
+    @DisplayName("다른 정렬의 커서, 형식이 깨진 커서는 InvalidCursorException")
+    void decode_invalid() {
+        String likeCursor = BookCursor.afterLikeCount(10L, 3L).encode();
+        String broken = Base64.getUrlEncoder().encodeToString("PUBLISH_DATE:abc:1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> BookCursor.decode(likeCursor, Sort.PUBLISH_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> BookCursor.decode(broken, Sort.PUBLISH_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> BookCursor.decode("%%%", Sort.PUBLISH_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("출간일 키가 DATE 범위를 벗어난 커서는 InvalidCursorException (DateTimeException 으로 500 이 나지 않음)")
+    void decode_publishDateOutOfRange() {
+        String tooLarge = new BookCursor(Sort.PUBLISH_DATE, Long.MAX_VALUE, 1L).encode();
+        String tooSmall = new BookCursor(Sort.PUBLISH_DATE, Long.MIN_VALUE, 1L).encode();
+
+        assertThatThrownBy(() -> BookCursor.decode(tooLarge, Sort.PUBLISH_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> BookCursor.decode(tooSmall, Sort.PUBLISH_DATE))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThat(BookCursor.decode(BookCursor.first(Sort.PUBLISH_DATE).encode(), Sort.PUBLISH_DATE).publishDate())
+                .isEqualTo(LocalDate.of(9999, 12, 31));
+        // 좋아요 수 커서는 범위 검사 대상이 아님
+        assertThat(BookCursor.decode(BookCursor.first(Sort.LIKE_COUNT).encode(), Sort.LIKE_COUNT))
+                .isEqualTo(BookCursor.first(Sort.LIKE_COUNT));
+    }
+}
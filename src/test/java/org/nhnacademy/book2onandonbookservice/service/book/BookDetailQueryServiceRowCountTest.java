@@ -0,0 +1,111 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+import org.nhnacademy.book2onandonbookservice.entity.Review;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 상세 조회가 리뷰 수/연관 컬렉션 크기에 비례해 행을 읽지 않는지 검증 (카테고리 x 기여자 곱 조인, 리뷰 전체 로딩 회귀 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookDetailQueryDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(BookDetailQueryService.class)
+class BookDetailQueryServiceRowCountTest {
+
+    private static final int REVIEW_COUNT = 200;
+    private static final int CATEGORY_COUNT = 5;
+    private static final int CONTRIBUTOR_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private BookDetailQueryService bookDetailQueryService;
+
+    private Statistics statistics;
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        Book book = em.persist(Book.builder()
+                .title("도서")
+                .isbn("isbn-detail")
+                .priceStandard(10000L)
+                .isWrapped(false)
+                .publishDate(LocalDate.of(2024, 1, 1))
+                .status(BookStatus.ON_SALE)
+                .build());
+        bookId = book.getId();
+
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            Category category = em.persist(Category.builder().categoryName("카테고리" + i).build());
+            em.persist(BookCategory.builder().book(book).category(category).build());
+        }
+        for (int i = 0; i < CONTRIBUTOR_COUNT; i++) {
+            Contributor contributor = em.persist(Contributor.builder().contributorName("저자" + i).build());
+            em.persist(BookContributor.builder().book(book).contributor(contributor).roleType("지은이").build());
+        }
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            em.persist(Review.builder().book(book).userId((long) i).title("리뷰" + i).content("내용").score(5)
+                    .createdAt(base.plusMinutes(i)).build());
+        }
+        em.flush();
+        em.clear();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("리뷰 200개 도서 상세 조회 - 리뷰 엔티티는 3개만, 연관 엔티티는 실제 개수만큼만 로딩")
+    void detailMaterializesBoundedRows() {
+        BookDetailResponse result = bookDetailQueryService.loadDocument(bookId);
+
+        assertThat(result.getReviews()).hasSize(3);
+        assertThat(result.getReviews().get(0).getTitle()).isEqualTo("리뷰" + (REVIEW_COUNT - 1));
+        assertThat(result.getReviewCount()).isEqualTo(REVIEW_COUNT);
+        assertThat(result.getCategories()).hasSize(CATEGORY_COUNT);
+        assertThat(result.getContributorName().split(", ")).hasSize(CONTRIBUTOR_COUNT);
+
+        assertThat(statistics.getEntityStatistics(Review.class.getName()).getLoadCount()).isEqualTo(3);
+        assertThat(statistics.getEntityStatistics(Book.class.getName()).getLoadCount()).isEqualTo(1);
+        // 곱 조인이었다면 카테고리 x 기여자(25) 만큼 행이 생김 -> 연관 엔티티는 각자 개수만큼만
+        assertThat(statistics.getEntityStatistics(BookCategory.class.getName()).getLoadCount())
+                .isEqualTo(CATEGORY_COUNT);
+        assertThat(statistics.getEntityStatistics(BookContributor.class.getName()).getLoadCount())
+                .isEqualTo(CONTRIBUTOR_COUNT);
+        // 도서 1 + 리뷰 top3 + 리뷰 count + 좋아요 수 + 컬렉션/참조 배치 로딩 -> 리뷰 수와 무관한 상한
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(15);
+    }
+}
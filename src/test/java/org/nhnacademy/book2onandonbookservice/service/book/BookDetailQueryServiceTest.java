@@ -0,0 +1,102 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+import org.nhnacademy.book2onandonbookservice.entity.Review;
+import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
+import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.ReviewRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookDetailQueryServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private BookLikeRepository bookLikeRepository;
+
+    @InjectMocks
+    private BookDetailQueryService bookDetailQueryService;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        book = Book.builder()
+                .id(1L)
+                .title("Book A")
+                .publishDate(LocalDate.of(2023, 1, 1))
+                .priceStandard(10000L)
+                .rating(5.0)
+                .isWrapped(false)
+                .status(BookStatus.ON_SALE)
+                .build();
+        book.getBookCategories().add(BookCategory.builder().book(book)
+                .category(Category.builder().id(70L).categoryName("Test Category").build()).build());
+        book.getBookContributors().add(BookContributor.builder().book(book)
+                .contributor(Contributor.builder().contributorName("Test Author").build()).build());
+    }
+
+    private Review review(long id) {
+        return Review.builder().id(id).title("리뷰" + id).content("내용").score(5).userId(1L)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id)).build();
+    }
+
+    @Test
+    @DisplayName("상세 문서 - 최신 리뷰 3개, 리뷰/좋아요 개수 포함, 사용자별 좋아요 여부는 비워 둠")
+    void loadDocument() {
+        given(bookRepository.findById(1L)).willReturn(Optional.of(book));
+        given(reviewRepository.findTop3ByBookIdOrderByCreatedAtDescIdDesc(1L))
+                .willReturn(List.of(review(3), review(2), review(1)));
+        given(reviewRepository.countByBookId(1L)).willReturn(200L);
+        given(bookLikeRepository.countByBookId(1L)).willReturn(5L);
+
+        BookDetailResponse result = bookDetailQueryService.loadDocument(1L);
+
+        assertThat(result.getTitle()).isEqualTo("Book A");
+        assertThat(result.getContributorName()).isEqualTo("Test Author");
+        assertThat(result.getCategories().get(0).getName()).isEqualTo("Test Category");
+        assertThat(result.getReviews()).extracting("id").containsExactly(3L, 2L, 1L);
+        assertThat(result.getReviewCount()).isEqualTo(200L);
+        assertThat(result.getLikeCount()).isEqualTo(5L);
+        assertThat(result.getLikedByCurrentUser()).isNull();
+        verify(bookLikeRepository, never()).existsByBookIdAndUserId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("상세 문서 실패 - 도서가 없으면 NotFoundBookException, 리뷰/좋아요는 조회하지 않음")
+    void loadDocument_NotFound() {
+        given(bookRepository.findById(9999L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookDetailQueryService.loadDocument(9999L))
+                .isInstanceOf(NotFoundBookException.class);
+        verify(reviewRepository, never()).countByBookId(anyLong());
+        verify(bookLikeRepository, never()).countByBookId(anyLong());
+    }
+}
@@ -26,8 +26,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.BookLike;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
 import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
@@ -49,6 +51,9 @@ class BookLikeServiceTest {
     @Mock
     ValueOperations<String, String> valueOperations;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         // RedisTemplate이 opsForValue()를 호출할 때 Mock 객체(valueOperations)를 반환하도록 설정
@@ -83,6 +88,7 @@ class BookLikeServiceTest {
         verify(valueOperations).setIfAbsent(eq(lockKey), eq("LOCKED"), any(Duration.class)); // 락 시도 확인
         verify(bookRepository).findById(bookId);
         verify(bookLikeRepository).save(any(BookLike.class));
+        verify(eventPublisher).publishEvent(BookDetailChangedEvent.of(bookId)); // 상세 캐시 무효화
         verify(redisTemplate).delete(lockKey); // finally 블록에서 락 해제 확인
     }
 
@@ -0,0 +1,111 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.BookImage;
+import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.nhnacademy.book2onandonbookservice.entity.BookTag;
+import org.nhnacademy.book2onandonbookservice.entity.BookTagPK;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.entity.Tag;
+import org.nhnacademy.book2onandonbookservice.service.mapper.BookListResponseMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 목록 조회 쿼리 수가 페이지 크기와 무관하게 일정한지 검증 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookListQueryDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookListQueryService.class, BookListResponseMapper.class})
+class BookListQueryServiceStatementCountTest {
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private BookListQueryService bookListQueryService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Category category = em.persist(Category.builder().categoryName("소설").build());
+        Publisher publisher = em.persist(Publisher.builder().publisherName("출판사").build());
+        Contributor contributor = em.persist(Contributor.builder().contributorName("저자").build());
+        Tag tag = em.persist(Tag.builder().tagName("태그").build());
+
+        for (int i = 0; i < 30; i++) {
+            Book book = em.persist(Book.builder()
+                    .title("도서" + i)
+                    .isbn("isbn-" + i)
+                    .priceStandard(10000L)
+                    .isWrapped(false)
+                    .publishDate(LocalDate.of(2024, 1, 1))
+                    .status(BookStatus.ON_SALE)
+                    .build());
+            em.persist(BookImage.builder().book(book).imagePath("img-" + i).build());
+            em.persist(BookContributor.builder().book(book).contributor(contributor).roleType("지은이").build());
+            em.persist(BookPublisher.builder().book(book).publisher(publisher).build());
+            em.persist(BookCategory.builder().book(book).category(category).build());
+            em.persist(BookTag.builder().pk(new BookTagPK(book.getId(), tag.getId())).book(book).tag(tag).build());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long statementsForPage(int size) {
+        em.clear();
+        statistics.clear();
+        Page<BookListResponse> page = bookListQueryService.getBookList(PageRequest.of(0, size));
+        assertThat(page.getContent()).hasSize(size);
+        assertThat(page.getContent()).allSatisfy(book -> {
+            assertThat(book.getImagePath()).isNotNull();
+            assertThat(book.getContributorNames()).containsExactly("저자");
+            assertThat(book.getPublisherNames()).containsExactly("출판사");
+            assertThat(book.getCategoryIds()).hasSize(1);
+            assertThat(book.getTagNames()).containsExactly("태그");
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 5든 20이든 실행되는 SQL 수는 같음 (목록 + count + 관계 5개)")
+    void statementCountIsConstant() {
+        long small = statementsForPage(5);
+        long large = statementsForPage(20);
+
+        assertThat(small).isEqualTo(large).isLessThanOrEqualTo(7);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,158 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
+import org.nhnacademy.book2onandonbookservice.dto.common.CursorPage;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookIdAndName;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository.BookListRow;
+import org.nhnacademy.book2onandonbookservice.service.book.BookCursor.Sort;
+import org.nhnacademy.book2onandonbookservice.service.mapper.BookListResponseMapper;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class BookListQueryServiceTest {
+
+    @Mock
+    private BookRepository bookRepository;
+    @Spy
+    private BookListResponseMapper bookListResponseMapper;
+
+    @InjectMocks
+    private BookListQueryService bookListQueryService;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    private BookIdAndName name(Long bookId, String name) {
+        BookIdAndName row = mock(BookIdAndName.class);
+        given(row.getBookId()).willReturn(bookId);
+        given(row.getName()).willReturn(name);
+        return row;
+    }
+
+    @Test
+    @DisplayName("목록 컬럼은 projection 으로, 관계 정보는 관계별 IN 쿼리 한 번으로 모아서 조립")
+    void getBookList() {
+        BookListRow row1 = mock(BookListRow.class);
+        given(row1.getId()).willReturn(1L);
+        given(row1.getTitle()).willReturn("도서1");
+        BookListRow row2 = mock(BookListRow.class);
+        given(row2.getId()).willReturn(2L);
+        given(bookRepository.findListRowsByStatusNot(BookStatus.BOOK_DELETED, pageable))
+                .willReturn(new PageImpl<>(List.of(row1, row2), pageable, 2));
+
+        List<Long> ids = List.of(1L, 2L);
+        List<BookIdAndName> images = List.of(name(1L, "a.jpg"), name(1L, "b.jpg"));
+        List<BookIdAndName> contributors = List.of(name(1L, "저자A"), name(2L, "저자B"), name(1L, "역자C"));
+        given(bookRepository.findImagePathsByBookIds(ids)).willReturn(images);
+        given(bookRepository.findContributorNamesByBookIds(ids)).willReturn(contributors);
+
+        Page<BookListResponse> result = bookListQueryService.getBookList(pageable);
+
+        assertThat(result.getContent()).hasSize(2);
+        BookListResponse first = result.getContent().get(0);
+        assertThat(first.getTitle()).isEqualTo("도서1");
+        assertThat(first.getImagePath()).isEqualTo("a.jpg");
+        assertThat(first.getContributorNames()).containsExactly("저자A", "역자C");
+        assertThat(first.getTagNames()).isEmpty();
+
+        BookListResponse second = result.getContent().get(1);
+        assertThat(second.getImagePath()).isNull();
+        assertThat(second.getContributorNames()).containsExactly("저자B");
+
+        verify(bookRepository).findPublisherNamesByBookIds(ids);
+        verify(bookRepository).findCategoryIdsByBookIds(ids);
+        verify(bookRepository).findTagNamesByBookIds(ids);
+        verify(bookRepository, never()).findByStatusNot(any(), any());
+    }
+
+    @Test
+    @DisplayName("빈 페이지면 관계 쿼리를 실행하지 않음")
+    void getBookList_empty() {
+        given(bookRepository.findListRowsByStatusNot(BookStatus.BOOK_DELETED, pageable))
+                .willReturn(Page.empty(pageable));
+
+        Page<BookListResponse> result = bookListQueryService.getBookList(pageable);
+
+        assertThat(result).isEmpty();
+        verify(bookRepository, never()).findImagePathsByBookIds(anyList());
+    }
+
+    private BookListRow row(Long id, LocalDate publishDate) {
+        BookListRow row = mock(BookListRow.class);
+        lenient().when(row.getId()).thenReturn(id);
+        lenient().when(row.getPublishDate()).thenReturn(publishDate);
+        return row;
+    }
+
+    @Test
+    @DisplayName("커서 페이지: size + 1 개를 읽어 다음 페이지가 있으면 마지막 행으로 다음 커서를 만듦")
+    void getBookListByCursor_hasNext() {
+        BookCursor first = BookCursor.first(Sort.PUBLISH_DATE);
+        List<BookListRow> rows = List.of(row(9L, LocalDate.of(2025, 3, 1)), row(7L, LocalDate.of(2025, 2, 1)),
+                row(5L, LocalDate.of(2025, 1, 1)));
+        given(bookRepository.findListRowsByStatusNotBefore(BookStatus.BOOK_DELETED, first.publishDate(), first.id(),
+                Limit.of(3))).willReturn(rows);
+
+        CursorPage<BookListResponse> page = bookListQueryService.getBookListByCursor(null, 2);
+
+        assertThat(page.getContent()).extracting(BookListResponse::getId).containsExactly(9L, 7L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(BookCursor.decode(page.getNextCursor(), Sort.PUBLISH_DATE))
+                .isEqualTo(BookCursor.afterPublishDate(LocalDate.of(2025, 2, 1), 7L));
+        verify(bookRepository).findImagePathsByBookIds(List.of(9L, 7L));
+        verify(bookRepository, never()).findListRowsByStatusNot(any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 페이지: 마지막 페이지면 nextCursor 없음, size 는 최대값으로 제한")
+    void getPopularBooksByCursor_lastPage() {
+        BookCursor cursor = BookCursor.afterLikeCount(10L, 3L);
+        List<BookListRow> rows = List.of(row(2L, LocalDate.of(2024, 1, 1)));
+        given(bookRepository.findListRowsByStatusOrderByLikeCountBefore(BookStatus.ON_SALE, 10L, 3L,
+                Limit.of(BookListQueryService.MAX_CURSOR_PAGE_SIZE + 1)))
+                .willReturn(rows);
+
+        CursorPage<BookListResponse> page = bookListQueryService.getPopularBooksByCursor(cursor.encode(), 10_000);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 신간: 카테고리가 있으면 하위 트리 조회")
+    void getNewArrivalsByCursor_category() {
+        BookCursor first = BookCursor.first(Sort.PUBLISH_DATE);
+        given(bookRepository.findListRowsInCategorySubtreeBefore(BookStatus.ON_SALE, 3L, first.publishDate(),
+                first.id(), Limit.of(21))).willReturn(List.of());
+
+        CursorPage<BookListResponse> page = bookListQueryService.getNewArrivalsByCursor(3L, null, 20);
+
+        assertThat(page.getContent()).isEmpty();
+        verify(bookRepository, never()).findListRowsByStatusBefore(any(), any(), any(), any());
+        verify(bookRepository, never()).findImagePathsByBookIds(anyList());
+    }
+}
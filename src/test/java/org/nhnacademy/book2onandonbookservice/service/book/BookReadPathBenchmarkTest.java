@@ -0,0 +1,243 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.BookImage;
+import org.nhnacademy.book2onandonbookservice.entity.BookLike;
+import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.nhnacademy.book2onandonbookservice.entity.BookTag;
+import org.nhnacademy.book2onandonbookservice.entity.BookTagPK;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.entity.Review;
+import org.nhnacademy.book2onandonbookservice.entity.Tag;
+import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
+import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
+import org.nhnacademy.book2onandonbookservice.service.mapper.BookListResponseMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 도서 목록(getBooks)/상세(getBookDetail) 조회 경로의 쿼리 수와 지연 - 기존 엔티티 경로 vs projection/커서 + 2차 캐시 경로
+ * <p>
+ * 기존: 목록은 Book 엔티티 페이지를 읽어 연관 컬렉션을 건드려 DTO 로, 상세는 카테고리 + 기여자 fetch join 후 리뷰 전체를 읽음.
+ * 둘 다 2차 캐시를 거치지 않음(CacheMode.IGNORE). 엔티티의 @BatchSize 는 끌 수 없어 기존 경로도 컬렉션은 배치로 읽으므로,
+ * 배치 로딩 전(도서마다 컬렉션 쿼리)보다는 적게 나옵니다.
+ * 변경 후: 목록은 BookListQueryService 의 projection(오프셋/커서), 상세는 BookDetailQueryService (2차 캐시 비움/채움).
+ * <p>
+ * 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=BookReadPathBenchmarkTest -Dbenchmark=true [-Dbenchmark.books=2000] [-Dbenchmark.reviews=300]}
+ * <p>
+ * H2(MySQL 모드, 메모리) 기준이라 쿼리 한 번의 비용이 실제 MySQL 보다 작아 지연 차이는 쿼리 수 차이보다 작게 나옵니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:bookReadPathBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({BookListQueryService.class, BookDetailQueryService.class, BookListResponseMapper.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookReadPathBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 100;
+    // 기존 BookRepository.findByIdWithRelations
+    private static final String LEGACY_DETAIL_JPQL = """
+            SELECT DISTINCT b FROM Book b
+            LEFT JOIN FETCH b.bookCategories bc
+            LEFT JOIN FETCH b.bookContributors bct
+            WHERE b.id = :bookId
+            """;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookLikeRepository bookLikeRepository;
+    @Autowired
+    private BookListQueryService bookListQueryService;
+    @Autowired
+    private BookDetailQueryService bookDetailQueryService;
+    @Autowired
+    private BookListResponseMapper bookListResponseMapper;
+
+    @Test
+    void compareReadPaths() {
+        int bookCount = Integer.getInteger("benchmark.books", 2000);
+        int reviewCount = Integer.getInteger("benchmark.reviews", 300);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long detailBookId = tx.execute(status -> insertBooks(bookCount, reviewCount));
+        tx.setReadOnly(true);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        PageRequest firstPage = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "publishDate", "id"));
+
+        Measured legacyList = measure(tx, statistics, false, () -> {
+            ignoreSecondLevelCache();
+            return bookRepository.findByStatusNot(BookStatus.BOOK_DELETED, firstPage)
+                    .map(bookListResponseMapper::fromEntity).getContent();
+        });
+        Measured offsetList = measure(tx, statistics, false,
+                () -> bookListQueryService.getBookList(firstPage).getContent());
+        Measured cursorList = measure(tx, statistics, false,
+                () -> bookListQueryService.getBookListByCursor(null, PAGE_SIZE).getContent());
+
+        Measured legacyDetail = measure(tx, statistics, false, () -> {
+            ignoreSecondLevelCache();
+            return legacyDetail(detailBookId);
+        });
+        Measured coldDetail = measure(tx, statistics, true, () -> bookDetailQueryService.loadDocument(detailBookId));
+        Measured warmDetail = measure(tx, statistics, false, () -> bookDetailQueryService.loadDocument(detailBookId));
+
+        tx.executeWithoutResult(status -> {
+            assertThat(bookListQueryService.getBookList(firstPage).getContent()).extracting("id")
+                    .isEqualTo(bookRepository.findByStatusNot(BookStatus.BOOK_DELETED, firstPage)
+                            .map(Book::getId).getContent());
+            assertThat(bookDetailQueryService.loadDocument(detailBookId))
+                    .usingRecursiveComparison().isEqualTo(legacyDetail(detailBookId));
+        });
+
+        log.info("[Benchmark] 도서 {}권, 상세 도서 리뷰 {}개, 중앙값 (쿼리 수) - 목록 기존 엔티티: {}us ({}), projection 오프셋: {}us ({}), "
+                        + "커서: {}us ({}) / 상세 기존 fetch join + 리뷰 전체: {}us ({}), 변경 후 2차 캐시 비움: {}us ({}), "
+                        + "채움: {}us ({})",
+                bookCount, reviewCount, legacyList.medianMicros(), legacyList.statements(),
+                offsetList.medianMicros(), offsetList.statements(), cursorList.medianMicros(),
+                cursorList.statements(), legacyDetail.medianMicros(), legacyDetail.statements(),
+                coldDetail.medianMicros(), coldDetail.statements(), warmDetail.medianMicros(),
+                warmDetail.statements());
+    }
+
+    // 기존 getBookDetail: fetch join 으로 읽고 리뷰 컬렉션 전체를 읽어 최신 3개와 개수를 만듦
+    private BookDetailResponse legacyDetail(Long bookId) {
+        Book book = entityManager.createQuery(LEGACY_DETAIL_JPQL, Book.class)
+                .setParameter("bookId", bookId)
+                .getSingleResult();
+        List<Review> latest = book.getReviews().stream()
+                .sorted(Comparator.comparing(Review::getCreatedAt).reversed())
+                .limit(3)
+                .toList();
+        long likeCount = bookLikeRepository.countByBookId(bookId);
+        return BookDetailResponse.from(book, latest, book.getReviews().size(), likeCount, null);
+    }
+
+    private void ignoreSecondLevelCache() {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+    }
+
+    // 매 회 새 읽기 전용 트랜잭션(새 세션)에서 실행, 쿼리 수는 마지막 회 기준
+    private Measured measure(TransactionTemplate tx, Statistics statistics, boolean evictEachRound,
+                             Supplier<Object> read) {
+        long[] micros = new long[MEASURE_ROUNDS];
+        long statements = 0;
+        for (int i = 0; i < WARMUP_ROUNDS + MEASURE_ROUNDS; i++) {
+            if (evictEachRound) {
+                entityManagerFactory.getCache().evictAll();
+            }
+            statistics.clear();
+            long start = System.nanoTime();
+            tx.execute(status -> read.get());
+            long elapsed = (System.nanoTime() - start) / 1_000;
+            statements = statistics.getPrepareStatementCount();
+            if (i >= WARMUP_ROUNDS) {
+                micros[i - WARMUP_ROUNDS] = elapsed;
+            }
+        }
+        Arrays.sort(micros);
+        return new Measured(micros[MEASURE_ROUNDS / 2], statements);
+    }
+
+    // 도서마다 이미지 1, 기여자 2, 출판사 1, 카테고리 2, 태그 2 (참조 엔티티는 50개씩 돌려 씀), 가장 최신 도서에 리뷰/좋아요
+    private Long insertBooks(int bookCount, int reviewCount) {
+        List<Category> categories = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        List<Contributor> contributors = new ArrayList<>();
+        List<Publisher> publishers = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            categories.add(persist(Category.builder().categoryName("카테고리" + i).build()));
+            tags.add(persist(Tag.builder().tagName("태그" + i).build()));
+            contributors.add(persist(Contributor.builder().contributorName("저자" + i).build()));
+            publishers.add(persist(Publisher.builder().publisherName("출판사" + i).build()));
+        }
+
+        Book latest = null;
+        LocalDate base = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < bookCount; i++) {
+            Book book = persist(Book.builder()
+                    .title("도서" + i)
+                    .isbn("isbn-" + i)
+                    .priceStandard(10000L)
+                    .isWrapped(false)
+                    .publishDate(base.plusDays(i))
+                    .status(BookStatus.ON_SALE)
+                    .build());
+            persist(BookImage.builder().book(book).imagePath("img-" + i).build());
+            persist(BookPublisher.builder().book(book).publisher(publishers.get(i % 50)).build());
+            for (int j = 0; j < 2; j++) {
+                persist(BookContributor.builder().book(book).contributor(contributors.get((i + j) % 50))
+                        .roleType("지은이").build());
+                persist(BookCategory.builder().book(book).category(categories.get((i + j) % 50)).build());
+                Tag tag = tags.get((i + j) % 50);
+                persist(BookTag.builder().pk(new BookTagPK(book.getId(), tag.getId())).book(book).tag(tag).build());
+            }
+            latest = book;
+        }
+        for (int i = 0; i < reviewCount; i++) {
+            persist(Review.builder().title("리뷰" + i).content("내용" + i).score(5)
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i)).book(latest).userId((long) i).build());
+            persist(BookLike.builder().book(latest).userId((long) i).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return latest.getId();
+    }
+
+    private <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    private record Measured(long medianMicros, long statements) {
+    }
+}
@@ -4,8 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.lenient;
@@ -21,6 +23,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -46,14 +49,21 @@ import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
 import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.entity.Contributor;
 import org.nhnacademy.book2onandonbookservice.entity.Publisher;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.exception.InvalidIdempotencyKeyException;
 import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
 import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
 import org.nhnacademy.book2onandonbookservice.repository.BookLikeRepository;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
-import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository.DecreaseResult;
+import org.nhnacademy.book2onandonbookservice.repository.StockIdempotencyRepository;
+import org.nhnacademy.book2onandonbookservice.service.cache.BookDetailDocumentCache;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryTreeIndex;
 import org.nhnacademy.book2onandonbookservice.service.image.ImageUploadService;
 import org.nhnacademy.book2onandonbookservice.service.mapper.BookListResponseMapper;
 import org.nhnacademy.book2onandonbookservice.service.search.BookSearchIndexService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -77,9 +87,7 @@ class BookServiceImplTest {
     @Mock
     private BookRelationService bookRelationService;
     @Mock
-    private BookLikeRepository bookLikeRepository;
-    @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryTreeIndex categoryTreeIndex;
     @Mock
     private BookImage mockBookImage;
     @Mock
@@ -91,6 +99,24 @@ class BookServiceImplTest {
     private BookHistoryService bookHistoryService;
     @Mock
     private ImageUploadService imageUploadService;
+    @Mock
+    private StockBatchRepository stockBatchRepository;
+    @Mock
+    private HotStockLedger hotStockLedger;
+    @Mock
+    private RedisStockReservation redisStockReservation;
+    @Mock
+    private StockIdempotencyRepository stockIdempotencyRepository;
+    @Mock
+    private BookListQueryService bookListQueryService;
+    @Mock
+    private BookDetailQueryService bookDetailQueryService;
+    @Mock
+    private BookDetailDocumentCache bookDetailDocumentCache;
+    @Mock
+    private BookLikeRepository bookLikeRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private Book bookA;
     private Pageable pageable;
@@ -280,50 +306,35 @@ class BookServiceImplTest {
     }
 
     @Test
-    @DisplayName("도서 목록 조회 성공")
+    @DisplayName("도서 목록 조회 성공 - 목록 전용 읽기 모델에 위임")
     void getBooks() {
         BookSearchCondition condition = new BookSearchCondition();
-        Page<Book> bookPage = new PageImpl<>(List.of(bookA), pageable, 1);
-
         BookListResponse mockResponse = BookListResponse.builder().id(bookA.getId()).title("Book A").build();
-        given(bookListResponseMapper.fromEntity(bookA)).willReturn(mockResponse);
-
-        given(bookRepository.findByStatusNot(BookStatus.BOOK_DELETED, pageable)).willReturn(bookPage);
+        given(bookListQueryService.getBookList(pageable)).willReturn(new PageImpl<>(List.of(mockResponse), pageable, 1));
 
         Page<BookListResponse> responses = bookService.getBooks(condition, pageable);
 
         assertThat(responses).hasSize(1);
-        verify(bookRepository, times(1)).findByStatusNot(BookStatus.BOOK_DELETED, pageable);
+        verify(bookListQueryService, times(1)).getBookList(pageable);
     }
 
     @Test
-    @DisplayName("도서 상세 조회 성공 - 로그인 유저, 좋아요 상태 포함")
+    @DisplayName("도서 상세 조회 성공 - 로그인 유저, 캐시된 공통 문서에 좋아요 여부만 붙이고 최근 본 상품 기록")
     void getBookDetail_Success() {
         Long bookId = 1L;
         Long userId = 100L;
         String guestId = "guest-uuid";
 
-        long mockLikeCount = 5L;
-
-        given(bookRepository.findByIdWithRelations(bookId)).willReturn(Optional.of(bookA));
-        given(bookLikeRepository.countByBookId(bookId)).willReturn(mockLikeCount);
+        BookDetailResponse document = BookDetailResponse.builder().id(bookId).title("Book A").likeCount(5L).build();
+        given(bookDetailDocumentCache.get(eq(bookId), any())).willReturn(document);
         given(bookLikeRepository.existsByBookIdAndUserId(bookId, userId)).willReturn(true);
 
         BookDetailResponse result = bookService.getBookDetail(bookId, userId, guestId);
 
         assertThat(result.getLikedByCurrentUser()).isTrue();
-
-        assertThat(result).isNotNull();
-
-        assertThat(result.getLikeCount()).isEqualTo(mockLikeCount);
-        assertThat(result.getRating()).isEqualTo(5.0);
         assertThat(result.getTitle()).isEqualTo("Book A");
-
-        assertThat(result.getCategories().get(0).getName()).isEqualTo("Test Category");
-        assertThat(result.getPriceStandard()).isEqualTo(10000L);
-
-        verify(bookRepository, times(1)).findByIdWithRelations(bookId);
-        verify(bookLikeRepository, times(1)).existsByBookIdAndUserId(bookId, userId);
+        assertThat(result.getLikeCount()).isEqualTo(5L);
+        assertThat(document.getLikedByCurrentUser()).isNull(); // 캐시된 문서는 건드리지 않음
         verify(bookHistoryService, timeout(1000).times(1)).addRecentView(userId, guestId, bookId);
     }
 
@@ -333,39 +344,53 @@ class BookServiceImplTest {
     void getBookDetail_Success_NotLoggedIn() {
         Long bookId = 1L;
 
-        given(bookRepository.findByIdWithRelations(bookId)).willReturn(Optional.of(bookA));
-        given(bookLikeRepository.countByBookId(bookId)).willReturn(10L);
+        given(bookDetailDocumentCache.get(eq(bookId), any())).willReturn(BookDetailResponse.builder().build());
 
         BookDetailResponse result = bookService.getBookDetail(bookId, null, null);
 
         assertThat(result.getLikedByCurrentUser()).isNull();
-
-        verify(bookLikeRepository, times(0)).existsByBookIdAndUserId(anyLong(), anyLong());
+        verify(bookLikeRepository, never()).existsByBookIdAndUserId(anyLong(), anyLong());
         verify(bookHistoryService, never()).addRecentView(any(), any(), any());
     }
 
+    @Test
+    @DisplayName("도서 상세 조회 - 캐시 미스 시 상세 로더로 문서를 만듦")
+    @SuppressWarnings("unchecked")
+    void getBookDetail_CacheMissUsesLoader() {
+        Long bookId = 1L;
+        BookDetailResponse document = BookDetailResponse.builder().id(bookId).build();
+        given(bookDetailQueryService.loadDocument(bookId)).willReturn(document);
+        given(bookDetailDocumentCache.get(eq(bookId), any())).willAnswer(invocation ->
+                ((Function<Long, BookDetailResponse>) invocation.getArgument(1)).apply(bookId));
+
+        BookDetailResponse result = bookService.getBookDetail(bookId, null, null);
+
+        assertThat(result).isSameAs(document);
+        verify(bookDetailQueryService, times(1)).loadDocument(bookId);
+    }
+
     @Test
     @DisplayName("도서 상세 조회 실패 - 존재하지않은 도서 ID")
     void getBook_Fail_Validation() {
         Long bookId = 9999L;
         Long userId = 1L;
-        given(bookRepository.findByIdWithRelations(bookId)).willReturn(Optional.empty());
+        given(bookDetailDocumentCache.get(eq(bookId), any())).willThrow(new NotFoundBookException(bookId));
 
         assertThatThrownBy(() -> bookService.getBookDetail(bookId, userId, null))
                 .isInstanceOf(NotFoundBookException.class)
                 .hasMessageContaining("해당 도서를 찾을 수 없습니다 ID: " + bookId);
         verify(bookLikeRepository, never()).existsByBookIdAndUserId(anyLong(), anyLong());
-
+        verify(bookHistoryService, never()).addRecentView(any(), any(), any());
     }
 
     @Test
-    @DisplayName("카테고리 조회 성공 - 트리 구조 변환 검증")
+    @DisplayName("카테고리 조회 성공 - 트리 인덱스 스냅샷 반환")
     void getCategories_Success_TreeStructure() {
-        Category root = Category.builder().id(1L).categoryName("Root").build();
-        Category child1 = Category.builder().id(2L).categoryName("Child 1").parent(root).build();
-        Category child2 = Category.builder().id(3L).categoryName("Child 2").parent(root).build();
+        CategoryDto root = CategoryDto.builder().id(1L).name("Root").build();
+        root.getChildren().add(CategoryDto.builder().id(2L).name("Child 1").parentId(1L).build());
+        root.getChildren().add(CategoryDto.builder().id(3L).name("Child 2").parentId(1L).build());
 
-        given(categoryRepository.findAll()).willReturn(List.of(root, child1, child2));
+        given(categoryTreeIndex.tree()).willReturn(List.of(root));
 
         List<CategoryDto> result = bookService.getCategories();
 
@@ -376,7 +401,7 @@ class BookServiceImplTest {
         assertThat(categoryDto.getParentId()).isNull();
         assertThat(categoryDto.getChildren()).hasSize(2);
         assertThat(categoryDto.getChildren()).extracting("name").containsExactlyInAnyOrder("Child 1", "Child 2");
-        verify(categoryRepository, times(1)).findAll();
+        verify(categoryTreeIndex, times(1)).tree();
     }
 
 
@@ -424,9 +449,8 @@ class BookServiceImplTest {
     @DisplayName("신간 도서 조회 - 카테고리 지정")
     void getNewArrivals_WithCategory() {
         Long categoryId = 5L;
-        Category category = Category.builder().id(categoryId).children(new ArrayList<>()).build();
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category));
-        given(bookRepository.findBooksByCategoryIdsSorted(anyList(), any(Pageable.class)))
+        given(categoryTreeIndex.descendantIds(categoryId)).willReturn(Optional.of(List.of(categoryId)));
+        given(bookRepository.findOnSaleBooksInCategorySubtree(categoryId, pageable))
                 .willReturn(new PageImpl<>(List.of(bookA)));
 
         Page<BookListResponse> result = bookService.getNewArrivals(categoryId, pageable);
@@ -450,24 +474,34 @@ class BookServiceImplTest {
     void getNewArrivals_Fail_CategoryNotFound() {
         Long categoryId = 999L;
 
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.empty());
+        given(categoryTreeIndex.descendantIds(categoryId)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookService.getNewArrivals(categoryId, pageable))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("카테고리 없음");
 
-        verify(bookRepository, never()).findBooksByCategoryIdsSorted(anyList(), any());
+        verify(bookRepository, never()).findOnSaleBooksInCategorySubtree(any(), any());
+    }
+
+    @Test
+    @DisplayName("신간 커서 조회 - 존재하지 않는 카테고리면 조회하지 않음")
+    void getNewArrivalsByCursor_CategoryNotFound() {
+        given(categoryTreeIndex.descendantIds(999L)).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookService.getNewArrivalsByCursor(999L, null, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("카테고리 없음");
+
+        verify(bookListQueryService, never()).getNewArrivalsByCursor(any(), any(), anyInt());
     }
 
     @Test
     @DisplayName("신간 도서 조회 실패 - DB 연결 오류 (도서 조회 시점)")
     void getNewArrivals_Fail_DBError() {
         Long categoryId = 5L;
-        Category mockCategory = Category.builder().id(categoryId).children(new ArrayList<>()).build();
-
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(mockCategory));
+        given(categoryTreeIndex.descendantIds(categoryId)).willReturn(Optional.of(List.of(categoryId)));
 
-        given(bookRepository.findBooksByCategoryIdsSorted(anyList(), any(Pageable.class)))
+        given(bookRepository.findOnSaleBooksInCategorySubtree(categoryId, pageable))
                 .willThrow(new RuntimeException("DB 연결 불안정"));
 
         assertThatThrownBy(() -> bookService.getNewArrivals(categoryId, pageable))
@@ -506,74 +540,133 @@ class BookServiceImplTest {
     }
 
     @Test
-    @DisplayName("재고 차감 성공 - 재고가 남아있을 때 상태유지")
-    void decreaseStock_Success_StatusRemains() {
-        int quantity = 1;
-        bookA.setStockCount(10);
+    @DisplayName("재고 차감 성공 - Batch 한 번으로 전체 장바구니 차감")
+    void decreaseStock_Success() {
+        List<StockRequest> requests = new ArrayList<>(List.of(
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(2L).quantity(3).build()
+        ));
+        given(stockBatchRepository.decreaseStock(requests)).willReturn(DecreaseResult.SUCCESS);
 
-        StockRequest request = mock(StockRequest.class);
-        given(request.getBookId()).willReturn(bookA.getId());
-        given(request.getQuantity()).willReturn(quantity);
+        assertThatCode(() -> bookService.decreaseStock(requests)).doesNotThrowAnyException();
 
-        given(bookRepository.decreaseStock(bookA.getId(), quantity)).willReturn(1);
-        given(bookRepository.findById(bookA.getId())).willReturn(Optional.of(bookA));
+        verify(stockBatchRepository, times(1)).decreaseStock(requests);
+        verify(bookRepository, never()).findById(anyLong());
+        verify(eventPublisher, times(1)).publishEvent(new BookDetailChangedEvent(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("재고 차감 - 데드락 방지를 위해 bookId 오름차순으로 정렬 후 Batch 실행")
+    void decreaseStock_SortedByBookId() {
+        List<StockRequest> requests = new ArrayList<>(List.of(
+                StockRequest.builder().bookId(3L).quantity(1).build(),
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(2L).quantity(1).build()
+        ));
+        given(stockBatchRepository.decreaseStock(anyList())).willReturn(DecreaseResult.SUCCESS);
 
-        List<StockRequest> requests = new ArrayList<>(List.of(request));
         bookService.decreaseStock(requests);
-        assertThat(bookA.getStatus()).isEqualTo(BookStatus.ON_SALE);
 
-        verify(bookRepository, times(1)).decreaseStock(bookA.getId(), quantity);
+        assertThat(requests).extracting(StockRequest::getBookId).containsExactly(1L, 2L, 3L);
     }
 
     @Test
-    @DisplayName("재고 차감 성공 - 재고가 0이 되어 품절(SOLD_OUT)로 상태변경")
-    void decreaseStock_Success_ChangeToSoldOut() {
-        int decreaseQuantity = 1;
+    @DisplayName("재고 차감 - 핫 도서는 메모리 원장으로, 나머지는 DB Batch로 분리")
+    void decreaseStock_HotBooksGoToLedger() {
+        StockRequest hot = StockRequest.builder().bookId(1L).quantity(1).build();
+        StockRequest cold = StockRequest.builder().bookId(2L).quantity(2).build();
+        given(hotStockLedger.isHot(1L)).willReturn(true);
+        given(hotStockLedger.isHot(2L)).willReturn(false);
+        given(stockBatchRepository.decreaseStock(List.of(cold))).willReturn(DecreaseResult.SUCCESS);
 
-        bookA.setStockCount(0);
-        StockRequest request = mock(StockRequest.class);
-        given(request.getBookId()).willReturn(bookA.getId());
-        given(request.getQuantity()).willReturn(decreaseQuantity);
+        bookService.decreaseStock(new ArrayList<>(List.of(cold, hot)));
 
-        given(bookRepository.decreaseStock(bookA.getId(), decreaseQuantity)).willReturn(1);
-        given(bookRepository.findById(bookA.getId())).willReturn(Optional.of(bookA));
+        verify(stockBatchRepository).decreaseStock(List.of(cold));
+        verify(hotStockLedger).reserve(List.of(hot));
+        // 핫 도서의 상세 캐시는 원장이 DB 에 반영한 뒤 무효화
+        verify(eventPublisher).publishEvent(new BookDetailChangedEvent(List.of(2L)));
+    }
+
+    @Test
+    @DisplayName("재고 차감 - Redis 예약 계층이 켜져 있으면 장바구니 전체를 Redis 에서 예약")
+    void decreaseStock_RedisTier() {
+        List<StockRequest> requests = new ArrayList<>(List.of(
+                StockRequest.builder().bookId(2L).quantity(1).build(),
+                StockRequest.builder().bookId(1L).quantity(3).build()
+        ));
+        given(redisStockReservation.isEnabled()).willReturn(true);
 
-        List<StockRequest> requests = new ArrayList<>(List.of(request));
         bookService.decreaseStock(requests);
 
-        assertThat(bookA.getStatus()).isEqualTo(BookStatus.SOLD_OUT);
+        verify(redisStockReservation).reserve(requests);
+        verify(stockBatchRepository, never()).decreaseStock(any());
+        verify(hotStockLedger, never()).reserve(any());
+        verify(eventPublisher, never()).publishEvent(any()); // MySQL 반영 후 예약 계층이 발행
+    }
+
+    @Test
+    @DisplayName("재고 차감 - 이미 처리된 멱등키면 재고를 다시 차감하지 않음")
+    void decreaseStock_DuplicateIdempotencyKey() {
+        List<StockRequest> requests = new ArrayList<>(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+        given(stockIdempotencyRepository.register("order-1", "DECREASE")).willReturn(false);
+
+        bookService.decreaseStock(requests, "order-1");
 
-        verify(bookRepository, times(1)).decreaseStock(bookA.getId(), decreaseQuantity);
+        verify(stockBatchRepository, never()).decreaseStock(any());
+        verify(redisStockReservation, never()).reserve(any());
     }
 
     @Test
-    @DisplayName("재고 차감 실패 - DB 업데이트 실패(재고부족) -> 예외 발생")
-    void decreaseStock_Fail_OutofStock() {
-        int decreaseQuantity = 999;
+    @DisplayName("재고 차감 - 처음 보는 멱등키면 등록 후 차감")
+    void decreaseStock_NewIdempotencyKey() {
+        List<StockRequest> requests = new ArrayList<>(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+        given(stockIdempotencyRepository.register("order-2", "DECREASE")).willReturn(true);
+        given(stockBatchRepository.decreaseStock(requests)).willReturn(DecreaseResult.SUCCESS);
 
-        StockRequest request = mock(StockRequest.class);
-        given(request.getBookId()).willReturn(bookA.getId());
-        given(request.getQuantity()).willReturn(decreaseQuantity);
+        bookService.decreaseStock(requests, "order-2");
 
-        given(bookRepository.decreaseStock(bookA.getId(), decreaseQuantity)).willReturn(0);
-        List<StockRequest> requests = new ArrayList<>(List.of(request));
-        assertThatThrownBy(() -> bookService.decreaseStock(requests)).isInstanceOf(OutOfStockException.class)
-                .hasMessageContaining("재고가 부족합니다.");
-        verify(bookRepository, never()).findById(anyLong());
+        verify(stockBatchRepository).decreaseStock(requests);
     }
 
     @Test
-    @DisplayName("재고 차감 실패 - 차감은 성공했으나 도서 조회 실패 (데이터 불일치)")
-    void decreaseStock_Fail_BookNotFound() {
-        StockRequest request = mock(StockRequest.class);
-        given(request.getBookId()).willReturn(bookA.getId());
-        given(request.getQuantity()).willReturn(1);
+    @DisplayName("재고 차감 실패 - 64자를 넘는 멱등키는 등록하지 않고 거부")
+    void decreaseStock_Fail_TooLongIdempotencyKey() {
+        List<StockRequest> requests = new ArrayList<>(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+        String tooLongKey = "k".repeat(65);
 
-        given(bookRepository.decreaseStock(bookA.getId(), 1)).willReturn(1);
-        given(bookRepository.findById(bookA.getId())).willReturn(Optional.empty());
-        List<StockRequest> requests = new ArrayList<>(List.of(request));
+        assertThatThrownBy(() -> bookService.decreaseStock(requests, tooLongKey))
+                .isInstanceOf(InvalidIdempotencyKeyException.class)
+                .hasMessageContaining("64");
+
+        verify(stockIdempotencyRepository, never()).register(any(), any());
+        verify(stockBatchRepository, never()).decreaseStock(any());
+    }
+
+    @Test
+    @DisplayName("재고 차감 실패 - 재고 부족 도서가 있으면 실패한 ID를 담아 예외 발생")
+    void decreaseStock_Fail_OutofStock() {
+        List<StockRequest> requests = new ArrayList<>(List.of(
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(2L).quantity(999).build()
+        ));
+        given(stockBatchRepository.decreaseStock(requests)).willReturn(new DecreaseResult(List.of(), List.of(2L)));
+
+        assertThatThrownBy(() -> bookService.decreaseStock(requests)).isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("재고가 부족합니다.")
+                .hasMessageContaining("2");
+    }
+
+    @Test
+    @DisplayName("재고 차감 실패 - 없는 도서가 있으면 재고 부족이 아닌 도서 없음 예외")
+    void decreaseStock_Fail_NotFound() {
+        List<StockRequest> requests = new ArrayList<>(List.of(
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(99L).quantity(1).build()
+        ));
+        given(stockBatchRepository.decreaseStock(requests)).willReturn(new DecreaseResult(List.of(99L), List.of()));
 
-        assertThatThrownBy(() -> bookService.decreaseStock(requests)).isInstanceOf(NotFoundBookException.class);
+        assertThatThrownBy(() -> bookService.decreaseStock(requests)).isInstanceOf(NotFoundBookException.class)
+                .hasMessageContaining("99");
     }
 
     @Test
@@ -655,6 +748,7 @@ class BookServiceImplTest {
         assertThat(bookA.getStatus()).isEqualTo(bookStatus);
 
         verify(bookSearchIndexService, times(1)).index(bookA);
+        verify(eventPublisher, times(1)).publishEvent(BookDetailChangedEvent.of(bookId));
     }
 
     @Test
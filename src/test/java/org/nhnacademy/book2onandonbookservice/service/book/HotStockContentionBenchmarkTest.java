@@ -0,0 +1,162 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 핫 도서 한 권에 동시 차감이 몰릴 때 - 기존 Book 행 락(JDBC Batch 차감) vs 인메모리 원장(커밋 후 저널 + write-behind)
+ * <p>
+ * 스레드 여럿이 같은 도서를 한 권씩 계속 차감하며 처리량(건/초)과 요청 지연 p50/p99 를 잽니다. 요청마다 바깥 트랜잭션을
+ * 하나씩 열어 서비스와 같게 커밋하고, 끝나면 원장을 플러시해 두 경로 모두 DB 재고가 정확히 줄었는지 확인합니다.
+ * 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=HotStockContentionBenchmarkTest -Dbenchmark=true [-Dbenchmark.threads=8]
+ * [-Dbenchmark.ops=2000] [-Dbenchmark.sync=true]}
+ * <p>
+ * H2(MySQL 모드, 메모리) 기준이라 행 락 대기는 실제 InnoDB 보다 짧고, sync=true 면 원장 쪽은 요청마다 저널 fsync 가 붙습니다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.config.import=optional:file:.",
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:hotStockContentionBenchmarkDb;MODE=MySQL",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StockBatchRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class HotStockContentionBenchmarkTest {
+
+    private static final long ROW_LOCK_BOOK_ID = 1L;
+    private static final long LEDGER_BOOK_ID = 2L;
+    private static final int INITIAL_STOCK = 10_000_000;
+
+    @TempDir
+    Path journalDir;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StockBatchRepository stockBatchRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void compareRowLockAndLedger() throws Exception {
+        int threads = Integer.getInteger("benchmark.threads", 8);
+        int opsPerThread = Integer.getInteger("benchmark.ops", 2000);
+        boolean sync = Boolean.parseBoolean(System.getProperty("benchmark.sync", "true"));
+        insertBook(ROW_LOCK_BOOK_ID);
+        insertBook(LEDGER_BOOK_ID);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        HotStockLedger ledger = new HotStockLedger(stockBatchRepository, tx, event -> {
+        });
+        ReflectionTestUtils.setField(ledger, "hotBookIdsProperty", String.valueOf(LEDGER_BOOK_ID));
+        ReflectionTestUtils.setField(ledger, "journalDirProperty", journalDir.toString());
+        ReflectionTestUtils.setField(ledger, "syncOnWrite", sync);
+        ledger.init();
+
+        List<StockRequest> rowLockCart = List.of(StockRequest.builder().bookId(ROW_LOCK_BOOK_ID).quantity(1).build());
+        List<StockRequest> ledgerCart = List.of(StockRequest.builder().bookId(LEDGER_BOOK_ID).quantity(1).build());
+
+        Run rowLock = run(threads, opsPerThread, () -> tx.executeWithoutResult(status -> {
+            assertThat(stockBatchRepository.decreaseStock(rowLockCart).isSuccess()).isTrue();
+        }));
+        Run hot = run(threads, opsPerThread, () -> tx.executeWithoutResult(status -> ledger.reserve(ledgerCart)));
+        ledger.flush();
+
+        long total = (long) threads * opsPerThread;
+        assertThat(stock(ROW_LOCK_BOOK_ID)).isEqualTo(INITIAL_STOCK - total);
+        assertThat(stock(LEDGER_BOOK_ID)).isEqualTo(INITIAL_STOCK - total);
+
+        log.info("[Benchmark] 핫 도서 동시 차감 ({}스레드 x {}건, 코어 {}개, 저널 fsync={}) - 행 락: {}건/초, p50 {}us, "
+                        + "p99 {}us / 원장: {}건/초, p50 {}us, p99 {}us",
+                threads, opsPerThread, Runtime.getRuntime().availableProcessors(), sync,
+                rowLock.opsPerSecond(), rowLock.percentile(50), rowLock.percentile(99),
+                hot.opsPerSecond(), hot.percentile(50), hot.percentile(99));
+        ledger.shutdown();
+    }
+
+    private Run run(int threads, int opsPerThread, Runnable decrease) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] micros = new long[opsPerThread];
+                for (int i = 0; i < opsPerThread; i++) {
+                    long begin = System.nanoTime();
+                    decrease.run();
+                    micros[i] = (System.nanoTime() - begin) / 1_000;
+                }
+                return micros;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        long[] all = new long[threads * opsPerThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] micros = future.get();
+            System.arraycopy(micros, 0, all, offset, micros.length);
+            offset += micros.length;
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+        Arrays.sort(all);
+        return new Run(all, elapsedNanos);
+    }
+
+    private void insertBook(long bookId) {
+        jdbcTemplate.update("INSERT INTO book (book_id, book_title, ISBN, book_publish_date, book_status, like_count, "
+                        + "price_standard, is_wrapped, stock_count) VALUES (?, ?, ?, ?, 'ON_SALE', 0, 10000, false, ?)",
+                bookId, "hot-" + bookId, "isbn-hot-" + bookId, Date.valueOf(LocalDate.of(2024, 1, 1)), INITIAL_STOCK);
+    }
+
+    private long stock(long bookId) {
+        return jdbcTemplate.queryForObject("SELECT stock_count FROM book WHERE book_id = ?", Long.class, bookId);
+    }
+
+    // 정렬된 요청별 지연(us)과 전체 걸린 시간
+    private record Run(long[] sortedMicros, long elapsedNanos) {
+
+        long opsPerSecond() {
+            return sortedMicros.length * 1_000_000_000L / Math.max(1, elapsedNanos);
+        }
+
+        long percentile(int percentile) {
+            return sortedMicros[Math.min(sortedMicros.length - 1, sortedMicros.length * percentile / 100)];
+        }
+    }
+}
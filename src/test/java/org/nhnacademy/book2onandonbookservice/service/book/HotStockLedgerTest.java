@@ -0,0 +1,260 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
+import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockLedgerTest {
+
+    @Mock
+    private StockBatchRepository stockBatchRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private HotStockLedger hotStockLedger;
+
+    @TempDir
+    Path journalDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(hotStockLedger, "hotBookIdsProperty", "1, 2");
+        ReflectionTestUtils.setField(hotStockLedger, "journalDirProperty", journalDir.toString());
+        ReflectionTestUtils.setField(hotStockLedger, "syncOnWrite", false);
+
+        lenient().doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        lenient().when(stockBatchRepository.applyStockDeltasOnce(anyString(), anyMap())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("핫 도서 ID가 없으면 원장이 꺼지고 플러시는 아무것도 하지 않음")
+    void disabledWhenNoHotBooks() throws IOException {
+        ReflectionTestUtils.setField(hotStockLedger, "hotBookIdsProperty", "");
+        hotStockLedger.init();
+
+        assertThat(hotStockLedger.isEnabled()).isFalse();
+        assertThat(hotStockLedger.isHot(1L)).isFalse();
+
+        hotStockLedger.flush();
+        verify(stockBatchRepository, never()).applyStockDeltasOnce(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("예약은 메모리에서 차감되고 플러시 시 도서별 합산 증감분이 한 번에 반영됨")
+    void reserveThenFlush() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 5));
+
+        hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(2).build()));
+        hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(3).build()));
+
+        // 재고 5 중 5 예약 완료 -> 추가 예약 불가
+        List<StockRequest> overflow = List.of(StockRequest.builder().bookId(1L).quantity(1).build());
+        assertThatThrownBy(() -> hotStockLedger.reserve(overflow))
+                .isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("1");
+
+        hotStockLedger.flush();
+
+        verify(stockBatchRepository).applyStockDeltasOnce(anyString(), eq(Map.of(1L, -5)));
+        verify(eventPublisher).publishEvent(new BookDetailChangedEvent(List.of(1L))); // DB 반영 커밋 후 상세 캐시 무효화
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 예약은 커밋 전에는 재고만 잡아 두고, 커밋된 뒤에 저널에 기록되어 플러시에 반영됨")
+    void reserveJournaledAfterCommit() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 5));
+
+        List<TransactionSynchronization> synchronizations = inTransaction(
+                () -> hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(5).build())));
+
+        assertThat(journalContents()).isEmpty();
+        List<StockRequest> one = List.of(StockRequest.builder().bookId(1L).quantity(1).build());
+        assertThatThrownBy(() -> hotStockLedger.reserve(one)).isInstanceOf(OutOfStockException.class);
+        hotStockLedger.flush(); // 커밋 전 플러시 - 반영할 증감분 없음, 재동기화해도 잡아 둔 재고는 유지
+        verify(stockBatchRepository, never()).applyStockDeltasOnce(anyString(), anyMap());
+        assertThatThrownBy(() -> hotStockLedger.reserve(one)).isInstanceOf(OutOfStockException.class);
+
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(journalContents()).isEqualTo("1 -5\n");
+        hotStockLedger.flush();
+        verify(stockBatchRepository).applyStockDeltasOnce(anyString(), eq(Map.of(1L, -5)));
+    }
+
+    @Test
+    @DisplayName("바깥 트랜잭션이 롤백된 예약은 저널에 남지 않아 플러시/재기동 복구로 DB 에 반영되지 않고, 잡아 둔 재고는 풀림")
+    void rolledBackReserveNeverJournaled() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 5));
+
+        inTransaction(() -> hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(5).build())))
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(journalContents()).isEmpty();
+        hotStockLedger.flush();
+        verify(stockBatchRepository, never()).applyStockDeltasOnce(anyString(), anyMap());
+        hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(5).build()));
+    }
+
+    @Test
+    @DisplayName("반영이 실패한 저널은 다음 플러시에 같은 묶음 ID 로 따로 재시도하고, 새 증감분과 섞지 않음")
+    void retryFailedJournalWithSameBatchId() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 10));
+        when(stockBatchRepository.applyStockDeltasOnce(anyString(), anyMap()))
+                .thenThrow(new IllegalStateException("DB 연결 끊김"))
+                .thenReturn(true);
+
+        hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(2).build()));
+        hotStockLedger.flush();
+        hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(3).build()));
+        hotStockLedger.flush();
+
+        ArgumentCaptor<String> batchIds = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<Long, Integer>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(stockBatchRepository, times(3)).applyStockDeltasOnce(batchIds.capture(), deltas.capture());
+        assertThat(batchIds.getAllValues().get(0)).isEqualTo(batchIds.getAllValues().get(1));
+        assertThat(batchIds.getAllValues().get(2)).isNotEqualTo(batchIds.getAllValues().get(0));
+        assertThat(deltas.getAllValues()).containsExactly(Map.of(1L, -2), Map.of(1L, -2), Map.of(1L, -3));
+    }
+
+    @Test
+    @DisplayName("증감분이 없어도 플러시마다 올라와 있는 핫 도서 카운터를 DB 재고로 재동기화")
+    void resyncIdleHotBooks() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 1), Map.of(1L, 20));
+        hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+        hotStockLedger.flush(); // DB 반영 후 재동기화 (DB 는 관리자가 20 으로 수정)
+
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 7));
+        hotStockLedger.flush(); // 증감분 없음
+
+        List<StockRequest> seven = List.of(StockRequest.builder().bookId(1L).quantity(7).build());
+        hotStockLedger.reserve(seven);
+        assertThatThrownBy(() -> hotStockLedger.reserve(List.of(StockRequest.builder().bookId(1L).quantity(1).build())))
+                .isInstanceOf(OutOfStockException.class);
+    }
+
+    @Test
+    @DisplayName("여러 권 중 한 권이라도 부족하면 아무것도 차감하지 않음")
+    void reserveAllOrNothing() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of(1L, 10, 2L, 1));
+
+        List<StockRequest> cart = List.of(
+                StockRequest.builder().bookId(1L).quantity(3).build(),
+                StockRequest.builder().bookId(2L).quantity(2).build()
+        );
+        assertThatThrownBy(() -> hotStockLedger.reserve(cart))
+                .isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("[2]");
+
+        hotStockLedger.flush();
+        verify(stockBatchRepository, never()).applyStockDeltasOnce(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("DB에 없는 도서의 재고 반환은 NotFoundBookException")
+    void releaseUnknownBook() throws IOException {
+        hotStockLedger.init();
+        when(stockBatchRepository.findStockCounts(anyCollection())).thenReturn(Map.of());
+
+        List<StockRequest> requests = List.of(StockRequest.builder().bookId(2L).quantity(1).build());
+        assertThatThrownBy(() -> hotStockLedger.release(requests))
+                .isInstanceOf(NotFoundBookException.class);
+    }
+
+    @Test
+    @DisplayName("재기동 시 남아있는 저널을 합산해서 DB에 반영하고 파일과 반영 기록을 정리")
+    void recoverJournalOnStartup() throws IOException {
+        Files.writeString(journalDir.resolve("ledger-1-0.journal"), "1 -2\n2 -1\n1 -3\n2 ");
+
+        hotStockLedger.init();
+
+        verify(stockBatchRepository).applyStockDeltasOnce("ledger-1-0.journal", Map.of(1L, -5, 2L, -1));
+        verify(stockBatchRepository).forgetAppliedBatch("ledger-1-0.journal");
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .noneMatch(name -> name.equals("ledger-1-0.journal"));
+        }
+    }
+
+    @Test
+    @DisplayName("반영 기록이 있는 저널(반영 후 삭제 전에 죽음)은 재기동 때 다시 반영되지 않고 파일만 정리")
+    void skipAlreadyAppliedJournalOnStartup() throws IOException {
+        Path journal = journalDir.resolve("ledger-1-0.journal");
+        Files.writeString(journal, "1 -2\n");
+        when(stockBatchRepository.applyStockDeltasOnce(anyString(), anyMap())).thenReturn(false);
+
+        hotStockLedger.init();
+
+        verify(stockBatchRepository, never()).applyStockDeltas(anyMap());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(journal).doesNotExist();
+    }
+
+    // 트랜잭션 동기화를 켠 채 실행하고 등록된 동기화 콜백을 돌려줌 (호출 측이 커밋/롤백을 흉내냄)
+    private List<TransactionSynchronization> inTransaction(Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private String journalContents() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            StringBuilder contents = new StringBuilder();
+            for (Path path : files.sorted().toList()) {
+                contents.append(Files.readString(path));
+            }
+            return contents.toString();
+        }
+    }
+}
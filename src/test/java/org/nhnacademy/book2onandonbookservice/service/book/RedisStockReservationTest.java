@@ -0,0 +1,264 @@
+package org.nhnacademy.book2onandonbookservice.service.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.dto.book.StockRequest;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
+import org.nhnacademy.book2onandonbookservice.exception.OutOfStockException;
+import org.nhnacademy.book2onandonbookservice.repository.StockBatchRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class RedisStockReservationTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private StockBatchRepository stockBatchRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private RedisStockReservation redisStockReservation;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object executeScript() {
+        return redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("예약: 같은 도서는 합산해서 bookId 순으로 스크립트 한 번에 전달")
+    @SuppressWarnings("unchecked")
+    void reserve_success() {
+        given(executeScript()).willReturn(List.of("OK"));
+
+        redisStockReservation.reserve(List.of(
+                StockRequest.builder().bookId(2L).quantity(1).build(),
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(1L).quantity(2).build()
+        ));
+
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), keysCaptor.capture(), argsCaptor.capture());
+
+        assertThat(keysCaptor.getValue()).containsExactly(
+                RedisStockReservation.stockKey(1L),
+                RedisStockReservation.stockKey(2L),
+                RedisStockReservation.PENDING_KEY);
+        assertThat(argsCaptor.getValue()).containsExactly("-3", "-1", "1", "2");
+    }
+
+    @Test
+    @DisplayName("예약: 스크립트가 재고 부족을 알리면 부족한 도서 ID를 담아 OutOfStockException")
+    void reserve_short() {
+        given(executeScript()).willReturn(List.of("SHORT", "2"));
+
+        List<StockRequest> requests = List.of(
+                StockRequest.builder().bookId(1L).quantity(1).build(),
+                StockRequest.builder().bookId(2L).quantity(9).build()
+        );
+        assertThatThrownBy(() -> redisStockReservation.reserve(requests))
+                .isInstanceOf(OutOfStockException.class)
+                .hasMessageContaining("[2]");
+    }
+
+    @Test
+    @DisplayName("예약: 카운터가 없으면 DB 재고로 초기화한 뒤 다시 시도")
+    void reserve_seedThenRetry() {
+        given(executeScript()).willReturn(List.of("MISSING", "1"), 1L, List.of("OK"));
+        given(stockBatchRepository.findStockCounts(List.of(1L))).willReturn(Map.of(1L, 10));
+
+        redisStockReservation.reserve(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+
+        verify(stockBatchRepository).findStockCounts(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("예약: DB 에도 없는 도서면 재고 부족이 아니라 NotFoundBookException (DB 경로와 같음)")
+    void reserve_unknownBook() {
+        given(executeScript()).willReturn(List.of("MISSING", "7"), List.of("MISSING", "7"));
+        given(stockBatchRepository.findStockCounts(anyCollection())).willReturn(Map.of());
+
+        List<StockRequest> requests = List.of(StockRequest.builder().bookId(7L).quantity(1).build());
+        assertThatThrownBy(() -> redisStockReservation.reserve(requests))
+                .isInstanceOf(NotFoundBookException.class)
+                .hasMessageContaining("7");
+    }
+
+    @Test
+    @DisplayName("초기화: 반영 중인 flushing 묶음이 이미 DB 에 반영됐으면 flushing 증감분을 더하지 않도록 스크립트에 알림")
+    @SuppressWarnings("unchecked")
+    void reserve_seedWhileFlushApplied() {
+        given(executeScript()).willReturn(List.of("MISSING", "1"), 1L, List.of("OK"));
+        given(hashOperations.get(RedisStockReservation.FLUSHING_KEY, RedisStockReservation.BATCH_ID_FIELD))
+                .willReturn("redis-b1");
+        given(stockBatchRepository.findStockCounts(List.of(1L))).willReturn(Map.of(1L, 10));
+        given(stockBatchRepository.isBatchApplied("redis-b1")).willReturn(true);
+
+        redisStockReservation.reserve(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), anyList(), argsCaptor.capture());
+        assertThat(argsCaptor.getAllValues().get(1))
+                .containsExactly("10", "1", RedisStockReservation.BATCH_ID_FIELD, "redis-b1", "1");
+    }
+
+    @Test
+    @DisplayName("초기화: DB 를 읽는 사이 flushing 묶음이 반영/정리되면(스크립트 -1) DB 를 다시 읽어 초기화")
+    @SuppressWarnings("unchecked")
+    void reserve_seedRetriesWhenFlushFinishes() {
+        given(executeScript()).willReturn(List.of("MISSING", "1"), -1L, 1L, List.of("OK"));
+        given(hashOperations.get(RedisStockReservation.FLUSHING_KEY, RedisStockReservation.BATCH_ID_FIELD))
+                .willReturn("redis-b1", (Object) null);
+        given(stockBatchRepository.findStockCounts(List.of(1L))).willReturn(Map.of(1L, 10), Map.of(1L, 7));
+
+        redisStockReservation.reserve(List.of(StockRequest.builder().bookId(1L).quantity(1).build()));
+
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(4)).execute(any(RedisScript.class), anyList(), argsCaptor.capture());
+        assertThat(argsCaptor.getAllValues().get(1))
+                .containsExactly("10", "1", RedisStockReservation.BATCH_ID_FIELD, "redis-b1", "0");
+        assertThat(argsCaptor.getAllValues().get(2))
+                .containsExactly("7", "1", RedisStockReservation.BATCH_ID_FIELD, "", "0");
+    }
+
+    @Test
+    @DisplayName("예약: 바깥 트랜잭션이 롤백되면 예약한 증감분을 Redis 에 되돌림")
+    @SuppressWarnings("unchecked")
+    void reserve_releasedOnRollback() {
+        given(executeScript()).willReturn(List.of("OK"));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            redisStockReservation.reserve(List.of(StockRequest.builder().bookId(1L).quantity(2).build()));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), argsCaptor.capture());
+        assertThat(argsCaptor.getAllValues().get(0)).containsExactly("-2", "1");
+        assertThat(argsCaptor.getAllValues().get(1)).containsExactly("2", "1");
+    }
+
+    @Test
+    @DisplayName("반환: DB에도 없는 도서면 NotFoundBookException")
+    void release_unknownBook() {
+        given(executeScript()).willReturn(List.of("MISSING", "7"), List.of("MISSING", "7"));
+        given(stockBatchRepository.findStockCounts(anyCollection())).willReturn(Map.of());
+
+        List<StockRequest> requests = List.of(StockRequest.builder().bookId(7L).quantity(1).build());
+        assertThatThrownBy(() -> redisStockReservation.release(requests))
+                .isInstanceOf(NotFoundBookException.class);
+    }
+
+    @Test
+    @DisplayName("반영: 0이 아닌 증감분만 MySQL 에 반영하고 반영한 도서의 상세 캐시 무효화 이벤트 발행 후 flushing 해시를 삭제")
+    void reconcilePending_success() {
+        given(executeScript()).willReturn(List.of("1", "-3", RedisStockReservation.BATCH_ID_FIELD, "redis-1", "2", "0"));
+        given(stockBatchRepository.applyStockDeltasOnce("redis-1", Map.of(1L, -3))).willReturn(true);
+
+        int applied = redisStockReservation.reconcilePending();
+
+        assertThat(applied).isEqualTo(1);
+        verify(eventPublisher).publishEvent(new BookDetailChangedEvent(List.of(1L)));
+        verify(redisTemplate).delete(RedisStockReservation.FLUSHING_KEY);
+        verify(stockBatchRepository).forgetAppliedBatch("redis-1");
+    }
+
+    @Test
+    @DisplayName("반영: 이미 반영된 묶음(반영 후 해시 삭제 전에 죽음)이면 DB 는 건너뛰고 flushing 해시만 삭제")
+    void reconcilePending_alreadyApplied() {
+        given(executeScript()).willReturn(List.of(RedisStockReservation.BATCH_ID_FIELD, "redis-1", "1", "-3"));
+        given(stockBatchRepository.applyStockDeltasOnce("redis-1", Map.of(1L, -3))).willReturn(false);
+
+        int applied = redisStockReservation.reconcilePending();
+
+        assertThat(applied).isZero();
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(redisTemplate).delete(RedisStockReservation.FLUSHING_KEY);
+    }
+
+    @Test
+    @DisplayName("반영: DB 반영이 실패하면 flushing 해시를 남겨 다음 주기에 재시도")
+    void reconcilePending_failureKeepsFlushing() {
+        given(executeScript()).willReturn(List.of("1", "-3", RedisStockReservation.BATCH_ID_FIELD, "redis-1"));
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(stockBatchRepository).applyStockDeltasOnce(anyString(), anyMap());
+
+        assertThatThrownBy(() -> redisStockReservation.reconcilePending())
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(redisTemplate, never()).delete(RedisStockReservation.FLUSHING_KEY);
+    }
+
+    @Test
+    @DisplayName("불일치 점검: 미반영분을 뺀 카운터와 DB 재고가 다르면 보고하고 auto-repair 시 카운터 삭제")
+    @SuppressWarnings("unchecked")
+    void detectDrift() {
+        ReflectionTestUtils.setField(redisStockReservation, "autoRepair", true);
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willReturn(true, true, false);
+        given(cursor.next()).willReturn(RedisStockReservation.stockKey(1L), RedisStockReservation.stockKey(2L));
+        doCallRealMethod().when(cursor).forEachRemaining(any());
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+        given(executeScript()).willReturn(List.of("5", "8"));
+        given(stockBatchRepository.findStockCounts(List.of(1L, 2L))).willReturn(Map.of(1L, 5, 2L, 3));
+
+        List<Long> drifted = redisStockReservation.detectDrift();
+
+        assertThat(drifted).containsExactly(2L);
+        verify(redisTemplate).delete(List.of(RedisStockReservation.stockKey(2L)));
+    }
+}
@@ -0,0 +1,170 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookDetailResponse;
+import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BookDetailDocumentCacheTest {
+
+    @Mock
+    private RedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private BookDetailDocumentCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new BookDetailDocumentCache(byteArrayRedisTemplate, redisTemplate, listenerContainer, objectMapper);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "nearMaximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "nearTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "redisTtlMinutes", 30L);
+        cache.init();
+
+        lenient().when(byteArrayRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    private BookDetailResponse document(Long bookId) {
+        return BookDetailResponse.builder()
+                .id(bookId)
+                .title("도서" + bookId)
+                .publishDate(LocalDate.of(2024, 1, 1))
+                .categories(List.of(CategoryDto.builder().id(1L).name("소설").build()))
+                .likeCount(3L)
+                .build();
+    }
+
+    private final Function<Long, BookDetailResponse> loader = bookId -> {
+        loads.incrementAndGet();
+        return document(bookId);
+    };
+
+    @Test
+    @DisplayName("미스: 로더로 만든 문서를 직렬화해 Redis 에 TTL 과 함께 저장하고, 다음 조회는 near cache 에서 응답")
+    void miss_loadsAndStoresThenServesFromNearCache() throws Exception {
+        BookDetailResponse first = cache.get(1L, loader);
+        BookDetailResponse second = cache.get(1L, loader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getTitle()).isEqualTo("도서1");
+        assertThat(second.getPublishDate()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(second.getCategories()).extracting("name").containsExactly("소설");
+        assertThat(second).isNotSameAs(first); // 적중할 때마다 새 사본 -> 캐시 내용이 바뀔 일 없음
+
+        ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+        verify(valueOperations).set(eq(BookDetailDocumentCache.key(1L)), bytes.capture(), eq(Duration.ofMinutes(30)));
+        assertThat(objectMapper.readValue(bytes.getValue(), BookDetailResponse.class).getId()).isEqualTo(1L);
+        verify(valueOperations).get(BookDetailDocumentCache.key(1L)); // 두 번째는 Redis 도 안 감
+    }
+
+    @Test
+    @DisplayName("Redis 적중: 로더를 부르지 않고 near cache 를 채움")
+    void redisHit_populatesNearCache() throws Exception {
+        given(valueOperations.get(BookDetailDocumentCache.key(2L)))
+                .willReturn(objectMapper.writeValueAsBytes(document(2L)));
+
+        assertThat(cache.get(2L, loader).getTitle()).isEqualTo("도서2");
+        assertThat(cache.get(2L, loader).getTitle()).isEqualTo("도서2");
+
+        assertThat(loads).hasValue(0);
+        verify(valueOperations).get(BookDetailDocumentCache.key(2L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애: 예외 없이 로더로 응답")
+    void redisFailure_fallsBackToLoader() {
+        given(valueOperations.get(anyString())).willThrow(new IllegalStateException("redis down"));
+
+        assertThat(cache.get(3L, loader).getId()).isEqualTo(3L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트: near cache 와 Redis 키를 지우고 다른 인스턴스에 알림")
+    void onBookDetailChanged_evictsAndBroadcasts() {
+        cache.get(1L, loader);
+
+        cache.onBookDetailChanged(new BookDetailChangedEvent(List.of(1L, 2L)));
+        cache.get(1L, loader);
+
+        assertThat(loads).hasValue(2);
+        verify(byteArrayRedisTemplate).delete(List.of(BookDetailDocumentCache.key(1L), BookDetailDocumentCache.key(2L)));
+        verify(redisTemplate).convertAndSend(BookDetailDocumentCache.CHANNEL, "1");
+        verify(redisTemplate).convertAndSend(BookDetailDocumentCache.CHANNEL, "2");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 near cache 에서 제거")
+    void onMessage_evictsNearCache() {
+        cache.get(1L, loader);
+
+        cache.onMessage(new DefaultMessage(BookDetailDocumentCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(1L, loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("로딩 도중 무효화되면 읽어 온 (이전일 수 있는) 문서를 저장하지 않음")
+    void evictedWhileLoading_isNotStored() {
+        cache.get(1L, bookId -> {
+            cache.onBookDetailChanged(BookDetailChangedEvent.of(bookId));
+            return document(bookId);
+        });
+
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 항상 로더로 응답")
+    void disabled_alwaysLoads() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        cache.get(1L, loader);
+        cache.get(1L, loader);
+
+        assertThat(loads).hasValue(2);
+        verify(byteArrayRedisTemplate, never()).opsForValue();
+    }
+}
@@ -0,0 +1,100 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CacheAccessRecorderTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private CacheAccessRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(recorder, "trackedCaches", Set.of("bestsellers", "newArrivals"));
+        ReflectionTestUtils.setField(recorder, "maxTrackedKeys", 1000L);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    private Set<TypedTuple<String>> tuples(Object... keyAndScores) {
+        Set<TypedTuple<String>> result = new LinkedHashSet<>();
+        for (int i = 0; i < keyAndScores.length; i += 2) {
+            result.add(new DefaultTypedTuple<>((String) keyAndScores[i], (Double) keyAndScores[i + 1]));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("flush: 로컬에서 센 조회 수를 오늘자 ZSET 에 한 번씩 합산하고 상위 키만 유지")
+    void flush_incrementsScores() {
+        recorder.record("newArrivals", "null_0");
+        recorder.record("newArrivals", "null_0");
+        recorder.record("newArrivals", "12_1");
+
+        recorder.flush();
+
+        String hotKey = CacheAccessRecorder.hotKey("newArrivals", LocalDate.now());
+        verify(zSetOperations).incrementScore(hotKey, "null_0", 2);
+        verify(zSetOperations).incrementScore(hotKey, "12_1", 1);
+        verify(zSetOperations).removeRange(hotKey, 0, -1001);
+
+        recorder.flush(); // 이미 반영한 수는 다시 더하지 않음
+        verify(zSetOperations, times(2)).incrementScore(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("추적하지 않는 캐시와 워밍업 재생 중의 조회는 기록하지 않음")
+    void record_ignoresUntrackedAndSuppressed() {
+        recorder.record("aladinBook", "9788900000000");
+        CacheAccessRecorder.runWithoutRecording(() -> recorder.record("bestsellers", "DAILY"));
+
+        recorder.flush();
+
+        verify(zSetOperations, never()).incrementScore(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("topKeys: 오늘 + 어제 점수를 합쳐 많이 조회된 순으로 반환")
+    void topKeys_mergesTodayAndYesterday() {
+        LocalDate today = LocalDate.now();
+        when(zSetOperations.reverseRangeWithScores(CacheAccessRecorder.hotKey("newArrivals", today), 0, 2))
+                .thenReturn(tuples("1_0", 5.0, "null_0", 4.0));
+        when(zSetOperations.reverseRangeWithScores(eq(CacheAccessRecorder.hotKey("newArrivals", today.minusDays(1))),
+                eq(0L), eq(2L)))
+                .thenReturn(tuples("null_0", 30.0, "7_0", 1.0));
+
+        List<String> keys = recorder.topKeys("newArrivals", 3);
+
+        assertThat(keys).containsExactly("null_0", "1_0", "7_0");
+    }
+}
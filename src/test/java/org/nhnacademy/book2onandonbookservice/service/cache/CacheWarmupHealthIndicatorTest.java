@@ -0,0 +1,46 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.service.cache.CacheWarmupService.WarmupResult;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupHealthIndicatorTest {
+
+    @Mock
+    private CacheWarmupService cacheWarmupService;
+
+    @InjectMocks
+    private CacheWarmupHealthIndicator healthIndicator;
+
+    @Test
+    @DisplayName("시작 워밍업 전에는 OUT_OF_SERVICE")
+    void health_beforeWarmup() {
+        when(cacheWarmupService.isStartupCompleted()).thenReturn(false);
+
+        assertThat(healthIndicator.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    @DisplayName("워밍업 후에는 UP + 마지막 결과")
+    void health_afterWarmup() {
+        when(cacheWarmupService.isStartupCompleted()).thenReturn(true);
+        when(cacheWarmupService.getLastResult()).thenReturn(new WarmupResult(7, 1, false, Duration.ofMillis(420)));
+
+        Health health = healthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("warmedKeys", 7).containsEntry("failedKeys", 1)
+                .containsEntry("elapsedMs", 420L);
+    }
+}
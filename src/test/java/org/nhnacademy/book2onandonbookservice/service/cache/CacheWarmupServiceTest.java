@@ -0,0 +1,134 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.service.book.BookService;
+import org.nhnacademy.book2onandonbookservice.service.cache.CacheWarmupService.WarmupResult;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupServiceTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private CacheAccessRecorder cacheAccessRecorder;
+
+    @Mock
+    private ObjectProvider<ApplicationInfoManager> applicationInfoManagerProvider;
+
+    @Mock
+    private ApplicationInfoManager applicationInfoManager;
+
+    @InjectMocks
+    private CacheWarmupService cacheWarmupService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cacheWarmupService, "enabled", true);
+        ReflectionTestUtils.setField(cacheWarmupService, "topKeys", 50);
+        ReflectionTestUtils.setField(cacheWarmupService, "timeoutSeconds", 60L);
+    }
+
+    private Pageable newArrivalsPage(int page) {
+        return PageRequest.of(page, 10, Sort.by(Direction.DESC, "publishDate"));
+    }
+
+    @Test
+    @DisplayName("기본 키 + 인기 키를 서비스 메서드로 재생 (신간 키는 categoryId_page 로 해석)")
+    void warmUp_replaysBaselineAndTopKeys() {
+        when(cacheAccessRecorder.topKeys(eq("newArrivals"), anyInt())).thenReturn(List.of("null_0", "12_3"));
+        when(cacheAccessRecorder.topKeys(eq("bestsellers"), anyInt())).thenReturn(List.of("DAILY"));
+        when(cacheAccessRecorder.topKeys(eq("categories"), anyInt())).thenReturn(List.of());
+
+        WarmupResult result = cacheWarmupService.warmUp();
+
+        verify(bookService).getCategories();
+        verify(bookService).getBestsellers("DAILY");
+        verify(bookService).getBestsellers("WEEKLY");
+        verify(bookService).getNewArrivals(null, newArrivalsPage(0));
+        verify(bookService).getNewArrivals(12L, newArrivalsPage(3));
+        assertThat(result.warmedKeys()).isEqualTo(5);
+        assertThat(result.failedKeys()).isZero();
+        assertThat(result.timedOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("한 키가 실패해도 나머지는 계속 재생, 인기 키 조회 실패 시 기본 키만")
+    void warmUp_continuesOnFailure() {
+        when(cacheAccessRecorder.topKeys(any(), anyInt())).thenThrow(new RedisConnectionFailureException("down"));
+        when(bookService.getBestsellers("DAILY")).thenThrow(new IllegalStateException("order-service down"));
+
+        WarmupResult result = cacheWarmupService.warmUp();
+
+        verify(bookService).getBestsellers("WEEKLY");
+        verify(bookService).getNewArrivals(null, newArrivalsPage(0));
+        assertThat(result.warmedKeys()).isEqualTo(3);
+        assertThat(result.failedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 남은 키를 건너뛰고 timedOut 으로 끝냄")
+    void warmUp_stopsAtDeadline() {
+        ReflectionTestUtils.setField(cacheWarmupService, "timeoutSeconds", -1L);
+
+        WarmupResult result = cacheWarmupService.warmUp();
+
+        verify(bookService, never()).getCategories();
+        assertThat(result.timedOut()).isTrue();
+        assertThat(result.warmedKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작 시 워밍업이 끝나면(실패해도) 완료 표시 후 Eureka 상태를 UP 으로")
+    @SuppressWarnings("unchecked")
+    void warmUpOnStartup_marksCompletedAndRegistersUp() {
+        when(cacheAccessRecorder.topKeys(any(), anyInt())).thenReturn(List.of());
+        when(bookService.getCategories()).thenThrow(new IllegalStateException("db down"));
+        doAnswer(invocation -> {
+            ((Consumer<ApplicationInfoManager>) invocation.getArgument(0)).accept(applicationInfoManager);
+            return null;
+        }).when(applicationInfoManagerProvider).ifAvailable(any());
+
+        assertThat(cacheWarmupService.isStartupCompleted()).isFalse();
+        cacheWarmupService.warmUpOnStartup();
+
+        assertThat(cacheWarmupService.isStartupCompleted()).isTrue();
+        assertThat(cacheWarmupService.getLastResult().failedKeys()).isEqualTo(1);
+        verify(applicationInfoManager).setInstanceStatus(InstanceStatus.UP);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 재생하지 않음")
+    void warmUp_disabled() {
+        ReflectionTestUtils.setField(cacheWarmupService, "enabled", false);
+
+        assertThat(cacheWarmupService.warmUp().warmedKeys()).isZero();
+        verify(cacheAccessRecorder, never()).topKeys(any(), anyInt());
+    }
+}
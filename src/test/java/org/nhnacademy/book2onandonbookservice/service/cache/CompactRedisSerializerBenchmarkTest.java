@@ -0,0 +1,123 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.nhnacademy.book2onandonbookservice.config.RedisConfig;
+import org.nhnacademy.book2onandonbookservice.dto.api.RestPage;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시 값 직렬화 크기와 속도 - 기존 GenericJackson2JsonRedisSerializer(@class 포함 JSON) vs Smile + LZ4
+ * <p>
+ * bestsellers(List) / newArrivals(RestPage) 에 실제로 들어가는 모양의 값으로 직렬화 바이트 수와 직렬화/역직렬화 ns/op 를 잽니다.
+ * soft 만료 캐시라 값은 RedisConfig 와 같게 SoftExpiringValue 로 감쌉니다. 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=CompactRedisSerializerBenchmarkTest -Dbenchmark=true [-Dbenchmark.iterations=20000]
+ * [-Dbenchmark.threshold=2048]}
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CompactRedisSerializerBenchmarkTest {
+
+    private static final String[] PUBLISHERS = {"한빛미디어", "위키북스", "민음사", "창비", "문학동네", "길벗", "인사이트"};
+    private static final String[] TAGS = {"소설", "베스트셀러", "에세이", "IT", "자기계발", "역사", "과학", "경제"};
+
+    // RedisConfig 의 기존 JSON 직렬화와 같은 설정
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(
+            new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                            ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY)
+                    .addMixIn(PageImpl.class, RedisConfig.PageImplMixin.class));
+
+    @Test
+    void compareJsonAndCompact() {
+        int iterations = Integer.getInteger("benchmark.iterations", 20_000);
+        int threshold = Integer.getInteger("benchmark.threshold", 2048);
+        Random random = new Random(42);
+
+        StringBuilder report = new StringBuilder();
+        for (int size : new int[]{20, 100}) {
+            Object list = new SoftExpiringValue<>(new ArrayList<>(books(random, size)), 1L);
+            report.append(compare("List " + size + "권", list, wrapped(List.class), threshold, iterations));
+        }
+        Object page = new SoftExpiringValue<>(
+                new RestPage<>(new PageImpl<>(books(random, 20), PageRequest.of(0, 20), 1000)), 1L);
+        report.append(compare("RestPage 20권", page, wrapped(RestPage.class), threshold, iterations));
+
+        log.info("[Benchmark] 캐시 값 직렬화 ({}회, 압축 임계값 {}B){}", iterations, threshold, report);
+    }
+
+    /// 내부 로직
+    private String compare(String label, Object value, JavaType type, int threshold, int iterations) {
+        CompactRedisSerializer compact = new CompactRedisSerializer(type, threshold, json);
+        byte[] jsonBytes = json.serialize(value);
+        byte[] compactBytes = compact.serialize(value);
+        assertThat(compact.deserialize(compactBytes)).usingRecursiveComparison()
+                .isEqualTo(json.deserialize(jsonBytes));
+
+        long jsonWrite = nanosPerOp(iterations, () -> json.serialize(value));
+        long jsonRead = nanosPerOp(iterations, () -> json.deserialize(jsonBytes));
+        long compactWrite = nanosPerOp(iterations, () -> compact.serialize(value));
+        long compactRead = nanosPerOp(iterations, () -> compact.deserialize(compactBytes));
+        return String.format(" / %s - JSON %dB 쓰기 %dns 읽기 %dns, Smile%s %dB 쓰기 %dns 읽기 %dns",
+                label, jsonBytes.length, jsonWrite, jsonRead,
+                compactBytes[0] == CompactRedisSerializer.SMILE_LZ4 ? "+LZ4" : "", compactBytes.length,
+                compactWrite, compactRead);
+    }
+
+    // 같은 횟수만큼 먼저 돌려 JIT 를 데운 뒤 잼
+    private long nanosPerOp(int iterations, Runnable op) {
+        for (int i = 0; i < iterations; i++) {
+            op.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            op.run();
+        }
+        return (System.nanoTime() - start) / iterations;
+    }
+
+    private JavaType wrapped(Class<?> container) {
+        return CompactRedisSerializer.type(SoftExpiringValue.class,
+                CompactRedisSerializer.type(container, BookListResponse.class));
+    }
+
+    private List<BookListResponse> books(Random random, int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> {
+            long id = random.nextInt(1_000_000);
+            return BookListResponse.builder()
+                    .id(id)
+                    .title("도서 제목 " + id)
+                    .priceStandard(10000L + random.nextInt(30) * 1000L)
+                    .priceSales(9000L + random.nextInt(27) * 1000L)
+                    .rating(random.nextInt(50) / 10.0)
+                    .imagePath("https://storage.example.com/books/" + id + ".jpg")
+                    .publisherDate(LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000)))
+                    .contributorNames(List.of("지은이" + random.nextInt(500) + " (지은이)",
+                            "옮긴이" + random.nextInt(100) + " (옮긴이)"))
+                    .publisherNames(List.of(PUBLISHERS[random.nextInt(PUBLISHERS.length)]))
+                    .categoryIds(List.of(String.valueOf(random.nextInt(20)), String.valueOf(100 + random.nextInt(50))))
+                    .tagNames(List.of(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]))
+                    .build();
+        }).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.dto.api.RestPage;
+import org.nhnacademy.book2onandonbookservice.dto.book.BookListResponse;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactRedisSerializerTest {
+
+    // RedisConfig 의 기존 JSON 직렬화와 같은 설정 (default typing + JavaTimeModule)
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(
+            new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                            ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY));
+
+    private BookListResponse book(long id) {
+        return BookListResponse.builder()
+                .id(id)
+                .title("도서 제목 " + id)
+                .priceStandard(18000L)
+                .priceSales(16200L)
+                .rating(4.5)
+                .imagePath("https://storage.example.com/books/" + id + ".jpg")
+                .publisherDate(LocalDate.of(2024, 3, 1))
+                .contributorNames(List.of("홍길동 (지은이)", "김번역 (옮긴이)"))
+                .publisherNames(List.of("한빛미디어"))
+                .categoryIds(List.of("1", "12"))
+                .tagNames(List.of("소설", "베스트셀러"))
+                .build();
+    }
+
+    private List<BookListResponse> books(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(this::book).toList();
+    }
+
+    @Test
+    @DisplayName("List<BookListResponse>: 임계값 미만이면 압축 없이 Smile 로 왕복")
+    @SuppressWarnings("unchecked")
+    void roundTrip_list_uncompressed() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(
+                CompactRedisSerializer.type(List.class, BookListResponse.class), 1 << 20, json);
+
+        byte[] bytes = serializer.serialize(books(3));
+        List<BookListResponse> restored = (List<BookListResponse>) serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.SMILE);
+        assertThat(restored).hasSize(3);
+        assertThat(restored.get(2).getTitle()).isEqualTo("도서 제목 3");
+        assertThat(restored.get(2).getPublisherDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(restored.get(2).getContributorNames()).containsExactly("홍길동 (지은이)", "김번역 (옮긴이)");
+    }
+
+    @Test
+    @DisplayName("RestPage<BookListResponse>: 임계값 이상이면 LZ4 압축, 페이지 정보까지 왕복")
+    @SuppressWarnings("unchecked")
+    void roundTrip_page_compressed() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(
+                CompactRedisSerializer.type(RestPage.class, BookListResponse.class), 256, json);
+        RestPage<BookListResponse> page = new RestPage<>(new PageImpl<>(books(20), PageRequest.of(2, 20), 95));
+
+        byte[] bytes = serializer.serialize(page);
+        RestPage<BookListResponse> restored = (RestPage<BookListResponse>) serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.SMILE_LZ4);
+        assertThat(restored.getContent()).hasSize(20);
+        assertThat(restored.getContent().get(0).getId()).isEqualTo(1L);
+        assertThat(restored.getNumber()).isEqualTo(2);
+        assertThat(restored.getSize()).isEqualTo(20);
+        assertThat(restored.getTotalElements()).isEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("기존 JSON(@class 포함) 값도 그대로 읽음 - 배포 직후 남아 있는 키 호환")
+    @SuppressWarnings("unchecked")
+    void deserialize_legacyJson() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(
+                CompactRedisSerializer.type(List.class, String.class), 1024, json);
+
+        byte[] legacy = json.serialize(new ArrayList<>(List.of("소설", "에세이")));
+
+        assertThat((List<String>) serializer.deserialize(legacy)).containsExactly("소설", "에세이");
+    }
+
+    @Test
+    @DisplayName("20권 한 페이지 기준 항목당 바이트가 기존 JSON 직렬화의 절반 이하")
+    void bytesPerEntry_smallerThanJson() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(
+                CompactRedisSerializer.type(List.class, BookListResponse.class), 1024, json);
+        List<BookListResponse> value = new ArrayList<>(books(20));
+
+        int compact = serializer.serialize(value).length;
+        int legacy = json.serialize(value).length;
+
+        assertThat(compact).isLessThanOrEqualTo(legacy / 2);
+    }
+
+    @Test
+    @DisplayName("soft 만료 캐시: SoftExpiringValue<List<BookListResponse>> 로 왕복 (Smile, JSON 모두)")
+    void roundTrip_softExpiringValue() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(CompactRedisSerializer.type(
+                SoftExpiringValue.class, CompactRedisSerializer.type(List.class, BookListResponse.class)), 1024, json);
+        SoftExpiringValue<List<BookListResponse>> value = new SoftExpiringValue<>(new ArrayList<>(books(2)), 1234L);
+
+        SoftExpiringValue<?> compact = (SoftExpiringValue<?>) serializer.deserialize(serializer.serialize(value));
+        SoftExpiringValue<?> legacy = (SoftExpiringValue<?>) json.deserialize(json.serialize(value));
+
+        assertThat(compact.getSoftExpiresAt()).isEqualTo(1234L);
+        assertThat(((List<?>) compact.getValue()).get(1)).isInstanceOf(BookListResponse.class);
+        assertThat(legacy.getSoftExpiresAt()).isEqualTo(1234L);
+        assertThat(((List<?>) legacy.getValue()).get(1)).isInstanceOf(BookListResponse.class);
+    }
+
+    @Test
+    @DisplayName("null 은 빈 배열, 빈 배열은 null")
+    void nullHandling() {
+        CompactRedisSerializer serializer = new CompactRedisSerializer(
+                CompactRedisSerializer.type(List.class, String.class), 1024, json);
+
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+}
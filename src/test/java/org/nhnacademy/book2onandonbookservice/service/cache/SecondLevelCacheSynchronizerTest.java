@@ -0,0 +1,132 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.entity.Book;
+import org.nhnacademy.book2onandonbookservice.entity.BookCategory;
+import org.nhnacademy.book2onandonbookservice.entity.BookContributor;
+import org.nhnacademy.book2onandonbookservice.entity.BookPublisher;
+import org.nhnacademy.book2onandonbookservice.entity.Category;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheSynchronizerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private CacheImplementor cache;
+
+    @InjectMocks
+    private SecondLevelCacheSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(synchronizer, "cache", cache);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(SecondLevelCacheSynchronizer.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("카테고리 이름 변경이 커밋되면 엔티티 무효화 메시지를 발행")
+    void onPostUpdate_publishesEntityEviction() {
+        EntityPersister persister = mock(EntityPersister.class);
+        given(persister.getEntityName()).willReturn(Category.class.getName());
+        Category category = Category.builder().id(3L).categoryName("새 이름").build();
+        PostUpdateEvent event = new PostUpdateEvent(category, 3L, null, null, null, persister, null);
+
+        synchronizer.onPostUpdate(event);
+
+        verify(redisTemplate).convertAndSend(SecondLevelCacheSynchronizer.CHANNEL,
+                "E|" + Category.class.getName() + "|3");
+    }
+
+    @Test
+    @DisplayName("도서-카테고리 매핑이 추가되면 소유 Book 의 컬렉션 무효화 메시지를 발행")
+    void onPostInsert_publishesCollectionEviction() {
+        Book book = Book.builder().id(7L).build();
+        BookCategory bookCategory = BookCategory.builder().id(1L).book(book).build();
+        PostInsertEvent event = new PostInsertEvent(bookCategory, 1L, null, mock(EntityPersister.class), null);
+
+        synchronizer.onPostInsert(event);
+
+        verify(redisTemplate).convertAndSend(SecondLevelCacheSynchronizer.CHANNEL,
+                "C|" + Book.class.getName() + ".bookCategories|7");
+    }
+
+    @Test
+    @DisplayName("수신한 메시지에 따라 엔티티/컬렉션 캐시를 지움")
+    void onMessage_evicts() {
+        synchronizer.onMessage(message("E|" + Category.class.getName() + "|3"), null);
+        synchronizer.onMessage(message("C|" + Book.class.getName() + ".bookTags|7"), null);
+
+        verify(cache).evictEntityData(Category.class.getName(), 3L);
+        verify(cache).evictCollectionData(Book.class.getName() + ".bookTags", 7L);
+    }
+
+    @Test
+    @DisplayName("영역 메시지를 받으면 엔티티 영역 전체를 지움")
+    void onMessage_evictsRegion() {
+        synchronizer.onMessage(message("R|" + BookContributor.class.getName() + "|*"), null);
+
+        verify(cache).evictEntityData(BookContributor.class.getName());
+    }
+
+    @Test
+    @DisplayName("JDBC 로 다시 쓴 관계 - 커밋 전에는 그대로, 커밋 후 로컬 캐시를 지우고 다른 인스턴스에 알림")
+    void evictBookRelations_afterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            synchronizer.evictBookRelations(List.of(7L));
+
+            verifyNoInteractions(cache, redisTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(cache).evictCollectionData(Book.class.getName() + ".bookContributors", 7L);
+        verify(cache).evictCollectionData(Book.class.getName() + ".bookPublishers", 7L);
+        verify(cache).evictEntityData(BookContributor.class.getName());
+        verify(cache).evictEntityData(BookPublisher.class.getName());
+        verify(redisTemplate).convertAndSend(SecondLevelCacheSynchronizer.CHANNEL,
+                "C|" + Book.class.getName() + ".bookContributors|7");
+        verify(redisTemplate).convertAndSend(SecondLevelCacheSynchronizer.CHANNEL,
+                "R|" + BookPublisher.class.getName() + "|*");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 무시")
+    void onMessage_ignoresMalformed() {
+        synchronizer.onMessage(message("garbage"), null);
+        synchronizer.onMessage(message("E|Category|not-a-number"), null);
+
+        verifyNoInteractions(cache);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+}
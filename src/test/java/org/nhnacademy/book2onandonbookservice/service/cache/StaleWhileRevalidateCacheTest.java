@@ -0,0 +1,311 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class StaleWhileRevalidateCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Duration SOFT_TTL = Duration.ofHours(12);
+    private static final String LEASE_KEY = StaleWhileRevalidateCache.LEASE_KEY_PREFIX + "bestsellers::DAILY";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ConcurrentMapCache redis;
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        redis = new ConcurrentMapCache("bestsellers", false);
+        // 백그라운드 갱신을 호출 스레드에서 바로 실행
+        cache = new StaleWhileRevalidateCache(redis, SOFT_TTL, redisTemplate, Runnable::run,
+                Duration.ofMillis(200), Duration.ofMillis(10), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private void givenLease(boolean acquired) {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(acquired);
+    }
+
+    private Callable<List<Long>> countingLoader(AtomicInteger calls, List<Long> value) {
+        return () -> {
+            calls.incrementAndGet();
+            return new ArrayList<>(value);
+        };
+    }
+
+    @Test
+    @DisplayName("soft 만료 전: 저장된 값을 그대로 반환하고 로더/리스를 쓰지 않음")
+    void fresh_returnsCachedWithoutLoading() {
+        redis.put("DAILY", new SoftExpiringValue<>(List.of(1L), NOW.plusSeconds(60).toEpochMilli()));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(9L)))).containsExactly(1L);
+
+        assertThat(calls).hasValue(0);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("soft 만료 후: 이전 값을 반환하고, 리스를 얻어 한 번 갱신한 뒤 리스를 해제")
+    void stale_servesOldValueAndRefreshes() {
+        redis.put("DAILY", new SoftExpiringValue<>(List.of(1L), NOW.minusSeconds(1).toEpochMilli()));
+        givenLease(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(2L)))).containsExactly(1L);
+
+        assertThat(calls).hasValue(1);
+        SoftExpiringValue<?> refreshed = (SoftExpiringValue<?>) redis.get("DAILY").get();
+        assertThat(refreshed.getValue()).isEqualTo(List.of(2L));
+        assertThat(refreshed.getSoftExpiresAt()).isEqualTo(NOW.plus(SOFT_TTL).toEpochMilli());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("soft 만료 후 다른 인스턴스가 리스를 가진 경우: 이전 값만 반환하고 로딩하지 않음")
+    void stale_leaseHeldElsewhere_doesNotLoad() {
+        redis.put("DAILY", new SoftExpiringValue<>(List.of(1L), NOW.minusSeconds(1).toEpochMilli()));
+        givenLease(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(2L)))).containsExactly(1L);
+
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("soft 만료 정보가 없는 이전 형식 값은 만료된 것으로 보고 제공하면서 갱신")
+    void legacyValue_treatedAsStale() {
+        redis.put("DAILY", new ArrayList<>(List.of(1L)));
+        givenLease(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(2L)))).containsExactly(1L);
+
+        assertThat(calls).hasValue(1);
+        assertThat(redis.get("DAILY").get()).isInstanceOf(SoftExpiringValue.class);
+    }
+
+    @Test
+    @DisplayName("hard 만료(키 없음) + 리스 획득: 직접 로딩해 저장")
+    void miss_withLease_loads() {
+        givenLease(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(3L)))).containsExactly(3L);
+
+        assertThat(calls).hasValue(1);
+        assertThat(cache.get("DAILY").get()).isEqualTo(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("hard 만료 + 리스 없음: 리스를 가진 쪽이 채운 값을 기다렸다가 반환")
+    void miss_withoutLease_waitsForOtherLoader() {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenAnswer(inv -> {
+            // 다른 인스턴스가 로딩을 마치고 저장한 상황
+            redis.put("DAILY", new SoftExpiringValue<>(List.of(4L), NOW.plusSeconds(60).toEpochMilli()));
+            return false;
+        });
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(9L)))).containsExactly(4L);
+
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("hard 만료 + 리스 없음 + 대기 시간 초과: 직접 로딩")
+    void miss_withoutLease_timeout_loadsItself() {
+        givenLease(false);
+        when(redisTemplate.hasKey(LEASE_KEY)).thenReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(5L)))).containsExactly(5L);
+
+        assertThat(calls).hasValue(1);
+        verify(redisTemplate, times(20)).hasKey(LEASE_KEY); // 리스 TTL 200ms / 폴링 10ms
+    }
+
+    @Test
+    @DisplayName("hard 만료 + 리스 없음 + 리스가 값 없이 사라짐(로딩 실패): 더 기다리지 않고 리스를 다시 얻어 로딩")
+    void miss_leaseReleasedWithoutValue_stopsWaiting() {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class))).thenReturn(false, true);
+        when(redisTemplate.hasKey(LEASE_KEY)).thenReturn(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(5L)))).containsExactly(5L);
+
+        assertThat(calls).hasValue(1);
+        verify(redisTemplate, times(1)).hasKey(LEASE_KEY);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LEASE_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스의 동시 미스: 먼저 온 스레드만 리스를 시도하고, 나머지는 Redis 를 폴링하지 않고 결과를 받음")
+    void concurrentMisses_sameInstance_shareLocalLoad() throws Exception {
+        givenLease(true);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch finishLoading = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Callable<List<Long>> blockingLoader = () -> {
+            calls.incrementAndGet();
+            loaderStarted.countDown();
+            finishLoading.await();
+            return new ArrayList<>(List.of(7L));
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Long>> leader = pool.submit(() -> cache.get("DAILY", blockingLoader));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<Long>> follower = pool.submit(() -> cache.get("DAILY", blockingLoader));
+            Thread.sleep(50); // follower 가 로컬 future 에서 대기
+            finishLoading.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly(7L);
+            assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly(7L);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(calls).hasValue(1);
+        verify(valueOperations, times(1)).setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스의 동시 미스: 로딩이 실패하면 기다리던 스레드도 같은 예외를 받음")
+    void concurrentMisses_sameInstance_shareFailure() throws Exception {
+        givenLease(true);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch finishLoading = new CountDownLatch(1);
+        Callable<List<Long>> failingLoader = () -> {
+            loaderStarted.countDown();
+            finishLoading.await();
+            throw new IllegalStateException("order-service down");
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Long>> leader = pool.submit(() -> cache.get("DAILY", failingLoader));
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<List<Long>> follower = pool.submit(() -> cache.get("DAILY", failingLoader));
+            Thread.sleep(50);
+            finishLoading.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 리스 장애 시 리스 없이 로딩 (조회는 계속 동작)")
+    void leaseFailure_failsOpen() {
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+                .thenThrow(new IllegalStateException("redis down"));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("DAILY", countingLoader(calls, List.of(6L)))).containsExactly(6L);
+
+        assertThat(calls).hasValue(1);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 20개 요청이 같은 빈 키를 조회해도 로더는 한 번만 실행")
+    void concurrentMisses_singleFlight() throws Exception {
+        Map<String, String> leases = new ConcurrentHashMap<>();
+        when(valueOperations.setIfAbsent(eq(LEASE_KEY), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> leases.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenAnswer(inv -> {
+            List<String> keys = inv.getArgument(1);
+            return leases.remove(keys.get(0), inv.getArgument(2)) ? 1L : 0L;
+        });
+        cache = new StaleWhileRevalidateCache(redis, SOFT_TTL, redisTemplate, Runnable::run,
+                Duration.ofSeconds(5), Duration.ofMillis(10), Clock.systemUTC());
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Callable<List<Long>> slowLoader = () -> {
+            calls.incrementAndGet();
+            Thread.sleep(100); // 주문 서비스 호출 + DB 조회
+            return new ArrayList<>(List.of(7L));
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<List<Long>>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return cache.get("DAILY", slowLoader);
+                }));
+            }
+            start.countDown();
+            for (Future<List<Long>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly(7L);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(calls).hasValue(1);
+        assertThat(leases).isEmpty();
+    }
+
+    @Test
+    @DisplayName("put/get 은 soft 만료 정보를 감추고 값만 주고받음, null 은 저장하지 않음")
+    void putAndGet_unwrap() {
+        cache.put("DAILY", List.of(8L));
+        assertThat(cache.get("DAILY", List.class)).isEqualTo(List.of(8L));
+
+        cache.put("DAILY", null);
+        assertThat(cache.get("DAILY")).isNull();
+    }
+}
@@ -0,0 +1,175 @@
+package org.nhnacademy.book2onandonbookservice.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCacheManager remoteManager;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+    private List<String> accessed;
+
+    @BeforeEach
+    void setUp() {
+        remoteManager = new ConcurrentMapCacheManager("bestsellers", "newArrivals");
+        meterRegistry = new SimpleMeterRegistry();
+        accessed = new ArrayList<>();
+        cacheManager = new TwoLevelCacheManager(remoteManager, redisTemplate, meterRegistry, 100,
+                Duration.ofSeconds(60), (cache, key) -> accessed.add(cache + "|" + key));
+    }
+
+    private double count(String cache, String tier, String result) {
+        return meterRegistry.get(TwoLevelCache.METRIC_NAME)
+                .tag("cache", cache).tag("tier", tier).tag("result", result)
+                .counter().count();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String publishedMessage() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CHANNEL), captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("L1 미스 -> L2 적중 값을 L1 에 채우고, 다음 조회는 L1 에서 응답 (계층별 카운터 집계)")
+    void get_fillsLocalFromRemote() {
+        remoteManager.getCache("bestsellers").put("DAILY", List.of(1L, 2L));
+        Cache cache = cacheManager.getCache("bestsellers");
+
+        assertThat(cache.get("DAILY").get()).isEqualTo(List.of(1L, 2L));
+        remoteManager.getCache("bestsellers").evict("DAILY"); // L2 에서 사라져도
+        assertThat(cache.get("DAILY").get()).isEqualTo(List.of(1L, 2L)); // L1 에서 응답
+        assertThat(cache.get("WEEKLY")).isNull();
+
+        assertThat(count("bestsellers", "l1", "hit")).isEqualTo(1);
+        assertThat(count("bestsellers", "l1", "miss")).isEqualTo(2);
+        assertThat(count("bestsellers", "l2", "hit")).isEqualTo(1);
+        assertThat(count("bestsellers", "l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("put 은 두 계층에 쓰고 다른 인스턴스에 해당 키 무효화를 알림")
+    void put_writesBothTiersAndBroadcasts() {
+        Cache cache = cacheManager.getCache("newArrivals");
+
+        cache.put("null_0", "page");
+
+        assertThat(remoteManager.getCache("newArrivals").get("null_0").get()).isEqualTo("page");
+        assertThat(publishedMessage()).endsWith("|newArrivals|null_0");
+    }
+
+    @Test
+    @DisplayName("get(key, loader): 두 계층 모두 없으면 로더 결과를 L2, L1 에 저장")
+    void getWithLoader_loadsOnce() {
+        Cache cache = cacheManager.getCache("bestsellers");
+
+        assertThat(cache.get("DAILY", () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get("DAILY", () -> "again")).isEqualTo("loaded");
+
+        assertThat(remoteManager.getCache("bestsellers").get("DAILY").get()).isEqualTo("loaded");
+        assertThat(count("bestsellers", "l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get(key, loader): L1 미스면 로더와 함께 L2 로 넘기고, L2 적중이면 로더를 호출하지 않음")
+    void getWithLoader_remoteHit_skipsLoader() {
+        remoteManager.getCache("bestsellers").put("DAILY", "remote");
+        Cache cache = cacheManager.getCache("bestsellers");
+
+        assertThat(cache.get("DAILY", () -> "loaded")).isEqualTo("remote");
+
+        assertThat(count("bestsellers", "l1", "miss")).isEqualTo(1);
+        assertThat(count("bestsellers", "l2", "hit")).isEqualTo(1);
+        assertThat(count("bestsellers", "l2", "miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("조회한 키는 (캐시명, 키) 로 알림 - put/evict 는 집계하지 않음")
+    void get_notifiesAccess() {
+        Cache cache = cacheManager.getCache("newArrivals");
+
+        cache.get("null_0");
+        cache.get("1_2", () -> "page");
+        cache.put("3_0", "page");
+
+        assertThat(accessed).containsExactly("newArrivals|null_0", "newArrivals|1_2");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지는 L1 만 지우고, 다음 조회는 L2 에서 다시 채움")
+    void onMessage_fromOtherInstance_evictsLocalOnly() {
+        Cache cache = cacheManager.getCache("bestsellers");
+        cache.put("DAILY", "old");
+        remoteManager.getCache("bestsellers").put("DAILY", "new"); // 다른 인스턴스가 L2 를 갱신
+
+        cacheManager.onMessage(message("other-instance|bestsellers|DAILY"), null);
+
+        assertThat(cache.get("DAILY").get()).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("자기 자신이 보낸 메시지는 무시 (이미 반영됨)")
+    void onMessage_fromSelf_ignored() {
+        Cache cache = cacheManager.getCache("bestsellers");
+        cache.put("DAILY", "value");
+        String own = publishedMessage();
+
+        cacheManager.onMessage(message(own), null);
+        cache.get("DAILY");
+
+        assertThat(count("bestsellers", "l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("clear 는 전체 무효화(*)를 알리고, 수신 측은 해당 캐시의 L1 전체를 비움")
+    void clear_broadcastsAllKeys() {
+        Cache cache = cacheManager.getCache("newArrivals");
+        cache.clear();
+        assertThat(publishedMessage()).endsWith("|newArrivals|*");
+
+        remoteManager.getCache("newArrivals").put("1_0", "page");
+        cache.get("1_0"); // L1 채움
+        cacheManager.onMessage(message("other-instance|newArrivals|*"), null);
+        cache.get("1_0");
+
+        assertThat(count("newArrivals", "l2", "hit")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("L2 에 없는 캐시 이름이면 null, 생성된 캐시 이름만 노출")
+    void getCache_unknownName() {
+        cacheManager.getCache("bestsellers");
+
+        assertThat(cacheManager.getCache("unknown")).isNull();
+        assertThat(cacheManager.getCacheNames()).containsExactly("bestsellers");
+    }
+}
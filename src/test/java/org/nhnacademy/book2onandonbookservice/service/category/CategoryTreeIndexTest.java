@@ -0,0 +1,196 @@
+package org.nhnacademy.book2onandonbookservice.service.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.dto.common.CategoryDto;
+import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
+import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository.CategoryNode;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeIndexTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private CategoryTreeIndex categoryTreeIndex;
+
+    @BeforeEach
+    void setUp() {
+        categoryTreeIndex = new CategoryTreeIndex(categoryRepository, new ObjectMapper(), redisTemplate,
+                listenerContainer);
+    }
+
+    private CategoryNode node(Long id, String name, Long parentId) {
+        return new CategoryNode() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public Long getParentId() {
+                return parentId;
+            }
+        };
+    }
+
+    // 1 ─ 2 ─ 4
+    //   └ 3
+    // 5 ─ 6
+    private List<CategoryNode> sampleNodes() {
+        return new ArrayList<>(List.of(
+                node(4L, "자바", 2L),
+                node(1L, "컴퓨터", null),
+                node(6L, "시", 5L),
+                node(3L, "네트워크", 1L),
+                node(2L, "프로그래밍", 1L),
+                node(5L, "문학", null)));
+    }
+
+    @Test
+    @DisplayName("하위 카테고리 조회: 자신 + 모든 하위 id 를 전위 순회 순서로 반환")
+    void descendantIds_returnsSubtree() {
+        given(categoryRepository.findAllNodes()).willReturn(sampleNodes());
+
+        assertThat(categoryTreeIndex.descendantIds(1L)).contains(List.of(1L, 2L, 4L, 3L));
+        assertThat(categoryTreeIndex.descendantIds(2L)).contains(List.of(2L, 4L));
+        assertThat(categoryTreeIndex.descendantIds(4L)).contains(List.of(4L));
+        assertThat(categoryTreeIndex.descendantIds(5L)).contains(List.of(5L, 6L));
+        verify(categoryRepository, times(1)).findAllNodes();
+    }
+
+    @Test
+    @DisplayName("없는 카테고리는 empty (직후에는 다시 읽지 않음)")
+    void descendantIds_unknown() {
+        given(categoryRepository.findAllNodes()).willReturn(sampleNodes());
+
+        assertThat(categoryTreeIndex.descendantIds(999L)).isEmpty();
+        assertThat(categoryTreeIndex.descendantIds(null)).isEmpty();
+        verify(categoryRepository, times(1)).findAllNodes();
+    }
+
+    @Test
+    @DisplayName("트리: 최상위만 루트로, 자식은 id 순, JSON 은 미리 직렬화")
+    void tree_andJson() throws Exception {
+        given(categoryRepository.findAllNodes()).willReturn(sampleNodes());
+
+        List<CategoryDto> tree = categoryTreeIndex.tree();
+
+        assertThat(tree).extracting(CategoryDto::getId).containsExactly(1L, 5L);
+        assertThat(tree.get(0).getChildren()).extracting(CategoryDto::getName).containsExactly("프로그래밍", "네트워크");
+
+        String json = new String(categoryTreeIndex.treeJson(), StandardCharsets.UTF_8);
+        assertThat(new ObjectMapper().readTree(json).get(0).get("children").get(0).get("children").get(0)
+                .get("name").asText()).isEqualTo("자바");
+        assertThat(categoryTreeIndex.treeJson()).isSameAs(categoryTreeIndex.treeJson());
+    }
+
+    @Test
+    @DisplayName("트리 스냅샷은 공유되므로 최상위/하위 children 모두 수정할 수 없음")
+    void tree_isImmutable() {
+        given(categoryRepository.findAllNodes()).willReturn(sampleNodes());
+
+        List<CategoryDto> tree = categoryTreeIndex.tree();
+        List<CategoryDto> children = tree.get(0).getChildren();
+        List<CategoryDto> grandChildren = children.get(0).getChildren();
+        CategoryDto extra = CategoryDto.builder().id(99L).build();
+
+        assertThatThrownBy(() -> tree.add(extra)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> children.add(extra)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(grandChildren::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("부모 관계가 순환하는 카테고리는 인덱스에서 제외")
+    void build_skipsCycles() {
+        given(categoryRepository.findAllNodes()).willReturn(new ArrayList<>(List.of(
+                node(1L, "루트", null),
+                node(7L, "A", 8L),
+                node(8L, "B", 7L))));
+
+        assertThat(categoryTreeIndex.descendantIds(1L)).contains(List.of(1L));
+        assertThat(categoryTreeIndex.tree()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 커밋 후 재구성하고 다른 인스턴스에 알림")
+    void onCategoryUpdated_rebuildsAndPublishes() {
+        given(categoryRepository.findAllNodes())
+                .willReturn(sampleNodes())
+                .willReturn(new ArrayList<>(List.of(node(1L, "컴퓨터", null), node(9L, "새 카테고리", 1L))));
+        assertThat(categoryTreeIndex.descendantIds(1L)).contains(List.of(1L, 2L, 4L, 3L));
+
+        categoryTreeIndex.onCategoryUpdated(new CategoryUpdatedEvent(1L, "컴퓨터", "컴퓨터/IT"));
+
+        assertThat(categoryTreeIndex.descendantIds(1L)).contains(List.of(1L, 9L));
+        assertThat(captureInstanceId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Redis 알림: 자신이 보낸 메시지는 무시, 다른 인스턴스 메시지면 재구성")
+    void onMessage_ignoresOwnMessage() {
+        given(categoryRepository.findAllNodes()).willReturn(sampleNodes());
+        categoryTreeIndex.onCategoryUpdated(new CategoryUpdatedEvent(1L, "컴퓨터", "컴퓨터/IT"));
+        String instanceId = captureInstanceId();
+
+        categoryTreeIndex.onMessage(message(instanceId), null);
+        verify(categoryRepository, times(1)).findAllNodes();
+
+        categoryTreeIndex.onMessage(message("other-instance"), null);
+        verify(categoryRepository, times(2)).findAllNodes();
+    }
+
+    @Test
+    @DisplayName("알림 전송 실패는 재구성 결과에 영향 없음")
+    void onCategoryUpdated_publishFailure() {
+        given(categoryRepository.findAllNodes()).willReturn(sampleNodes());
+        given(redisTemplate.convertAndSend(anyString(), anyString())).willThrow(new IllegalStateException("down"));
+
+        categoryTreeIndex.onCategoryUpdated(new CategoryUpdatedEvent(1L, "컴퓨터", "컴퓨터/IT"));
+
+        assertThat(categoryTreeIndex.descendantIds(5L)).contains(List.of(5L, 6L));
+    }
+
+    private String captureInstanceId() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CategoryTreeIndex.CHANNEL), captor.capture());
+        return captor.getValue();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CategoryTreeIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
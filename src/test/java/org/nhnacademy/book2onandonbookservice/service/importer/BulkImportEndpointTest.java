@@ -0,0 +1,42 @@
+package org.nhnacademy.book2onandonbookservice.service.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.nhnacademy.book2onandonbookservice.domain.ImportStatus;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportEndpoint.Summary;
+import org.nhnacademy.book2onandonbookservice.service.importer.BulkImportProgress.FileProgress;
+
+class BulkImportEndpointTest {
+
+    private final BulkImportProgress bulkImportProgress = new BulkImportProgress();
+    private final BulkImportEndpoint bulkImportEndpoint = new BulkImportEndpoint(bulkImportProgress);
+
+    @Test
+    @DisplayName("파일별 진행 상황과 합계 - 처리량은 적재 중인 파일만 합산")
+    void progress() {
+        FileProgress running = bulkImportProgress.start("b.csv", 100);
+        running.rowRead();
+        running.rowRead();
+        running.committed(102, 2);
+        FileProgress done = bulkImportProgress.start("a.csv", 0);
+        done.rowRead();
+        done.committed(1, 1);
+        done.completed();
+        FileProgress failed = bulkImportProgress.start("c.csv", 0);
+        failed.failed(new IllegalStateException("CSV 깨짐"));
+
+        Summary summary = bulkImportEndpoint.progress();
+
+        assertThat(summary.filesInProgress()).isEqualTo(1);
+        assertThat(summary.rowsCommitted()).isEqualTo(103);
+        assertThat(summary.booksWritten()).isEqualTo(3);
+        assertThat(summary.rowsPerSecond()).isEqualTo(summary.files().get(1).rowsPerSecond());
+        assertThat(summary.files()).extracting(BulkImportProgress.FileSnapshot::fileName)
+                .containsExactly("a.csv", "b.csv", "c.csv");
+        assertThat(summary.files().get(1).startRow()).isEqualTo(100);
+        assertThat(summary.files().get(2).status()).isEqualTo(ImportStatus.FAILED);
+        assertThat(summary.files().get(2).error()).isEqualTo("CSV 깨짐");
+    }
+}
@@ -31,12 +31,14 @@ import org.nhnacademy.book2onandonbookservice.dto.review.ReviewUpdateRequest;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
 import org.nhnacademy.book2onandonbookservice.entity.Review;
 import org.nhnacademy.book2onandonbookservice.entity.ReviewImage;
+import org.nhnacademy.book2onandonbookservice.event.BookDetailChangedEvent;
 import org.nhnacademy.book2onandonbookservice.exception.NotFoundBookException;
 import org.nhnacademy.book2onandonbookservice.exception.NotFoundReviewException;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
 import org.nhnacademy.book2onandonbookservice.repository.ReviewRepository;
 import org.nhnacademy.book2onandonbookservice.service.image.ImageUploadService;
 import org.nhnacademy.book2onandonbookservice.util.UserHeaderUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -66,6 +68,8 @@ class ReviewServiceImplTest {
     StringRedisTemplate redisTemplate;
     @Mock
     ValueOperations<String, String> valueOperations;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     private Book book;
     private Long bookId = 1L;
@@ -97,6 +101,7 @@ class ReviewServiceImplTest {
 
         verify(reviewRepository, times(1)).save(any(Review.class));
         verify(orderServiceClient, never()).hasPurchased(any(), any());
+        verify(eventPublisher, times(1)).publishEvent(BookDetailChangedEvent.of(bookId));
     }
 
     @Test
@@ -335,6 +340,8 @@ class ReviewServiceImplTest {
         verify(reviewRepository, times(1)).delete(review);
         // 평점 업데이트 호출 확인
         verify(reviewRepository, times(1)).getAverageScoreByBook(book);
+        // 도서 상세 캐시 무효화 이벤트 발행 확인
+        verify(eventPublisher, times(1)).publishEvent(BookDetailChangedEvent.of(bookId));
     }
 
     @Test
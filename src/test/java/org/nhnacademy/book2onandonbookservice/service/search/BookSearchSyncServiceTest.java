@@ -12,7 +12,6 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -21,10 +20,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.nhnacademy.book2onandonbookservice.domain.BookStatus;
 import org.nhnacademy.book2onandonbookservice.entity.Book;
-import org.nhnacademy.book2onandonbookservice.entity.Category;
 import org.nhnacademy.book2onandonbookservice.repository.BookRepository;
-import org.nhnacademy.book2onandonbookservice.repository.CategoryRepository;
+import org.nhnacademy.book2onandonbookservice.service.category.CategoryTreeIndex;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -42,15 +41,13 @@ class BookSearchSyncServiceTest {
     private BookSearchIndexService bookSearchIndexService;
 
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryTreeIndex categoryTreeIndex;
 
     @Test
     @DisplayName("카테고리 재인덱싱 성공")
     void reindexByCategoryId_Success() {
         Long categoryId = 1L;
-        Category category = createCategory(categoryId, "IT", null);
-
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category));
+        given(categoryTreeIndex.descendantIds(categoryId)).willReturn(Optional.of(List.of(categoryId)));
 
         Book book1 = createBook(1L, "JAVA");
         Book book2 = createBook(2L, "JAVA SpringBoot");
@@ -67,16 +64,9 @@ class BookSearchSyncServiceTest {
     }
 
     @Test
-    @DisplayName("카테고리 재인덱싱 성공 - 하위 카테고리 포함 재귀 조회")
+    @DisplayName("카테고리 재인덱싱 성공 - 하위 카테고리 포함 조회")
     void reindexByCategoryId_Success_children() {
-        Category root = createCategory(1L, "Root", null);
-        Category child = createCategory(2L, "child", root);
-        Category grandChild = createCategory(3L, "grandChild", child);
-
-        root.setChildren(List.of(child));
-        child.setChildren(List.of(grandChild));
-
-        given(categoryRepository.findById(1L)).willReturn(Optional.of(root));
+        given(categoryTreeIndex.descendantIds(1L)).willReturn(Optional.of(List.of(1L, 2L, 3L)));
 
         Page<Book> emptyPage = Page.empty();
         given(bookRepository.findBooksByCategoryIds(anyList(), any(Pageable.class))).willReturn(emptyPage);
@@ -94,7 +84,7 @@ class BookSearchSyncServiceTest {
     @Test
     @DisplayName("카테고리 재인덱싱 - 실패 (카테고리 없음)")
     void reindexByCategoryId_Fail_NotFound() {
-        given(categoryRepository.findById(999L)).willReturn(Optional.empty());
+        given(categoryTreeIndex.descendantIds(999L)).willReturn(Optional.empty());
 
         assertThatThrownBy(() -> bookSearchSyncService.reindexByCategoryId(999L))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -147,14 +137,25 @@ class BookSearchSyncServiceTest {
         verify(bookSearchIndexService, times(0)).index(any());
     }
 
-    private Category createCategory(Long categoryId, String categoryName, Category parent) {
-
-        return Category.builder()
-                .id(categoryId)
-                .categoryName(categoryName)
-                .parent(parent)
-                .children(new ArrayList<>())
-                .build();
+    @Test
+    @DisplayName("도서 동기화 - 판매 중이면 인덱싱, 판매 중단이거나 없으면 인덱스에서 삭제")
+    void syncBook_IndexOrDelete() {
+        Book onSale = createBook(1L, "On Sale");
+        given(onSale.getStatus()).willReturn(BookStatus.ON_SALE);
+        Book deleted = createBook(2L, "Deleted");
+        given(deleted.getStatus()).willReturn(BookStatus.BOOK_DELETED);
+        given(bookRepository.findByIdWithRelations(1L)).willReturn(Optional.of(onSale));
+        given(bookRepository.findByIdWithRelations(2L)).willReturn(Optional.of(deleted));
+        given(bookRepository.findByIdWithRelations(3L)).willReturn(Optional.empty());
+
+        assertThat(bookSearchSyncService.syncBook(1L)).isEqualTo(1);
+        assertThat(bookSearchSyncService.syncBook(2L)).isZero();
+        assertThat(bookSearchSyncService.syncBook(3L)).isZero();
+
+        verify(bookSearchIndexService).index(onSale);
+        verify(bookSearchIndexService).deleteIndex(2L);
+        verify(bookSearchIndexService).deleteIndex(3L);
+        verify(bookSearchIndexService, times(1)).index(any());
     }
 
     private Book createBook(Long id, String title) {
@@ -48,6 +48,19 @@ class SearchSyncConsumerTest {
         verify(bookSearchSyncService).reindexByTagId(targetId);
     }
 
+    @Test
+    @DisplayName("Book 동기화 메시지 수신 시 syncBook 호출 성공")
+    void consumeSyncMessage_Book_Success() {
+        Long targetId = 7L;
+
+        SearchSyncMessage message = new SearchSyncMessage(targetId, SyncType.BOOK);
+
+        given(bookSearchSyncService.syncBook(targetId)).willReturn(1L);
+
+        searchSyncConsumer.consumeSyncMessage(message);
+        verify(bookSearchSyncService).syncBook(targetId);
+    }
+
     @Test
     @DisplayName("동기화서비스 중 예외 발 생시 예외를 다시 던져서 재시도 유도")
     void consumeSyncMessage_Exception_Throws() {
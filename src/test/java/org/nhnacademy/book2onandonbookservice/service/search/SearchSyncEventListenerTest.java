@@ -2,8 +2,10 @@ package org.nhnacademy.book2onandonbookservice.service.search;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -12,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.nhnacademy.book2onandonbookservice.config.RabbitMqConfig;
 import org.nhnacademy.book2onandonbookservice.dto.message.SearchSyncMessage;
+import org.nhnacademy.book2onandonbookservice.event.BookIndexChangedEvent;
 import org.nhnacademy.book2onandonbookservice.event.CategoryUpdatedEvent;
 import org.nhnacademy.book2onandonbookservice.event.TagUpdatedEvent;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -66,4 +69,22 @@ class SearchSyncEventListenerTest {
         assertThat(capturedMessage.getTargetId()).isEqualTo(tagId);
         assertThat(capturedMessage.getType()).isEqualTo(SearchSyncMessage.SyncType.TAG);
     }
+
+    @Test
+    void handleBookIndexChanged() {
+        BookIndexChangedEvent event = new BookIndexChangedEvent(List.of(3L, 4L));
+
+        searchSyncEventListener.handleBookIndexChanged(event);
+
+        ArgumentCaptor<SearchSyncMessage> messageCaptor = ArgumentCaptor.forClass(SearchSyncMessage.class);
+        verify(rabbitTemplate, times(2)).convertAndSend(
+                eq(RabbitMqConfig.SEARCH_SYNC_EXCHANGE),
+                eq(RabbitMqConfig.SEARCH_SYNC_ROUTING_KEY),
+                messageCaptor.capture()
+        );
+
+        assertThat(messageCaptor.getAllValues()).extracting(SearchSyncMessage::getTargetId).containsExactly(3L, 4L);
+        assertThat(messageCaptor.getAllValues()).extracting(SearchSyncMessage::getType)
+                .containsOnly(SearchSyncMessage.SyncType.BOOK);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package org.nhnacademy.book2onandonbookservice.util;
+
+import java.lang.ref.Reference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.nhnacademy.book2onandonbookservice.entity.Contributor;
+
+/**
+ * 이름 캐시 메모리 - 항목당 바이트: (기존) Map&lt;String, 엔티티&gt; / Map&lt;String, Long&gt; vs NameIdDictionary
+ * <p>
+ * 힙 사용량 차이로 재므로 기본 빌드에서는 건너뜁니다.
+ * {@code ./mvnw test -Dtest=NameIdDictionaryMemoryBenchmarkTest -Dbenchmark=true [-Dbenchmark.entries=200000]}
+ * <p>
+ * 이름은 한글 3글자 + 번호(예: "김서연1234", 카테고리는 "123:국내도서1234")로, 맵 쪽은 키 String 도 맵이 붙잡고 있는 만큼 포함합니다.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class NameIdDictionaryMemoryBenchmarkTest {
+
+    private static final String SYLLABLES = "김이박최정강조윤장임서연민준지우하은도현수아예";
+
+    @Test
+    void measureBytesPerEntry() {
+        int entries = Integer.getInteger("benchmark.entries", 200_000);
+
+        long entityMap = retainedBytes(() -> {
+            Map<String, Contributor> map = new ConcurrentHashMap<>();
+            for (int i = 0; i < entries; i++) {
+                String name = name(i);
+                map.put(name, Contributor.builder().id((long) i).contributorName(name).build());
+            }
+            return map;
+        });
+        long longMap = retainedBytes(() -> {
+            Map<String, Long> map = new ConcurrentHashMap<>();
+            for (int i = 0; i < entries; i++) {
+                map.put(categoryKey(i), (long) i);
+            }
+            return map;
+        });
+        long dictionary = retainedBytes(() -> {
+            NameIdDictionary names = new NameIdDictionary();
+            for (int i = 0; i < entries; i++) {
+                names.put(name(i), i);
+            }
+            return names;
+        });
+        long categoryDictionary = retainedBytes(() -> {
+            NameIdDictionary keys = new NameIdDictionary();
+            for (int i = 0; i < entries; i++) {
+                keys.put(categoryKey(i), i);
+            }
+            return keys;
+        });
+
+        log.info("[Benchmark] 이름 {}건 항목당 바이트 - 기여자 캐시 Map<String, Contributor>: {}, NameIdDictionary: {} / "
+                        + "카테고리 캐시 Map<String, Long>: {}, NameIdDictionary: {}",
+                entries, entityMap / entries, dictionary / entries, longMap / entries, categoryDictionary / entries);
+    }
+
+    private String name(int i) {
+        return "" + SYLLABLES.charAt(i % SYLLABLES.length()) + SYLLABLES.charAt(i / 7 % SYLLABLES.length())
+                + SYLLABLES.charAt(i / 49 % SYLLABLES.length()) + i;
+    }
+
+    private String categoryKey(int i) {
+        return (i % 1000) + ":국내도서" + i;
+    }
+
+    // 만든 구조가 살아 있는 동안의 힙 증가량
+    private long retainedBytes(Supplier<Object> factory) {
+        long before = usedAfterGc();
+        Object retained = factory.get();
+        long after = usedAfterGc();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private long usedAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,180 @@
+package org.nhnacademy.book2onandonbookservice.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NameIdDictionaryTest {
+
+    @Test
+    @DisplayName("추가/조회/덮어쓰기, 없는 이름은 NOT_FOUND")
+    void putAndGet() {
+        NameIdDictionary dictionary = new NameIdDictionary();
+
+        dictionary.put("홍길동", 1L);
+        dictionary.put("Kim", 2L);
+        dictionary.put("홍길동", 3L);
+
+        assertThat(dictionary.get("홍길동")).isEqualTo(3L);
+        assertThat(dictionary.get("Kim")).isEqualTo(2L);
+        assertThat(dictionary.get("kim")).isEqualTo(NameIdDictionary.NOT_FOUND);
+        assertThat(dictionary.get("홍길")).isEqualTo(NameIdDictionary.NOT_FOUND);
+        assertThat(dictionary.containsKey("Kim")).isTrue();
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("UTF-8 1~4바이트 글자, 짝 없는 서로게이트, 빈 문자열 키")
+    void utf8Keys() {
+        NameIdDictionary dictionary = new NameIdDictionary();
+        List<String> names = List.of("", "a", "é", "한글", "😀작가", "\uD800x", "?x", "Ωmega");
+        for (int i = 0; i < names.size(); i++) {
+            dictionary.put(names.get(i), i);
+        }
+
+        for (int i = 0; i < names.size(); i++) {
+            assertThat(dictionary.get(names.get(i))).isEqualTo(i);
+        }
+        assertThat(dictionary.get("😀작")).isEqualTo(NameIdDictionary.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("크기를 늘리고 지우기를 섞어도 HashMap 과 같은 결과 (선형 탐사 삭제 후 탐색 사슬 유지)")
+    void matchesHashMapUnderRandomOperations() {
+        NameIdDictionary dictionary = new NameIdDictionary(4);
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            String name = "작가" + random.nextInt(5_000);
+            if (random.nextInt(4) == 0) {
+                dictionary.remove(name);
+                expected.remove(name);
+            } else {
+                dictionary.put(name, i);
+                expected.put(name, (long) i);
+            }
+        }
+
+        assertThat(dictionary.size()).isEqualTo(expected.size());
+        for (int i = 0; i < 5_000; i++) {
+            String name = "작가" + i;
+            assertThat(dictionary.get(name)).isEqualTo(expected.getOrDefault(name, NameIdDictionary.NOT_FOUND));
+        }
+    }
+
+    @Test
+    @DisplayName("clear - 모두 지우고 처음 크기로 되돌린 뒤 다시 사용 가능")
+    void clearReleasesMemory() {
+        NameIdDictionary dictionary = new NameIdDictionary(16);
+        long initialBytes = dictionary.memoryBytes();
+        IntStream.range(0, 10_000).forEach(i -> dictionary.put("출판사" + i, i));
+        assertThat(dictionary.memoryBytes()).isGreaterThan(initialBytes);
+
+        dictionary.clear();
+
+        assertThat(dictionary.size()).isZero();
+        assertThat(dictionary.memoryBytes()).isEqualTo(initialBytes);
+        assertThat(dictionary.get("출판사1")).isEqualTo(NameIdDictionary.NOT_FOUND);
+        dictionary.put("출판사1", 7L);
+        assertThat(dictionary.get("출판사1")).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("forEach - 지운 항목을 빼고 남은 키/ID 를 모두 한 번씩")
+    void forEachVisitsRemainingEntries() {
+        NameIdDictionary dictionary = new NameIdDictionary(4);
+        IntStream.range(0, 1_000).forEach(i -> dictionary.put("978" + i, i));
+        IntStream.range(0, 1_000).filter(i -> i % 3 == 0).forEach(i -> dictionary.remove("978" + i));
+        dictionary.put("한글키", 5_000L);
+
+        Map<String, Long> visited = new HashMap<>();
+        dictionary.forEach((name, id) -> assertThat(visited.put(name, id)).isNull());
+
+        assertThat(visited).hasSize(dictionary.size())
+                .containsEntry("9781", 1L)
+                .containsEntry("한글키", 5_000L)
+                .doesNotContainKey("9783");
+    }
+
+    @Test
+    @DisplayName("음수 ID 는 NOT_FOUND 와 겹치므로 거부")
+    void rejectNegativeId() {
+        NameIdDictionary dictionary = new NameIdDictionary();
+
+        assertThatThrownBy(() -> dictionary.put("홍길동", -1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("getAndUpdate - 없으면 NOT_FOUND 를 받아 추가, 있으면 이전 값을 돌려주고 덮어씀")
+    void getAndUpdate() {
+        NameIdDictionary dictionary = new NameIdDictionary();
+
+        assertThat(dictionary.getAndUpdate("홍길동", current -> current == NameIdDictionary.NOT_FOUND ? 1L : 99L))
+                .isEqualTo(NameIdDictionary.NOT_FOUND);
+        assertThat(dictionary.getAndUpdate("홍길동", current -> current + 1)).isEqualTo(1L);
+        assertThat(dictionary.get("홍길동")).isEqualTo(2L);
+        assertThat(dictionary.size()).isEqualTo(1);
+        assertThatThrownBy(() -> dictionary.getAndUpdate("홍길동", current -> -5L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(dictionary.get("홍길동")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("getAndUpdate - 여러 스레드가 같은 키를 고쳐 써도 갱신이 빠지지 않음")
+    void concurrentGetAndUpdate() throws Exception {
+        NameIdDictionary dictionary = new NameIdDictionary();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = IntStream.range(0, 4)
+                    .<Future<?>>mapToObj(w -> executor.submit(() -> IntStream.range(0, 10_000).forEach(i ->
+                            dictionary.getAndUpdate("도서" + (i % 100),
+                                    current -> current == NameIdDictionary.NOT_FOUND ? 1L : current + 1))))
+                    .toList();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(dictionary.size()).isEqualTo(100);
+        IntStream.range(0, 100).forEach(i -> assertThat(dictionary.get("도서" + i)).isEqualTo(400L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 조회하는 동안 다른 스레드가 추가해도 넣은 값은 모두 보임")
+    void concurrentReadsAndWrites() throws Exception {
+        NameIdDictionary dictionary = new NameIdDictionary();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> writer = executor.submit(() -> IntStream.range(0, 20_000)
+                    .forEach(i -> dictionary.put("기여자" + i, i)));
+            List<Future<?>> readers = IntStream.range(0, 3)
+                    .<Future<?>>mapToObj(r -> executor.submit(() -> IntStream.range(0, 20_000).forEach(i -> {
+                        long id = dictionary.get("기여자" + i);
+                        assertThat(id).isIn(NameIdDictionary.NOT_FOUND, (long) i);
+                    })))
+                    .toList();
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(dictionary.size()).isEqualTo(20_000);
+        assertThat(dictionary.get("기여자19999")).isEqualTo(19_999L);
+    }
+}